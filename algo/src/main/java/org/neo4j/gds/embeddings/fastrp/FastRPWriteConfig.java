@@ -22,6 +22,7 @@ package org.neo4j.gds.embeddings.fastrp;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 
@@ -29,7 +30,7 @@ import java.util.Optional;
 
 @ValueClass
 @Configuration
-public interface FastRPWriteConfig extends FastRPBaseProductionConfig, WritePropertyConfig {
+public interface FastRPWriteConfig extends FastRPBaseProductionConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static FastRPWriteConfig of(
         String username,
@@ -21,10 +21,10 @@ package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.api.Graph;
 
 public interface FeatureFunction {
 
-    Variable<Matrix> apply(long[] nodeIds, HugeObjectArray<double[]> features);
+    Variable<Matrix> apply(Graph graph, long[] nodeIds, Features features);
 
 }
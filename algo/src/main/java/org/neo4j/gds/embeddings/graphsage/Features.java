@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+/**
+ * The input features of all nodes, stored in either {@link Precision#DOUBLE} or {@link Precision#FLOAT}.
+ */
+public interface Features {
+
+    long size();
+
+    int featureCount(long nodeId);
+
+    /**
+     * Copies the features of the given node into {@code target}, starting at {@code offset}.
+     */
+    void copyTo(long nodeId, double[] target, int offset);
+
+    static Features of(HugeObjectArray<double[]> features) {
+        return new Features() {
+            @Override
+            public long size() {
+                return features.size();
+            }
+
+            @Override
+            public int featureCount(long nodeId) {
+                return features.get(nodeId).length;
+            }
+
+            @Override
+            public void copyTo(long nodeId, double[] target, int offset) {
+                double[] nodeFeatures = features.get(nodeId);
+                System.arraycopy(nodeFeatures, 0, target, offset, nodeFeatures.length);
+            }
+        };
+    }
+
+    static Features ofFloats(HugeObjectArray<float[]> features) {
+        return new Features() {
+            @Override
+            public long size() {
+                return features.size();
+            }
+
+            @Override
+            public int featureCount(long nodeId) {
+                return features.get(nodeId).length;
+            }
+
+            @Override
+            public void copyTo(long nodeId, double[] target, int offset) {
+                float[] nodeFeatures = features.get(nodeId);
+                for (int i = 0; i < nodeFeatures.length; i++) {
+                    target[offset + i] = nodeFeatures[i];
+                }
+            }
+        };
+    }
+}
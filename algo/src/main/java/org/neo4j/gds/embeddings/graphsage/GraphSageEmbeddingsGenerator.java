@@ -21,13 +21,19 @@ package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.NormalizeRows;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.TensorPool;
+import org.neo4j.gds.embeddings.graphsage.subgraph.SubGraph;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.utils.CloseableThreadLocal;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.neo4j.gds.embeddings.graphsage.GraphSageHelper.embeddings;
 import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.parallelStreamConsume;
@@ -72,7 +78,7 @@ public class GraphSageEmbeddingsGenerator {
 
     public HugeObjectArray<double[]> makeEmbeddings(
         Graph graph,
-        HugeObjectArray<double[]> features
+        Features features
     ) {
         HugeObjectArray<double[]> result = HugeObjectArray.newArray(
             double[].class,
@@ -81,28 +87,115 @@ public class GraphSageEmbeddingsGenerator {
         );
 
         progressLogger.logStart();
-        parallelStreamConsume(
-            batchProvider.stream(graph),
-            concurrency,
-            batches -> batches.forEach(batch -> {
-                ComputationContext ctx = new ComputationContext();
-                Variable<Matrix> embeddingVariable = embeddings(graph, isWeighted, batch, features, layers, featureFunction);
-                int cols = embeddingVariable.dimension(1);
-                double[] embeddings = ctx.forward(embeddingVariable).data();
-
-                for (int nodeIndex = 0; nodeIndex < batch.length; nodeIndex++) {
-                    double[] nodeEmbedding = Arrays.copyOfRange(
-                        embeddings,
-                        nodeIndex * cols,
-                        (nodeIndex + 1) * cols
-                    );
-                    result.set(batch[nodeIndex], nodeEmbedding);
-                }
-                progressLogger.logProgress();
-            })
-        );
+        try (var pools = CloseableThreadLocal.withInitial(TensorPool::new)) {
+            parallelStreamConsume(
+                batchProvider.stream(graph),
+                concurrency,
+                batches -> batches.forEach(batch -> {
+                    ComputationContext ctx = new ComputationContext(pools.get());
+                    Variable<Matrix> embeddingVariable = embeddings(graph, isWeighted, batch, features, layers, featureFunction);
+                    int cols = embeddingVariable.dimension(1);
+                    double[] embeddings = ctx.forward(embeddingVariable).data();
+
+                    for (int nodeIndex = 0; nodeIndex < batch.length; nodeIndex++) {
+                        double[] nodeEmbedding = Arrays.copyOfRange(
+                            embeddings,
+                            nodeIndex * cols,
+                            (nodeIndex + 1) * cols
+                        );
+                        result.set(batch[nodeIndex], nodeEmbedding);
+                    }
+                    ctx.release();
+                    progressLogger.logProgress();
+                })
+            );
+        }
         progressLogger.logFinish();
 
         return result;
     }
+
+    /**
+     * Computes the embeddings one layer at a time for all nodes.
+     * The representations of layer {@code k} are computed once for the whole graph and
+     * the representations of layer {@code k + 1} are aggregated from them,
+     * instead of recomputing the lower layers for the sampled neighbourhood of every batch.
+     * This makes the cost linear in the number of layers rather than exponential.
+     */
+    public HugeObjectArray<double[]> makeLayerWiseEmbeddings(
+        Graph graph,
+        Features features
+    ) {
+        progressLogger.logStart();
+        HugeObjectArray<double[]> previousLayer = null;
+        for (int layerIndex = 0; layerIndex < layers.length; layerIndex++) {
+            previousLayer = computeLayer(
+                graph,
+                features,
+                layerIndex,
+                previousLayer
+            );
+            progressLogger.logProgress((layerIndex + 1D) / layers.length);
+        }
+        progressLogger.logFinish();
+
+        return previousLayer;
+    }
+
+    private HugeObjectArray<double[]> computeLayer(
+        Graph graph,
+        Features features,
+        int layerIndex,
+        HugeObjectArray<double[]> previousLayer
+    ) {
+        Layer layer = layers[layerIndex];
+        boolean isLastLayer = layerIndex == layers.length - 1;
+        HugeObjectArray<double[]> result = HugeObjectArray.newArray(
+            double[].class,
+            graph.nodeCount(),
+            tracker
+        );
+
+        try (var pools = CloseableThreadLocal.withInitial(TensorPool::new)) {
+            parallelStreamConsume(
+                batchProvider.stream(graph),
+                concurrency,
+                batches -> batches.forEach(batch -> {
+                    ComputationContext ctx = new ComputationContext(pools.get());
+                    SubGraph subGraph = SubGraph.buildSubGraphs(
+                        batch,
+                        List.<NeighborhoodFunction>of(layer::neighborhoodFunction),
+                        graph,
+                        isWeighted
+                    ).get(0);
+
+                    Variable<Matrix> previousRepresentations = previousLayer == null
+                        ? featureFunction.apply(graph, subGraph.nextNodes, features)
+                        : representations(subGraph.nextNodes, previousLayer);
+                    Variable<Matrix> representations = layer.aggregator().aggregate(previousRepresentations, subGraph);
+                    if (isLastLayer) {
+                        representations = new NormalizeRows(representations);
+                    }
+
+                    int cols = representations.dimension(1);
+                    double[] data = ctx.forward(representations).data();
+                    for (int nodeIndex = 0; nodeIndex < batch.length; nodeIndex++) {
+                        result.set(batch[nodeIndex], Arrays.copyOfRange(data, nodeIndex * cols, (nodeIndex + 1) * cols));
+                    }
+                    ctx.release();
+                })
+            );
+        }
+
+        return result;
+    }
+
+    private static Variable<Matrix> representations(long[] nodeIds, HugeObjectArray<double[]> layer) {
+        int cols = layer.get(nodeIds[0]).length;
+        double[] data = new double[Math.multiplyExact(nodeIds.length, cols)];
+        for (int i = 0; i < nodeIds.length; i++) {
+            System.arraycopy(layer.get(nodeIds[i]), 0, data, i * cols, cols);
+        }
+        return new MatrixConstant(data, nodeIds.length, cols);
+    }
 }
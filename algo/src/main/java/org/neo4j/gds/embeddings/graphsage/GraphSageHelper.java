@@ -39,6 +39,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -58,7 +59,7 @@ public final class GraphSageHelper {
         Graph graph,
         boolean useWeights,
         long[] nodeIds,
-        HugeObjectArray<double[]> features,
+        Features features,
         Layer[] layers,
         FeatureFunction featureFunction
     ) {
@@ -70,6 +71,7 @@ public final class GraphSageHelper {
         List<SubGraph> subGraphs = SubGraph.buildSubGraphs(nodeIds, neighborhoodFunctions, graph, useWeights);
 
         Variable<Matrix> previousLayerRepresentations = featureFunction.apply(
+            graph,
             subGraphs.get(subGraphs.size() - 1).nextNodes,
             features
         );
@@ -214,19 +216,44 @@ public final class GraphSageHelper {
             graph.nodeCount(),
             tracker
         );
-
-        if (config.isMultiLabel()) {
-            return initializeMultiLabelFeatures(graph, config, features);
-        } else {
-            return initializeSingleLabelFeatures(graph, config, features);
-        }
+        features.setAll(featureInitializer(graph, config));
+        return features;
     }
 
-    private static HugeObjectArray<double[]> initializeSingleLabelFeatures(
+    public static Features initializeFeatures(
         Graph graph,
         GraphSageTrainConfig config,
-        HugeObjectArray<double[]> features
+        Precision precision,
+        AllocationTracker tracker
     ) {
+        if (precision == Precision.FLOAT) {
+            var initializer = featureInitializer(graph, config);
+            HugeObjectArray<float[]> features = HugeObjectArray.newArray(
+                float[].class,
+                graph.nodeCount(),
+                tracker
+            );
+            features.setAll(nodeId -> toFloats(initializer.apply(nodeId)));
+            return Features.ofFloats(features);
+        }
+        return Features.of(initializeFeatures(graph, config, tracker));
+    }
+
+    private static LongFunction<double[]> featureInitializer(Graph graph, GraphSageTrainConfig config) {
+        return config.isMultiLabel()
+            ? multiLabelFeatureInitializer(graph, config)
+            : singleLabelFeatureInitializer(graph, config);
+    }
+
+    private static float[] toFloats(double[] values) {
+        float[] floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            floats[i] = (float) values[i];
+        }
+        return floats;
+    }
+
+    private static LongFunction<double[]> singleLabelFeatureInitializer(Graph graph, GraphSageTrainConfig config) {
         var nodeProperties =
             config.featureProperties()
                 .stream()
@@ -235,7 +262,7 @@ public final class GraphSageHelper {
 
         var featureCount = nodeProperties.size() + (config.degreeAsProperty() ? 1 : 0);
 
-        features.setAll(nodeId -> {
+        return nodeId -> {
             var nodeFeatures = new double[featureCount];
 
             for (int i = 0; i < nodeProperties.size(); i++) {
@@ -248,16 +275,10 @@ public final class GraphSageHelper {
             }
 
             return nodeFeatures;
-        });
-
-        return features;
+        };
     }
 
-    private static HugeObjectArray<double[]> initializeMultiLabelFeatures(
-        Graph graph,
-        GraphSageTrainConfig config,
-        HugeObjectArray<double[]> features
-    ) {
+    private static LongFunction<double[]> multiLabelFeatureInitializer(Graph graph, GraphSageTrainConfig config) {
         var filteredKeysPerLabel = filteredPropertyKeysPerNodeLabel(graph, config);
         var featureCountPerNodeLabel = filteredKeysPerLabel.entrySet().stream()
             .collect(Collectors.toMap(
@@ -267,7 +288,7 @@ public final class GraphSageHelper {
                          + 1 // Label is used as a property
             ));
 
-        features.setAll(nodeId -> {
+        return nodeId -> {
             var nodeLabel = labelOf(graph, nodeId);
             var filteredKeys = filteredKeysPerLabel.get(nodeLabel);
             var featureCount = featureCountPerNodeLabel.get(nodeLabel);
@@ -285,22 +306,15 @@ public final class GraphSageHelper {
             nodeFeatures[i] = 1.0;
 
             return nodeFeatures;
-        });
-        return features;
+        };
     }
 
-    public static Variable<Matrix> features(long[] nodeIds, HugeObjectArray<double[]> features) {
-        int dimension = features.get(0).length;
+    public static Variable<Matrix> features(Graph graph, long[] nodeIds, Features features) {
+        int dimension = features.featureCount(0);
         double[] data = new double[Math.multiplyExact(nodeIds.length, dimension)];
         IntStream
             .range(0, nodeIds.length)
-            .forEach(nodeOffset -> System.arraycopy(
-                features.get(nodeIds[nodeOffset]),
-                0,
-                data,
-                nodeOffset * dimension,
-                dimension
-            ));
+            .forEach(nodeOffset -> features.copyTo(nodeIds[nodeOffset], data, nodeOffset * dimension));
         return new MatrixConstant(data, nodeIds.length, dimension);
     }
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSage;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.model.ModelSerializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores the weights of all layers and, for multi-label models, the feature projection weights of each label.
+ * The layers are re-created from the train config and their weights are overwritten with the stored values.
+ */
+@ServiceProvider
+public final class GraphSageModelSerializer implements ModelSerializer<ModelData, GraphSageTrainConfig> {
+
+    private static final byte SINGLE_LABEL = 0;
+    private static final byte MULTI_LABEL = 1;
+
+    @Override
+    public String algoType() {
+        return GraphSage.MODEL_TYPE;
+    }
+
+    @Override
+    public GraphSageTrainConfig trainConfig(String username, Map<String, Object> trainConfig) {
+        return GraphSageTrainConfig.of(
+            username,
+            Optional.empty(),
+            Optional.empty(),
+            CypherMapWrapper.create(trainConfig)
+        );
+    }
+
+    @Override
+    public void writeData(ModelData data, GraphSageTrainConfig trainConfig, DataOutput output) throws IOException {
+        output.writeUTF(data.precision().name());
+
+        var layers = data.layers();
+        output.writeInt(layers.length);
+        for (Layer layer : layers) {
+            for (Weights<? extends Tensor<?>> weights : layer.weights()) {
+                writeTensor(weights.data(), output);
+            }
+        }
+
+        var featureFunction = data.featureFunction();
+        if (featureFunction instanceof MultiLabelFeatureFunction) {
+            var multiLabelFeatureFunction = (MultiLabelFeatureFunction) featureFunction;
+            output.writeByte(MULTI_LABEL);
+            output.writeInt(multiLabelFeatureFunction.projectedFeatureDimension());
+            var weightsByLabel = multiLabelFeatureFunction.weightsByLabel();
+            output.writeInt(weightsByLabel.size());
+            for (var entry : weightsByLabel.entrySet()) {
+                output.writeUTF(entry.getKey().name);
+                writeTensor(entry.getValue().data(), output);
+            }
+        } else {
+            // the single label models always use GraphSageHelper::features
+            output.writeByte(SINGLE_LABEL);
+        }
+    }
+
+    @Override
+    public ModelData readData(GraphSageTrainConfig trainConfig, DataInput input) throws IOException {
+        var precision = Precision.valueOf(input.readUTF());
+
+        var layerConfigs = trainConfig.layerConfigs();
+        int layerCount = input.readInt();
+        if (layerCount != layerConfigs.size()) {
+            throw new IllegalStateException(formatWithLocale(
+                "The stored model has %d layers, but its train config specifies %d layers.",
+                layerCount,
+                layerConfigs.size()
+            ));
+        }
+        var layers = new Layer[layerCount];
+        for (int i = 0; i < layerCount; i++) {
+            layers[i] = LayerFactory.createLayer(layerConfigs.get(i));
+            for (Weights<? extends Tensor<?>> weights : layers[i].weights()) {
+                readTensorInto(weights.data(), input);
+            }
+        }
+
+        FeatureFunction featureFunction;
+        byte featureFunctionType = input.readByte();
+        if (featureFunctionType == MULTI_LABEL) {
+            int projectedFeatureDimension = input.readInt();
+            int labelCount = input.readInt();
+            Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel = new HashMap<>();
+            for (int i = 0; i < labelCount; i++) {
+                var label = NodeLabel.of(input.readUTF());
+                weightsByLabel.put(label, new Weights<>(readMatrix(input)));
+            }
+            featureFunction = new MultiLabelFeatureFunction(weightsByLabel, projectedFeatureDimension);
+        } else {
+            featureFunction = GraphSageHelper::features;
+        }
+
+        return ModelData.of(layers, featureFunction, precision);
+    }
+
+    private static void writeTensor(Tensor<?> tensor, DataOutput output) throws IOException {
+        var dimensions = tensor.dimensions();
+        output.writeInt(dimensions.length);
+        for (int dimension : dimensions) {
+            output.writeInt(dimension);
+        }
+        for (double value : tensor.data()) {
+            output.writeDouble(value);
+        }
+    }
+
+    private static int[] readDimensions(DataInput input) throws IOException {
+        var dimensions = new int[input.readInt()];
+        for (int i = 0; i < dimensions.length; i++) {
+            dimensions[i] = input.readInt();
+        }
+        return dimensions;
+    }
+
+    private static void readTensorInto(Tensor<?> tensor, DataInput input) throws IOException {
+        var dimensions = readDimensions(input);
+        if (!Arrays.equals(dimensions, tensor.dimensions())) {
+            throw new IllegalStateException(formatWithLocale(
+                "The stored weights have dimensions %s, but the model expects %s.",
+                Arrays.toString(dimensions),
+                Arrays.toString(tensor.dimensions())
+            ));
+        }
+        var data = tensor.data();
+        for (int i = 0; i < data.length; i++) {
+            data[i] = input.readDouble();
+        }
+    }
+
+    private static Matrix readMatrix(DataInput input) throws IOException {
+        var dimensions = readDimensions(input);
+        var data = new double[Tensor.totalSize(dimensions)];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = input.readDouble();
+        }
+        return new Matrix(data, dimensions[0], dimensions[1]);
+    }
+}
@@ -27,10 +27,13 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.Weights;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Scalar;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.TensorPool;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAliasTable;
+import org.neo4j.graphalgo.utils.CloseableThreadLocal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -69,7 +72,7 @@ public class GraphSageModelTrainer {
     private final FeatureFunction featureFunction;
     private final Collection<Weights<? extends Tensor<?>>> labelProjectionWeights;
     private final ProgressLogger progressLogger;
-    private double degreeProbabilityNormalizer;
+    private HugeAliasTable negativeSamples;
 
     public GraphSageModelTrainer(GraphSageTrainConfig config, ProgressLogger progressLogger) {
         this(config, progressLogger, GraphSageHelper::features, Collections.emptyList());
@@ -97,7 +100,7 @@ public class GraphSageModelTrainer {
         this.useWeights = config.relationshipWeightProperty() != null;
     }
 
-    public ModelTrainResult train(Graph graph, HugeObjectArray<double[]> features) {
+    public ModelTrainResult train(Graph graph, Features features) {
         progressLogger.logStart();
         Map<String, Double> epochLosses = new TreeMap<>();
 
@@ -105,10 +108,13 @@ public class GraphSageModelTrainer {
             .map(LayerFactory::createLayer)
             .toArray(Layer[]::new);
 
-        degreeProbabilityNormalizer = LongStream
-            .range(0, graph.nodeCount())
-            .mapToDouble(nodeId -> Math.pow(graph.degree(nodeId), 0.75))
-            .sum();
+        // relationships are required for the negative sampling, this is checked by the calling procedure
+        negativeSamples = HugeAliasTable.of(
+            graph.nodeCount(),
+            nodeId -> Math.pow(graph.degree(nodeId), 0.75),
+            concurrency,
+            AllocationTracker.empty()
+        );
 
         double initialLoss = evaluateLoss(graph, features, batchProvider, -1);
         double previousLoss = initialLoss;
@@ -133,31 +139,35 @@ public class GraphSageModelTrainer {
         return ModelTrainResult.of(initialLoss, epochLosses, this.layers);
     }
 
-    private void trainEpoch(Graph graph, HugeObjectArray<double[]> features, int epoch) {
+    private void trainEpoch(Graph graph, Features features, int epoch) {
         List<Weights<? extends Tensor<?>>> weights = getWeights();
 
         AdamOptimizer updater = new AdamOptimizer(weights, learningRate);
 
         AtomicInteger batchCounter = new AtomicInteger(0);
-        parallelStreamConsume(
-            batchProvider.stream(graph),
-            concurrency,
-            batches -> batches.forEach(batch -> trainOnBatch(
-                batch,
-                graph,
-                features,
-                updater,
-                epoch,
-                batchCounter.incrementAndGet()
-            ))
-        );
+        try (var pools = CloseableThreadLocal.withInitial(TensorPool::new)) {
+            parallelStreamConsume(
+                batchProvider.stream(graph),
+                concurrency,
+                batches -> batches.forEach(batch -> trainOnBatch(
+                    batch,
+                    graph,
+                    features,
+                    updater,
+                    pools.get(),
+                    epoch,
+                    batchCounter.incrementAndGet()
+                ))
+            );
+        }
     }
 
     private void trainOnBatch(
         long[] batch,
         Graph graph,
-        HugeObjectArray<double[]> features,
+        Features features,
         AdamOptimizer updater,
+        TensorPool pool,
         int epoch,
         int batchIndex
     ) {
@@ -179,18 +189,20 @@ public class GraphSageModelTrainer {
             progressLogger.logStart(":: Iteration " + (iteration + 1));
             oldLoss = newLoss;
 
-            ComputationContext localCtx = new ComputationContext();
+            ComputationContext localCtx = new ComputationContext(pool);
 
             newLoss = localCtx.forward(lossFunction).dataAt(0);
             double lossDiff = Math.abs((oldLoss - newLoss) / oldLoss);
 
             if (lossDiff < tolerance) {
+                localCtx.release();
                 progressLogger.logFinish(":: Iteration " + (iteration + 1));
                 break;
             }
             localCtx.backward(lossFunction);
 
             updater.update(localCtx);
+            localCtx.release();
 
             progressLogger.logFinish(":: Iteration " + (iteration + 1));
             iteration++;
@@ -207,30 +219,33 @@ public class GraphSageModelTrainer {
 
     private double evaluateLoss(
         Graph graph,
-        HugeObjectArray<double[]> features,
+        Features features,
         BatchProvider batchProvider,
         int epoch
     ) {
         DoubleAdder doubleAdder = new DoubleAdder();
-        parallelStreamConsume(
-            batchProvider.stream(graph),
-            concurrency,
-            batches -> batches.forEach(batch -> {
-                ComputationContext ctx = new ComputationContext();
-                Variable<Scalar> loss = lossFunction(batch, graph, features);
-                doubleAdder.add(ctx.forward(loss).dataAt(0));
-            })
-        );
+        try (var pools = CloseableThreadLocal.withInitial(TensorPool::new)) {
+            parallelStreamConsume(
+                batchProvider.stream(graph),
+                concurrency,
+                batches -> batches.forEach(batch -> {
+                    ComputationContext ctx = new ComputationContext(pools.get());
+                    Variable<Scalar> loss = lossFunction(batch, graph, features);
+                    doubleAdder.add(ctx.forward(loss).dataAt(0));
+                    ctx.release();
+                })
+            );
+        }
         double lossValue = doubleAdder.doubleValue();
         progressLogger.getLog().debug("Loss after epoch %s: %s", epoch, lossValue);
         return lossValue;
     }
 
-    private Variable<Scalar> lossFunction(long[] batch, Graph graph, HugeObjectArray<double[]> features) {
+    private Variable<Scalar> lossFunction(long[] batch, Graph graph, Features features) {
         long[] totalBatch = LongStream
             .concat(Arrays.stream(batch), LongStream.concat(
                 neighborBatch(graph, batch),
-                negativeBatch(graph, batch.length)
+                negativeBatch(batch.length)
             )).toArray();
         Variable<Matrix> embeddingVariable = embeddings(graph, useWeights, totalBatch, features, this.layers, featureFunction);
 
@@ -265,24 +280,10 @@ public class GraphSageModelTrainer {
         });
     }
 
-    private LongStream negativeBatch(Graph graph, int batchSize) {
+    private LongStream negativeBatch(int batchSize) {
         Random rand = new Random(layers[0].randomState());
         return IntStream.range(0, batchSize)
-            .mapToLong(ignore -> {
-                double randomValue = rand.nextDouble();
-                double cumulativeProbability = 0;
-
-                for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
-                    cumulativeProbability += Math.pow(graph.degree(nodeId), 0.75) / degreeProbabilityNormalizer;
-                    if (randomValue < cumulativeProbability) {
-                        return nodeId;
-                    }
-                }
-                throw new RuntimeException(
-                    "This happens when there are no relationships in the Graph. " +
-                    "This condition is checked by the calling procedure."
-                );
-            });
+            .mapToLong(ignore -> negativeSamples.sample(rand.nextDouble()));
     }
 
     private List<Weights<? extends Tensor<?>>> getWeights() {
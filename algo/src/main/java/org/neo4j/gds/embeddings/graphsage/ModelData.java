@@ -28,7 +28,17 @@ public interface ModelData {
 
     FeatureFunction featureFunction();
 
+    /**
+     * The precision of the node features the model was trained on.
+     * Inference initializes the node features in the same precision.
+     */
+    Precision precision();
+
     static ModelData of(Layer[] layers, FeatureFunction featureFunction) {
-        return ImmutableModelData.of(layers, featureFunction);
+        return of(layers, featureFunction, Precision.DOUBLE);
+    }
+
+    static ModelData of(Layer[] layers, FeatureFunction featureFunction, Precision precision) {
+        return ImmutableModelData.of(layers, featureFunction, precision);
     }
 }
@@ -26,22 +26,18 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.api.Graph;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.Map;
 
 public class MultiLabelFeatureFunction implements FeatureFunction {
 
-    private final Graph graph;
     private final Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel;
     private final int projectedFeatureDimension;
 
     public MultiLabelFeatureFunction(
-        Graph graph,
         Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel,
         int projectedFeatureDimension
     ) {
-        this.graph = graph;
         this.weightsByLabel = weightsByLabel;
         this.projectedFeatureDimension = projectedFeatureDimension;
     }
@@ -50,16 +46,25 @@ public class MultiLabelFeatureFunction implements FeatureFunction {
      * This method expects the graph to be validated beforehand, such that each node has exactly one label
      * See feature initialization in {@link GraphSageHelper}.
      *
+     * @param graph the graph the node IDs belong to
      * @param nodeIds batch of node IDs
      * @param features the global property array
      * @return Create a matrix variable around a batch of nodes.
      */
     @Override
-    public Variable<Matrix> apply(long[] nodeIds, HugeObjectArray<double[]> features) {
+    public Variable<Matrix> apply(Graph graph, long[] nodeIds, Features features) {
         NodeLabel[] labels = new NodeLabel[nodeIds.length];
         for (int i = 0; i < nodeIds.length; i++) {
             labels[i] = graph.nodeLabels(nodeIds[i]).iterator().next();
         }
         return new LabelwiseFeatureProjection(nodeIds, features, weightsByLabel, projectedFeatureDimension, labels);
     }
+
+    public Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel() {
+        return weightsByLabel;
+    }
+
+    public int projectedFeatureDimension() {
+        return projectedFeatureDimension;
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.graphalgo.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * The precision in which the node features are stored.
+ * The computation itself is always carried out in double precision.
+ */
+public enum Precision {
+    DOUBLE {
+        @Override
+        public long sizeOfFeatures(int featureCount) {
+            return sizeOfDoubleArray(featureCount);
+        }
+    },
+    FLOAT {
+        @Override
+        public long sizeOfFeatures(int featureCount) {
+            return sizeOfFloatArray(featureCount);
+        }
+    };
+
+    public abstract long sizeOfFeatures(int featureCount);
+
+    public static Precision of(String precision) {
+        String name = toUpperCaseWithLocale(precision);
+        try {
+            return valueOf(name);
+        } catch (IllegalArgumentException e) {
+            String availablePrecisions = Arrays
+                .stream(values())
+                .map(Precision::name)
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(formatWithLocale(
+                "Precision `%s` is not supported. Must be one of: %s.",
+                precision,
+                availablePrecisions
+            ));
+        }
+    }
+
+    public static Precision parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            return of((String) object);
+        }
+        if (object instanceof Precision) {
+            return (Precision) object;
+        }
+        return null;
+    }
+
+    public static String toString(Precision precision) {
+        return precision.toString();
+    }
+}
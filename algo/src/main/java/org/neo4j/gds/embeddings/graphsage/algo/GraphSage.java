@@ -69,10 +69,10 @@ public class GraphSage extends Algorithm<GraphSage, GraphSage.GraphSageResult> {
         );
 
         GraphSageTrainConfig trainConfig = model.trainConfig();
-        HugeObjectArray<double[]> embeddings = embeddingsGenerator.makeEmbeddings(
-            graph,
-            initializeFeatures(graph, trainConfig, tracker)
-        );
+        var features = initializeFeatures(graph, trainConfig, model.data().precision(), tracker);
+        HugeObjectArray<double[]> embeddings = config.layerWiseInference()
+            ? embeddingsGenerator.makeLayerWiseEmbeddings(graph, features)
+            : embeddingsGenerator.makeEmbeddings(graph, features);
         return GraphSageResult.of(embeddings);
     }
 
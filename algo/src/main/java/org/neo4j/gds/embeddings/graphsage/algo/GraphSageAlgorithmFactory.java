@@ -84,12 +84,18 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             graphDimensions -> withNodeCount(
                 trainConfig,
                 graphDimensions.nodeCount(),
-                config instanceof MutateConfig
+                config instanceof MutateConfig,
+                config.layerWiseInference()
             )
         );
     }
 
-    private MemoryEstimation withNodeCount(GraphSageTrainConfig config, long nodeCount, boolean mutate) {
+    private MemoryEstimation withNodeCount(
+        GraphSageTrainConfig config,
+        long nodeCount,
+        boolean mutate,
+        boolean layerWiseInference
+    ) {
         var gsBuilder = MemoryEstimations.builder("GraphSage");
 
         if (mutate) {
@@ -105,7 +111,7 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             .field("this.instance", GraphSage.class)
             .add(
                 "initialFeatures",
-                HugeObjectArray.memoryEstimation(sizeOfDoubleArray(config.featuresSize()))
+                HugeObjectArray.memoryEstimation(config.precision().sizeOfFeatures(config.featuresSize()))
             )
             .perThread(
                 "concurrentBatches",
@@ -119,6 +125,13 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
                 HugeObjectArray.memoryEstimation(sizeOfDoubleArray(config.embeddingDimension()))
             );
         }
+        if (layerWiseInference) {
+            // the representations of the previous layer are kept while computing the next one
+            builder = builder.add(
+                "previousLayerFeatures",
+                HugeObjectArray.memoryEstimation(sizeOfDoubleArray(config.embeddingDimension()))
+            );
+        }
         return builder.endField().build();
     }
 
@@ -19,8 +19,19 @@
  */
 package org.neo4j.gds.embeddings.graphsage.algo;
 
+import org.immutables.value.Value;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.BatchSizeConfig;
 import org.neo4j.graphalgo.config.ModelConfig;
 
-public interface GraphSageBaseConfig extends AlgoBaseConfig, BatchSizeConfig, ModelConfig {}
+public interface GraphSageBaseConfig extends AlgoBaseConfig, BatchSizeConfig, ModelConfig {
+
+    /**
+     * Compute the embeddings one layer at a time for the whole graph,
+     * instead of computing all layers for the sampled neighbourhood of each batch.
+     */
+    @Value.Default
+    default boolean layerWiseInference() {
+        return false;
+    }
+}
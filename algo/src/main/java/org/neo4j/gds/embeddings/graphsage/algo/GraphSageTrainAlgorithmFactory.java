@@ -106,8 +106,8 @@ public final class GraphSageTrainAlgorithmFactory extends AbstractAlgorithmFacto
         var isMultiLabel = config.isMultiLabel();
 
         var perNodeFeaturesMemory = MemoryRange.of(
-            sizeOfDoubleArray(isMultiLabel ? config.degreeAsProperty() ? 2 : 1 : config.featuresSize()),
-            sizeOfDoubleArray(config.featuresSize())
+            config.precision().sizeOfFeatures(isMultiLabel ? config.degreeAsProperty() ? 2 : 1 : config.featuresSize()),
+            config.precision().sizeOfFeatures(config.featuresSize())
         );
         var initialFeaturesMemory = HugeObjectArray.memoryEstimation(MemoryEstimations.of("", perNodeFeaturesMemory));
 
@@ -23,6 +23,7 @@ import org.immutables.value.Value;
 import org.neo4j.gds.embeddings.graphsage.ActivationFunction;
 import org.neo4j.gds.embeddings.graphsage.Aggregator;
 import org.neo4j.gds.embeddings.graphsage.LayerConfig;
+import org.neo4j.gds.embeddings.graphsage.Precision;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
@@ -119,6 +120,13 @@ public interface GraphSageTrainConfig extends
         return false;
     }
 
+    @Configuration.ConvertWith("org.neo4j.gds.embeddings.graphsage.Precision#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.embeddings.graphsage.Precision#toString")
+    @Value.Default
+    default Precision precision() {
+        return Precision.DOUBLE;
+    }
+
     Optional<Integer> projectedFeatureDimension();
 
     @Override
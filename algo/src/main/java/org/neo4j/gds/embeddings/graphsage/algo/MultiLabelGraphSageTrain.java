@@ -63,7 +63,6 @@ public class MultiLabelGraphSageTrain extends GraphSageTrain {
     @Override
     public Model<ModelData, GraphSageTrainConfig> compute() {
         FeatureFunction featureFunction = new MultiLabelFeatureFunction(
-            graph,
             weightsByLabel,
             config.projectedFeatureDimension().orElseThrow()
         );
@@ -71,7 +70,7 @@ public class MultiLabelGraphSageTrain extends GraphSageTrain {
 
         GraphSageModelTrainer.ModelTrainResult trainResult = trainer.train(
             graph,
-            initializeFeatures(graph, config, tracker)
+            initializeFeatures(graph, config, config.precision(), tracker)
         );
 
         return Model.of(
@@ -79,7 +78,7 @@ public class MultiLabelGraphSageTrain extends GraphSageTrain {
             config.modelName(),
             GraphSage.MODEL_TYPE,
             graph.schema(),
-            ModelData.of(trainResult.layers(), featureFunction),
+            ModelData.of(trainResult.layers(), featureFunction, config.precision()),
             config
         );
     }
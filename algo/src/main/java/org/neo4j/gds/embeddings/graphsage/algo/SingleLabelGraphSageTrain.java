@@ -52,7 +52,7 @@ public class SingleLabelGraphSageTrain extends GraphSageTrain {
 
         GraphSageModelTrainer.ModelTrainResult trainResult = graphSageModel.train(
             graph,
-            initializeFeatures(graph, config, tracker)
+            initializeFeatures(graph, config, config.precision(), tracker)
         );
 
         return Model.of(
@@ -60,7 +60,11 @@ public class SingleLabelGraphSageTrain extends GraphSageTrain {
             config.modelName(),
             GraphSage.MODEL_TYPE,
             graph.schema(),
-            ModelData.of(trainResult.layers(), org.neo4j.gds.embeddings.graphsage.GraphSageHelper::features),
+            ModelData.of(
+                trainResult.layers(),
+                org.neo4j.gds.embeddings.graphsage.GraphSageHelper::features,
+                config.precision()
+            ),
             config
         );
     }
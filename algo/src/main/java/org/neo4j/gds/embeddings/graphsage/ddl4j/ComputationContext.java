@@ -22,8 +22,11 @@ package org.neo4j.gds.embeddings.graphsage.ddl4j;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.PassthroughVariable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.TensorFactory;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.TensorPool;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,10 +36,50 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class ComputationContext {
     private final Map<Variable<?>, Tensor<?>> data;
     private final Map<Variable<?>, Tensor<?>> gradients;
+    private final TensorPool pool;
+    private final List<double[]> allocations;
 
     public ComputationContext() {
+        this(new TensorPool());
+    }
+
+    /**
+     * Creates a context that takes its buffers from the given pool.
+     * All buffers are returned to the pool on {@link #release()},
+     * so the pool must not be shared between threads.
+     */
+    public ComputationContext(TensorPool pool) {
         this.data = new ConcurrentHashMap<>();
         this.gradients = new ConcurrentHashMap<>();
+        this.pool = pool;
+        this.allocations = new ArrayList<>();
+    }
+
+    /**
+     * Returns a zeroed buffer that is owned by this context until {@link #release()}.
+     */
+    public double[] allocate(int size) {
+        double[] buffer = pool.allocate(size);
+        allocations.add(buffer);
+        return buffer;
+    }
+
+    /**
+     * Returns a zeroed tensor with the same dimensions as the given tensor, see {@link #allocate(int)}.
+     */
+    public <T extends Tensor<T>> T zerosLike(T tensor) {
+        return tensor.wrap(allocate(tensor.totalSize()));
+    }
+
+    /**
+     * Returns all buffers allocated by this context to its pool.
+     * Any tensor computed by this context must not be used afterwards.
+     */
+    public void release() {
+        data.clear();
+        gradients.clear();
+        allocations.forEach(pool::release);
+        allocations.clear();
     }
 
     public <T extends Tensor<T>> T forward(Variable<T> variable) {
@@ -105,8 +148,9 @@ public class ComputationContext {
     }
 
     private void updateGradient(Variable<?> variable, Tensor<?> gradient) {
-        gradients.putIfAbsent(variable, TensorFactory.constant(0D, variable.dimensions()));
-        gradients.get(variable).addInPlace(gradient);
+        gradients
+            .computeIfAbsent(variable, v -> TensorFactory.wrap(allocate(Tensor.totalSize(v.dimensions())), v.dimensions()))
+            .addInPlace(gradient);
     }
 
     static class BackPropTask {
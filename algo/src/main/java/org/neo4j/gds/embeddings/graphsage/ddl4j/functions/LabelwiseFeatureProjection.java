@@ -21,6 +21,7 @@ package org.neo4j.gds.embeddings.graphsage.ddl4j.functions;
 
 import org.ejml.data.DMatrix1Row;
 import org.ejml.data.DMatrixRMaj;
+import org.neo4j.gds.embeddings.graphsage.Features;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.AbstractVariable;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.Dimensions;
@@ -29,7 +30,6 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Matrix;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.tensor.Tensor;
 import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.core.utils.matrix.MatrixUtil;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -38,14 +38,14 @@ import java.util.stream.IntStream;
 public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
 
     private final long[] nodeIds;
-    private final HugeObjectArray<double[]> features;
+    private final Features features;
     private final Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel;
     private final int projectedFeatureDimension;
     private final NodeLabel[] labels;
 
     public LabelwiseFeatureProjection(
         long[] nodeIds,
-        HugeObjectArray<double[]> features,
+        Features features,
         Map<NodeLabel, Weights<? extends Tensor<?>>> weightsByLabel,
         int projectedFeatureDimension,
         NodeLabel[] labels
@@ -61,18 +61,20 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
     @Override
     public Matrix apply(ComputationContext ctx) {
         double[] data = new double[nodeIds.length * projectedFeatureDimension];
+        double[] nodeFeatures = newFeatureBuffer();
         IntStream.range(0, nodeIds.length).forEach(i -> {
             long nodeId = nodeIds[i];
             NodeLabel label = labels[i];
             Weights<? extends Tensor<?>> weights = weightsByLabel.get(label);
-            double[] nodeFeatures = features.get(nodeId);
+            int featureCount = features.featureCount(nodeId);
+            features.copyTo(nodeId, nodeFeatures, 0);
 
             DMatrix1Row wrappedWeights = DMatrixRMaj.wrap(
                 weights.dimension(0),
                 weights.dimension(1),
                 weights.data().data()
             );
-            DMatrixRMaj wrappedNodeFeatures = DMatrixRMaj.wrap(1, nodeFeatures.length, nodeFeatures);
+            DMatrixRMaj wrappedNodeFeatures = DMatrixRMaj.wrap(1, featureCount, nodeFeatures);
             DMatrixRMaj product = new DMatrixRMaj(weights.dimension(0), 1);
             MatrixUtil.multTransB(wrappedWeights, wrappedNodeFeatures, product, index -> (index < projectedFeatureDimension));
             System.arraycopy(
@@ -92,6 +94,7 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
         int rows = parent.dimension(0);
         int cols = parent.dimension(1);
         double[] gradientData = new double[rows * cols];
+        double[] nodeFeatures = newFeatureBuffer();
 
         IntStream.range(0, nodeIds.length).forEach(i -> {
             long nodeId = nodeIds[i];
@@ -103,7 +106,7 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
                 // row is a projected feature
                 // col is a non-projected feature
 
-                double[] nodeFeatures = features.get(nodeId);
+                features.copyTo(nodeId, nodeFeatures, 0);
                 for (int row = 0; row < rows; row++) {
                     for (int col = 0; col < cols; col++) {
                         gradientData[row * cols + col] += nodeFeatures[col] * thisGradient[i * dimension(1) + row];
@@ -113,4 +116,15 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
         });
         return new Matrix(gradientData, rows, cols);
     }
+
+    /**
+     * The features of every node are copied into this buffer, which fits the features of all labels.
+     */
+    private double[] newFeatureBuffer() {
+        int maxFeatureCount = 0;
+        for (Weights<? extends Tensor<?>> weights : weightsByLabel.values()) {
+            maxFeatureCount = Math.max(maxFeatureCount, weights.dimension(1));
+        }
+        return new double[maxFeatureCount];
+    }
 }
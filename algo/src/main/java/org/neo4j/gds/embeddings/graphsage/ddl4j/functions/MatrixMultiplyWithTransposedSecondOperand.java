@@ -54,39 +54,39 @@ public class MatrixMultiplyWithTransposedSecondOperand extends AbstractVariable<
     public Matrix apply(ComputationContext ctx) {
         Tensor<?> t1 = ctx.data(A);
         Tensor<?> t2 = ctx.data(B);
-        return multiplyTransB(t1, t2);
+        return multiplyTransB(t1, t2, ctx);
     }
 
     @Override
     public Matrix gradient(Variable<?> parent, ComputationContext ctx) {
         Tensor<?> gradient = ctx.gradient(this);
         if (parent == A) {
-            return multiply(gradient, ctx.data(B));
+            return multiply(gradient, ctx.data(B), ctx);
         } else {
-            return multiplyTransA(gradient, ctx.data(A));
+            return multiplyTransA(gradient, ctx.data(A), ctx);
         }
     }
 
-    private Matrix multiply(Tensor<?> t1, Tensor<?> t2) {
+    private Matrix multiply(Tensor<?> t1, Tensor<?> t2, ComputationContext ctx) {
         DMatrixRMaj m1 = DMatrixRMaj.wrap(t1.dimension(ROWS_INDEX), t1.dimension(COLUMNS_INDEX), t1.data());
         DMatrixRMaj m2 = DMatrixRMaj.wrap(t2.dimension(ROWS_INDEX), t2.dimension(COLUMNS_INDEX), t2.data());
-        DMatrixRMaj prod = new DMatrixRMaj(m1.numRows, m2.numCols);
+        DMatrixRMaj prod = DMatrixRMaj.wrap(m1.numRows, m2.numCols, ctx.allocate(m1.numRows * m2.numCols));
         MatrixMatrixMult_DDRM.mult_reorder(m1, m2, prod);
         return new Matrix(prod.getData(), prod.numRows, prod.numCols);
     }
 
-    private Matrix multiplyTransB(Tensor<?> t1, Tensor<?> t2) {
+    private Matrix multiplyTransB(Tensor<?> t1, Tensor<?> t2, ComputationContext ctx) {
         DMatrixRMaj m1 = DMatrixRMaj.wrap(t1.dimension(ROWS_INDEX), t1.dimension(COLUMNS_INDEX), t1.data());
         DMatrixRMaj m2 = DMatrixRMaj.wrap(t2.dimension(ROWS_INDEX), t2.dimension(COLUMNS_INDEX), t2.data());
-        DMatrixRMaj prod = new DMatrixRMaj(m1.numRows, m2.numRows);
+        DMatrixRMaj prod = DMatrixRMaj.wrap(m1.numRows, m2.numRows, ctx.allocate(m1.numRows * m2.numRows));
         MatrixMatrixMult_DDRM.multTransB(m1, m2, prod);
         return new Matrix(prod.getData(), prod.numRows, prod.numCols);
     }
 
-    private Matrix multiplyTransA(Tensor<?> t1, Tensor<?> t2) {
+    private Matrix multiplyTransA(Tensor<?> t1, Tensor<?> t2, ComputationContext ctx) {
         DMatrixRMaj m1 = DMatrixRMaj.wrap(t1.dimension(ROWS_INDEX), t1.dimension(COLUMNS_INDEX), t1.data());
         DMatrixRMaj m2 = DMatrixRMaj.wrap(t2.dimension(ROWS_INDEX), t2.dimension(COLUMNS_INDEX), t2.data());
-        DMatrixRMaj prod = new DMatrixRMaj(m1.numCols, m2.numCols);
+        DMatrixRMaj prod = DMatrixRMaj.wrap(m1.numCols, m2.numCols, ctx.allocate(m1.numCols * m2.numCols));
         MatrixMatrixMult_DDRM.multTransA_reorder(m1, m2, prod);
         return new Matrix(prod.getData(), prod.numRows, prod.numCols);
     }
@@ -39,7 +39,11 @@ public class MatrixSum extends AbstractVariable<Matrix> {
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        Matrix sum = Matrix.fill(0D, dimension(ROWS_INDEX), dimension(COLUMNS_INDEX));
+        Matrix sum = new Matrix(
+            ctx.allocate(dimension(ROWS_INDEX) * dimension(COLUMNS_INDEX)),
+            dimension(ROWS_INDEX),
+            dimension(COLUMNS_INDEX)
+        );
         for (Variable<?> parent : parents()) {
             sum.addInPlace(ctx.data(parent));
         }
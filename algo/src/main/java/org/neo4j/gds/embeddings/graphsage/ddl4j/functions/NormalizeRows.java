@@ -42,7 +42,7 @@ public class NormalizeRows extends SingleParentVariable<Matrix> {
         double[] parentData = ctx.data(parent()).data();
         int rows = this.rows;
         int cols = this.cols;
-        double[] result = new double[rows * cols];
+        double[] result = ctx.allocate(rows * cols);
         for (int row = 0; row < rows; row++) {
             double sum = 0;
             for (int col = 0; col < cols; col++) {
@@ -62,7 +62,7 @@ public class NormalizeRows extends SingleParentVariable<Matrix> {
     public Matrix gradient(Variable<?> parent, ComputationContext ctx) {
         double[] parentData = ctx.data(parent).data();
         double[] gradientData = ctx.gradient(this).data();
-        double[] result = new double[parentData.length];
+        double[] result = ctx.allocate(parentData.length);
         int rows = this.rows;
         int cols = this.cols;
         for (int row = 0; row < rows; row++) {
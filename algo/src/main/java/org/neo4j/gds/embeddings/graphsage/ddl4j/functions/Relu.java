@@ -33,11 +33,13 @@ public class Relu<T extends Tensor<T>> extends SingleParentVariable<T> {
 
     @Override
     public T apply(ComputationContext ctx) {
-        return (T) ctx.data(parent()).map(value -> value > 0 ? value : ALPHA * value);
+        T parentData = (T) ctx.data(parent());
+        return parentData.mapInto(value -> value > 0 ? value : ALPHA * value, ctx.zerosLike(parentData));
     }
 
     @Override
     public T gradient(Variable<?> contextParent, ComputationContext ctx) {
-        return (T) ctx.data(contextParent).map(value -> value > 0 ? 1 : ALPHA);
+        T parentData = (T) ctx.data(contextParent);
+        return parentData.mapInto(value -> value > 0 ? 1 : ALPHA, ctx.zerosLike(parentData));
     }
 }
@@ -31,12 +31,16 @@ public class Sigmoid<T extends Tensor<T>> extends SingleParentVariable<T> {
 
     @Override
     public T apply(ComputationContext ctx) {
-        return (T) ctx.data(parent()).map(Sigmoid::sigmoid);
+        T parentData = (T) ctx.data(parent());
+        return parentData.mapInto(Sigmoid::sigmoid, ctx.zerosLike(parentData));
     }
 
     @Override
     public T gradient(Variable<?> contextParent, ComputationContext ctx) {
-        return (T) ctx.gradient(this).elementwiseProduct(ctx.data(this).map(value -> value * (1 - value)));
+        T data = ctx.data(this);
+        T result = data.mapInto(value -> value * (1 - value), ctx.zerosLike(data));
+        result.elementwiseProductInPlace(ctx.gradient(this));
+        return result;
     }
 
     public static double sigmoid(double x) {
@@ -41,6 +41,11 @@ public class Matrix extends Tensor<Matrix> {
         return fill(0D, rows(), cols());
     }
 
+    @Override
+    public Matrix wrap(double[] data) {
+        return new Matrix(data, rows(), cols());
+    }
+
     @Override
     public Matrix copy() {
         return new Matrix(data.clone(), rows(), cols());
@@ -24,7 +24,11 @@ import org.neo4j.gds.embeddings.graphsage.ddl4j.Dimensions;
 public class Scalar extends Tensor<Scalar> {
 
     public Scalar(double value) {
-        super(new double[] {value}, Dimensions.scalar());
+        this(new double[] {value});
+    }
+
+    Scalar(double[] data) {
+        super(data, Dimensions.scalar());
     }
 
     @Override
@@ -32,6 +36,11 @@ public class Scalar extends Tensor<Scalar> {
         return new Scalar(0D);
     }
 
+    @Override
+    public Scalar wrap(double[] data) {
+        return new Scalar(data);
+    }
+
     @Override
     public Scalar copy() {
         return new Scalar(value());
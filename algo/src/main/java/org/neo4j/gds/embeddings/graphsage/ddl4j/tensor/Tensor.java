@@ -33,6 +33,11 @@ public abstract class Tensor<SELF extends Tensor<SELF>> {
 
     public abstract SELF zeros();
 
+    /**
+     * Creates a tensor with the same dimensions, backed by the given data.
+     */
+    public abstract SELF wrap(double[] data);
+
     public abstract SELF copy();
 
     public abstract SELF add(SELF b);
@@ -71,6 +76,11 @@ public abstract class Tensor<SELF extends Tensor<SELF>> {
         Arrays.setAll(data, i -> f.applyAsDouble(data[i]));
     }
 
+    public SELF mapInto(DoubleUnaryOperator f, SELF result) {
+        Arrays.setAll(result.data, i -> f.applyAsDouble(data[i]));
+        return result;
+    }
+
     // TODO: figure out how to replace this one
     public void addInPlace(Tensor<?> other) {
         int totalSize = totalSize(dimensions);
@@ -105,6 +115,12 @@ public abstract class Tensor<SELF extends Tensor<SELF>> {
         return result;
     }
 
+    public void elementwiseProductInPlace(Tensor<?> other) {
+        for (int i = 0; i < data.length; i++) {
+            data[i] *= other.data[i];
+        }
+    }
+
     public double aggregateSum() {
         double sum = 0;
         for (double datum : data) {
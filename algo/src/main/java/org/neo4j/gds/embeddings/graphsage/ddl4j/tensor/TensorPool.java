@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage.ddl4j.tensor;
+
+import com.carrotsearch.hppc.IntObjectHashMap;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Keeps released tensor buffers around, keyed by their size, so that repeated
+ * forward and backward passes over the same computation graph can reuse them.
+ * The pool is not thread-safe and is meant to be used by a single thread.
+ */
+public final class TensorPool {
+
+    private final IntObjectHashMap<ArrayDeque<double[]>> buffers;
+
+    public TensorPool() {
+        this.buffers = new IntObjectHashMap<>();
+    }
+
+    /**
+     * Returns a zeroed buffer of the given size.
+     */
+    public double[] allocate(int size) {
+        ArrayDeque<double[]> pooled = buffers.get(size);
+        if (pooled == null || pooled.isEmpty()) {
+            return new double[size];
+        }
+        double[] buffer = pooled.pop();
+        Arrays.fill(buffer, 0D);
+        return buffer;
+    }
+
+    public void release(double[] buffer) {
+        ArrayDeque<double[]> pooled = buffers.get(buffer.length);
+        if (pooled == null) {
+            pooled = new ArrayDeque<>();
+            buffers.put(buffer.length, pooled);
+        }
+        pooled.push(buffer);
+    }
+}
@@ -40,6 +40,11 @@ public class Vector extends Tensor<Vector> {
         return fill(0D, length());
     }
 
+    @Override
+    public Vector wrap(double[] data) {
+        return new Vector(data);
+    }
+
     @Override
     public Vector copy() {
         return new Vector(data.clone());
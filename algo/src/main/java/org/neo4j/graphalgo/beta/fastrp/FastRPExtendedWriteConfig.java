@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.beta.fastrp;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 
@@ -29,7 +30,7 @@ import java.util.Optional;
 
 @ValueClass
 @Configuration
-public interface FastRPExtendedWriteConfig extends FastRPExtendedBaseConfig, WritePropertyConfig {
+public interface FastRPExtendedWriteConfig extends FastRPExtendedBaseConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static FastRPExtendedWriteConfig of(
         String username,
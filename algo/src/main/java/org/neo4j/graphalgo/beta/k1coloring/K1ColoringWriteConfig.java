@@ -24,6 +24,7 @@ import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 
 import java.util.Optional;
@@ -31,7 +32,7 @@ import java.util.Optional;
 @Configuration
 @ValueClass
 @SuppressWarnings("immutables:subtype")
-public interface K1ColoringWriteConfig extends K1ColoringConfig, WritePropertyConfig {
+public interface K1ColoringWriteConfig extends K1ColoringConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static K1ColoringWriteConfig of(
         String username,
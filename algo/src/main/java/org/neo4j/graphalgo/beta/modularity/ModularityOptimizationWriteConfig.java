@@ -24,6 +24,7 @@ import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 
 import java.util.Optional;
@@ -31,7 +32,7 @@ import java.util.Optional;
 @Configuration
 @ValueClass
 @SuppressWarnings("immutables:subtype")
-public interface ModularityOptimizationWriteConfig extends ModularityOptimizationConfig, WritePropertyConfig {
+public interface ModularityOptimizationWriteConfig extends ModularityOptimizationConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static ModularityOptimizationWriteConfig of(
         String username,
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.betweenness;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Approximates betweenness centrality by sampling shortest paths
+ * between uniformly chosen node pairs until a requested error bound is reached.
+ * <p>
+ * The sampling follows KADABRA [1]: every sample picks a random pair {@code (s, t)},
+ * runs a BFS from {@code s} that stops once the level of {@code t} is complete and
+ * draws one of the shortest {@code s-t} paths uniformly at random.
+ * All inner nodes of that path get their count incremented.
+ * The normalized betweenness {@code b(v)} is estimated as {@code count(v) / τ},
+ * where {@code τ} is the number of samples taken so far.
+ * <p>
+ * Sampling is stopped as soon as the adaptive bounds {@code f} and {@code g} from [1]
+ * are below {@code ε} for every node, or when the number of samples reaches {@code ω},
+ * the number of samples that is sufficient for any graph with the estimated vertex diameter [2].
+ * Unlike [1], the failure probability is split uniformly across all nodes instead of
+ * being allocated in a preliminary sampling phase, which keeps the estimate free of
+ * a second sampling pass at the cost of slightly more samples.
+ * <p>
+ * [1]: <a href="https://arxiv.org/abs/1604.08553">ADaptive Algorithm for Betweenness via Random Approximation</a>
+ * [2]: <a href="https://arxiv.org/abs/1407.2385">Fast approximation of betweenness centrality through sampling</a>
+ */
+final class AdaptiveBetweennessSampler {
+
+    // constant from the VC-dimension based sample size, see [2]
+    private static final double UNIVERSAL_CONSTANT = 0.5;
+    // growth factor between two stopping condition checks
+    private static final double CHECKPOINT_GROWTH = 1.2;
+    private static final long MIN_SAMPLES_PER_CHECKPOINT = 1000L;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final double epsilon;
+    private final double delta;
+    private final SplittableRandom random;
+    private final ExecutorService executorService;
+    private final int concurrency;
+    private final AllocationTracker tracker;
+    private final TerminationFlag terminationFlag;
+    private final ProgressLogger progressLogger;
+
+    private long sampleCount;
+    private double achievedEpsilon;
+
+    AdaptiveBetweennessSampler(
+        Graph graph,
+        double epsilon,
+        double delta,
+        Optional<Long> maybeRandomSeed,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker,
+        TerminationFlag terminationFlag,
+        ProgressLogger progressLogger
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.random = maybeRandomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        this.executorService = executorService;
+        this.concurrency = concurrency;
+        this.tracker = tracker;
+        this.terminationFlag = terminationFlag;
+        this.progressLogger = progressLogger;
+    }
+
+    long sampleCount() {
+        return sampleCount;
+    }
+
+    double achievedEpsilon() {
+        return achievedEpsilon;
+    }
+
+    /**
+     * Samples paths and writes the estimated betweenness scores into {@code centrality}.
+     * The scores are scaled to the number of (ordered, or unordered if {@code divisor} is 2) node pairs,
+     * so that they are comparable to the exact scores.
+     */
+    void compute(HugeAtomicDoubleArray centrality, double divisor) {
+        sampleCount = 0L;
+        achievedEpsilon = 0D;
+        if (nodeCount < 2) {
+            return;
+        }
+
+        List<SamplingTask> tasks = ParallelUtil
+            .tasks(concurrency, () -> new SamplingTask(random.split(), centrality))
+            .stream()
+            .map(SamplingTask.class::cast)
+            .collect(Collectors.toList());
+
+        // half of the failure probability is used for the fixed sample size,
+        // the other half is split across the lower and upper bounds of all nodes
+        long maxSamples = maxSamples(tasks.get(0), delta / 2);
+        double logInverseNodeDelta = Math.log(4.0 * nodeCount / delta);
+
+        long nextCheckpoint = Math.min(maxSamples, Math.max(MIN_SAMPLES_PER_CHECKPOINT, maxSamples / 100));
+        double maxError = Double.POSITIVE_INFINITY;
+
+        while (terminationFlag.running()) {
+            long missingSamples = nextCheckpoint - sampleCount;
+            long samplesPerTask = missingSamples / tasks.size();
+            long remainder = missingSamples % tasks.size();
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).samples = samplesPerTask + (i < remainder ? 1 : 0);
+            }
+            ParallelUtil.run(tasks, executorService);
+            sampleCount = nextCheckpoint;
+
+            progressLogger.logProgress(sampleCount, maxSamples);
+
+            if (sampleCount >= maxSamples) {
+                break;
+            }
+
+            maxError = maxError(centrality, maxSamples, logInverseNodeDelta);
+            if (maxError <= epsilon) {
+                break;
+            }
+
+            nextCheckpoint = Math.min(maxSamples, (long) Math.ceil(nextCheckpoint * CHECKPOINT_GROWTH));
+        }
+
+        achievedEpsilon = sampleCount >= maxSamples ? Math.min(epsilon, maxError) : maxError;
+
+        double scale = (double) nodeCount * (nodeCount - 1) / (divisor * sampleCount);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> centrality.set(
+            nodeId,
+            centrality.get(nodeId) * scale
+        ));
+    }
+
+    /**
+     * Number of samples that guarantees an error of at most {@code ε} with probability {@code 1 - δ}
+     * for graphs with the given vertex diameter [2].
+     */
+    private long maxSamples(SamplingTask task, double delta) {
+        // the vertex diameter is the number of nodes on the longest shortest path.
+        // For connected undirected graphs, it is at most twice the eccentricity of any node plus one.
+        // There is no such bound for directed or disconnected graphs, where we fall back to the node count.
+        int eccentricity = graph.isUndirected() ? task.eccentricity(random.nextLong(nodeCount)) : -1;
+        long vertexDiameter = eccentricity >= 0
+            ? Math.min(nodeCount, 2L * eccentricity + 1)
+            : nodeCount;
+        double log2 = Math.floor(Math.log(Math.max(1L, vertexDiameter - 2)) / Math.log(2)) + 1;
+        return (long) Math.ceil(UNIVERSAL_CONSTANT / (epsilon * epsilon) * (log2 + Math.log(1 / delta)));
+    }
+
+    private double maxError(HugeAtomicDoubleArray counts, long maxSamples, double logInverseNodeDelta) {
+        double samples = sampleCount;
+        double omega = maxSamples;
+        List<MaxErrorTask> tasks = PartitionUtils
+            .rangePartition(concurrency, nodeCount)
+            .stream()
+            .map(partition -> new MaxErrorTask(
+                counts,
+                partition.startNode(),
+                partition.startNode() + partition.nodeCount(),
+                samples,
+                omega,
+                logInverseNodeDelta
+            ))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        return tasks.stream().mapToDouble(task -> task.maxError).max().orElse(0D);
+    }
+
+    // lower deviation bound, see Theorem 4.2 in [1]
+    static double f(double estimate, double logInverseDelta, double omega, double samples) {
+        double base = 1.0 / 3.0 - omega / samples;
+        return logInverseDelta / samples * (base + Math.sqrt(base * base + 2 * estimate * omega / logInverseDelta));
+    }
+
+    // upper deviation bound, see Theorem 4.2 in [1]
+    static double g(double estimate, double logInverseDelta, double omega, double samples) {
+        double base = 1.0 / 3.0 + omega / samples;
+        return logInverseDelta / samples * (base + Math.sqrt(base * base + 2 * estimate * omega / logInverseDelta));
+    }
+
+    private static final class MaxErrorTask implements Runnable {
+        private final HugeAtomicDoubleArray counts;
+        private final long startNode;
+        private final long endNode;
+        private final double samples;
+        private final double omega;
+        private final double logInverseNodeDelta;
+
+        private double maxError;
+
+        private MaxErrorTask(
+            HugeAtomicDoubleArray counts,
+            long startNode,
+            long endNode,
+            double samples,
+            double omega,
+            double logInverseNodeDelta
+        ) {
+            this.counts = counts;
+            this.startNode = startNode;
+            this.endNode = endNode;
+            this.samples = samples;
+            this.omega = omega;
+            this.logInverseNodeDelta = logInverseNodeDelta;
+        }
+
+        @Override
+        public void run() {
+            double maxError = 0D;
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                double estimate = counts.get(nodeId) / samples;
+                double error = Math.max(
+                    f(estimate, logInverseNodeDelta, omega, samples),
+                    g(estimate, logInverseNodeDelta, omega, samples)
+                );
+                maxError = Math.max(maxError, error);
+            }
+            this.maxError = maxError;
+        }
+    }
+
+    private final class SamplingTask implements Runnable {
+        private final Graph localGraph;
+        private final SplittableRandom random;
+        private final HugeAtomicDoubleArray counts;
+
+        private final HugeIntArray distance;
+        private final HugeDoubleArray sigma;
+        private HugeLongArray visitedNodes;
+        private long visitedCount;
+
+        private long samples;
+
+        private SamplingTask(SplittableRandom random, HugeAtomicDoubleArray counts) {
+            this.localGraph = graph.concurrentCopy();
+            this.random = random;
+            this.counts = counts;
+            this.distance = HugeIntArray.newArray(nodeCount, tracker);
+            this.distance.fill(-1);
+            this.sigma = HugeDoubleArray.newArray(nodeCount, tracker);
+            this.visitedNodes = HugeLongArray.newArray(Math.min(nodeCount, 1024L), tracker);
+        }
+
+        @Override
+        public void run() {
+            for (long i = 0; i < samples && terminationFlag.running(); i++) {
+                long source = random.nextLong(nodeCount);
+                long target = random.nextLong(nodeCount - 1);
+                if (target >= source) {
+                    target++;
+                }
+                samplePath(source, target);
+                clear();
+            }
+        }
+
+        // returns -1 if not all nodes are reachable from the source
+        int eccentricity(long source) {
+            bfs(source, -1L);
+            int eccentricity = visitedCount == nodeCount
+                ? distance.get(visitedNodes.get(visitedCount - 1))
+                : -1;
+            clear();
+            return eccentricity;
+        }
+
+        private void samplePath(long source, long target) {
+            bfs(source, target);
+            if (distance.get(target) < 0) {
+                // unreachable pairs do not contribute to any node
+                return;
+            }
+
+            long current = target;
+            while (true) {
+                long predecessor = randomPredecessor(current);
+                if (predecessor == source) {
+                    return;
+                }
+                counts.update(predecessor, count -> count + 1);
+                current = predecessor;
+            }
+        }
+
+        // BFS that stops after the level of the target has been discovered completely
+        private void bfs(long source, long target) {
+            distance.set(source, 0);
+            sigma.set(source, 1);
+            visit(source);
+
+            int targetDistance = Integer.MAX_VALUE;
+            for (long head = 0; head < visitedCount; head++) {
+                long node = visitedNodes.get(head);
+                int distanceNode = distance.get(node);
+                if (distanceNode >= targetDistance) {
+                    break;
+                }
+                localGraph.forEachRelationship(node, (s, t) -> {
+                    if (distance.get(t) < 0) {
+                        distance.set(t, distanceNode + 1);
+                        visit(t);
+                    }
+                    if (distance.get(t) == distanceNode + 1) {
+                        sigma.addTo(t, sigma.get(s));
+                    }
+                    return true;
+                });
+                if (target != -1L && distance.get(target) >= 0) {
+                    targetDistance = distance.get(target);
+                }
+            }
+        }
+
+        // picks a predecessor on a shortest path with probability sigma(predecessor) / sigma(node)
+        private long randomPredecessor(long node) {
+            int predecessorDistance = distance.get(node) - 1;
+            double threshold = random.nextDouble() * sigma.get(node);
+            double[] accumulated = {0D};
+            long[] chosen = {-1L};
+
+            if (localGraph.isUndirected()) {
+                localGraph.forEachRelationship(node, (s, t) -> {
+                    if (distance.get(t) == predecessorDistance) {
+                        chosen[0] = t;
+                        accumulated[0] += sigma.get(t);
+                        return accumulated[0] <= threshold;
+                    }
+                    return true;
+                });
+            } else {
+                // without incoming relationships, we scan the previous BFS level for relationships to the node
+                for (long i = 0; i < visitedCount && accumulated[0] <= threshold; i++) {
+                    long candidate = visitedNodes.get(i);
+                    int candidateDistance = distance.get(candidate);
+                    if (candidateDistance < predecessorDistance) {
+                        continue;
+                    }
+                    if (candidateDistance > predecessorDistance) {
+                        break;
+                    }
+                    localGraph.forEachRelationship(candidate, (s, t) -> {
+                        if (t == node) {
+                            chosen[0] = s;
+                            accumulated[0] += sigma.get(s);
+                            return accumulated[0] <= threshold;
+                        }
+                        return true;
+                    });
+                }
+            }
+
+            assert chosen[0] != -1L : "every reachable node except the source has a predecessor";
+            return chosen[0];
+        }
+
+        private void visit(long node) {
+            if (visitedCount == visitedNodes.size()) {
+                long newCapacity = Math.min(nodeCount, visitedCount + (visitedCount >> 1) + 1);
+                HugeLongArray grown = visitedNodes.copyOf(newCapacity, tracker);
+                tracker.remove(visitedNodes.release());
+                visitedNodes = grown;
+            }
+            visitedNodes.set(visitedCount++, node);
+        }
+
+        private void clear() {
+            for (long i = 0; i < visitedCount; i++) {
+                long node = visitedNodes.get(i);
+                distance.set(node, -1);
+                sigma.set(node, 0);
+            }
+            visitedCount = 0;
+        }
+    }
+}
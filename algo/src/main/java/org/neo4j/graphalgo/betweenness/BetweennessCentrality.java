@@ -33,8 +33,10 @@ import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayQueue;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArrayStack;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongLongMap;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -43,6 +45,7 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
 
     private final Graph graph;
     private final AtomicLong nodeQueue = new AtomicLong();
+    private final AtomicLong processedSources = new AtomicLong();
     private final long nodeCount;
     private final double divisor;
 
@@ -51,33 +54,151 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
 
     private final ExecutorService executorService;
     private final int concurrency;
+    private final boolean storePredecessors;
     private final AllocationTracker tracker;
 
+    // a positive epsilon enables adaptive sampling
+    private final double epsilon;
+    private final double delta;
+    private final Optional<Long> samplingSeed;
+
+    private long sampleCount;
+    private double achievedEpsilon;
+
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        this(graph, selectionStrategy, executorService, concurrency, true, tracker);
+    }
+
+    /**
+     * @param storePredecessors if {@code false}, the compute tasks do not record the predecessors of each node
+     *                          during the forward traversal. Instead, the backward traversal re-scans the adjacency
+     *                          of every visited node and pulls the dependencies from its successors on the next
+     *                          BFS level. This trades a second pass over the relationships for not having to
+     *                          keep a predecessor list per node and thread.
+     */
     public BetweennessCentrality(
         Graph graph,
         SelectionStrategy selectionStrategy,
         ExecutorService executorService,
         int concurrency,
+        boolean storePredecessors,
+        AllocationTracker tracker
+    ) {
+        this(graph, selectionStrategy, executorService, concurrency, storePredecessors, 0D, 0D, Optional.empty(), tracker);
+    }
+
+    /**
+     * Approximates the betweenness scores by sampling shortest paths until every score is within
+     * {@code epsilon} of the exact normalized score with probability {@code 1 - delta}.
+     * See {@link AdaptiveBetweennessSampler} for details.
+     */
+    public static BetweennessCentrality adaptiveSampling(
+        Graph graph,
+        double epsilon,
+        double delta,
+        Optional<Long> samplingSeed,
+        ExecutorService executorService,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        if (epsilon <= 0) {
+            throw new IllegalArgumentException("Adaptive sampling requires a positive epsilon, got " + epsilon);
+        }
+        return new BetweennessCentrality(
+            graph,
+            SelectionStrategy.ALL,
+            executorService,
+            concurrency,
+            true,
+            epsilon,
+            delta,
+            samplingSeed,
+            tracker
+        );
+    }
+
+    private BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ExecutorService executorService,
+        int concurrency,
+        boolean storePredecessors,
+        double epsilon,
+        double delta,
+        Optional<Long> samplingSeed,
         AllocationTracker tracker
     ) {
         this.graph = graph;
         this.executorService = executorService;
         this.concurrency = concurrency;
+        this.storePredecessors = storePredecessors;
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.samplingSeed = samplingSeed;
         this.nodeCount = graph.nodeCount();
         this.centrality = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
         this.selectionStrategy = selectionStrategy;
-        this.selectionStrategy.init(graph, executorService, concurrency);
+        if (epsilon <= 0) {
+            this.selectionStrategy.init(graph, executorService, concurrency);
+        }
         this.tracker = tracker;
         this.divisor = graph.isUndirected() ? 2.0 : 1.0;
     }
 
     @Override
     public HugeAtomicDoubleArray compute() {
+        if (epsilon > 0) {
+            var sampler = new AdaptiveBetweennessSampler(
+                graph,
+                epsilon,
+                delta,
+                samplingSeed,
+                executorService,
+                concurrency,
+                tracker,
+                terminationFlag,
+                getProgressLogger()
+            );
+            sampler.compute(centrality, divisor);
+            sampleCount = sampler.sampleCount();
+            achievedEpsilon = sampler.achievedEpsilon();
+            return centrality;
+        }
+
         nodeQueue.set(0);
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BCTask(tracker)), executorService);
+        processedSources.set(0);
+        if (storePredecessors) {
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new BCTask(tracker)), executorService);
+        } else {
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, () -> new PredecessorFreeBCTask(tracker)), executorService);
+        }
+        sampleCount = processedSources.get();
+        // the error of the source node sampling is unknown
+        achievedEpsilon = selectionStrategy == SelectionStrategy.ALL ? 0D : -1D;
         return centrality;
     }
 
+    /**
+     * The number of sampled paths for adaptive sampling, otherwise the number of processed source nodes.
+     */
+    public long sampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * The achieved error bound on the normalized scores for adaptive sampling, {@code 0} for exact computation
+     * and {@code -1} if the error is unknown, i.e. when sampling source nodes.
+     */
+    public double achievedEpsilon() {
+        return achievedEpsilon;
+    }
+
     @Override
     public BetweennessCentrality me() {
         return this;
@@ -129,6 +250,7 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
                 if (!selectionStrategy.select(startNodeId)) {
                     continue;
                 }
+                processedSources.incrementAndGet();
                 // reset
                 getProgressLogger().logProgress(startNodeId / (nodeCount - 1));
 
@@ -212,4 +334,144 @@ public class BetweennessCentrality extends Algorithm<BetweennessCentrality, Huge
             }
         }
     }
+
+    /**
+     * Brandes' algorithm without predecessor lists.
+     * <p>
+     * The nodes are recorded in the order in which the forward traversal visits them.
+     * The backward traversal processes them in reverse order, i.e. all nodes at BFS level {@code d + 1}
+     * are finished before the first node at level {@code d} is processed. A node therefore computes its
+     * dependency by scanning its own relationships and pulling from all neighbours on the next level.
+     * <p>
+     * The distance, sigma and delta of a node are stored at the position of the node in the visitation order.
+     * A hash map translates node ids into these positions, so that all buffers grow with the number of nodes
+     * that are visited from a start node instead of being allocated for the whole graph.
+     * Between two start nodes, only the visited positions of the buffers are reset.
+     */
+    final class PredecessorFreeBCTask implements Runnable {
+
+        private static final long INITIAL_CAPACITY = 1024L;
+
+        private final Graph localGraph;
+        private final AllocationTracker tracker;
+
+        private final HugeLongLongMap positions;
+
+        private HugeLongArray visitedNodes;
+        private HugeLongArray sigma;
+        private HugeDoubleArray delta;
+        private HugeIntArray distance;
+        private long visitedCount;
+
+        private PredecessorFreeBCTask(AllocationTracker tracker) {
+            this.localGraph = graph.concurrentCopy();
+            this.tracker = tracker;
+
+            long capacity = Math.min(nodeCount, INITIAL_CAPACITY);
+            this.positions = new HugeLongLongMap(capacity, tracker);
+            this.visitedNodes = HugeLongArray.newArray(capacity, tracker);
+            this.sigma = HugeLongArray.newArray(capacity, tracker);
+            this.delta = HugeDoubleArray.newArray(capacity, tracker);
+            this.distance = HugeIntArray.newArray(capacity, tracker);
+        }
+
+        @Override
+        public void run() {
+            for (;;) {
+                // take start node from the queue
+                long startNodeId = nodeQueue.getAndIncrement();
+                if (startNodeId >= nodeCount || !running()) {
+                    return;
+                }
+                // check whether the node is part of the subset
+                if (!selectionStrategy.select(startNodeId)) {
+                    continue;
+                }
+                processedSources.incrementAndGet();
+                getProgressLogger().logProgress((double) startNodeId / (nodeCount - 1));
+
+                sigma.set(visit(startNodeId, 0), 1);
+
+                // BC forward traversal, the visited nodes act as the queue
+                for (long head = 0; head < visitedCount; head++) {
+                    long node = visitedNodes.get(head);
+                    int successorDistance = distance.get(head) + 1;
+                    long sigmaNode = sigma.get(head);
+
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        long targetPosition = positions.getOrDefault(target, -1L);
+                        if (targetPosition < 0) {
+                            targetPosition = visit(target, successorDistance);
+                        }
+
+                        if (distance.get(targetPosition) == successorDistance) {
+                            sigma.addTo(targetPosition, sigmaNode);
+                        }
+                        return true;
+                    });
+                }
+
+                // BC backward traversal, pulling dependencies from the successors
+                for (long tail = visitedCount - 1; tail >= 0; tail--) {
+                    long node = visitedNodes.get(tail);
+                    long position = tail;
+                    int successorDistance = distance.get(position) + 1;
+                    double sigmaNode = sigma.get(position);
+
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        long targetPosition = positions.getOrDefault(target, -1L);
+                        if (targetPosition >= 0 && distance.get(targetPosition) == successorDistance) {
+                            delta.addTo(
+                                position,
+                                sigmaNode / sigma.get(targetPosition) * (delta.get(targetPosition) + 1.0)
+                            );
+                        }
+                        return true;
+                    });
+
+                    if (node != startNodeId) {
+                        double dependencyNode = delta.get(position);
+                        double current;
+                        do {
+                            current = centrality.get(node);
+                        } while (!centrality.compareAndSet(node, current, current + dependencyNode / divisor));
+                    }
+                }
+
+                clear();
+            }
+        }
+
+        private long visit(long node, int nodeDistance) {
+            if (visitedCount == visitedNodes.size()) {
+                grow(Math.min(nodeCount, visitedCount + (visitedCount >> 1) + 1));
+            }
+            long position = visitedCount++;
+            positions.put(node, position);
+            visitedNodes.set(position, node);
+            distance.set(position, nodeDistance);
+            return position;
+        }
+
+        private void grow(long newCapacity) {
+            HugeLongArray grownVisitedNodes = visitedNodes.copyOf(newCapacity, tracker);
+            HugeLongArray grownSigma = sigma.copyOf(newCapacity, tracker);
+            HugeDoubleArray grownDelta = delta.copyOf(newCapacity, tracker);
+            HugeIntArray grownDistance = distance.copyOf(newCapacity, tracker);
+            tracker.remove(visitedNodes.release() + sigma.release() + delta.release() + distance.release());
+            visitedNodes = grownVisitedNodes;
+            sigma = grownSigma;
+            delta = grownDelta;
+            distance = grownDistance;
+        }
+
+        private void clear() {
+            for (long position = 0; position < visitedCount; position++) {
+                sigma.set(position, 0);
+                delta.set(position, 0);
+            }
+            positions.clear();
+            visitedCount = 0;
+        }
+    }
 }
@@ -31,6 +31,22 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
 
     Optional<Long> samplingSeed();
 
+    @Value.Default
+    default boolean storePredecessors() {
+        return true;
+    }
+
+    /**
+     * If present, the scores are approximated by adaptive path sampling
+     * until they are within {@code epsilon} of the normalized exact scores.
+     */
+    Optional<Double> epsilon();
+
+    @Value.Default
+    default double delta() {
+        return 0.1;
+    }
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -42,5 +58,26 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig {
                 ));
             }
         });
+        epsilon().ifPresent(epsilon -> {
+            if (epsilon <= 0 || epsilon >= 1) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.ENGLISH,
+                    "Configuration parameter 'epsilon' must be in the range (0, 1), got %s.",
+                    epsilon
+                ));
+            }
+            if (samplingSize().isPresent()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'epsilon' and 'samplingSize' cannot be used together."
+                );
+            }
+        });
+        if (delta() <= 0 || delta() >= 1) {
+            throw new IllegalArgumentException(String.format(
+                Locale.ENGLISH,
+                "Configuration parameter 'delta' must be in the range (0, 1), got %s.",
+                delta()
+            ));
+        }
     }
 }
@@ -29,6 +29,7 @@ import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongLongMap;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.logging.Log;
 
@@ -41,6 +42,18 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
         var samplingSize = configuration.samplingSize();
         var samplingSeed = configuration.samplingSeed();
 
+        if (configuration.epsilon().isPresent()) {
+            return BetweennessCentrality.adaptiveSampling(
+                graph,
+                configuration.epsilon().get(),
+                configuration.delta(),
+                samplingSeed,
+                Pools.DEFAULT,
+                configuration.concurrency(),
+                tracker
+            );
+        }
+
         var strategy = samplingSize.isPresent() && samplingSize.get() < graph.nodeCount()
             ? new SelectionStrategy.RandomDegree(samplingSize.get(), samplingSeed)
             : SelectionStrategy.ALL;
@@ -50,12 +63,37 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
             strategy,
             Pools.DEFAULT,
             configuration.concurrency(),
+            configuration.storePredecessors(),
             tracker
         );
     }
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
+        if (configuration.epsilon().isPresent()) {
+            return MemoryEstimations.builder(BetweennessCentrality.class)
+                .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+                .perThread("sampling task", MemoryEstimations.builder(AdaptiveBetweennessSampler.class)
+                    // grows with the number of visited nodes, at most all nodes are visited
+                    .perNode("visitedNodes", HugeLongArray::memoryEstimation)
+                    .perNode("sigmas", HugeDoubleArray::memoryEstimation)
+                    .perNode("distances", HugeIntArray::memoryEstimation)
+                    .build())
+                .build();
+        }
+        if (!configuration.storePredecessors()) {
+            return MemoryEstimations.builder(BetweennessCentrality.class)
+                .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
+                .perThread("compute task", MemoryEstimations.builder(BetweennessCentrality.PredecessorFreeBCTask.class)
+                    // grows with the number of visited nodes, at most all nodes are visited
+                    .perNode("positions", HugeLongLongMap::memoryEstimation)
+                    .perNode("visitedNodes", HugeLongArray::memoryEstimation)
+                    .perNode("deltas", HugeDoubleArray::memoryEstimation)
+                    .perNode("sigmas", HugeLongArray::memoryEstimation)
+                    .perNode("distances", HugeIntArray::memoryEstimation)
+                    .build())
+                .build();
+        }
         return MemoryEstimations.builder(BetweennessCentrality.class)
             .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
             .perThread("compute task", MemoryEstimations.builder(BetweennessCentrality.BCTask.class)
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.labelpropagation;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+
+/**
+ * Tracks which nodes need to re-vote in the current iteration.
+ * <p>
+ * A node only needs to re-vote if at least one of its neighbours changed its label
+ * since the node voted the last time. Since labels are updated in place, a change
+ * that happens before the node votes in the same iteration is seen immediately,
+ * and a change that happens afterwards must be picked up in the next iteration.
+ * Skipping all other nodes therefore yields the same labels as re-voting every node.
+ */
+abstract class ActiveNodes {
+
+    static final ActiveNodes ALL = new ActiveNodes() {
+        @Override
+        boolean isActive(long nodeId, RelationshipIterator relationships) {
+            return true;
+        }
+
+        @Override
+        void labelChanged(long nodeId, RelationshipIterator relationships) {}
+
+        @Override
+        void nextIteration() {}
+    };
+
+    static ActiveNodes of(Graph graph, AllocationTracker tracker) {
+        return graph.isUndirected()
+            ? new Frontier(graph.nodeCount(), tracker)
+            : new ChangedNeighbours(graph.nodeCount(), tracker);
+    }
+
+    static long memoryEstimation(long nodeCount) {
+        return 2 * MemoryUsage.sizeOfHugeAtomicBitset(nodeCount);
+    }
+
+    abstract boolean isActive(long nodeId, RelationshipIterator relationships);
+
+    abstract void labelChanged(long nodeId, RelationshipIterator relationships);
+
+    /**
+     * Must be called between two iterations, when no step is running.
+     */
+    abstract void nextIteration();
+
+    /**
+     * For undirected graphs, the neighbours of a changed node are exactly the nodes
+     * whose votes are affected. They are pushed into the current and the next frontier.
+     */
+    private static final class Frontier extends ActiveNodes {
+        private HugeAtomicBitSet current;
+        private HugeAtomicBitSet next;
+
+        private Frontier(long nodeCount, AllocationTracker tracker) {
+            this.current = HugeAtomicBitSet.create(nodeCount, tracker);
+            this.next = HugeAtomicBitSet.create(nodeCount, tracker);
+            if (nodeCount > 0) {
+                this.current.set(0, nodeCount);
+            }
+        }
+
+        @Override
+        boolean isActive(long nodeId, RelationshipIterator relationships) {
+            return current.get(nodeId);
+        }
+
+        @Override
+        void labelChanged(long nodeId, RelationshipIterator relationships) {
+            relationships.forEachRelationship(nodeId, (source, target) -> {
+                current.set(target);
+                next.set(target);
+                return true;
+            });
+        }
+
+        @Override
+        void nextIteration() {
+            HugeAtomicBitSet tmp = current;
+            current = next;
+            next = tmp;
+            next.clear();
+        }
+    }
+
+    /**
+     * For directed graphs, the nodes whose votes are affected by a change are the
+     * nodes with a relationship to the changed node, which we cannot traverse.
+     * Instead, every node checks whether one of its neighbours changed in the previous
+     * or the current iteration before re-voting. This still scans the adjacency list of
+     * every node, but avoids collecting and tallying the votes.
+     */
+    private static final class ChangedNeighbours extends ActiveNodes {
+        private HugeAtomicBitSet changedPreviously;
+        private HugeAtomicBitSet changedCurrently;
+        private boolean firstIteration;
+
+        private ChangedNeighbours(long nodeCount, AllocationTracker tracker) {
+            this.changedPreviously = HugeAtomicBitSet.create(nodeCount, tracker);
+            this.changedCurrently = HugeAtomicBitSet.create(nodeCount, tracker);
+            this.firstIteration = true;
+        }
+
+        @Override
+        boolean isActive(long nodeId, RelationshipIterator relationships) {
+            if (firstIteration) {
+                return true;
+            }
+            boolean[] active = {false};
+            relationships.forEachRelationship(nodeId, (source, target) -> {
+                if (changedPreviously.get(target) || changedCurrently.get(target)) {
+                    active[0] = true;
+                    return false;
+                }
+                return true;
+            });
+            return active[0];
+        }
+
+        @Override
+        void labelChanged(long nodeId, RelationshipIterator relationships) {
+            changedCurrently.set(nodeId);
+        }
+
+        @Override
+        void nextIteration() {
+            HugeAtomicBitSet tmp = changedPreviously;
+            changedPreviously = changedCurrently;
+            changedCurrently = tmp;
+            changedCurrently.clear();
+            firstIteration = false;
+        }
+    }
+}
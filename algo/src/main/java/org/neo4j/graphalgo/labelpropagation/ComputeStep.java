@@ -36,17 +36,20 @@ final class ComputeStep implements Step {
     private final PrimitiveLongIterable nodes;
     private final ProgressLogger progressLogger;
     private final ComputeStepConsumer consumer;
+    private final ActiveNodes activeNodes;
     private final Graph graph;
 
-    private boolean didChange = true;
+    private long changedNodes = -1L;
 
     ComputeStep(
             Graph graph,
             NodeProperties nodeWeights,
             ProgressLogger progressLogger,
             HugeLongArray existingLabels,
-            PrimitiveLongIterable nodes) {
+            PrimitiveLongIterable nodes,
+            ActiveNodes activeNodes) {
         this.existingLabels = existingLabels;
+        this.activeNodes = activeNodes;
         this.progressLogger = progressLogger;
         this.graph = graph;
         this.localRelationshipIterator = graph.concurrentCopy();
@@ -61,34 +64,42 @@ final class ComputeStep implements Step {
 
     @Override
     public void run() {
-        this.didChange = iterateAll(nodes.iterator());
+        this.changedNodes = iterateAll(nodes.iterator());
     }
 
     @Override
     public boolean didConverge() {
-        return !this.didChange;
+        return this.changedNodes == 0L;
     }
 
-    private boolean iterateAll(PrimitiveLongIterator nodeIds) {
-        boolean didChange = false;
+    @Override
+    public long changedNodes() {
+        return this.changedNodes;
+    }
+
+    private long iterateAll(PrimitiveLongIterator nodeIds) {
+        long changedNodes = 0L;
         while (nodeIds.hasNext()) {
             long nodeId = nodeIds.next();
-            didChange = compute(nodeId, didChange);
+            if (activeNodes.isActive(nodeId, localRelationshipIterator) && compute(nodeId)) {
+                changedNodes++;
+            }
             progressLogger.logProgress(graph.degree(nodeId));
         }
-        return didChange;
+        return changedNodes;
     }
 
-    private boolean compute(long nodeId, boolean didChange) {
+    private boolean compute(long nodeId) {
         consumer.clearVotes();
         long label = existingLabels.get(nodeId);
         localRelationshipIterator.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
         long newLabel = consumer.tallyVotes(label);
         if (newLabel != label) {
             existingLabels.set(nodeId, newLabel);
+            activeNodes.labelChanged(nodeId, localRelationshipIterator);
             return true;
         }
-        return didChange;
+        return false;
     }
 
     @Override
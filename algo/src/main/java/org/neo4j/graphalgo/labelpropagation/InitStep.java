@@ -36,6 +36,7 @@ final class InitStep implements Step {
     private final NodeProperties nodeWeights;
     private final ProgressLogger progressLogger;
     private final long maxLabelId;
+    private final ActiveNodes activeNodes;
 
     InitStep(
             Graph graph,
@@ -44,7 +45,8 @@ final class InitStep implements Step {
             PrimitiveLongIterable nodes,
             HugeLongArray existingLabels,
             ProgressLogger progressLogger,
-            long maxLabelId) {
+            long maxLabelId,
+            ActiveNodes activeNodes) {
         this.nodeProperties = nodeProperties;
         this.existingLabels = existingLabels;
         this.nodes = nodes;
@@ -52,6 +54,7 @@ final class InitStep implements Step {
         this.nodeWeights = nodeWeights;
         this.progressLogger = progressLogger;
         this.maxLabelId = maxLabelId;
+        this.activeNodes = activeNodes;
     }
 
     @Override
@@ -90,7 +93,8 @@ final class InitStep implements Step {
                 nodeWeights,
                 progressLogger,
                 existingLabels,
-                nodes
+                nodes,
+                activeNodes
         );
     }
 }
@@ -55,6 +55,7 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
 
     private Graph graph;
     private HugeLongArray labels;
+    private ActiveNodes activeNodes;
     private final long maxLabelId;
     private long ranIterations;
     private boolean didConverge;
@@ -133,22 +134,28 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
 
         ranIterations = 0L;
         didConverge = false;
+        activeNodes = config.trackActiveNodes() ? ActiveNodes.of(graph, tracker) : ActiveNodes.ALL;
 
         List<StepRunner> stepRunners = stepRunners();
+        // converged if at most this many nodes changed their label in the last iteration
+        double maxChangedNodes = config.changedNodesFraction() * nodeCount;
 
         while (ranIterations < config.maxIterations()) {
             getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Start", ranIterations + 1));
             ParallelUtil.runWithConcurrency(config.concurrency(), stepRunners, 1L, MICROSECONDS, terminationFlag, executor);
             ++ranIterations;
-            didConverge = stepRunners.stream().allMatch(StepRunner::didConverge);
+            long changedNodes = stepRunners.stream().mapToLong(StepRunner::changedNodes).sum();
+            didConverge = changedNodes <= maxChangedNodes;
             if (didConverge) {
                 break;
             }
+            activeNodes.nextIteration();
             getProgressLogger().logMessage(formatWithLocale(":: Iteration %d :: Finished", ranIterations));
             getProgressLogger().reset(graph.relationshipCount());
         }
 
         stepRunners.forEach(StepRunner::release);
+        activeNodes = null;
         getProgressLogger().logMessage(":: Finished");
 
         return me();
@@ -174,7 +181,8 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
                 iter,
                 labels,
                 getProgressLogger(),
-                maxLabelId
+                maxLabelId,
+                activeNodes
             );
             StepRunner task = new StepRunner(initStep);
             tasks.add(task);
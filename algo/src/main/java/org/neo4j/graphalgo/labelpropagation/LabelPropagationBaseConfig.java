@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.labelpropagation;
 
 import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.ConsecutiveIdsConfig;
 import org.neo4j.graphalgo.config.IterationsConfig;
@@ -41,6 +42,25 @@ public interface LabelPropagationBaseConfig extends
         return 10;
     }
 
+    /**
+     * If enabled, only nodes with at least one neighbour that changed
+     * its label since their last vote are re-voting in an iteration.
+     */
+    @Value.Default
+    default boolean trackActiveNodes() {
+        return false;
+    }
+
+    /**
+     * The computation is considered converged once the fraction of nodes
+     * that changed their label in an iteration is at most this value.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0, max = 1)
+    default double changedNodesFraction() {
+        return 0D;
+    }
+
     @Value.Check
     default void validate(){
         if (isIncremental() && consecutiveIds()) {
@@ -62,8 +62,12 @@ public class LabelPropagationFactory<CONFIG extends LabelPropagationBaseConfig>
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
-        return MemoryEstimations.builder(LabelPropagation.class)
-            .perNode("labels", HugeLongArray::memoryEstimation)
+        var builder = MemoryEstimations.builder(LabelPropagation.class)
+            .perNode("labels", HugeLongArray::memoryEstimation);
+        if (config.trackActiveNodes()) {
+            builder.perNode("active nodes", ActiveNodes::memoryEstimation);
+        }
+        return builder
             .perThread("votes", MemoryEstimations.builder()
                 .field("init step", InitStep.class)
                 .field("compute step", ComputeStep.class)
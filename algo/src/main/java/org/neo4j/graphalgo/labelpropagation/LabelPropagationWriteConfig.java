@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.labelpropagation;
 
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
@@ -30,7 +31,7 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LabelPropagationWriteConfig extends LabelPropagationBaseConfig, WritePropertyConfig {
+public interface LabelPropagationWriteConfig extends LabelPropagationBaseConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static LabelPropagationWriteConfig of(
         String username,
@@ -25,6 +25,14 @@ interface Step extends Runnable {
 
     boolean didConverge();
 
+    /**
+     * The number of nodes that changed their label during the last run,
+     * or {@code -1} if the step does not compute labels.
+     */
+    default long changedNodes() {
+        return -1L;
+    }
+
     Step next();
 
     default void release() {}
@@ -31,6 +31,10 @@ final class StepRunner implements Runnable {
         return this.current.didConverge();
     }
 
+    public long changedNodes() {
+        return this.current.changedNodes();
+    }
+
     @Override
     public void run() {
         current.run();
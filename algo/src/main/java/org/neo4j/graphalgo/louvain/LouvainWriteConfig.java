@@ -23,6 +23,7 @@ import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 
 import java.util.Optional;
@@ -30,7 +31,7 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LouvainWriteConfig extends LouvainBaseConfig, WritePropertyConfig {
+public interface LouvainWriteConfig extends LouvainBaseConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static LouvainWriteConfig of(
         String username,
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import com.carrotsearch.hppc.BitMixer;
+import org.neo4j.graphalgo.core.utils.BitUtil;
+
+import java.util.Arrays;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * A bounded cache of already computed similarities in front of a {@link SimilarityComputer}.
+ *
+ * The cache is an open-addressing table keyed by the unordered node pair.
+ * Lookups probe a small window of slots; if no slot in that window is free,
+ * the pair at the home slot is evicted.
+ * Similarities are symmetric, so (a, b) and (b, a) share an entry.
+ *
+ * Instances are not thread-safe and are meant to be used by one thread at a time.
+ */
+final class CachingSimilarityComputer implements SimilarityComputer {
+
+    private static final int PROBE_WINDOW = 4;
+    private static final long EMPTY = -1L;
+
+    private final SimilarityComputer computer;
+    private final int mask;
+    // pairs of [smaller node id, larger node id]
+    private final long[] keys;
+    private final double[] similarities;
+
+    private long hits;
+    private long misses;
+
+    static long memoryEstimation(int capacity) {
+        var slots = BitUtil.nextHighestPowerOfTwo(capacity);
+        return sizeOfLongArray(2L * slots) + sizeOfDoubleArray(slots);
+    }
+
+    CachingSimilarityComputer(SimilarityComputer computer, int capacity) {
+        var slots = BitUtil.nextHighestPowerOfTwo(capacity);
+        this.computer = computer;
+        this.mask = slots - 1;
+        this.keys = new long[2 * slots];
+        this.similarities = new double[slots];
+        Arrays.fill(this.keys, EMPTY);
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        var lower = Math.min(firstNodeId, secondNodeId);
+        var upper = Math.max(firstNodeId, secondNodeId);
+        var home = (int) BitMixer.mix64(lower ^ BitMixer.mixPhi(upper)) & mask;
+
+        var freeSlot = home;
+        for (int probe = 0; probe < PROBE_WINDOW; probe++) {
+            var slot = (home + probe) & mask;
+            var key = keys[2 * slot];
+            if (key == lower && keys[2 * slot + 1] == upper) {
+                hits++;
+                return similarities[slot];
+            }
+            if (key == EMPTY) {
+                freeSlot = slot;
+                break;
+            }
+        }
+
+        misses++;
+        var similarity = computer.similarity(firstNodeId, secondNodeId);
+        keys[2 * freeSlot] = lower;
+        keys[2 * freeSlot + 1] = upper;
+        similarities[freeSlot] = similarity;
+        return similarity;
+    }
+
+    long hits() {
+        return hits;
+    }
+
+    long misses() {
+        return misses;
+    }
+}
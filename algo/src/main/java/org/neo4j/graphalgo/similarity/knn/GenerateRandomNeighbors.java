@@ -20,6 +20,8 @@
 package org.neo4j.graphalgo.similarity.knn;
 
 import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.utils.BiLongConsumer;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
@@ -27,12 +29,16 @@ import java.util.SplittableRandom;
 
 /**
  * Initial step in KNN calculation.
+ *
+ * Only source nodes get a neighbor list, which is initialized with random target nodes.
+ * If a seed graph is given, the existing relationships to target nodes are used first.
  */
 final class GenerateRandomNeighbors implements BiLongConsumer {
     private final SplittableRandom random;
     private final SimilarityComputer computer;
     private final HugeObjectArray<NeighborList> neighbors;
-    private final long n;
+    private final KnnNodeFilter filter;
+    private final @Nullable RelationshipIterator seedGraph;
     private final int k;
     private final int k2;
 
@@ -40,14 +46,16 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
         SplittableRandom random,
         SimilarityComputer computer,
         HugeObjectArray<NeighborList> neighbors,
-        long n,
+        KnnNodeFilter filter,
+        @Nullable RelationshipIterator seedGraph,
         int k,
         int k2
     ) {
         this.random = random;
         this.computer = computer;
         this.neighbors = neighbors;
-        this.n = n;
+        this.filter = filter;
+        this.seedGraph = seedGraph;
         this.k = k;
         this.k2 = k2;
     }
@@ -56,23 +64,35 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
     public void apply(long start, long end) {
         var rng = random.split();
         var computer = this.computer;
-        var n = this.n;
+        var filter = this.filter;
+        var seedGraph = this.seedGraph == null ? null : this.seedGraph.concurrentCopy();
         var k = this.k;
-        var k2 = this.k2;
-        var chosen = new LongHashSet(k2);
+        var chosen = new LongHashSet(this.k2);
 
         for (long nodeId = start; nodeId < end; nodeId++) {
+            if (!filter.isSource(nodeId)) {
+                continue;
+            }
+
             chosen.clear();
 
-            for (int i = 0; i < k2; i++) {
-                var randomNode = rng.nextLong(n - 1);
-                if (randomNode >= nodeId) {
-                    ++randomNode;
-                }
+            if (seedGraph != null) {
+                seedGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (source != target && filter.isTarget(target)) {
+                        chosen.add(target);
+                    }
+                    return chosen.size() < k;
+                });
+            }
+
+            // (int) is safe since it is at most k2, which is an int
+            var k2 = (int) Math.min(this.k2, filter.candidateCount(nodeId));
+            for (int i = chosen.size(); i < k2; i++) {
+                var randomNode = filter.randomTarget(rng, nodeId);
                 assert nodeId != randomNode;
                 chosen.add(randomNode);
             }
-            assert chosen.size() <= k2;
+            assert chosen.size() <= Math.max(k2, k);
 
             var neighbors = new NeighborList(k);
             for (var chosenCursor : chosen) {
@@ -82,7 +102,7 @@ final class GenerateRandomNeighbors implements BiLongConsumer {
                 neighbors.add(neighborNode, similarity, rng);
             }
 
-            assert neighbors.size() > 0; // because K > 0 and N > 1
+            assert neighbors.size() > 0 || k2 == 0; // because K > 0 and there is at least one candidate
             assert neighbors.size() <= k;
 
             this.neighbors.set(nodeId, neighbors);
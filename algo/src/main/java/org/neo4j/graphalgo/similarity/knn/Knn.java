@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.BiLongConsumer;
@@ -32,7 +33,12 @@ import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.graphalgo.similarity.SimilarityResult;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
 import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -49,12 +55,16 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
     private final KnnContext context;
     private final SplittableRandom random;
     private final SimilarityComputer computer;
+    private final KnnNodeFilter filter;
+    private final @Nullable RelationshipIterator seedGraph;
 
     public Knn(Graph graph, KnnBaseConfig config, KnnContext context) {
         this(
             graph.nodeCount(),
             config,
             SimilarityComputer.ofProperty(graph, config.nodeWeightProperty()),
+            KnnNodeFilter.of(graph, config, context.tracker()),
+            config.seedFromRelationships() ? graph : null,
             context
         );
     }
@@ -64,17 +74,30 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         KnnBaseConfig config,
         SimilarityComputer similarityComputer,
         KnnContext context
+    ) {
+        this(nodeCount, config, similarityComputer, KnnNodeFilter.all(nodeCount), null, context);
+    }
+
+    Knn(
+        long nodeCount,
+        KnnBaseConfig config,
+        SimilarityComputer similarityComputer,
+        KnnNodeFilter filter,
+        @Nullable RelationshipIterator seedGraph,
+        KnnContext context
     ) {
         this.nodeCount = nodeCount;
         this.config = config;
         this.context = context;
         this.computer = similarityComputer;
+        this.filter = filter;
+        this.seedGraph = seedGraph;
         this.random = this.config.randomSeed() == -1L
             ? new SplittableRandom()
             : new SplittableRandom(this.config.randomSeed());
         this.progressLogger = new BatchingProgressLogger(
             context.log(),
-            (long) Math.ceil(config.sampleRate() * config.topK() * nodeCount),
+            (long) Math.ceil(config.sampleRate() * config.topK() * filter.sourceCount()),
             "KNN-Graph",
             config.concurrency()
         );
@@ -96,13 +119,31 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 neighbors = this.initializeRandomNeighbors();
             }
             if (neighbors == null) {
+                this.filter.release(this.context.tracker());
                 return new EmptyResult();
             }
 
             var maxIterations = this.config.maxIterations();
-            var maxUpdates = (long) Math.ceil(config.sampleRate() * config.topK() * nodeCount);
+            var maxUpdates = (long) Math.ceil(config.sampleRate() * config.topK() * filter.sourceCount());
             var updateThreshold = (long) Math.floor(this.config.deltaThreshold() * maxUpdates);
 
+            // the sampled and reverse neighbors are only needed within one iteration,
+            // we allocate them once and reuse them across iterations
+            var tracker = this.context.tracker();
+            var allOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker);
+            var allNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, tracker);
+            var reverseOldNeighbors = new ReverseNeighbors(nodeCount, tracker);
+            var reverseNewNeighbors = new ReverseNeighbors(nodeCount, tracker);
+            var similarityCaches = this.config.similarityCacheSize() > 0
+                ? new SimilarityCaches(
+                    this.computer,
+                    this.config.similarityCacheSize(),
+                    nodeCount,
+                    this.config.concurrency(),
+                    this.config.workStealing()
+                )
+                : null;
+
             long updateCount;
             int iteration = 0;
             boolean didConverge = false;
@@ -110,7 +151,14 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 int currentIteration = iteration;
                 try (var ignored3 = ProgressTimer.start(took -> logIterationTime(currentIteration, took))) {
                     progressLogger.logMessage("KNN-Graph starting iteration " + iteration + "/" + maxIterations);
-                    updateCount = this.iteration(neighbors);
+                    updateCount = this.iteration(
+                        neighbors,
+                        allOldNeighbors,
+                        allNewNeighbors,
+                        reverseOldNeighbors,
+                        reverseNewNeighbors,
+                        similarityCaches
+                    );
                     progressLogger.logMessage("KNN-Graph ending iteration " + iteration + ": updated " + updateCount + "/" + maxUpdates + " nodes");
                 }
                 if (updateCount <= updateThreshold) {
@@ -120,7 +168,31 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 }
             }
 
-            return ImmutableResult.of(neighbors, iteration, didConverge);
+            tracker.remove(allOldNeighbors.release());
+            tracker.remove(allNewNeighbors.release());
+            reverseOldNeighbors.release();
+            reverseNewNeighbors.release();
+            this.filter.release(tracker);
+
+            long similarityCacheHits = 0;
+            long similarityCacheMisses = 0;
+            if (similarityCaches != null) {
+                similarityCacheHits = similarityCaches.hits();
+                similarityCacheMisses = similarityCaches.misses();
+                progressLogger.logMessage(formatWithLocale(
+                    "KNN-Graph similarity cache hits: %d/%d",
+                    similarityCacheHits,
+                    similarityCacheHits + similarityCacheMisses
+                ));
+            }
+
+            return ImmutableResult.of(
+                neighbors,
+                iteration,
+                didConverge,
+                similarityCacheHits,
+                similarityCacheMisses
+            );
         }
     }
 
@@ -128,11 +200,12 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         var nodeCount = this.nodeCount;
         var k = this.config.topK();
         // (int) is safe since it is at most k, which is an int
-        var boundedK = (int) Math.min(nodeCount - 1, k);
+        // the bound per node is applied by GenerateRandomNeighbors, as source nodes can have one candidate less
+        var boundedK = (int) Math.min(this.filter.targetCount(), k);
 
-        assert boundedK <= k && boundedK <= nodeCount - 1;
+        assert boundedK <= k && boundedK <= nodeCount;
 
-        if (nodeCount < 2 || k == 0) {
+        if (nodeCount < 2 || k == 0 || this.filter.sourceCount() == 0 || this.filter.targetCount() == 0) {
             return null;
         }
 
@@ -146,7 +219,8 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                 random,
                 this.computer,
                 neighbors,
-                nodeCount,
+                this.filter,
+                this.seedGraph,
                 k,
                 boundedK
             )
@@ -155,7 +229,14 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         return neighbors;
     }
 
-    private long iteration(HugeObjectArray<NeighborList> neighbors) {
+    private long iteration(
+        HugeObjectArray<NeighborList> neighbors,
+        HugeObjectArray<LongArrayList> allOldNeighbors,
+        HugeObjectArray<LongArrayList> allNewNeighbors,
+        ReverseNeighbors reverseOldNeighbors,
+        ReverseNeighbors reverseNewNeighbors,
+        @Nullable SimilarityCaches similarityCaches
+    ) {
         // this is a sanity check
         // we check for this before any iteration and return
         // and just make sure that this invariant holds on every iteration
@@ -164,16 +245,11 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             return NeighborList.NOT_INSERTED;
         }
 
-        var tracker = this.context.tracker();
         var concurrency = this.config.concurrency();
         var executor = this.context.executor();
 
         var sampledK = this.config.sampledK(n);
 
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var allOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-        var allNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-
         ParallelUtil.readParallel(concurrency, n, executor, new SplitOldAndNewNeighbors(
             this.random,
             neighbors,
@@ -182,15 +258,13 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             sampledK
         ));
 
-        // TODO: init in ctor and reuse - benchmark against new allocations
-        var reverseOldNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-        var reverseNewNeighbors = HugeObjectArray.newArray(LongArrayList.class, n, tracker);
-
-        reverseOldAndNewNeighbors(n, allOldNeighbors, allNewNeighbors, reverseOldNeighbors, reverseNewNeighbors);
+        reverseOldNeighbors.build(allOldNeighbors, concurrency, executor);
+        reverseNewNeighbors.build(allNewNeighbors, concurrency, executor);
 
         var neighborsJoiner = new JoinNeighbors(
             this.random,
             this.computer,
+            this.filter,
             neighbors,
             allOldNeighbors,
             allNewNeighbors,
@@ -199,76 +273,59 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             n,
             this.config.topK(),
             sampledK,
-            this.config.randomJoins()
+            this.config.randomJoins(),
+            similarityCaches
         );
 
-        ParallelUtil.readParallel(concurrency, n, executor, neighborsJoiner);
-
-        return neighborsJoiner.updateCount.sum();
-    }
-
-    private static void reverseOldAndNewNeighbors(
-        long nodeCount,
-        HugeObjectArray<LongArrayList> allOldNeighbors,
-        HugeObjectArray<LongArrayList> allNewNeighbors,
-        HugeObjectArray<LongArrayList> reverseOldNeighbors,
-        HugeObjectArray<LongArrayList> reverseNewNeighbors
-    ) {
-        // TODO: cursors
-        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
-            reverseNeighbors(nodeId, allOldNeighbors, reverseOldNeighbors);
-            reverseNeighbors(nodeId, allNewNeighbors, reverseNewNeighbors);
+        if (this.config.workStealing()) {
+            // nodes with many reverse neighbors join more candidates
+            ParallelUtil.readParallelWorkStealing(
+                concurrency,
+                n,
+                nodeId -> reverseOldNeighbors.degree(nodeId) + reverseNewNeighbors.degree(nodeId),
+                neighborsJoiner
+            );
+        } else {
+            ParallelUtil.readParallel(concurrency, n, executor, neighborsJoiner);
         }
-    }
 
-    static void reverseNeighbors(
-        long nodeId,
-        HugeObjectArray<LongArrayList> allNeighbors,
-        HugeObjectArray<LongArrayList> reverseNeighbors
-    ) {
-        var neighbors = allNeighbors.get(nodeId);
-        if (neighbors != null) {
-            for (var neighbor : neighbors) {
-                assert neighbor.value != nodeId;
-                var oldReverse = reverseNeighbors.get(neighbor.value);
-                if (oldReverse == null) {
-                    oldReverse = new LongArrayList();
-                    reverseNeighbors.set(neighbor.value, oldReverse);
-                }
-                oldReverse.add(nodeId);
-            }
-        }
+        return neighborsJoiner.updateCount.sum();
     }
 
     private static final class JoinNeighbors implements BiLongConsumer {
         private final SplittableRandom random;
         private final SimilarityComputer computer;
+        private final KnnNodeFilter filter;
         private final HugeObjectArray<NeighborList> neighbors;
         private final HugeObjectArray<LongArrayList> allOldNeighbors;
         private final HugeObjectArray<LongArrayList> allNewNeighbors;
-        private final HugeObjectArray<LongArrayList> allReverseOldNeighbors;
-        private final HugeObjectArray<LongArrayList> allReverseNewNeighbors;
+        private final ReverseNeighbors allReverseOldNeighbors;
+        private final ReverseNeighbors allReverseNewNeighbors;
         private final long n;
         private final int k;
         private final int sampledK;
         private final int randomJoins;
+        private final @Nullable SimilarityCaches similarityCaches;
         private final LongAdder updateCount;
 
         private JoinNeighbors(
             SplittableRandom random,
             SimilarityComputer computer,
+            KnnNodeFilter filter,
             HugeObjectArray<NeighborList> neighbors,
             HugeObjectArray<LongArrayList> allOldNeighbors,
             HugeObjectArray<LongArrayList> allNewNeighbors,
-            HugeObjectArray<LongArrayList> allReverseOldNeighbors,
-            HugeObjectArray<LongArrayList> allReverseNewNeighbors,
+            ReverseNeighbors allReverseOldNeighbors,
+            ReverseNeighbors allReverseNewNeighbors,
             long n,
             int k,
             int sampledK,
-            int randomJoins
+            int randomJoins,
+            @Nullable SimilarityCaches similarityCaches
         ) {
             this.random = random;
             this.computer = computer;
+            this.filter = filter;
             this.neighbors = neighbors;
             this.allOldNeighbors = allOldNeighbors;
             this.allNewNeighbors = allNewNeighbors;
@@ -278,13 +335,15 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             this.k = k;
             this.sampledK = sampledK;
             this.randomJoins = randomJoins;
+            this.similarityCaches = similarityCaches;
             this.updateCount = new LongAdder();
         }
 
         @Override
         public void apply(long start, long end) {
             var rng = random.split();
-            var computer = this.computer;
+            var computer = this.similarityCaches == null ? this.computer : this.similarityCaches.forRange(start);
+            var filter = this.filter;
             var n = this.n;
             var k = this.k;
             var sampledK = this.sampledK;
@@ -296,35 +355,23 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
             long updateCount = 0;
             for (long nodeId = start; nodeId < end; nodeId++) {
+                var isSource = filter.isSource(nodeId);
+
                 // old[v] ∪ Sample(old′[v], ρK)
-                var oldNeighbors = allOldNeighbors.get(nodeId);
-                if (oldNeighbors != null) {
-                    var reverseOldNeighbors = allReverseOldNeighbors.get(nodeId);
-                    if (reverseOldNeighbors != null) {
-                        var numberOfReverseOldNeighbors = reverseOldNeighbors.size();
-                        for (var elem : reverseOldNeighbors) {
-                            if (rng.nextInt(numberOfReverseOldNeighbors) < sampledK) {
-                                // TODO: this could add nodes twice, maybe? should this be a set?
-                                oldNeighbors.add(elem.value);
-                            }
-                        }
-                    }
+                var oldNeighbors = isSource
+                    ? allOldNeighbors.get(nodeId)
+                    : targetOnlyNeighbors(nodeId, allReverseOldNeighbors, allOldNeighbors);
+                if (oldNeighbors != null && (!oldNeighbors.isEmpty() || !isSource)) {
+                    sampleReverseNeighbors(rng, sampledK, nodeId, allReverseOldNeighbors, oldNeighbors);
                 }
 
 
                 // new[v] ∪ Sample(new′[v], ρK)
-                var newNeighbors = allNewNeighbors.get(nodeId);
-                if (newNeighbors != null) {
-                    var reverseNewNeighbors = allReverseNewNeighbors.get(nodeId);
-                    if (reverseNewNeighbors != null) {
-                        var numberOfReverseNewNeighbors = reverseNewNeighbors.size();
-                        for (var elem : reverseNewNeighbors) {
-                            if (rng.nextInt(numberOfReverseNewNeighbors) < sampledK) {
-                                // TODO: this could add nodes twice, maybe? should this be a set?
-                                newNeighbors.add(elem.value);
-                            }
-                        }
-                    }
+                var newNeighbors = isSource
+                    ? allNewNeighbors.get(nodeId)
+                    : targetOnlyNeighbors(nodeId, allReverseNewNeighbors, allNewNeighbors);
+                if (newNeighbors != null && (!newNeighbors.isEmpty() || !isSource)) {
+                    sampleReverseNeighbors(rng, sampledK, nodeId, allReverseNewNeighbors, newNeighbors);
 
                     var newNeighborElements = newNeighbors.buffer;
                     var newNeighborsCount = newNeighbors.elementsCount;
@@ -346,12 +393,12 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
                         // join(new_nbd, new_ndb)
                         for (int j = i + 1; j < newNeighborsCount; j++) {
-                            var elem2 = newNeighborElements[i];
+                            var elem2 = newNeighborElements[j];
                             if (elem1 == elem2) {
                                 continue;
                             }
 
-                            updateCount += join(
+                            updateCount += joinSymmetric(
                                 rng,
                                 computer,
                                 allNeighbors,
@@ -360,15 +407,6 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                                 elem1,
                                 elem2
                             );
-                            updateCount += join(
-                                rng,
-                                computer,
-                                allNeighbors,
-                                n,
-                                k,
-                                elem2,
-                                elem1
-                            );
                         }
 
                         // join(new_nbd, old_ndb)
@@ -380,7 +418,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                                     continue;
                                 }
 
-                                updateCount += join(
+                                updateCount += joinSymmetric(
                                     rng,
                                     computer,
                                     allNeighbors,
@@ -389,27 +427,15 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
                                     elem1,
                                     elem2
                                 );
-                                updateCount += join(
-                                    rng,
-                                    computer,
-                                    allNeighbors,
-                                    n,
-                                    k,
-                                    elem2,
-                                    elem1
-                                );
                             }
                         }
                     }
                 }
 
                 // random_join, this isn't in the paper
-                var randomJoins = this.randomJoins;
+                var randomJoins = isSource && filter.candidateCount(nodeId) > 0 ? this.randomJoins : 0;
                 for (int i = 0; i < randomJoins; i++) {
-                    var randomNodeId = rng.nextLong(n - 1);
-                    if (randomNodeId >= nodeId) {
-                        ++randomNodeId;
-                    }
+                    var randomNodeId = filter.randomTarget(rng, nodeId);
                     // random joins are not counted towards the actual update counter
                     join(
                         rng,
@@ -426,6 +452,61 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             this.updateCount.add(updateCount);
         }
 
+        /**
+         * Target-only nodes have no neighbors of their own,
+         * but they still connect the source nodes that point to them.
+         */
+        private static @Nullable LongArrayList targetOnlyNeighbors(
+            long nodeId,
+            ReverseNeighbors allReverseNeighbors,
+            HugeObjectArray<LongArrayList> allNeighbors
+        ) {
+            var neighbors = allNeighbors.get(nodeId);
+            if (neighbors == null && allReverseNeighbors.degree(nodeId) > 0) {
+                neighbors = new LongArrayList();
+                allNeighbors.set(nodeId, neighbors);
+            }
+            return neighbors;
+        }
+
+        /**
+         * Adds a sample of the reverse neighbors to the given neighbors.
+         * A reverse neighbor can already be one of the sampled neighbors,
+         * those are skipped so that the pair is only joined once.
+         * The reverse neighbors of a node are distinct, so only the
+         * neighbors that were present before sampling need to be checked.
+         */
+        private static void sampleReverseNeighbors(
+            SplittableRandom rng,
+            int sampledK,
+            long nodeId,
+            ReverseNeighbors allReverseNeighbors,
+            LongArrayList neighbors
+        ) {
+            var start = allReverseNeighbors.startOffset(nodeId);
+            var end = allReverseNeighbors.endOffset(nodeId);
+            var numberOfReverseNeighbors = Math.toIntExact(end - start);
+            var numberOfNeighbors = neighbors.size();
+            for (var offset = start; offset < end; offset++) {
+                if (rng.nextInt(numberOfReverseNeighbors) < sampledK) {
+                    var target = allReverseNeighbors.target(offset);
+                    if (!containsNeighbor(neighbors, numberOfNeighbors, target)) {
+                        neighbors.add(target);
+                    }
+                }
+            }
+        }
+
+        private static boolean containsNeighbor(LongArrayList neighbors, int count, long target) {
+            var buffer = neighbors.buffer;
+            for (int i = 0; i < count; i++) {
+                if (buffer[i] == target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private long join(
             SplittableRandom splittableRandom,
             SimilarityComputer computer,
@@ -438,7 +519,57 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             assert base != joiner;
             assert n > 1 && k > 0;
 
+            // only source nodes have neighbors and only target nodes can be neighbors
+            if (!filter.isSource(base) || !filter.isTarget(joiner)) {
+                return NeighborList.NOT_INSERTED;
+            }
+
             var similarity = computer.safeSimilarity(base, joiner);
+            return insert(splittableRandom, allNeighbors, n, k, base, joiner, similarity);
+        }
+
+        /**
+         * Joins both nodes in both directions.
+         * Similarities are symmetric, so they are only computed once for both insertions.
+         */
+        private long joinSymmetric(
+            SplittableRandom splittableRandom,
+            SimilarityComputer computer,
+            HugeObjectArray<NeighborList> allNeighbors,
+            long n,
+            int k,
+            long first,
+            long second
+        ) {
+            assert first != second;
+            assert n > 1 && k > 0;
+
+            var firstAcceptsSecond = filter.isSource(first) && filter.isTarget(second);
+            var secondAcceptsFirst = filter.isSource(second) && filter.isTarget(first);
+            if (!firstAcceptsSecond && !secondAcceptsFirst) {
+                return NeighborList.NOT_INSERTED;
+            }
+
+            var similarity = computer.safeSimilarity(first, second);
+            long updates = 0;
+            if (firstAcceptsSecond) {
+                updates += insert(splittableRandom, allNeighbors, n, k, first, second, similarity);
+            }
+            if (secondAcceptsFirst) {
+                updates += insert(splittableRandom, allNeighbors, n, k, second, first, similarity);
+            }
+            return updates;
+        }
+
+        private static long insert(
+            SplittableRandom splittableRandom,
+            HugeObjectArray<NeighborList> allNeighbors,
+            long n,
+            int k,
+            long base,
+            long joiner,
+            double similarity
+        ) {
             var neighbors = allNeighbors.get(base);
             synchronized (neighbors) {
                 var k2 = neighbors.size();
@@ -452,6 +583,67 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
         }
     }
 
+    /**
+     * One similarity cache per batch of {@link JoinNeighbors}.
+     *
+     * {@link ParallelUtil#readParallel} runs every batch on a single thread and splits the nodes
+     * into the same batches in every iteration, so a batch keeps its cache across iterations.
+     * With work stealing, the ranges change between iterations and are processed by any worker,
+     * so there is one cache per worker instead, which only ever runs one range at a time.
+     */
+    private static final class SimilarityCaches {
+        private final SimilarityComputer computer;
+        private final int cacheSize;
+        private final boolean perWorker;
+        private final long batchSize;
+        private final CachingSimilarityComputer[] caches;
+        private final Map<Integer, CachingSimilarityComputer> workerCaches;
+
+        private SimilarityCaches(
+            SimilarityComputer computer,
+            int cacheSize,
+            long nodeCount,
+            int concurrency,
+            boolean perWorker
+        ) {
+            this.computer = computer;
+            this.cacheSize = cacheSize;
+            this.perWorker = perWorker;
+            this.batchSize = ParallelUtil.threadCount(concurrency, nodeCount);
+            this.caches = perWorker
+                ? new CachingSimilarityComputer[0]
+                : new CachingSimilarityComputer[Math.toIntExact(ParallelUtil.threadCount(batchSize, nodeCount))];
+            this.workerCaches = new ConcurrentHashMap<>();
+        }
+
+        CachingSimilarityComputer forRange(long rangeStart) {
+            if (perWorker) {
+                var thread = Thread.currentThread();
+                var worker = thread instanceof ForkJoinWorkerThread ? ((ForkJoinWorkerThread) thread).getPoolIndex() : -1;
+                return workerCaches.computeIfAbsent(worker, ignore -> new CachingSimilarityComputer(computer, cacheSize));
+            }
+            var batch = Math.toIntExact(rangeStart / batchSize);
+            var cache = caches[batch];
+            if (cache == null) {
+                cache = new CachingSimilarityComputer(computer, cacheSize);
+                caches[batch] = cache;
+            }
+            return cache;
+        }
+
+        long hits() {
+            return allCaches().mapToLong(CachingSimilarityComputer::hits).sum();
+        }
+
+        long misses() {
+            return allCaches().mapToLong(CachingSimilarityComputer::misses).sum();
+        }
+
+        private Stream<CachingSimilarityComputer> allCaches() {
+            return Stream.concat(Arrays.stream(caches).filter(Objects::nonNull), workerCaches.values().stream());
+        }
+    }
+
     private void logInitTime(long ms) {
         progressLogger.logMessage(() -> formatWithLocale("KNN-G Graph init took %d ms", ms));
     }
@@ -482,8 +674,17 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
 
         abstract boolean didConverge();
 
+        abstract long similarityCacheHits();
+
+        abstract long similarityCacheMisses();
+
         public LongStream neighborsOf(long nodeId) {
-            return neighborList().get(nodeId).elements().map(NeighborList::clearCheckedFlag);
+            var neighbors = neighborList().get(nodeId);
+            // nodes that are filtered out as source nodes have no neighbors
+            if (neighbors == null) {
+                return LongStream.empty();
+            }
+            return neighbors.elements().map(NeighborList::clearCheckedFlag);
         }
 
         // http://www.flatmapthatshit.com/
@@ -491,6 +692,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             var neighborList = neighborList();
             return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
                 .flatMap(cursor -> IntStream.range(cursor.offset, cursor.limit)
+                    .filter(index -> cursor.array[index] != null)
                     .mapToObj(index -> cursor.array[index].similarityStream(index + cursor.base))
                     .flatMap(Function.identity())
                 );
@@ -500,6 +702,7 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             var neighborList = neighborList();
             return Stream.iterate(neighborList.initCursor(neighborList.newCursor()), HugeCursor::next, UnaryOperator.identity())
                 .flatMapToLong(cursor -> IntStream.range(cursor.offset, cursor.limit)
+                    .filter(index -> cursor.array[index] != null)
                     .mapToLong(index -> cursor.array[index].size()))
                 .sum();
         }
@@ -526,6 +729,16 @@ public class Knn extends Algorithm<Knn, Knn.Result> {
             return false;
         }
 
+        @Override
+        long similarityCacheHits() {
+            return 0;
+        }
+
+        @Override
+        long similarityCacheMisses() {
+            return 0;
+        }
+
         @Override
         public LongStream neighborsOf(long nodeId) {
             return LongStream.empty();
@@ -21,16 +21,23 @@ package org.neo4j.graphalgo.similarity.knn;
 
 import org.immutables.value.Value;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.IterationsConfig;
 import org.neo4j.graphalgo.config.NodeWeightConfig;
+import org.neo4j.graphalgo.config.WorkStealingConfig;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWeightConfig {
+public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWeightConfig, WorkStealingConfig {
 
     @NotNull
     @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
@@ -78,6 +85,55 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, NodeWei
         return -1;
     }
 
+    /**
+     * Number of computed similarities that every thread keeps for reuse.
+     * A value of 0 disables the cache, which is cheaper for inexpensive similarity computations.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int similarityCacheSize() {
+        return 0;
+    }
+
+    @Value.Default
+    default List<String> sourceNodeLabels() {
+        return Collections.singletonList(PROJECT_ALL);
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String sourceNodeProperty() {
+        return null;
+    }
+
+    @Value.Default
+    default List<String> targetNodeLabels() {
+        return Collections.singletonList(PROJECT_ALL);
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String targetNodeProperty() {
+        return null;
+    }
+
+    /**
+     * Initialize the neighbors of every node from its relationships
+     * in the graph instead of only from random nodes.
+     */
+    @Value.Default
+    default boolean seedFromRelationships() {
+        return false;
+    }
+
+    @Configuration.Ignore
+    default boolean hasNodeFilter() {
+        return !sourceNodeLabels().contains(PROJECT_ALL)
+               || !targetNodeLabels().contains(PROJECT_ALL)
+               || sourceNodeProperty() != null
+               || targetNodeProperty() != null;
+    }
+
     @Configuration.Ignore
     default int sampledK(long nodeCount) {
         // (int) is safe because value is at most `topK`, which is an int
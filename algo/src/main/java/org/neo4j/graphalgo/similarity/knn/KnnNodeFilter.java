@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfBitset;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Restricts the nodes KNN computes neighbors for (source nodes) and
+ * the nodes that can be selected as neighbors (target nodes).
+ *
+ * A node passes a filter if it has any of the configured labels and,
+ * if a node property is configured, its value for that property is neither 0 nor NaN.
+ * Without any filter configured, every node is both a source and a target node.
+ */
+final class KnnNodeFilter {
+
+    private final long sourceCount;
+    private final long targetCount;
+    // null if every node is a source node
+    private final @Nullable BitSet sourceNodes;
+    // null if every node is a target node
+    private final @Nullable BitSet targetNodes;
+    // maps from [0, targetCount) to the target node ids, null if every node is a target node
+    private final @Nullable HugeLongArray targetIds;
+
+    static KnnNodeFilter all(long nodeCount) {
+        return new KnnNodeFilter(nodeCount, nodeCount, null, null, null);
+    }
+
+    static KnnNodeFilter of(Graph graph, KnnBaseConfig config, AllocationTracker tracker) {
+        if (!config.hasNodeFilter()) {
+            return all(graph.nodeCount());
+        }
+
+        var sourceNodes = nodeSet(graph, config.sourceNodeLabels(), config.sourceNodeProperty(), tracker);
+        var targetNodes = nodeSet(graph, config.targetNodeLabels(), config.targetNodeProperty(), tracker);
+
+        var sourceCount = sourceNodes == null ? graph.nodeCount() : sourceNodes.cardinality();
+        var targetCount = targetNodes == null ? graph.nodeCount() : targetNodes.cardinality();
+
+        HugeLongArray targetIds = null;
+        if (targetNodes != null) {
+            targetIds = HugeLongArray.newArray(targetCount, tracker);
+            long index = 0;
+            for (long nodeId = targetNodes.nextSetBit(0); nodeId >= 0; nodeId = targetNodes.nextSetBit(nodeId + 1)) {
+                targetIds.set(index++, nodeId);
+            }
+        }
+
+        return new KnnNodeFilter(sourceCount, targetCount, sourceNodes, targetNodes, targetIds);
+    }
+
+    private static @Nullable BitSet nodeSet(
+        Graph graph,
+        List<String> labels,
+        @Nullable String property,
+        AllocationTracker tracker
+    ) {
+        var filterByLabel = !labels.contains(PROJECT_ALL);
+        if (!filterByLabel && property == null) {
+            return null;
+        }
+
+        var nodeLabels = labels.stream().map(NodeLabel::of).collect(Collectors.toList());
+        NodeProperties nodeProperties = property == null ? null : Objects.requireNonNull(
+            graph.nodeProperties(property),
+            () -> formatWithLocale("The property `%s` has not been loaded", property)
+        );
+
+        var nodeCount = graph.nodeCount();
+        tracker.add(sizeOfBitset(nodeCount));
+        var nodes = new BitSet(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (filterByLabel && !hasAnyLabel(graph, nodeId, nodeLabels)) {
+                continue;
+            }
+            if (nodeProperties != null) {
+                var value = nodeProperties.doubleValue(nodeId);
+                if (Double.isNaN(value) || value == 0.0) {
+                    continue;
+                }
+            }
+            nodes.set(nodeId);
+        }
+        return nodes;
+    }
+
+    private static boolean hasAnyLabel(Graph graph, long nodeId, List<NodeLabel> nodeLabels) {
+        for (NodeLabel nodeLabel : nodeLabels) {
+            if (graph.hasLabel(nodeId, nodeLabel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private KnnNodeFilter(
+        long sourceCount,
+        long targetCount,
+        @Nullable BitSet sourceNodes,
+        @Nullable BitSet targetNodes,
+        @Nullable HugeLongArray targetIds
+    ) {
+        this.sourceCount = sourceCount;
+        this.targetCount = targetCount;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+        this.targetIds = targetIds;
+    }
+
+    long sourceCount() {
+        return sourceCount;
+    }
+
+    long targetCount() {
+        return targetCount;
+    }
+
+    boolean isSource(long nodeId) {
+        return sourceNodes == null || sourceNodes.get(nodeId);
+    }
+
+    boolean isTarget(long nodeId) {
+        return targetNodes == null || targetNodes.get(nodeId);
+    }
+
+    /**
+     * The number of target nodes that can become a neighbor of the given node.
+     */
+    long candidateCount(long nodeId) {
+        return isTarget(nodeId) ? targetCount - 1 : targetCount;
+    }
+
+    /**
+     * Draws a target node uniformly at random that is not the given node.
+     * Requires {@link #candidateCount(long)} to be at least 1 for that node.
+     */
+    long randomTarget(SplittableRandom random, long nodeId) {
+        assert candidateCount(nodeId) > 0;
+
+        if (targetIds == null) {
+            var randomNode = random.nextLong(targetCount - 1);
+            if (randomNode >= nodeId) {
+                ++randomNode;
+            }
+            return randomNode;
+        }
+
+        long randomNode;
+        do {
+            randomNode = targetIds.get(random.nextLong(targetCount));
+        } while (randomNode == nodeId);
+        return randomNode;
+    }
+
+    void release(AllocationTracker tracker) {
+        if (sourceNodes != null) {
+            tracker.remove(sizeOfBitset(sourceNodes.size()));
+        }
+        if (targetNodes != null) {
+            tracker.remove(sizeOfBitset(targetNodes.size()));
+        }
+        if (targetIds != null) {
+            tracker.remove(targetIds.release());
+        }
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.similarity.knn;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.config.WriteRelationshipConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
@@ -30,7 +31,7 @@ import java.util.Optional;
 
 @ValueClass
 @Configuration
-public interface KnnWriteConfig extends KnnBaseConfig, WritePropertyConfig, WriteRelationshipConfig {
+public interface KnnWriteConfig extends KnnBaseConfig, WritePropertyConfig, WriteDirectoryConfig, WriteRelationshipConfig {
 
     static KnnWriteConfig of(
         String username,
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Second step of NN-Descent
+ *
+ * old′ ←− Reverse(old)
+ * new′ ←− Reverse(new)
+ *
+ * The reverse neighbors of all nodes are stored in flat paged arrays,
+ * node {@code v} owns the range {@code [offsets[v], offsets[v + 1])} of {@code targets}.
+ * The arrays are built in parallel by first counting the reverse degrees,
+ * then computing the offsets and finally filling the targets.
+ * All buffers are kept across iterations, {@code targets} only grows if needed.
+ */
+final class ReverseNeighbors {
+
+    private final long nodeCount;
+    private final AllocationTracker tracker;
+    private final HugeLongArray offsets;
+    private final HugeAtomicLongArray insertPositions;
+    private HugeLongArray targets;
+
+    static MemoryEstimation memoryEstimation(int maxNeighbors) {
+        return MemoryEstimations.setup("reverse-neighbors", dim -> MemoryEstimations.builder(ReverseNeighbors.class)
+            .fixed("offsets", HugeLongArray.memoryEstimation(dim.nodeCount() + 1))
+            .fixed("insert-positions", HugeAtomicLongArray.memoryEstimation(dim.nodeCount()))
+            .fixed("targets", MemoryRange.of(
+                HugeLongArray.memoryEstimation(0),
+                HugeLongArray.memoryEstimation(dim.nodeCount() * maxNeighbors)
+            ))
+            .build());
+    }
+
+    ReverseNeighbors(long nodeCount, AllocationTracker tracker) {
+        this.nodeCount = nodeCount;
+        this.tracker = tracker;
+        this.offsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        this.insertPositions = HugeAtomicLongArray.newArray(nodeCount, tracker);
+    }
+
+    void build(HugeObjectArray<LongArrayList> allNeighbors, int concurrency, ExecutorService executor) {
+        var nodeCount = this.nodeCount;
+        var insertPositions = this.insertPositions;
+        var offsets = this.offsets;
+
+        insertPositions.setAll(0L);
+
+        // count reverse degrees
+        ParallelUtil.readParallel(concurrency, nodeCount, executor, (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                var neighbors = allNeighbors.get(nodeId);
+                if (neighbors != null) {
+                    var elements = neighbors.buffer;
+                    var count = neighbors.elementsCount;
+                    for (int i = 0; i < count; i++) {
+                        insertPositions.getAndAdd(elements[i], 1L);
+                    }
+                }
+            }
+        });
+
+        // turn degrees into offsets
+        long offset = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var degree = insertPositions.get(nodeId);
+            offsets.set(nodeId, offset);
+            insertPositions.set(nodeId, offset);
+            offset += degree;
+        }
+        offsets.set(nodeCount, offset);
+
+        if (targets == null || targets.size() < offset) {
+            if (targets != null) {
+                tracker.remove(targets.release());
+            }
+            targets = HugeLongArray.newArray(offset, tracker);
+        }
+
+        // fill reverse neighbors
+        var targets = this.targets;
+        ParallelUtil.readParallel(concurrency, nodeCount, executor, (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                var neighbors = allNeighbors.get(nodeId);
+                if (neighbors != null) {
+                    var elements = neighbors.buffer;
+                    var count = neighbors.elementsCount;
+                    for (int i = 0; i < count; i++) {
+                        var neighbor = elements[i];
+                        assert neighbor != nodeId;
+                        targets.set(insertPositions.getAndAdd(neighbor, 1L), nodeId);
+                    }
+                }
+            }
+        });
+    }
+
+    long startOffset(long nodeId) {
+        return offsets.get(nodeId);
+    }
+
+    long endOffset(long nodeId) {
+        return offsets.get(nodeId + 1);
+    }
+
+    long degree(long nodeId) {
+        return endOffset(nodeId) - startOffset(nodeId);
+    }
+
+    long target(long offset) {
+        return targets.get(offset);
+    }
+
+    void release() {
+        tracker.remove(offsets.release());
+        tracker.remove(insertPositions.release());
+        if (targets != null) {
+            tracker.remove(targets.release());
+            targets = null;
+        }
+    }
+}
@@ -66,10 +66,23 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
 
         // TODO use cursors
         for (long nodeId = start; nodeId < end; nodeId++) {
+            // the lists are reused across iterations
+            var oldNeighbors = allOldNeighbors.get(nodeId);
+            if (oldNeighbors != null) {
+                oldNeighbors.clear();
+            }
+            var newNeighbors = allNewNeighbors.get(nodeId);
+            if (newNeighbors != null) {
+                newNeighbors.clear();
+            }
+
             var neighbors = allNeighbors.get(nodeId);
+            // nodes that are filtered out as source nodes have no neighbors
+            if (neighbors == null) {
+                continue;
+            }
             var k2 = neighbors.size();
             sampled.clear();
-            LongArrayList oldNeighbors = null;
 
             for (int neighborIndex = 0, newNeighborCount = 0; neighborIndex < k2; neighborIndex++) {
                 var neighborElement = neighbors.elementAt(neighborIndex);
@@ -103,8 +116,10 @@ final class SplitOldAndNewNeighbors implements BiLongConsumer {
                 continue;
             }
 
-            var newNeighbors = new LongArrayList();
-            allNewNeighbors.set(nodeId, newNeighbors);
+            if (newNeighbors == null) {
+                newNeighbors = new LongArrayList();
+                allNewNeighbors.set(nodeId, newNeighbors);
+            }
 
             for (var neighborIndex : sampled) {
                 var neighborNode = neighbors.getAndFlagAsChecked(neighborIndex.value);
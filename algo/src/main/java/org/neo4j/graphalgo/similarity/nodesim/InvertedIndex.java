@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.graphalgo.core.utils.SetBitsIterable;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+
+/**
+ * Maps every neighbor (item) to the compared nodes that have it as a neighbor.
+ * Only pairs of nodes that share at least one item can have a Jaccard similarity above 0,
+ * so the index is used to generate candidate pairs instead of comparing all pairs.
+ *
+ * For the unweighted Jaccard similarity, two filters from set similarity joins reduce the candidates further:
+ * <ul>
+ *     <li>Prefix filtering: a pair with a similarity of at least {@code t} shares at least {@code ⌈t·|x|⌉} items.
+ *     It is therefore enough to index and probe only the first {@code |x| - ⌈t·|x|⌉ + 1} items of every vector.</li>
+ *     <li>Size filtering: the similarity of a pair is at most {@code min(|x|, |y|) / max(|x|, |y|)},
+ *     candidates with a smaller bound than the cutoff are skipped.</li>
+ * </ul>
+ * Both filters only remove pairs whose similarity is below the cutoff, so the results do not change.
+ */
+final class InvertedIndex {
+
+    private final HugeObjectArray<long[]> vectors;
+    private final double similarityCutoff;
+    private final boolean setFilters;
+    // the postings of item i are stored in [offsets[i], offsets[i + 1])
+    private final HugeLongArray offsets;
+    private final HugeLongArray postings;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.setup("inverted index", (dimensions, concurrency) -> MemoryEstimations
+            .builder(InvertedIndex.class)
+            .fixed("offsets", HugeLongArray.memoryEstimation(dimensions.nodeCount() + 1))
+            .fixed("postings", HugeLongArray.memoryEstimation(dimensions.maxRelCount()))
+            .build());
+    }
+
+    /**
+     * @param setFilters whether prefix and size filtering can be applied, which is only true for unweighted similarities
+     */
+    static InvertedIndex of(
+        HugeObjectArray<long[]> vectors,
+        BitSet nodeFilter,
+        double similarityCutoff,
+        boolean setFilters,
+        AllocationTracker tracker
+    ) {
+        var itemCount = vectors.size();
+        var offsets = HugeLongArray.newArray(itemCount + 1, tracker);
+
+        // count the postings per item, shifted by one to turn them into offsets afterwards
+        long postingCount = 0;
+        var nodes = new SetBitsIterable(nodeFilter).iterator();
+        while (nodes.hasNext()) {
+            var node = nodes.nextLong();
+            var vector = vectors.get(node);
+            var prefixLength = prefixLength(vector.length, similarityCutoff, setFilters);
+            for (int i = 0; i < prefixLength; i++) {
+                offsets.addTo(vector[i] + 1, 1);
+            }
+            postingCount += prefixLength;
+        }
+        for (long item = 1; item <= itemCount; item++) {
+            offsets.addTo(item, offsets.get(item - 1));
+        }
+
+        // nodes are visited in ascending order, so every posting list is sorted
+        var postings = HugeLongArray.newArray(postingCount, tracker);
+        var insertPositions = offsets.copyOf(itemCount, tracker);
+        nodes = new SetBitsIterable(nodeFilter).iterator();
+        while (nodes.hasNext()) {
+            var node = nodes.nextLong();
+            var vector = vectors.get(node);
+            var prefixLength = prefixLength(vector.length, similarityCutoff, setFilters);
+            for (int i = 0; i < prefixLength; i++) {
+                var item = vector[i];
+                var position = insertPositions.get(item);
+                postings.set(position, node);
+                insertPositions.set(item, position + 1);
+            }
+        }
+        tracker.remove(insertPositions.release());
+
+        return new InvertedIndex(vectors, similarityCutoff, setFilters, offsets, postings);
+    }
+
+    private InvertedIndex(
+        HugeObjectArray<long[]> vectors,
+        double similarityCutoff,
+        boolean setFilters,
+        HugeLongArray offsets,
+        HugeLongArray postings
+    ) {
+        this.vectors = vectors;
+        this.similarityCutoff = similarityCutoff;
+        this.setFilters = setFilters;
+        this.offsets = offsets;
+        this.postings = postings;
+    }
+
+    static int prefixLength(int vectorLength, double similarityCutoff, boolean setFilters) {
+        if (!setFilters) {
+            return vectorLength;
+        }
+        // floor instead of ceil keeps the prefix long enough despite floating point errors
+        var minOverlap = Math.max(1, (int) Math.floor(similarityCutoff * vectorLength));
+        return Math.max(0, vectorLength - minOverlap + 1);
+    }
+
+    /**
+     * An upper bound for the Jaccard similarity of two vectors, based on their sizes.
+     * The bound is computed in the same way as the similarity, so it is never below the computed similarity.
+     */
+    static double sizeBound(long[] vector1, long[] vector2) {
+        double min = Math.min(vector1.length, vector2.length);
+        double max = Math.max(vector1.length, vector2.length);
+        return max == 0 ? 0 : min / max;
+    }
+
+    /**
+     * Returns the candidates for the given node that are larger than {@code lowerBoundExclusive}, in ascending order.
+     */
+    long[] candidates(long node, long lowerBoundExclusive) {
+        var vector = vectors.get(node);
+        var prefixLength = prefixLength(vector.length, similarityCutoff, setFilters);
+        var candidates = new LongHashSet();
+
+        for (int i = 0; i < prefixLength; i++) {
+            var item = vector[i];
+            var end = offsets.get(item + 1);
+            for (long offset = offsets.get(item); offset < end; offset++) {
+                var candidate = postings.get(offset);
+                if (candidate <= lowerBoundExclusive || candidate == node) {
+                    continue;
+                }
+                if (setFilters && sizeBound(vector, vectors.get(candidate)) < similarityCutoff) {
+                    continue;
+                }
+                candidates.add(candidate);
+            }
+        }
+
+        var result = candidates.toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    void release(AllocationTracker tracker) {
+        tracker.remove(offsets.release());
+        tracker.remove(postings.release());
+    }
+}
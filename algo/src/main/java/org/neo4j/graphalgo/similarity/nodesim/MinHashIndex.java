@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.SetBitsIterable;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongLongMap;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Approximates the (weighted) Jaccard similarity with MinHash signatures and finds candidate pairs with locality-sensitive hashing.
+ *
+ * Every node gets {@code k} MinHash values. Two nodes share a MinHash value with a probability equal to their Jaccard similarity,
+ * so the fraction of shared values estimates the similarity.
+ * For weighted similarities, the values are computed with improved consistent weighted sampling (Ioffe, 2010),
+ * which estimates the weighted Jaccard similarity in the same way.
+ *
+ * The signatures are split into {@code b} bands of {@code r = k / b} values and every band puts the node into a bucket.
+ * Only nodes that share a bucket in at least one band are candidates, which happens with a probability of
+ * {@code 1 - (1 - s^r)^b} for a pair with similarity {@code s}.
+ * More bands find more of the similar pairs, at the cost of more dissimilar candidates.
+ *
+ * The index keeps {@code n * (k + b)} values, independent of the degrees of the nodes.
+ */
+final class MinHashIndex {
+
+    // marks an empty slot in the bucket chains, chained nodes are stored with an offset of 1
+    private static final long NO_NODE = 0L;
+
+    private final int signatureCount;
+    private final int bands;
+    private final int rows;
+    // nodes without a (positively weighted) neighbor are not indexed and have no candidates
+    private final BitSet indexedNodes;
+    // the signature of node n is stored in [n * k, (n + 1) * k)
+    private final HugeLongArray signatures;
+    // per band, the bucket key is mapped to the first node of the bucket
+    private final HugeLongLongMap[] bucketHeads;
+    // the next node in the same bucket of node n in band b is stored at n * b + b
+    private final HugeLongArray bucketChains;
+
+    static MemoryEstimation memoryEstimation(int signatureCount, int bands) {
+        return MemoryEstimations.setup("MinHash index", (dimensions, concurrency) -> MemoryEstimations
+            .builder(MinHashIndex.class)
+            .perNode("indexed nodes", nodeCount -> BitSet.bits2words(nodeCount) * Long.BYTES)
+            .fixed("signatures", HugeLongArray.memoryEstimation(dimensions.nodeCount() * signatureCount))
+            .fixed(
+                "bucket heads",
+                HugeLongLongMap.memoryEstimation().estimate(dimensions, concurrency).memoryUsage().times(bands)
+            )
+            .fixed("bucket chains", HugeLongArray.memoryEstimation(dimensions.nodeCount() * bands))
+            .build());
+    }
+
+    static MinHashIndex of(
+        HugeObjectArray<long[]> vectors,
+        @Nullable HugeObjectArray<double[]> weights,
+        BitSet nodeFilter,
+        int signatureCount,
+        int bands,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        return of(
+            vectors.size(),
+            nodeFilter,
+            () -> (node, seeds, signature) -> {
+                var vector = vectors.get(node);
+                return weights == null
+                    ? minHash(vector, vector.length, seeds, signature)
+                    : weightedMinHash(vector, weights.get(node), vector.length, seeds, signature);
+            },
+            signatureCount,
+            bands,
+            concurrency,
+            executorService,
+            tracker
+        );
+    }
+
+    /**
+     * Hashes the neighborhoods directly from the adjacency lists of the graph, without materializing them.
+     */
+    static MinHashIndex of(
+        Graph graph,
+        boolean weighted,
+        BitSet nodeFilter,
+        int signatureCount,
+        int bands,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        return of(
+            graph.nodeCount(),
+            nodeFilter,
+            () -> {
+                var vectorComputer = VectorComputer.of(graph.concurrentCopy(), weighted);
+                return (node, seeds, signature) -> {
+                    vectorComputer.reset(vectorComputer.graph.degree(node));
+                    vectorComputer.forEachRelationship(node);
+                    // parallel relationships are skipped, so the buffers can be larger than the neighborhood
+                    var targetIds = vectorComputer.targetIds;
+                    return weighted
+                        ? weightedMinHash(targetIds.buffer, vectorComputer.getWeights(), targetIds.size(), seeds, signature)
+                        : minHash(targetIds.buffer, targetIds.size(), seeds, signature);
+                };
+            },
+            signatureCount,
+            bands,
+            concurrency,
+            executorService,
+            tracker
+        );
+    }
+
+    private static MinHashIndex of(
+        long nodeCount,
+        BitSet nodeFilter,
+        Supplier<Signer> signers,
+        int signatureCount,
+        int bands,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
+    ) {
+        var seeds = new long[signatureCount];
+        for (int i = 0; i < signatureCount; i++) {
+            seeds[i] = BitMixer.mix64(i + 1L);
+        }
+
+        // every batch writes the signatures of its own nodes only, but batches can share words of the bit set
+        var indexedNodes = HugeAtomicBitSet.create(nodeCount, AllocationTracker.empty());
+        var signatures = HugeLongArray.newArray(nodeCount * signatureCount, tracker);
+        ParallelUtil.readParallel(concurrency, nodeCount, executorService, (start, end) -> {
+            var signer = signers.get();
+            var signature = new long[signatureCount];
+            var batchNodes = new SetBitsIterable(nodeFilter, start).iterator();
+            while (batchNodes.hasNext()) {
+                var node = batchNodes.nextLong();
+                if (node >= end) {
+                    break;
+                }
+                if (!signer.sign(node, seeds, signature)) {
+                    continue;
+                }
+                indexedNodes.set(node);
+                var offset = node * signatureCount;
+                for (int i = 0; i < signatureCount; i++) {
+                    signatures.set(offset + i, signature[i]);
+                }
+            }
+        });
+
+        // the bands are independent, every task builds the buckets of one band
+        var index = new MinHashIndex(signatureCount, bands, indexedNodes.toBitSet(), signatures, tracker);
+        var tasks = new ArrayList<Runnable>(bands);
+        for (int band = 0; band < bands; band++) {
+            var currentBand = band;
+            tasks.add(() -> index.fillBuckets(currentBand, tracker));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+
+        return index;
+    }
+
+    /**
+     * Computes the MinHash signature of a node, every thread uses its own instance.
+     */
+    @FunctionalInterface
+    private interface Signer {
+        /**
+         * Writes the signature of the given node into {@code signature}.
+         * Returns {@code false} if the node has no (positively weighted) neighbor, the signature is undefined then.
+         */
+        boolean sign(long node, long[] seeds, long[] signature);
+    }
+
+    private MinHashIndex(
+        int signatureCount,
+        int bands,
+        BitSet indexedNodes,
+        HugeLongArray signatures,
+        AllocationTracker tracker
+    ) {
+        this.signatureCount = signatureCount;
+        this.bands = bands;
+        this.rows = signatureCount / bands;
+        this.indexedNodes = indexedNodes;
+        this.signatures = signatures;
+        this.bucketHeads = new HugeLongLongMap[bands];
+        this.bucketChains = HugeLongArray.newArray(signatures.size() / signatureCount * bands, tracker);
+    }
+
+    private void fillBuckets(int band, AllocationTracker tracker) {
+        var heads = new HugeLongLongMap(indexedNodes.cardinality(), tracker);
+        var nodes = new SetBitsIterable(indexedNodes).iterator();
+        while (nodes.hasNext()) {
+            var node = nodes.nextLong();
+            var key = bucketKey(node, band);
+            bucketChains.set(node * bands + band, heads.getOrDefault(key, NO_NODE));
+            heads.put(key, node + 1);
+        }
+        bucketHeads[band] = heads;
+    }
+
+    private static boolean minHash(long[] vector, int length, long[] seeds, long[] signature) {
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int j = 0; j < length; j++) {
+            var item = vector[j];
+            for (int i = 0; i < seeds.length; i++) {
+                var hash = BitMixer.mix64(item ^ seeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return length > 0;
+    }
+
+    /**
+     * Improved consistent weighted sampling: every (item, weight) pair is mapped to a sample {@code (item, t)},
+     * the signature value is the hash of the sample with the smallest {@code a}.
+     * All random values are derived from the item and the seed, so that equal items draw the same values on all nodes.
+     */
+    private static boolean weightedMinHash(long[] vector, double[] weights, int length, long[] seeds, long[] signature) {
+        var hasPositiveWeight = false;
+        for (int i = 0; i < seeds.length; i++) {
+            var minLogA = Double.POSITIVE_INFINITY;
+            var sample = 0L;
+            for (int j = 0; j < length; j++) {
+                var weight = weights[j];
+                if (weight <= 0) {
+                    continue;
+                }
+                hasPositiveWeight = true;
+                var item = vector[j];
+                var base = BitMixer.mix64(item ^ seeds[i]);
+                var r = -Math.log(uniform(base, 1) * uniform(base, 2));
+                var c = -Math.log(uniform(base, 3) * uniform(base, 4));
+                var beta = uniform(base, 5);
+                var t = Math.floor(Math.log(weight) / r + beta);
+                var logY = r * (t - beta);
+                var logA = Math.log(c) - logY - r;
+                if (logA < minLogA) {
+                    minLogA = logA;
+                    sample = BitMixer.mix64(item ^ BitMixer.mixPhi((long) t));
+                }
+            }
+            signature[i] = sample;
+        }
+        return hasPositiveWeight;
+    }
+
+    // a uniformly distributed value in (0, 1)
+    private static double uniform(long base, int stream) {
+        var bits = BitMixer.mix64(base + stream * 0x9E3779B97F4A7C15L) >>> 11;
+        return (bits + 0.5) * 0x1.0p-53;
+    }
+
+    private long bucketKey(long node, int band) {
+        var offset = node * signatureCount + (long) band * rows;
+        var key = BitMixer.mixPhi(band);
+        for (int row = 0; row < rows; row++) {
+            key = BitMixer.mix64(key ^ signatures.get(offset + row));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the nodes that share a bucket with the given node in any band and are larger than {@code lowerBoundExclusive},
+     * in ascending order.
+     */
+    long[] candidates(long node, long lowerBoundExclusive) {
+        if (!indexedNodes.get(node)) {
+            return new long[0];
+        }
+        var candidates = new LongHashSet();
+        for (int band = 0; band < bands; band++) {
+            var next = bucketHeads[band].getOrDefault(bucketKey(node, band), NO_NODE);
+            while (next != NO_NODE) {
+                var candidate = next - 1;
+                if (candidate > lowerBoundExclusive && candidate != node) {
+                    candidates.add(candidate);
+                }
+                next = bucketChains.get(candidate * bands + band);
+            }
+        }
+
+        var result = candidates.toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * The fraction of equal signature values, which estimates the (weighted) Jaccard similarity of the two nodes.
+     */
+    double estimateSimilarity(long node1, long node2) {
+        if (!indexedNodes.get(node1) || !indexedNodes.get(node2)) {
+            return 0;
+        }
+        var offset1 = node1 * signatureCount;
+        var offset2 = node2 * signatureCount;
+        var equal = 0;
+        for (int i = 0; i < signatureCount; i++) {
+            if (signatures.get(offset1 + i) == signatures.get(offset2 + i)) {
+                equal++;
+            }
+        }
+        return (double) equal / signatureCount;
+    }
+
+    void release(AllocationTracker tracker) {
+        tracker.remove(signatures.release());
+        tracker.remove(bucketChains.release());
+        for (HugeLongLongMap heads : bucketHeads) {
+            heads.release();
+        }
+    }
+}
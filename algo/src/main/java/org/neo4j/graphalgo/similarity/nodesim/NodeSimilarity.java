@@ -53,6 +53,8 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
 
     private HugeObjectArray<long[]> vectors;
     private HugeObjectArray<double[]> weights;
+    private InvertedIndex invertedIndex;
+    private MinHashIndex minHashIndex;
     private long nodesToCompare;
 
     private final boolean weighted;
@@ -80,6 +82,14 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
 
     @Override
     public void release() {
+        if (minHashIndex != null) {
+            minHashIndex.release(tracker);
+            minHashIndex = null;
+        }
+        if (invertedIndex != null) {
+            invertedIndex.release(tracker);
+            invertedIndex = null;
+        }
         graph.release();
     }
 
@@ -153,6 +163,24 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     private void prepare() {
         progressLogger.logMessage("Start :: NodeSimilarity#prepare");
 
+        if (config.useMinHash() && !config.verifyCandidates()) {
+            // the similarities are estimated from the signatures, the neighborhoods are hashed from the graph directly
+            filterNodes();
+            progressLogger.logMessage("NodeSimilarity#prepare :: building MinHash index");
+            minHashIndex = MinHashIndex.of(
+                graph,
+                weighted,
+                nodeFilter,
+                config.minHashSignatures(),
+                config.minHashBands(),
+                config.concurrency(),
+                executorService,
+                tracker
+            );
+            progressLogger.logMessage("Finish :: NodeSimilarity#prepare");
+            return;
+        }
+
         vectors = HugeObjectArray.newArray(long[].class, graph.nodeCount(), tracker);
         if (weighted) {
             weights = HugeObjectArray.newArray(double[].class, graph.nodeCount(), tracker);
@@ -181,9 +209,44 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             progressLogger.logProgress(graph.degree(node));
             return null;
         });
+
+        if (config.useMinHash()) {
+            progressLogger.logMessage("NodeSimilarity#prepare :: building MinHash index");
+            minHashIndex = MinHashIndex.of(
+                vectors,
+                weights,
+                nodeFilter,
+                config.minHashSignatures(),
+                config.minHashBands(),
+                config.concurrency(),
+                executorService,
+                tracker
+            );
+        } else if (config.useInvertedIndex() && config.similarityCutoff() > 0) {
+            // with a cutoff of 0, pairs without common neighbors are part of the result,
+            // which the inverted index cannot produce
+            progressLogger.logMessage("NodeSimilarity#prepare :: building inverted index");
+            invertedIndex = InvertedIndex.of(vectors, nodeFilter, config.similarityCutoff(), !weighted, tracker);
+        }
         progressLogger.logMessage("Finish :: NodeSimilarity#prepare");
     }
 
+    /**
+     * Selects the nodes to compare by their degree, without computing their neighborhoods.
+     */
+    private void filterNodes() {
+        DegreeComputer degreeComputer = new DegreeComputer();
+        for (long node = 0; node < graph.nodeCount(); node++) {
+            graph.forEachRelationship(node, degreeComputer);
+            if (degreeComputer.degree >= config.degreeCutoff()) {
+                nodesToCompare++;
+                nodeFilter.set(node);
+            }
+            degreeComputer.reset();
+            progressLogger.logProgress(graph.degree(node));
+        }
+    }
+
     private Stream<SimilarityResult> computeSimilarityResultStream() {
         return (config.hasTopK() && config.hasTopN())
             ? computeTopN(computeTopKMap())
@@ -206,12 +269,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         return loggableAndTerminatableNodeStream()
             .boxed()
             .flatMap(node1 -> {
-                long[] vector1 = vectors.get(node1);
-                return nodeStream(node1 + 1)
+                long[] vector1 = vector(node1);
+                return upperTriangleTargets(node1)
                     .mapToObj(node2 -> {
-                        double similarity = weighted
-                            ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
-                            : jaccard(vector1, vectors.get(node2));
+                        double similarity = similarity(node1, vector1, node2);
                         return Double.isNaN(similarity) ? null : new SimilarityResult(node1, node2, similarity);
                     })
                     .filter(Objects::nonNull);
@@ -225,12 +286,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             loggableAndTerminatableNodeStream(), config.concurrency(), stream -> stream
                 .boxed()
                 .flatMap(node1 -> {
-                    long[] vector1 = vectors.get(node1);
-                    return nodeStream(node1 + 1)
+                    long[] vector1 = vector(node1);
+                    return upperTriangleTargets(node1)
                         .mapToObj(node2 -> {
-                            double similarity = weighted
-                                ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
-                                : jaccard(vector1, vectors.get(node2));
+                            double similarity = similarity(node1, vector1, node2);
                             return Double.isNaN(similarity) ? null : new SimilarityResult(node1, node2, similarity);
                         })
                         .filter(Objects::nonNull);
@@ -242,15 +301,16 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         progressLogger.logMessage("Start :: NodeSimilarity#computeTopKMap");
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
-        TopKMap topKMap = new TopKMap(vectors.size(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
+        TopKMap topKMap = new TopKMap(graph.nodeCount(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
-                long[] vector1 = vectors.get(node1);
-                nodeStream(node1 + 1)
+                long[] vector1 = vector(node1);
+                upperTriangleTargets(node1)
                     .forEach(node2 -> {
-                        double similarity = weighted
-                            ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
-                            : jaccard(vector1, vectors.get(node2));
+                        if (cannotEnterTopK(topKMap, node1, vector1, node2) && cannotEnterTopK(topKMap, node2, vector1, node2)) {
+                            return;
+                        }
+                        double similarity = similarity(node1, vector1, node2);
                         if (!Double.isNaN(similarity)) {
                             topKMap.put(node1, node2, similarity);
                             topKMap.put(node2, node1, similarity);
@@ -265,49 +325,59 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         progressLogger.logMessage("Start :: NodeSimilarity#computeTopKMapParallel");
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
-        TopKMap topKMap = new TopKMap(vectors.size(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
-        ParallelUtil.parallelStreamConsume(
-            loggableAndTerminatableNodeStream(),
-            config.concurrency(),
-            stream -> stream
-                .forEach(node1 -> {
-                    long[] vector1 = vectors.get(node1);
-                    // We deliberately compute the full matrix (except the diagonal).
-                    // The parallel workload is partitioned based on the outer stream.
-                    // The TopKMap stores a priority queue for each node. Writing
-                    // into these queues is not considered to be thread-safe.
-                    // Hence, we need to ensure that down the stream, exactly one queue
-                    // within the TopKMap processes all pairs for a single node.
-                    nodeStream()
-                        .filter(node2 -> node1 != node2)
-                        .forEach(node2 -> {
-                            double similarity = weighted
-                                ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
-                                : jaccard(vector1, vectors.get(node2));
-                            if (!Double.isNaN(similarity)) {
-                                topKMap.put(node1, node2, similarity);
-                            }
-                        });
-                })
-        );
+        TopKMap topKMap = new TopKMap(graph.nodeCount(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
+        if (config.workStealing()) {
+            // nodes with more neighbors take longer to compare, nodes outside the filter are skipped
+            ParallelUtil.readParallelWorkStealing(
+                config.concurrency(),
+                graph.nodeCount(),
+                node -> nodeFilter.get(node) ? graph.degree(node) : 0,
+                (start, end) -> checkProgress(nodeStream(start).takeWhile(node -> node < end))
+                    .forEach(node1 -> putAllTargets(topKMap, node1))
+            );
+        } else {
+            ParallelUtil.parallelStreamConsume(
+                loggableAndTerminatableNodeStream(),
+                config.concurrency(),
+                stream -> stream.forEach(node1 -> putAllTargets(topKMap, node1))
+            );
+        }
 
         progressLogger.logMessage("Finish :: NodeSimilarity#computeTopKMapParallel");
         return topKMap;
     }
 
+    private void putAllTargets(TopKMap topKMap, long node1) {
+        long[] vector1 = vector(node1);
+        // We deliberately compute the full matrix (except the diagonal).
+        // The parallel workload is partitioned based on the outer stream.
+        // The TopKMap stores a priority queue for each node. Writing
+        // into these queues is not considered to be thread-safe.
+        // Hence, we need to ensure that down the stream, exactly one queue
+        // within the TopKMap processes all pairs for a single node.
+        allTargets(node1)
+            .forEach(node2 -> {
+                if (cannotEnterTopK(topKMap, node1, vector1, node2)) {
+                    return;
+                }
+                double similarity = similarity(node1, vector1, node2);
+                if (!Double.isNaN(similarity)) {
+                    topKMap.put(node1, node2, similarity);
+                }
+            });
+    }
+
     private Stream<SimilarityResult> computeTopN() {
         progressLogger.logMessage("Start :: NodeSimilarity#computeTopN");
 
         TopNList topNList = new TopNList(config.normalizedN());
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
-                long[] vector1 = vectors.get(node1);
+                long[] vector1 = vector(node1);
 
-                nodeStream(node1 + 1)
+                upperTriangleTargets(node1)
                     .forEach(node2 -> {
-                        double similarity = weighted
-                            ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
-                            : jaccard(vector1, vectors.get(node2));
+                        double similarity = similarity(node1, vector1, node2);
                         if (!Double.isNaN(similarity)) {
                             topNList.add(node1, node2, similarity);
                         }
@@ -327,6 +397,28 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         return topNList.stream();
     }
 
+    /**
+     * The vector of the given node, or {@code null} if the similarities are estimated from MinHash signatures.
+     */
+    private long[] vector(long node) {
+        return vectors == null ? null : vectors.get(node);
+    }
+
+    private double similarity(long node1, long[] vector1, long node2) {
+        if (vectors == null) {
+            return estimatedSimilarity(node1, node2);
+        }
+        return weighted
+            ? weightedJaccard(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
+            : jaccard(vector1, vectors.get(node2));
+    }
+
+    private double estimatedSimilarity(long node1, long node2) {
+        double similarity = minHashIndex.estimateSimilarity(node1, node2);
+        getProgressLogger().logProgress();
+        return similarity >= config.similarityCutoff() ? similarity : Double.NaN;
+    }
+
     private double jaccard(long[] vector1, long[] vector2) {
         long intersection = Intersections.intersection3(vector1, vector2);
         double union = vector1.length + vector2.length - intersection;
@@ -383,6 +475,43 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         return nodeStream(0);
     }
 
+    /**
+     * The nodes to compare with the given node that are larger than it.
+     * With an inverted index, these are only the nodes that can reach the similarity cutoff.
+     * With a MinHash index, these are only the nodes that share a bucket with the node.
+     */
+    private LongStream upperTriangleTargets(long node1) {
+        if (minHashIndex != null) {
+            return LongStream.of(minHashIndex.candidates(node1, node1));
+        }
+        return invertedIndex == null
+            ? nodeStream(node1 + 1)
+            : LongStream.of(invertedIndex.candidates(node1, node1));
+    }
+
+    /**
+     * All nodes to compare with the given node, except the node itself.
+     */
+    private LongStream allTargets(long node1) {
+        if (minHashIndex != null) {
+            return LongStream.of(minHashIndex.candidates(node1, -1));
+        }
+        return invertedIndex == null
+            ? nodeStream().filter(node2 -> node1 != node2)
+            : LongStream.of(invertedIndex.candidates(node1, -1));
+    }
+
+    /**
+     * Top-k pruning: whether the top-k list of the node would reject the pair
+     * based on the upper bound of its similarity, so that the similarity does not need to be computed.
+     * The bound is only known for unweighted similarities.
+     */
+    private boolean cannotEnterTopK(TopKMap topKMap, long node, long[] vector1, long node2) {
+        return invertedIndex != null
+               && !weighted
+               && topKMap.get(node).rejectsUpTo(InvertedIndex.sizeBound(vector1, vectors.get(node2)));
+    }
+
     private LongStream loggableAndTerminatableNodeStream() {
         return checkProgress(nodeStream());
     }
@@ -23,10 +23,11 @@ import org.immutables.value.Value;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.RelationshipWeightConfig;
+import org.neo4j.graphalgo.config.WorkStealingConfig;
 
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
-public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig, WorkStealingConfig {
 
     String TOP_K_KEY = "topK";
     int TOP_K_DEFAULT = 10;
@@ -80,6 +81,50 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return BOTTOM_N_DEFAULT;
     }
 
+    /**
+     * Compare only nodes that share at least one neighbor, found through an inverted index.
+     * This does not change the results, unless the similarity cutoff is 0, in which case all pairs are compared.
+     */
+    @Value.Default
+    default boolean useInvertedIndex() {
+        return false;
+    }
+
+    /**
+     * The number of MinHash values per node. A positive number approximates the similarities:
+     * only nodes that share a bucket of the locality-sensitive hash are compared.
+     * With 0, the similarities are exact.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int minHashSignatures() {
+        return 0;
+    }
+
+    /**
+     * The number of bands the MinHash signatures are split into, must divide {@link #minHashSignatures()}.
+     * More bands find more similar pairs, but also produce more candidates.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashBands() {
+        return 16;
+    }
+
+    /**
+     * Compute the exact similarity of the MinHash candidates, instead of estimating it from their signatures.
+     */
+    @Value.Default
+    default boolean verifyCandidates() {
+        return true;
+    }
+
+    @Configuration.Ignore
+    @Value.Derived
+    default boolean useMinHash() {
+        return minHashSignatures() > 0;
+    }
+
     @Configuration.Ignore
     @Value.Derived
     default int normalizedK() {
@@ -141,5 +186,12 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 BOTTOM_N_KEY
             ));
         }
+        if (useMinHash() && minHashSignatures() % minHashBands() != 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The number of MinHash signatures (%d) must be a multiple of the number of bands (%d)",
+                minHashSignatures(),
+                minHashBands()
+            ));
+        }
     }
 }
@@ -55,28 +55,39 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> impl
         int topK = Math.abs(config.normalizedK());
 
         MemoryEstimations.Builder builder = MemoryEstimations.builder(NodeSimilarity.class)
-            .perNode("node filter", nodeCount -> sizeOfLongArray(BitSet.bits2words(nodeCount)))
-            .add(
-                "vectors",
-                MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                    int averageDegree = dimensions.nodeCount() == 0
-                        ? 0
-                        : Math.toIntExact(dimensions.maxRelCount() / dimensions.nodeCount());
-                    long averageVectorSize = sizeOfLongArray(averageDegree);
-                    return MemoryEstimations.builder(HugeObjectArray.class)
-                        .perNode("array", nodeCount -> nodeCount * averageVectorSize).build();
-                })
-            )
-            .add("weights",
-                MemoryEstimations.setup("", (dimensions, concurrency) -> {
-                int averageDegree = dimensions.nodeCount() == 0
-                    ? 0
-                    : Math.toIntExact(dimensions.maxRelCount() / dimensions.nodeCount());
-                long averageVectorSize = sizeOfDoubleArray(averageDegree);
-                return MemoryEstimations.builder(HugeObjectArray.class)
-                    .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
-                    .build();
-            }));
+            .perNode("node filter", nodeCount -> sizeOfLongArray(BitSet.bits2words(nodeCount)));
+        // estimated MinHash similarities are hashed from the graph, without materializing the neighborhoods
+        if (!config.useMinHash() || config.verifyCandidates()) {
+            builder
+                .add(
+                    "vectors",
+                    MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                        int averageDegree = dimensions.nodeCount() == 0
+                            ? 0
+                            : Math.toIntExact(dimensions.maxRelCount() / dimensions.nodeCount());
+                        long averageVectorSize = sizeOfLongArray(averageDegree);
+                        return MemoryEstimations.builder(HugeObjectArray.class)
+                            .perNode("array", nodeCount -> nodeCount * averageVectorSize).build();
+                    })
+                )
+                .add(
+                    "weights",
+                    MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                        int averageDegree = dimensions.nodeCount() == 0
+                            ? 0
+                            : Math.toIntExact(dimensions.maxRelCount() / dimensions.nodeCount());
+                        long averageVectorSize = sizeOfDoubleArray(averageDegree);
+                        return MemoryEstimations.builder(HugeObjectArray.class)
+                            .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
+                            .build();
+                    })
+                );
+        }
+        if (config.useMinHash()) {
+            builder.add("MinHash index", MinHashIndex.memoryEstimation(config.minHashSignatures(), config.minHashBands()));
+        } else if (config.useInvertedIndex()) {
+            builder.add("inverted index", InvertedIndex.memoryEstimation());
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
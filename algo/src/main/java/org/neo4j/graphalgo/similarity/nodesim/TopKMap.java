@@ -65,7 +65,8 @@ public class TopKMap {
         topKLists.setAll(node1 -> nodeFilter.get(node1)
             ? new TopKList(comparator.equals(SimilarityResult.ASCENDING)
                 ? BoundedLongPriorityQueue.min(boundedTopK)
-                : BoundedLongPriorityQueue.max(boundedTopK)
+                : BoundedLongPriorityQueue.max(boundedTopK),
+                !comparator.equals(SimilarityResult.ASCENDING)
             ) : null
         );
     }
@@ -111,15 +112,26 @@ public class TopKMap {
     public static final class TopKList {
 
         private final BoundedLongPriorityQueue queue;
+        private final boolean descending;
 
-        TopKList(BoundedLongPriorityQueue queue) {
+        TopKList(BoundedLongPriorityQueue queue, boolean descending) {
             this.queue = queue;
+            this.descending = descending;
         }
 
         int size() {
             return queue.size();
         }
 
+        /**
+         * Whether a pair whose similarity is at most the given bound would be rejected by this list.
+         * This is only known for top-k lists, as a bottom-k list cannot reject by an upper bound.
+         */
+        boolean rejectsUpTo(double similarityBound) {
+            // a full top-k list only accepts similarities that are strictly larger than its smallest one
+            return descending && queue.isFull() && similarityBound <= queue.lastPriority();
+        }
+
         void accept(long node2, double similarity) {
             queue.offer(node2, similarity);
         }
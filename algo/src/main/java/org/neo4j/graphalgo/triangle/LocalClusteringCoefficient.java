@@ -32,6 +32,7 @@ import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import java.util.Optional;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 
 import static org.neo4j.graphalgo.triangle.IntersectingTriangleCount.EXCLUDED_NODE_TRIANGLE_COUNT;
 
@@ -88,7 +89,7 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
 
         ThreadLocal<Graph> concurrentGraphCopy = ThreadLocal.withInitial(() -> graph.concurrentCopy());
         DoubleAdder localClusteringCoefficientSum = new DoubleAdder();
-        ParallelUtil.parallelForEachNode(graph, concurrency, nodeId -> {
+        LongConsumer coefficientComputer = nodeId -> {
             double localClusteringCoefficient = calculateCoefficient(
                 propertyValueFunction.apply(nodeId),
                 graph.isMultiGraph() ?
@@ -97,7 +98,13 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
             );
             localClusteringCoefficients.set(nodeId, localClusteringCoefficient);
             localClusteringCoefficientSum.add(localClusteringCoefficient);
-        });
+        };
+        // de-duplicating the relationships of a multi graph costs linear in the degree
+        if (configuration.workStealing()) {
+            ParallelUtil.parallelForEachNodeWorkStealing(graph, concurrency, coefficientComputer);
+        } else {
+            ParallelUtil.parallelForEachNode(graph, concurrency, coefficientComputer);
+        }
 
         // compute average clustering coefficient
         averageClusteringCoefficient = localClusteringCoefficientSum.doubleValue() / nodeCount;
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.triangle;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 
@@ -30,7 +31,7 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LocalClusteringCoefficientWriteConfig extends LocalClusteringCoefficientBaseConfig, WritePropertyConfig {
+public interface LocalClusteringCoefficientWriteConfig extends LocalClusteringCoefficientBaseConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static LocalClusteringCoefficientWriteConfig of(
         String username,
@@ -23,6 +23,7 @@ package org.neo4j.graphalgo.triangle;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 
@@ -31,7 +32,7 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface TriangleCountWriteConfig extends TriangleCountBaseConfig, WritePropertyConfig {
+public interface TriangleCountWriteConfig extends TriangleCountBaseConfig, WritePropertyConfig, WriteDirectoryConfig {
 
     static TriangleCountWriteConfig of(
         String username,
@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.wcc;
 
+import com.carrotsearch.hppc.LongIntHashMap;
+import com.carrotsearch.hppc.cursors.LongIntCursor;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
@@ -35,7 +37,9 @@ import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongFunction;
 
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
@@ -43,11 +47,25 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
  * Parallel Union-Find Algorithm based on the
  * "Wait-free Parallel Algorithms for the Union-Find Problem" paper.
  *
+ * If {@link WccBaseConfig#sampling()} is enabled, the relationships are processed
+ * in the order proposed by the "Afforest: A Fast Concurrent Graph Connectivity Algorithm" paper:
+ * First, every node is linked with its first {@link #NEIGHBOR_ROUNDS} neighbours.
+ * Next, the largest intermediate component is identified by sampling.
+ * Finally, the remaining relationships are processed only for nodes outside of that component.
+ * Skipping those nodes is only correct for undirected graphs, where every relationship
+ * can also be reached from the other node. For all other graphs, only the sampling
+ * phase is applied and the remaining relationships of all nodes are processed.
+ *
  * @see HugeAtomicDisjointSetStruct
  * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.56.8354&rep=rep1&type=pdf">the paper</a>
+ * @see <a href="https://arxiv.org/abs/1908.06470">the Afforest paper</a>
  */
 public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
+    static final int NEIGHBOR_ROUNDS = 2;
+    static final int SAMPLING_SIZE = 1024;
+    private static final long NO_COMPONENT = -1L;
+
     private final WccBaseConfig config;
     private final NodeProperties initialComponents;
     private final ExecutorService executor;
@@ -108,23 +126,64 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
         long nodeCount = graph.nodeCount();
 
-        DisjointSetStruct dss = config.isIncremental()
+        HugeAtomicDisjointSetStruct dss = config.isIncremental()
             ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, tracker, config.concurrency())
             : new HugeAtomicDisjointSetStruct(nodeCount, tracker, config.concurrency());
 
-        final Collection<Runnable> tasks = new ArrayList<>(threadSize);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
-            WCCTask wccTask = Double.isNaN(threshold()) || threshold() == 0
-                ? new WCCTask(dss, i)
-                : new WCCWithThresholdTask(threshold(), dss, i);
-            tasks.add(wccTask);
+        if (config.sampling()) {
+            computeSampled(dss);
+        } else {
+            runTasks(offset -> Double.isNaN(threshold()) || threshold() == 0
+                ? new WCCTask(dss, offset)
+                : new WCCWithThresholdTask(threshold(), dss, offset));
         }
-        ParallelUtil.run(tasks, executor);
 
         progressLogger.logMessage(":: Finished");
         return dss;
     }
 
+    private void computeSampled(HugeAtomicDisjointSetStruct dss) {
+        runTasks(offset -> new SampledWCCTask(dss, offset, true, NO_COMPONENT));
+
+        long largestComponent = graph.isUndirected()
+            ? sampleLargestComponent(dss)
+            : NO_COMPONENT;
+
+        runTasks(offset -> new SampledWCCTask(dss, offset, false, largestComponent));
+    }
+
+    /**
+     * Returns the root of the most frequent component among {@link #SAMPLING_SIZE} randomly chosen nodes.
+     */
+    private long sampleLargestComponent(HugeAtomicDisjointSetStruct dss) {
+        if (nodeCount == 0) {
+            return NO_COMPONENT;
+        }
+        var random = new SplittableRandom();
+        var componentCounts = new LongIntHashMap();
+        for (int i = 0; i < SAMPLING_SIZE; i++) {
+            componentCounts.addTo(dss.find(random.nextLong(nodeCount)), 1);
+        }
+
+        long largestComponent = NO_COMPONENT;
+        int largestCount = 0;
+        for (LongIntCursor cursor : componentCounts) {
+            if (cursor.value > largestCount) {
+                largestCount = cursor.value;
+                largestComponent = cursor.key;
+            }
+        }
+        return largestComponent;
+    }
+
+    private void runTasks(LongFunction<Runnable> taskFactory) {
+        final Collection<Runnable> tasks = new ArrayList<>(threadSize);
+        for (long i = 0L; i < this.nodeCount; i += batchSize) {
+            tasks.add(taskFactory.apply(i));
+        }
+        ParallelUtil.run(tasks, executor);
+    }
+
     @Override
     public Wcc me() {
         return this;
@@ -202,4 +261,80 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             return true;
         }
     }
+
+    /**
+     * Processes either the first {@link #NEIGHBOR_ROUNDS} relationships of every node,
+     * or all remaining relationships of every node that is not part of the largest component.
+     */
+    private class SampledWCCTask implements Runnable, RelationshipWithPropertyConsumer {
+
+        private final HugeAtomicDisjointSetStruct struct;
+        private final RelationshipIterator rels;
+        private final long offset;
+        private final long end;
+        private final boolean sampling;
+        private final long largestComponent;
+        private final boolean hasThreshold;
+        private final double threshold;
+
+        private int position;
+
+        SampledWCCTask(HugeAtomicDisjointSetStruct struct, long offset, boolean sampling, long largestComponent) {
+            this.struct = struct;
+            this.rels = graph.concurrentCopy();
+            this.offset = offset;
+            this.end = Math.min(offset + batchSize, nodeCount);
+            this.sampling = sampling;
+            this.largestComponent = largestComponent;
+            this.threshold = threshold();
+            this.hasThreshold = !Double.isNaN(threshold) && threshold != 0;
+        }
+
+        @Override
+        public void run() {
+            for (long node = offset; node < end; node++) {
+                int degree = graph.degree(node);
+                if (sampling) {
+                    compute(node);
+                    getProgressLogger().logProgress(Math.min(degree, NEIGHBOR_ROUNDS));
+                } else {
+                    if (degree > NEIGHBOR_ROUNDS && !inLargestComponent(node)) {
+                        compute(node);
+                    }
+                    getProgressLogger().logProgress(Math.max(degree - NEIGHBOR_ROUNDS, 0));
+                }
+                if (node % RUN_CHECK_NODE_COUNT == 0) {
+                    assertRunning();
+                }
+            }
+        }
+
+        private boolean inLargestComponent(long node) {
+            // The root of the largest component can change while other threads are linking.
+            // This may lead to processing a node that could have been skipped, but never
+            // to skipping a node that is not connected to the largest component.
+            return largestComponent != NO_COMPONENT && struct.find(node) == struct.find(largestComponent);
+        }
+
+        private void compute(long node) {
+            position = 0;
+            rels.forEachRelationship(node, Wcc.defaultWeight(threshold), this);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            if (sampling) {
+                if (position++ >= NEIGHBOR_ROUNDS) {
+                    return false;
+                }
+            } else if (position++ < NEIGHBOR_ROUNDS) {
+                // already linked during sampling
+                return true;
+            }
+            if (!hasThreshold || property > threshold) {
+                struct.union(sourceNodeId, targetNodeId);
+            }
+            return true;
+        }
+    }
 }
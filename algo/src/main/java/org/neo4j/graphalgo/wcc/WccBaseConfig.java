@@ -32,6 +32,15 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return 0D;
     }
 
+    /**
+     * Link a sample of neighbours first and skip the remaining relationships
+     * of nodes that are already part of the largest component.
+     */
+    @Value.Default
+    default boolean sampling() {
+        return false;
+    }
+
     @Value.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty() == null) {
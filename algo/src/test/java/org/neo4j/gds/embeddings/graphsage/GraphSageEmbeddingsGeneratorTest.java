@@ -35,6 +35,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -61,7 +62,7 @@ class GraphSageEmbeddingsGeneratorTest {
             .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
             .modelName(MODEL_NAME)
             .build();
-        var features = GraphSageHelper.initializeFeatures(graph, config, AllocationTracker.empty());
+        var features = GraphSageHelper.initializeFeatures(graph, config, config.precision(), AllocationTracker.empty());
 
         var trainModel = new GraphSageModelTrainer(config, ProgressLogger.NULL_LOGGER);
 
@@ -111,7 +112,7 @@ class GraphSageEmbeddingsGeneratorTest {
 
         var embeddings = embeddingsGenerator.makeEmbeddings(
             graph,
-            GraphSageHelper.initializeFeatures(graph, config, AllocationTracker.empty())
+            GraphSageHelper.initializeFeatures(graph, config, config.precision(), AllocationTracker.empty())
         );
 
         assertNotNull(embeddings);
@@ -119,4 +120,39 @@ class GraphSageEmbeddingsGeneratorTest {
 
         LongStream.range(0, graph.nodeCount()).forEach(n -> assertEquals(EMBEDDING_DIMENSION, embeddings.get(n).length));
     }
+
+    @ParameterizedTest
+    @EnumSource(Aggregator.AggregatorType.class)
+    void makesSameEmbeddingsLayerWise(Aggregator.AggregatorType aggregatorType) {
+        var config = ImmutableGraphSageTrainConfig.builder()
+            .aggregator(aggregatorType)
+            .embeddingDimension(EMBEDDING_DIMENSION)
+            .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
+            .modelName(MODEL_NAME)
+            .concurrency(1)
+            .build();
+        var features = GraphSageHelper.initializeFeatures(graph, config, config.precision(), AllocationTracker.empty());
+
+        var result = new GraphSageModelTrainer(config, ProgressLogger.NULL_LOGGER).train(graph, features);
+
+        GraphSageEmbeddingsGenerator embeddingsGenerator = new GraphSageEmbeddingsGenerator(
+            result.layers(),
+            config.batchSize(),
+            config.concurrency(),
+            config.isWeighted(),
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+
+        var batchWiseEmbeddings = embeddingsGenerator.makeEmbeddings(graph, features);
+        var layerWiseEmbeddings = embeddingsGenerator.makeLayerWiseEmbeddings(graph, features);
+
+        assertEquals(graph.nodeCount(), layerWiseEmbeddings.size());
+        // neighbourhoods are sampled deterministically per node and layer, so both modes see the same neighbours
+        LongStream.range(0, graph.nodeCount()).forEach(n -> assertArrayEquals(
+            batchWiseEmbeddings.get(n),
+            layerWiseEmbeddings.get(n),
+            1e-9
+        ));
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
+import org.neo4j.gds.embeddings.graphsage.algo.MultiLabelGraphSageTrain;
+import org.neo4j.gds.embeddings.graphsage.algo.SingleLabelGraphSageTrain;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.extension.GdlExtension;
+import org.neo4j.graphalgo.extension.GdlGraph;
+import org.neo4j.graphalgo.extension.Inject;
+import org.neo4j.graphalgo.extension.TestGraph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphSageModelSerializerTest {
+
+    @GdlGraph
+    private static final String GDL = GraphSageTestGraph.GDL;
+
+    @Inject
+    TestGraph graph;
+
+    private final GraphSageModelSerializer serializer = new GraphSageModelSerializer();
+
+    @ParameterizedTest
+    @EnumSource(Aggregator.AggregatorType.class)
+    void shouldRoundTripSingleLabelModel(Aggregator.AggregatorType aggregator) throws IOException {
+        var config = config(Map.of(
+            "aggregator", aggregator.name(),
+            "degreeAsProperty", true,
+            "precision", "float"
+        ));
+        var data = new SingleLabelGraphSageTrain(graph, config, ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .data();
+
+        var restored = roundTrip(data, config);
+
+        assertThat(restored.precision()).isEqualTo(Precision.FLOAT);
+        assertSameWeights(restored.layers(), data.layers());
+    }
+
+    @Test
+    void shouldRoundTripMultiLabelModel() throws IOException {
+        var config = config(Map.of(
+            "featureProperties", List.of("numEmployees", "numIngredients", "rating", "numPurchases"),
+            "projectedFeatureDimension", 5
+        ));
+        var data = new MultiLabelGraphSageTrain(graph, config, ProgressLogger.NULL_LOGGER, AllocationTracker.empty())
+            .compute()
+            .data();
+
+        var restored = roundTrip(data, config);
+
+        assertSameWeights(restored.layers(), data.layers());
+        assertThat(restored.featureFunction()).isInstanceOf(MultiLabelFeatureFunction.class);
+        var expectedWeights = ((MultiLabelFeatureFunction) data.featureFunction()).weightsByLabel();
+        var actualWeights = ((MultiLabelFeatureFunction) restored.featureFunction()).weightsByLabel();
+        assertThat(actualWeights.keySet()).isEqualTo(expectedWeights.keySet());
+        expectedWeights.forEach((label, weights) ->
+            assertThat(actualWeights.get(label).data().data()).containsExactly(weights.data().data())
+        );
+    }
+
+    @Test
+    void shouldRestoreTrainConfig() {
+        var config = config(Map.of("aggregator", "pool", "sampleSizes", List.of(5L, 3L), "precision", "float"));
+
+        var restored = serializer.trainConfig("user", config.toMap());
+
+        assertThat(restored.username()).isEqualTo("user");
+        assertThat(restored.toMap()).isEqualTo(config.toMap());
+    }
+
+    private GraphSageTrainConfig config(Map<String, Object> values) {
+        var config = new HashMap<String, Object>(Map.of(
+            "modelName", "model",
+            "embeddingDimension", 16,
+            "featureProperties", List.of("dummyProp"),
+            "degreeAsProperty", true
+        ));
+        config.putAll(values);
+        return GraphSageTrainConfig.of("", Optional.empty(), Optional.empty(), CypherMapWrapper.create(config));
+    }
+
+    private ModelData roundTrip(ModelData data, GraphSageTrainConfig config) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(bytes)) {
+            serializer.writeData(data, config, output);
+        }
+        try (var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return serializer.readData(config, input);
+        }
+    }
+
+    private static void assertSameWeights(Layer[] actual, Layer[] expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.length; i++) {
+            var expectedWeights = expected[i].weights();
+            var actualWeights = actual[i].weights();
+            assertThat(actualWeights).hasSameSizeAs(expectedWeights);
+            for (int j = 0; j < expectedWeights.size(); j++) {
+                assertThat(actualWeights.get(j).data().data()).containsExactly(expectedWeights.get(j).data().data());
+            }
+        }
+    }
+}
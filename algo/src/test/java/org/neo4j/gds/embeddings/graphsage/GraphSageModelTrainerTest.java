@@ -91,7 +91,7 @@ class GraphSageModelTrainerTest {
 
         var trainModel = new GraphSageModelTrainer(config, ProgressLogger.NULL_LOGGER);
 
-        GraphSageModelTrainer.ModelTrainResult result = trainModel.train(graph, features);
+        GraphSageModelTrainer.ModelTrainResult result = trainModel.train(graph, Features.of(features));
 
         Layer[] layers = result.layers();
         assertEquals(2, layers.length);
@@ -122,7 +122,7 @@ class GraphSageModelTrainerTest {
 
         var trainModel = new GraphSageModelTrainer(config, ProgressLogger.NULL_LOGGER);
 
-        GraphSageModelTrainer.ModelTrainResult result = trainModel.train(graph, features);
+        GraphSageModelTrainer.ModelTrainResult result = trainModel.train(graph, Features.of(features));
         Layer[] layers = result.layers();
         assertEquals(2, layers.length);
 
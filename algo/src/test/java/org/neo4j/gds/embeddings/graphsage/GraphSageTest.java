@@ -147,6 +147,38 @@ class GraphSageTest {
         }
     }
 
+    @Test
+    void shouldMakeEmbeddingsWithFloatPrecision() {
+        var trainConfig = configBuilder
+            .modelName(MODEL_NAME)
+            .degreeAsProperty(false)
+            .featureProperties(List.of("f1", "f2", "f3"))
+            .precision(Precision.FLOAT)
+            .build();
+
+        var model = new SingleLabelGraphSageTrain(
+            orphanGraph,
+            trainConfig,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        ).compute();
+        assertThat(model.data().precision()).isEqualTo(Precision.FLOAT);
+        ModelCatalog.set(model);
+
+        var streamConfig = ImmutableGraphSageStreamConfig
+            .builder()
+            .modelName(MODEL_NAME)
+            .build();
+
+        var algorithmFactory = new GraphSageAlgorithmFactory<>(TestProgressLogger.FACTORY);
+        var graphSage = algorithmFactory.build(orphanGraph, streamConfig, AllocationTracker.empty(), NullLog.getInstance());
+        var embeddings = graphSage.compute().embeddings();
+        for (int i = 0; i < orphanGraph.nodeCount(); i++) {
+            assertThat(embeddings.get(i)).hasSize(EMBEDDING_DIMENSION);
+            Arrays.stream(embeddings.get(i)).forEach(embeddingValue -> assertThat(embeddingValue).isNotNaN());
+        }
+    }
+
     @Test
     void differentTrainAndPredictionGraph() {
         var trainConfig = configBuilder
@@ -156,7 +188,7 @@ class GraphSageTest {
             .build();
 
         var modelTrainer = new GraphSageModelTrainer(trainConfig, ProgressLogger.NULL_LOGGER);
-        var layers = modelTrainer.train(graph, features).layers();
+        var layers = modelTrainer.train(graph, Features.of(features)).layers();
         var model = Model.of(
             "",
             MODEL_NAME,
@@ -198,7 +230,7 @@ class GraphSageTest {
             .build();
 
         var modelTrainer = new GraphSageModelTrainer(trainConfig, ProgressLogger.NULL_LOGGER);
-        var layers = modelTrainer.train(graph, features).layers();
+        var layers = modelTrainer.train(graph, Features.of(features)).layers();
         var model = Model.of(
             "",
             MODEL_NAME,
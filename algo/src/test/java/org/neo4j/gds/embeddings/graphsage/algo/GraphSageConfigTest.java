@@ -73,6 +73,17 @@ class GraphSageTrainConfigTest {
         assertFalse(singleLabelConfig.isMultiLabel());
     }
 
+    @Test
+    void shouldThrowOnUnknownPrecision() {
+        var mapWrapper = CypherMapWrapper.create(Map.of(
+            "modelName", "foo",
+            "degreeAsProperty", true,
+            "precision", "half"
+        ));
+        var throwable = assertThrows(IllegalArgumentException.class, () -> GraphSageTrainConfig.of("", Optional.empty(), Optional.empty(), mapWrapper));
+        assertEquals("Precision `half` is not supported. Must be one of: DOUBLE, FLOAT.", throwable.getMessage());
+    }
+
     @Nested
     class MultiLabelGraphSageConfigProcTest {
 
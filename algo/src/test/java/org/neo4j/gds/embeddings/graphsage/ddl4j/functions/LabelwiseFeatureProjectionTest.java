@@ -20,6 +20,7 @@
 package org.neo4j.gds.embeddings.graphsage.ddl4j.functions;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.embeddings.graphsage.Features;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.FiniteDifferenceTest;
 import org.neo4j.gds.embeddings.graphsage.ddl4j.helper.L2Norm;
@@ -73,7 +74,7 @@ class LabelwiseFeatureProjectionTest implements FiniteDifferenceTest {
         Map<NodeLabel, Weights<? extends Tensor<?>>> nodeLabelWeightsMap = makeWeights();
         var projection = new LabelwiseFeatureProjection(
             nodeIds,
-            features,
+            Features.of(features),
             nodeLabelWeightsMap,
             PROJECTED_FEATURE_SIZE,
             labels
@@ -109,7 +110,7 @@ class LabelwiseFeatureProjectionTest implements FiniteDifferenceTest {
         Map<NodeLabel, Weights<? extends Tensor<?>>> nodeLabelWeightsMap = makeWeights();
         var projection = new LabelwiseFeatureProjection(
             nodeIds,
-            features,
+            Features.of(features),
             nodeLabelWeightsMap,
             PROJECTED_FEATURE_SIZE,
             labels
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage.ddl4j.tensor;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.ComputationContext;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.Variable;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixConstant;
+import org.neo4j.gds.embeddings.graphsage.ddl4j.functions.MatrixMultiplyWithTransposedSecondOperand;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TensorPoolTest {
+
+    @Test
+    void reusesReleasedBuffersOfSameSize() {
+        var pool = new TensorPool();
+
+        double[] buffer = pool.allocate(4);
+        buffer[2] = 42D;
+        pool.release(buffer);
+
+        assertNotSame(buffer, pool.allocate(3));
+
+        double[] reused = pool.allocate(4);
+        assertSame(buffer, reused);
+        assertArrayEquals(new double[4], reused);
+    }
+
+    @Test
+    void reusesBuffersAcrossContexts() {
+        var pool = new TensorPool();
+        MatrixConstant a = new MatrixConstant(new double[]{1, 2, 3, 4}, 2, 2);
+        MatrixConstant b = new MatrixConstant(new double[]{5, 6, 7, 8}, 2, 2);
+        Variable<Matrix> product = new MatrixMultiplyWithTransposedSecondOperand(a, b);
+
+        var firstCtx = new ComputationContext(pool);
+        double[] firstResult = firstCtx.forward(product).data();
+        double[] expected = firstResult.clone();
+        firstCtx.release();
+
+        var secondCtx = new ComputationContext(pool);
+        double[] secondResult = secondCtx.forward(product).data();
+
+        assertSame(firstResult, secondResult);
+        assertArrayEquals(expected, secondResult);
+        assertEquals(17D, secondResult[0]);
+    }
+}
@@ -19,11 +19,13 @@
  */
 package org.neo4j.graphalgo.betweenness;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
@@ -34,6 +36,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.Orientation.UNDIRECTED;
 import static org.neo4j.graphalgo.TestSupport.assertMemoryEstimation;
 import static org.neo4j.graphalgo.TestSupport.crossArguments;
@@ -149,6 +152,57 @@ class BetweennessCentralityTest {
         );
     }
 
+    @ParameterizedTest(name = "graph={1}, concurrency={0}, samplingSize={2}")
+    @MethodSource("org.neo4j.graphalgo.betweenness.BetweennessCentralityTest#testArguments")
+    void samplingWithoutPredecessors(int concurrency, TestGraph graph, int samplingSize, Map<String, Double> expectedResult) {
+        HugeAtomicDoubleArray actualResult = new BetweennessCentrality(
+            graph,
+            new SelectionStrategy.RandomDegree(samplingSize, Optional.of(42L)),
+            Pools.DEFAULT,
+            concurrency,
+            false,
+            TRACKER
+        ).compute();
+
+        assertEquals(expectedResult.size(), actualResult.size());
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertEquals(expectedCentrality, actualResult.get(graph.toMappedNodeId(variable)), variable)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void adaptiveSampling(int concurrency) {
+        TestGraph graph = fromGdl(DIAMOND, UNDIRECTED, "undirected_diamond");
+        var expectedResult = Map.of("a1", 0.0, "a2", 0.0, "b", 9.5, "c", 3.0, "d", 3.0, "e", 5.5, "f", 0.0);
+        double epsilon = 0.05;
+
+        var algo = BetweennessCentrality.adaptiveSampling(
+            graph,
+            epsilon,
+            0.1,
+            Optional.of(42L),
+            Pools.DEFAULT,
+            concurrency,
+            TRACKER
+        );
+        var actualResult = algo.compute();
+
+        assertTrue(algo.sampleCount() > 0);
+        assertTrue(algo.achievedEpsilon() <= epsilon);
+
+        // the error bound applies to the normalized scores, i.e. the scores divided by the number of node pairs
+        double nodePairs = graph.nodeCount() * (graph.nodeCount() - 1) / 2.0;
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertEquals(
+                expectedCentrality,
+                actualResult.get(graph.toMappedNodeId(variable)),
+                epsilon * nodePairs,
+                variable
+            )
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void noSampling(int concurrency) {
@@ -181,4 +235,58 @@ class BetweennessCentralityTest {
             expectedMaxBytes
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 42})
+    void testMemoryEstimationWithoutPredecessors(int concurrency) {
+        var config = BetweennessCentralityStreamConfig.of(
+            "",
+            Optional.empty(),
+            Optional.empty(),
+            CypherMapWrapper.create(Map.of("storePredecessors", false))
+        );
+        var dimensions = GraphDimensions.of(100_000L, 1_000_000L);
+
+        var withPredecessors = new BetweennessCentralityFactory<>()
+            .memoryEstimation(DEFAULT_CONFIG)
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+        var withoutPredecessors = new BetweennessCentralityFactory<>()
+            .memoryEstimation(config)
+            .estimate(dimensions, concurrency)
+            .memoryUsage();
+
+        assertTrue(withoutPredecessors.max < withPredecessors.max);
+    }
+
+    @Test
+    void testMemoryEstimationWithoutPredecessorsCoversTheAllocation() {
+        int nodeCount = 3_000;
+        var gdl = new StringBuilder("CREATE (n0)");
+        for (int i = 1; i < nodeCount; i++) {
+            gdl.append(", (n").append(i - 1).append(")-[:REL]->(n").append(i).append(")");
+        }
+        TestGraph graph = fromGdl(gdl.toString(), UNDIRECTED);
+        var config = BetweennessCentralityStreamConfig.of(
+            "",
+            Optional.empty(),
+            Optional.empty(),
+            CypherMapWrapper.create(Map.of("storePredecessors", false))
+        );
+
+        // every start node reaches all nodes, so that the state of the task grows to the node count
+        var tracker = AllocationTracker.create();
+        new BetweennessCentrality(graph, SelectionStrategy.ALL, Pools.DEFAULT, 1, false, tracker).compute();
+
+        var estimation = new BetweennessCentralityFactory<>()
+            .memoryEstimation(config)
+            .estimate(GraphDimensions.of(nodeCount), 1)
+            .memoryUsage();
+
+        assertEquals(estimation.min, estimation.max);
+        assertTrue(
+            tracker.trackedBytes() <= estimation.max,
+            tracker.trackedBytes() + " bytes were allocated, but only " + estimation.max + " were estimated"
+        );
+    }
 }
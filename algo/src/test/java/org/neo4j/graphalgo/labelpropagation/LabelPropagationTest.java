@@ -26,10 +26,14 @@ import com.carrotsearch.hppc.cursors.IntObjectCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.TestLog;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
@@ -184,6 +188,54 @@ class LabelPropagationTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(value = Orientation.class, names = {"NATURAL", "UNDIRECTED"})
+    void shouldComputeSameLabelsWhenTrackingActiveNodes(Orientation orientation) {
+        Graph randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(orientation)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        LabelPropagation lp = new LabelPropagation(
+            randomGraph,
+            ImmutableLabelPropagationStreamConfig.builder().maxIterations(20).concurrency(1).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+        LabelPropagation activeLp = new LabelPropagation(
+            randomGraph,
+            ImmutableLabelPropagationStreamConfig.builder().maxIterations(20).concurrency(1).trackActiveNodes(true).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+
+        assertArrayEquals(lp.compute().labels().toArray(), activeLp.compute().labels().toArray());
+        assertEquals(lp.ranIterations(), activeLp.ranIterations());
+        assertEquals(lp.didConverge(), activeLp.didConverge());
+    }
+
+    @Test
+    void shouldConvergeWhenFewNodesChanged() {
+        LabelPropagation lp = new LabelPropagation(
+            graph,
+            ImmutableLabelPropagationStreamConfig.builder().changedNodesFraction(1.0).build(),
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+        lp.compute();
+
+        assertTrue(lp.didConverge());
+        assertEquals(1L, lp.ranIterations());
+    }
+
     private static IntObjectMap<IntArrayList> groupByPartitionInt(HugeLongArray labels) {
         if (labels == null) {
             return null;
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.knn;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachingSimilarityComputerTest {
+
+    @Test
+    void shouldComputeSymmetricPairsOnce() {
+        var computations = new AtomicInteger();
+        var computer = new CachingSimilarityComputer(
+            (first, second) -> {
+                computations.incrementAndGet();
+                return 1.0 / (1.0 + Math.abs(first - second));
+            },
+            16
+        );
+
+        assertEquals(0.5, computer.similarity(1, 2));
+        assertEquals(0.5, computer.similarity(2, 1));
+        assertEquals(0.5, computer.similarity(1, 2));
+
+        assertEquals(1, computations.get());
+        assertEquals(2, computer.hits());
+        assertEquals(1, computer.misses());
+    }
+
+    @Test
+    void shouldStayCorrectWhenEvicting() {
+        var computations = new AtomicInteger();
+        var computer = new CachingSimilarityComputer(
+            (first, second) -> {
+                computations.incrementAndGet();
+                return first * 1000.0 + second;
+            },
+            4
+        );
+
+        for (int round = 0; round < 3; round++) {
+            for (long first = 0; first < 10; first++) {
+                for (long second = first + 1; second < 10; second++) {
+                    assertEquals(first * 1000.0 + second, computer.similarity(first, second));
+                }
+            }
+        }
+
+        // 45 distinct pairs do not fit into 4 slots
+        assertEquals(computations.get(), computer.misses());
+        assertEquals(3 * 45, computer.hits() + computer.misses());
+    }
+}
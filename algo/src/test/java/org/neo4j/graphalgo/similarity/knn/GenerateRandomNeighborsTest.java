@@ -52,7 +52,8 @@ class GenerateRandomNeighborsTest extends RandomNodeCountAndKValues {
             // implicitly sort by neighbor from max to min
             (nodeId, neighborId) -> (double) neighborId,
             allNeighbors,
-            nodeCount,
+            KnnNodeFilter.all(nodeCount),
+            null,
             k,
             k
         );
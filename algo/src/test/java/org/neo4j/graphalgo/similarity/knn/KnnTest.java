@@ -32,6 +32,7 @@ import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.DoubleArrayNodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.DoubleNodeProperties;
 import org.neo4j.graphalgo.api.nodeproperties.FloatArrayNodeProperties;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.loading.NullPropertyMap;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
@@ -41,6 +42,8 @@ import org.neo4j.graphalgo.extension.IdFunction;
 import org.neo4j.graphalgo.extension.Inject;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -182,19 +185,52 @@ class KnnTest {
         softly.assertThat(result.neighborsOf(nodeCId)).doesNotContain(nodeAId);
     }
 
+    @Test
+    void shouldProduceSameResultWithSimilarityCache() {
+        var configBuilder = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("knn")
+            .topK(1)
+            .randomSeed(42)
+            .concurrency(1);
+
+        var withoutCache = new Knn(graph, configBuilder.build(), KnnContext.empty()).compute();
+        var withCache = new Knn(graph, configBuilder.similarityCacheSize(64).build(), KnnContext.empty()).compute();
+
+        assertThat(withCache.streamSimilarityResult())
+            .containsExactlyElementsOf(withoutCache.streamSimilarityResult().collect(Collectors.toList()));
+        assertThat(withoutCache.similarityCacheHits() + withoutCache.similarityCacheMisses()).isZero();
+        assertThat(withCache.similarityCacheHits()).isPositive();
+    }
+
+    @Test
+    void shouldProduceSameResultWithWorkStealing() {
+        var configBuilder = ImmutableKnnBaseConfig.builder()
+            .nodeWeightProperty("knn")
+            .topK(1)
+            .randomSeed(42)
+            .similarityCacheSize(64)
+            .concurrency(1);
+
+        var withoutWorkStealing = new Knn(graph, configBuilder.build(), KnnContext.empty()).compute();
+        var withWorkStealing = new Knn(graph, configBuilder.workStealing(true).build(), KnnContext.empty()).compute();
+
+        assertThat(withWorkStealing.streamSimilarityResult())
+            .containsExactlyElementsOf(withoutWorkStealing.streamSimilarityResult().collect(Collectors.toList()));
+        assertThat(withWorkStealing.similarityCacheHits()).isEqualTo(withoutWorkStealing.similarityCacheHits());
+    }
+
     @Test
     void testReverseEmptyList() {
         var nodeCount = 42;
 
         var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
+        var reverseNeighbors = new ReverseNeighbors(nodeCount, AllocationTracker.empty());
 
         // no old elements, don't add something to the reverse neighbors
-        Knn.reverseNeighbors(0, neighbors, reverseNeighbors);
-        assertThat(reverseNeighbors.get(0)).isNull();
-
-        var neighborsFrom0 = LongArrayList.from(LongStream.range(1, nodeCount).toArray());
-        neighbors.set(0, neighborsFrom0);
+        reverseNeighbors.build(neighbors, 1, Pools.DEFAULT);
+        for (int i = 0; i < nodeCount; i++) {
+            assertThat(reverseNeighbors.degree(i)).isZero();
+        }
     }
 
     @Test
@@ -202,26 +238,19 @@ class KnnTest {
         var nodeCount = 42;
 
         var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
+        var reverseNeighbors = new ReverseNeighbors(nodeCount, AllocationTracker.empty());
 
         // 0 is neighboring every other node
         var neighborsFrom0 = LongArrayList.from(LongStream.range(1, nodeCount).toArray());
         neighbors.set(0, neighborsFrom0);
 
-        Knn.reverseNeighbors(0, neighbors, reverseNeighbors);
+        reverseNeighbors.build(neighbors, 1, Pools.DEFAULT);
         // 0 has no reverse neighbors
-        assertThat(reverseNeighbors.get(0)).isNull();
+        assertThat(reverseNeighbors.degree(0)).isZero();
         // every other node points to 0
         for (int i = 1; i < nodeCount; i++) {
-            var reversed = reverseNeighbors.get(i);
-            assertThat(reversed)
-                .isNotNull()
-                .singleElement()
-                // list returns hppc cursor, access value field
-                .extracting("value")
-                .isEqualTo(0L);
+            assertThat(reverseNeighborsOf(reverseNeighbors, i)).containsExactly(0L);
         }
-
     }
 
     @Test
@@ -229,27 +258,65 @@ class KnnTest {
         var nodeCount = 42;
 
         var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
-        var reverseNeighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
+        var reverseNeighbors = new ReverseNeighbors(nodeCount, AllocationTracker.empty());
 
         // every node other than 0 has 0 as neighbor
         neighbors.setAll(nodeId -> nodeId == 0 ? null : LongArrayList.from(0));
 
-        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            Knn.reverseNeighbors(nodeId, neighbors, reverseNeighbors);
-        }
+        reverseNeighbors.build(neighbors, 1, Pools.DEFAULT);
 
         // all nodes point to 0
-        assertThat(reverseNeighbors.get(0))
-            .isNotNull()
-            .extracting(c -> c.value)
-            .containsExactly(LongStream.range(1, nodeCount).boxed().toArray(Long[]::new));
+        assertThat(reverseNeighborsOf(reverseNeighbors, 0))
+            .containsExactly(LongStream.range(1, nodeCount).toArray());
 
         // all other nodes have no reverse neighbors
         for (int i = 1; i < nodeCount; i++) {
-            assertThat(reverseNeighbors.get(i)).isNull();
+            assertThat(reverseNeighbors.degree(i)).isZero();
         }
     }
 
+    @Test
+    void testReverseInParallelAndReuse() {
+        var nodeCount = 10_000;
+        var concurrency = 4;
+
+        var neighbors = HugeObjectArray.newArray(LongArrayList.class, nodeCount, AllocationTracker.empty());
+        var reverseNeighbors = new ReverseNeighbors(nodeCount, AllocationTracker.empty());
+
+        // every node points to its next three nodes
+        neighbors.setAll(nodeId -> LongArrayList.from(
+            (nodeId + 1) % nodeCount,
+            (nodeId + 2) % nodeCount,
+            (nodeId + 3) % nodeCount
+        ));
+        reverseNeighbors.build(neighbors, concurrency, Pools.DEFAULT);
+
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(reverseNeighborsOf(reverseNeighbors, nodeId)).containsExactlyInAnyOrder(
+                (nodeId + nodeCount - 1) % nodeCount,
+                (nodeId + nodeCount - 2) % nodeCount,
+                (nodeId + nodeCount - 3) % nodeCount
+            );
+        }
+
+        // the buffers are reused for the next build
+        neighbors.setAll(nodeId -> nodeId == 0 ? null : LongArrayList.from(0));
+        reverseNeighbors.build(neighbors, concurrency, Pools.DEFAULT);
+
+        assertThat(reverseNeighborsOf(reverseNeighbors, 0))
+            .containsExactlyInAnyOrder(LongStream.range(1, nodeCount).toArray());
+        for (int i = 1; i < nodeCount; i++) {
+            assertThat(reverseNeighbors.degree(i)).isZero();
+        }
+    }
+
+    private static long[] reverseNeighborsOf(ReverseNeighbors reverseNeighbors, long nodeId) {
+        return LongStream
+            .range(reverseNeighbors.startOffset(nodeId), reverseNeighbors.endOffset(nodeId))
+            .map(reverseNeighbors::target)
+            .toArray();
+    }
+
     @Nested
     class IterationsLimitTest {
 
@@ -309,4 +376,105 @@ class KnnTest {
         }
 
     }
+
+    @Nested
+    class FilteredTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a:Query { knn: 1.0, catalog: 0 } )" +
+            ", (b:Query { knn: 1.05, catalog: 0 } )" +
+            ", (c:Catalog { knn: 1.5, catalog: 1 } )" +
+            ", (d:Catalog { knn: 5.0, catalog: 1 } )" +
+            ", (e:Catalog { knn: 9.0, catalog: 1 } )";
+
+        @Test
+        void shouldOnlyConnectSourceToTargetNodesByLabel() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeWeightProperty("knn")
+                .topK(1)
+                .randomSeed(42)
+                .concurrency(1)
+                .sourceNodeLabels(List.of("Query"))
+                .targetNodeLabels(List.of("Catalog"))
+                .build();
+
+            assertFilteredResult(new Knn(graph, config, KnnContext.empty()).compute());
+        }
+
+        @Test
+        void shouldOnlyConnectSourceToTargetNodesByProperty() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeWeightProperty("knn")
+                .topK(1)
+                .randomSeed(42)
+                .concurrency(1)
+                .sourceNodeLabels(List.of("Query"))
+                .targetNodeProperty("catalog")
+                .build();
+
+            assertFilteredResult(new Knn(graph, config, KnnContext.empty()).compute());
+        }
+
+        private void assertFilteredResult(Knn.Result result) {
+            assertThat(result.neighborsOf(idFunction.of("a"))).containsExactly(idFunction.of("c"));
+            assertThat(result.neighborsOf(idFunction.of("b"))).containsExactly(idFunction.of("c"));
+            assertThat(result.neighborsOf(idFunction.of("c"))).isEmpty();
+            assertThat(result.neighborsOf(idFunction.of("d"))).isEmpty();
+            assertThat(result.neighborsOf(idFunction.of("e"))).isEmpty();
+            assertThat(result.totalSimilarityPairs()).isEqualTo(2);
+            assertThat(result.streamSimilarityResult()).hasSize(2);
+        }
+
+        @Test
+        void shouldReturnEmptyResultWithoutTargetNodes() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeWeightProperty("knn")
+                .targetNodeLabels(List.of("Unknown"))
+                .build();
+
+            var result = new Knn(graph, config, KnnContext.empty()).compute();
+
+            assertThat(result.size()).isZero();
+        }
+    }
+
+    @Nested
+    class SeededTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a { knn: 1.0 } )" +
+            ", (b { knn: 2.0 } )" +
+            ", (c { knn: 4.0 } )" +
+            ", (d { knn: 8.0 } )" +
+            ", (e { knn: 16.0 } )" +
+            ", (a)-[:SIMILAR]->(b)" +
+            ", (b)-[:SIMILAR]->(a)" +
+            ", (c)-[:SIMILAR]->(b)" +
+            ", (d)-[:SIMILAR]->(c)" +
+            ", (e)-[:SIMILAR]->(d)";
+
+        @Test
+        void shouldConvergeImmediatelyWhenSeededWithTheResult() {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeWeightProperty("knn")
+                .topK(1)
+                .randomJoins(0)
+                .seedFromRelationships(true)
+                .build();
+
+            var result = new Knn(graph, config, KnnContext.empty()).compute();
+
+            assertTrue(result.didConverge());
+            assertEquals(1, result.ranIterations());
+            assertThat(result.neighborsOf(idFunction.of("a"))).containsExactly(idFunction.of("b"));
+            assertThat(result.neighborsOf(idFunction.of("b"))).containsExactly(idFunction.of("a"));
+            assertThat(result.neighborsOf(idFunction.of("c"))).containsExactly(idFunction.of("b"));
+            assertThat(result.neighborsOf(idFunction.of("d"))).containsExactly(idFunction.of("c"));
+            assertThat(result.neighborsOf(idFunction.of("e"))).containsExactly(idFunction.of("d"));
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void shouldComputePrefixLength() {
+        // without set filters, the whole vector is indexed
+        assertThat(InvertedIndex.prefixLength(10, 0.5, false)).isEqualTo(10);
+        // a similarity of 0.5 requires at least 5 common items out of 10
+        assertThat(InvertedIndex.prefixLength(10, 0.5, true)).isEqualTo(6);
+        // a tiny cutoff requires only one common item
+        assertThat(InvertedIndex.prefixLength(10, 1E-42, true)).isEqualTo(10);
+        // identical vectors share their first item
+        assertThat(InvertedIndex.prefixLength(10, 1.0, true)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyReturnNodesWithCommonItems() {
+        var vectors = HugeObjectArray.newArray(long[].class, 8, AllocationTracker.empty());
+        var nodeFilter = new BitSet(8);
+        // nodes 0..3 are compared, nodes 4..7 are the items
+        vectors.set(0, new long[]{4, 5});
+        vectors.set(1, new long[]{5, 6});
+        vectors.set(2, new long[]{7});
+        vectors.set(3, new long[]{4, 5, 6});
+        nodeFilter.set(0, 4);
+
+        var index = InvertedIndex.of(vectors, nodeFilter, 1E-42, true, AllocationTracker.empty());
+
+        assertThat(index.candidates(0, -1)).containsExactly(1, 3);
+        assertThat(index.candidates(0, 0)).containsExactly(1, 3);
+        assertThat(index.candidates(1, 1)).containsExactly(3);
+        assertThat(index.candidates(2, -1)).isEmpty();
+        assertThat(index.candidates(3, -1)).containsExactly(0, 1);
+    }
+
+    @Test
+    void shouldSkipCandidatesBySize() {
+        var vectors = HugeObjectArray.newArray(long[].class, 8, AllocationTracker.empty());
+        var nodeFilter = new BitSet(8);
+        vectors.set(0, new long[]{4});
+        vectors.set(1, new long[]{4, 5, 6, 7});
+        vectors.set(2, new long[]{4, 5});
+        nodeFilter.set(0, 3);
+
+        // node 0 and node 1 can be at most 1/4 similar
+        var index = InvertedIndex.of(vectors, nodeFilter, 0.5, true, AllocationTracker.empty());
+
+        assertThat(index.candidates(0, -1)).containsExactly(2);
+        assertThat(index.candidates(1, -1)).containsExactly(2);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+
+class MinHashIndexTest {
+
+    @Test
+    void shouldFindIdenticalNeighborhoods() {
+        var vectors = HugeObjectArray.newArray(long[].class, 3, AllocationTracker.empty());
+        var nodeFilter = new BitSet(3);
+        vectors.set(0, new long[]{10, 11, 12});
+        vectors.set(1, new long[]{20, 21});
+        vectors.set(2, new long[]{10, 11, 12});
+        nodeFilter.set(0, 3);
+
+        var index = MinHashIndex.of(vectors, null, nodeFilter, 32, 8, 1, Pools.DEFAULT, AllocationTracker.empty());
+
+        assertThat(index.candidates(0, -1)).containsExactly(2);
+        assertThat(index.candidates(0, 0)).containsExactly(2);
+        assertThat(index.candidates(2, 2)).isEmpty();
+        assertThat(index.estimateSimilarity(0, 2)).isEqualTo(1.0);
+        // disjoint neighborhoods never share a MinHash value
+        assertThat(index.estimateSimilarity(0, 1)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldNotIndexEmptyNeighborhoods() {
+        var vectors = HugeObjectArray.newArray(long[].class, 2, AllocationTracker.empty());
+        var nodeFilter = new BitSet(2);
+        vectors.set(0, new long[0]);
+        vectors.set(1, new long[0]);
+        nodeFilter.set(0, 2);
+
+        var index = MinHashIndex.of(vectors, null, nodeFilter, 4, 2, 1, Pools.DEFAULT, AllocationTracker.empty());
+
+        assertThat(index.candidates(0, -1)).isEmpty();
+        assertThat(index.estimateSimilarity(0, 1)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldEstimateJaccardSimilarity() {
+        var vectors = HugeObjectArray.newArray(long[].class, 2, AllocationTracker.empty());
+        var nodeFilter = new BitSet(2);
+        // 100 common out of 300 items
+        vectors.set(0, LongStream.range(0, 200).toArray());
+        vectors.set(1, LongStream.range(100, 300).toArray());
+        nodeFilter.set(0, 2);
+
+        var index = MinHashIndex.of(vectors, null, nodeFilter, 512, 512, 4, Pools.DEFAULT, AllocationTracker.empty());
+
+        assertThat(index.estimateSimilarity(0, 1)).isCloseTo(1.0 / 3, within(0.1));
+        assertThat(index.candidates(0, -1)).containsExactly(1);
+    }
+
+    @Test
+    void shouldEstimateWeightedJaccardSimilarity() {
+        var vectors = HugeObjectArray.newArray(long[].class, 3, AllocationTracker.empty());
+        var weights = HugeObjectArray.newArray(double[].class, 3, AllocationTracker.empty());
+        var nodeFilter = new BitSet(3);
+        var items = LongStream.range(0, 100).toArray();
+        var weights0 = new double[100];
+        var weights1 = new double[100];
+        for (int i = 0; i < 100; i++) {
+            weights0[i] = 1.0;
+            weights1[i] = 3.0;
+        }
+        vectors.set(0, items);
+        vectors.set(1, items);
+        vectors.set(2, items);
+        weights.set(0, weights0);
+        weights.set(1, weights1);
+        weights.set(2, weights0.clone());
+        nodeFilter.set(0, 3);
+
+        var index = MinHashIndex.of(vectors, weights, nodeFilter, 512, 64, 4, Pools.DEFAULT, AllocationTracker.empty());
+
+        assertThat(index.estimateSimilarity(0, 2)).isEqualTo(1.0);
+        // the weighted Jaccard similarity is 100 / 300
+        assertThat(index.estimateSimilarity(0, 1)).isCloseTo(1.0 / 3, within(0.1));
+    }
+
+    @Test
+    void shouldHashNeighborhoodsFromGraph() {
+        // the parallel relationship of a is skipped, like it is when the neighborhoods are materialized
+        var graph = fromGdl(
+            "(a)-->(i1), (a)-->(i1), (a)-->(i2), (b)-->(i1), (b)-->(i2), (c)-->(i3), (d)-->(i1)"
+        );
+        var a = graph.toMappedNodeId("a");
+        var b = graph.toMappedNodeId("b");
+        var c = graph.toMappedNodeId("c");
+        var nodeFilter = new BitSet(graph.nodeCount());
+        nodeFilter.set(a);
+        nodeFilter.set(b);
+        nodeFilter.set(c);
+
+        var index = MinHashIndex.of(graph, false, nodeFilter, 32, 8, 4, Pools.DEFAULT, AllocationTracker.empty());
+
+        assertThat(index.estimateSimilarity(a, b)).isEqualTo(1.0);
+        assertThat(index.estimateSimilarity(a, c)).isEqualTo(0.0);
+        assertThat(index.candidates(a, -1)).containsExactly(b);
+        // d is not part of the node filter
+        assertThat(index.estimateSimilarity(a, graph.toMappedNodeId("d"))).isEqualTo(0.0);
+    }
+}
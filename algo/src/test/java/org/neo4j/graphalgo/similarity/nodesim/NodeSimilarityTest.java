@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.similarity.nodesim;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -50,12 +51,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -427,6 +430,122 @@ final class NodeSimilarityTest {
         );
     }
 
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeSameResultsWithInvertedIndex(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        List<UnaryOperator<ImmutableNodeSimilarityWriteConfig.Builder>> configurations = List.of(
+            builder -> builder,
+            builder -> builder.topK(1),
+            builder -> builder.topN(1),
+            builder -> builder.topK(1).topN(1),
+            builder -> builder.topK(10).bottomK(1),
+            builder -> builder.similarityCutoff(0.5),
+            builder -> builder.relationshipWeightProperty("prop")
+        );
+
+        for (var configuration : configurations) {
+            var config = configuration.apply(configBuilder().similarityCutoff(0.1).concurrency(concurrency));
+
+            Set<String> expected = computeResultStrings(graph, config.build());
+            Set<String> actual = computeResultStrings(graph, config.useInvertedIndex(true).build());
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldFindAllPairsWithVerifiedMinHashCandidates(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        List<UnaryOperator<ImmutableNodeSimilarityWriteConfig.Builder>> configurations = List.of(
+            builder -> builder,
+            builder -> builder.topK(1),
+            builder -> builder.topK(1).topN(1),
+            builder -> builder.relationshipWeightProperty("prop")
+        );
+
+        for (var configuration : configurations) {
+            var config = configuration.apply(configBuilder().similarityCutoff(0.1).concurrency(concurrency));
+
+            Set<String> expected = computeResultStrings(graph, config.build());
+            // with one row per band, a pair becomes a candidate as soon as one MinHash value matches
+            Set<String> actual = computeResultStrings(
+                graph,
+                config.minHashSignatures(128).minHashBands(128).build()
+            );
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldComputeTopKWithWorkStealing(Orientation orientation, int concurrency) {
+        Graph graph = orientation == NATURAL ? naturalGraph : reverseGraph;
+
+        var config = configBuilder().topK(1).concurrency(concurrency);
+
+        Set<String> expected = computeResultStrings(graph, config.build());
+        Set<String> actual = computeResultStrings(graph, config.workStealing(true).build());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldEstimateSimilaritiesFromMinHashSignatures() {
+        var config = configBuilder()
+            .topK(100)
+            .minHashSignatures(128)
+            .minHashBands(128)
+            .verifyCandidates(false)
+            .concurrency(1)
+            .build();
+
+        var nodeSimilarity = new NodeSimilarity(
+            naturalGraph,
+            config,
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+
+        var results = nodeSimilarity.computeToStream().collect(Collectors.toList());
+
+        assertFalse(results.isEmpty());
+        for (var result : results) {
+            assertTrue(result.similarity > 0.0 && result.similarity <= 1.0);
+        }
+        // identical neighborhoods have identical signatures
+        assertTrue(results.stream().anyMatch(result -> result.similarity == 1.0));
+    }
+
+    @Test
+    void shouldRejectMinHashSignaturesThatAreNoMultipleOfBands() {
+        var exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> configBuilder().minHashSignatures(10).minHashBands(4).build()
+        );
+        assertThat(exception.getMessage(), containsString("must be a multiple of the number of bands"));
+    }
+
+    private static Set<String> computeResultStrings(Graph graph, NodeSimilarityBaseConfig config) {
+        NodeSimilarity nodeSimilarity = new NodeSimilarity(
+            graph,
+            config,
+            Pools.DEFAULT,
+            ProgressLogger.NULL_LOGGER,
+            AllocationTracker.empty()
+        );
+
+        return nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+    }
+
     @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
     @MethodSource("supportedLoadAndComputeDirections")
     void shouldComputeWithDegreeCutoffForSupportedDirections(Orientation orientation, int concurrency) {
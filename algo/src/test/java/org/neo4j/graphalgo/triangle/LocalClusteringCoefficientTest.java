@@ -81,6 +81,27 @@ class LocalClusteringCoefficientTest {
         }
     }
 
+    @ValueSource(ints = {1, 4})
+    @ParameterizedTest
+    void independentTrianglesWithWorkStealing(int concurrency) {
+        StringBuilder gdl = new StringBuilder("CREATE ");
+        for (int i = 0; i < 100; ++i) {
+            gdl.append(formatWithLocale("(a%d)-[:T]->()-[:T]->()-[:T]->(a%d) ", i, i));
+        }
+
+        LocalClusteringCoefficient.Result result = new LocalClusteringCoefficient(
+            fromGdl(gdl.toString(), UNDIRECTED),
+            createConfig().concurrency(concurrency).workStealing(true).build(),
+            AllocationTracker.empty(),
+            ProgressLogger.NULL_LOGGER
+        ).compute();
+
+        assertEquals(1, result.averageClusteringCoefficient());
+        for (int i = 0; i < result.localClusteringCoefficients().size(); ++i) {
+            assertEquals(1.0, result.localClusteringCoefficients().get(i));
+        }
+    }
+
     @Test
     void clique5() {
         var graph = fromGdl(
@@ -26,6 +26,8 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.concurrency.Pools;
@@ -102,6 +104,32 @@ class WccTest {
         });
     }
 
+    @ParameterizedTest(name = "orientation = {0}")
+    @EnumSource(Orientation.class)
+    void shouldComputeSameComponentsWithSampling(Orientation orientation) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(orientation)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        DisjointSetStruct expected = run(graph, ImmutableWccStreamConfig.builder().concurrency(4).build(), 4);
+        DisjointSetStruct actual = run(graph, ImmutableWccStreamConfig.builder().concurrency(4).sampling(true).build(), 4);
+
+        assertEquals(getSetCount(expected), getSetCount(actual));
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                assertEquals(actual.setIdOf(source), actual.setIdOf(target));
+                return true;
+            });
+            return true;
+        });
+    }
+
     @Test
     void shouldLogProgress() {
         var graph = createTestGraph(Orientation.NATURAL);
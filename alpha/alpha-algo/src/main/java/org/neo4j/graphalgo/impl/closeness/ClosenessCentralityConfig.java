@@ -25,11 +25,15 @@ import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
+import org.neo4j.graphalgo.impl.msbfs.WideMultiSourceBFS;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 
 import java.util.Optional;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -48,6 +52,23 @@ public interface ClosenessCentralityConfig extends
         return "centrality";
     }
 
+    @Value.Default
+    @Configuration.IntegerRange(min = MultiSourceBFS.OMEGA, max = WideMultiSourceBFS.MAX_OMEGA)
+    default int sourcesPerPass() {
+        return MultiSourceBFS.OMEGA;
+    }
+
+    @Value.Check
+    default void validateSourcesPerPass() {
+        if (sourcesPerPass() % MultiSourceBFS.OMEGA != 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter `sourcesPerPass` must be a multiple of %d, but was %d.",
+                MultiSourceBFS.OMEGA,
+                sourcesPerPass()
+            ));
+        }
+    }
+
     static ClosenessCentralityConfig of(
         Optional<String> graphName,
         Optional<GraphCreateConfig> implicitCreateConfig,
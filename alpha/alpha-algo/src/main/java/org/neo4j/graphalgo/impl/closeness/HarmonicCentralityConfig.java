@@ -27,9 +27,13 @@ import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
+import org.neo4j.graphalgo.impl.msbfs.WideMultiSourceBFS;
 
 import java.util.Optional;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
@@ -43,6 +47,23 @@ public interface HarmonicCentralityConfig extends
         return "centrality";
     }
 
+    @Value.Default
+    @Configuration.IntegerRange(min = MultiSourceBFS.OMEGA, max = WideMultiSourceBFS.MAX_OMEGA)
+    default int sourcesPerPass() {
+        return MultiSourceBFS.OMEGA;
+    }
+
+    @Value.Check
+    default void validateSourcesPerPass() {
+        if (sourcesPerPass() % MultiSourceBFS.OMEGA != 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Configuration parameter `sourcesPerPass` must be a multiple of %d, but was %d.",
+                MultiSourceBFS.OMEGA,
+                sourcesPerPass()
+            ));
+        }
+    }
+
     static HarmonicCentralityConfig of(
         Optional<String> graphName,
         Optional<GraphCreateConfig> implicitCreateConfig,
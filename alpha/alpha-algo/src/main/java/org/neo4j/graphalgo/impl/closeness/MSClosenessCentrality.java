@@ -29,6 +29,7 @@ import org.neo4j.graphalgo.core.utils.paged.PagedAtomicIntegerArray;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
 import org.neo4j.graphalgo.impl.msbfs.BfsConsumer;
 import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
+import org.neo4j.graphalgo.impl.msbfs.WideMultiSourceBFS;
 
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
@@ -47,6 +48,7 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
     private PagedAtomicIntegerArray component;
 
     private final int concurrency;
+    private final int sourcesPerPass;
     private final ExecutorService executorService;
     private final long nodeCount;
     private final AllocationTracker tracker;
@@ -58,9 +60,19 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
             AllocationTracker tracker,
             int concurrency,
             ExecutorService executorService, boolean wassermanFaust) {
+        this(graph, tracker, concurrency, MultiSourceBFS.OMEGA, executorService, wassermanFaust);
+    }
+
+    public MSClosenessCentrality(
+            Graph graph,
+            AllocationTracker tracker,
+            int concurrency,
+            int sourcesPerPass,
+            ExecutorService executorService, boolean wassermanFaust) {
         this.graph = graph;
         nodeCount = graph.nodeCount();
         this.concurrency = concurrency;
+        this.sourcesPerPass = sourcesPerPass;
         this.executorService = executorService;
         this.tracker = tracker;
         this.wassermanFaust = wassermanFaust;
@@ -120,9 +132,15 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
             progressLogger.logProgress((double) nodeId / (nodeCount - 1));
         };
 
-        MultiSourceBFS
-            .aggregatedNeighborProcessing(graph, graph, consumer, tracker)
-            .run(concurrency, executorService);
+        if (sourcesPerPass == MultiSourceBFS.OMEGA) {
+            MultiSourceBFS
+                .aggregatedNeighborProcessing(graph, graph, consumer, tracker)
+                .run(concurrency, executorService);
+        } else {
+            WideMultiSourceBFS
+                .aggregatedNeighborProcessing(graph, consumer, sourcesPerPass, tracker)
+                .run(concurrency, executorService);
+        }
 
         return this;
     }
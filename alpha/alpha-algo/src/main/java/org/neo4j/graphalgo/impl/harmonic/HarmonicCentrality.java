@@ -25,12 +25,14 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.impl.msbfs.BfsConsumer;
 import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
+import org.neo4j.graphalgo.impl.msbfs.WideMultiSourceBFS;
 
 import java.util.concurrent.ExecutorService;
 
 public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCentrality> {
 
     private final int concurrency;
+    private final int sourcesPerPass;
     private final long nodeCount;
     private final AllocationTracker allocationTracker;
     private final ExecutorService executorService;
@@ -43,10 +45,21 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
         AllocationTracker allocationTracker,
         int concurrency,
         ExecutorService executorService
+    ) {
+        this(graph, allocationTracker, concurrency, MultiSourceBFS.OMEGA, executorService);
+    }
+
+    public HarmonicCentrality(
+        Graph graph,
+        AllocationTracker allocationTracker,
+        int concurrency,
+        int sourcesPerPass,
+        ExecutorService executorService
     ) {
         this.graph = graph;
         this.allocationTracker = allocationTracker;
         this.concurrency = concurrency;
+        this.sourcesPerPass = sourcesPerPass;
         this.executorService = executorService;
         inverseFarness = HugeAtomicDoubleArray.newArray(graph.nodeCount(), allocationTracker);
         this.nodeCount = graph.nodeCount();
@@ -59,12 +72,21 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
             inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
         };
 
-        MultiSourceBFS.aggregatedNeighborProcessing(
-            graph,
-            graph,
-            consumer,
-            allocationTracker
-        ).run(concurrency, executorService);
+        if (sourcesPerPass == MultiSourceBFS.OMEGA) {
+            MultiSourceBFS.aggregatedNeighborProcessing(
+                graph,
+                graph,
+                consumer,
+                allocationTracker
+            ).run(concurrency, executorService);
+        } else {
+            WideMultiSourceBFS.aggregatedNeighborProcessing(
+                graph,
+                consumer,
+                sourcesPerPass,
+                allocationTracker
+            ).run(concurrency, executorService);
+        }
 
         return this;
     }
@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.msbfs;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.utils.CloseableThreadLocal;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi Source Breadth First Search with a configurable {@code ω}.
+ * <p>
+ * This is a variant of {@link MultiSourceBFS} using the Aggregated Neighbor Processing
+ * strategy where the seen/visit/visitNext bit sets of a node are stored as
+ * {@code ω / 64} consecutive longs (lanes) instead of a single long.
+ * Supported values for {@code ω} are multiples of 64 up to {@link #MAX_OMEGA}, callers are expected to validate it.
+ * A wider {@code ω} reduces the number of full graph traversals that are needed to
+ * process all sources and amortizes the adjacency decoding over more sources,
+ * at the cost of {@code ω / 64} times more memory per thread.
+ * <p>
+ * On undirected graphs, every BFS level is executed either top-down (the frontier pushes
+ * its bits to all neighbours) or bottom-up (every not yet fully discovered node pulls the
+ * bits from its neighbours and stops as soon as all sources have reached it).
+ * The direction is chosen per level using the heuristic described in [1]:
+ * switch to bottom-up once the edges to check from the frontier exceed the unexplored
+ * edges divided by {@link #ALPHA}, and back to top-down once the frontier becomes smaller
+ * than the node count divided by {@link #BETA}.
+ * Directed graphs are always traversed top-down, as bottom-up would require
+ * the incoming relationships.
+ * <p>
+ * The callback contract is the same as for {@link MultiSourceBFS}: the callback may be
+ * executed from multiple threads at the same time and the sources iterator is only valid
+ * during the execution of the callback.
+ * <p>
+ * [1]: <a href="https://parlab.eecs.berkeley.edu/sites/all/parlab/files/main.pdf">Direction-Optimizing Breadth-First Search</a>
+ */
+public final class WideMultiSourceBFS implements Runnable {
+
+    public static final int MAX_OMEGA = 8 * MultiSourceBFS.OMEGA;
+
+    static final int ALPHA = 14;
+    static final int BETA = 24;
+
+    private final Graph graph;
+    private final BfsConsumer perNodeAction;
+    private final int lanes;
+    private final long nodeCount;
+    private final boolean directionOptimizing;
+    private final long[] startNodes;
+    private final long sourceOffset;
+    private final int sourceCount;
+
+    private final CloseableThreadLocal<HugeLongArray> visits;
+    private final CloseableThreadLocal<HugeLongArray> visitsNext;
+    private final CloseableThreadLocal<HugeLongArray> seens;
+
+    public static WideMultiSourceBFS aggregatedNeighborProcessing(
+        Graph graph,
+        BfsConsumer perNodeAction,
+        int omega,
+        AllocationTracker tracker,
+        long... startNodes
+    ) {
+        return new WideMultiSourceBFS(graph, perNodeAction, omega / MultiSourceBFS.OMEGA, tracker, startNodes);
+    }
+
+    private WideMultiSourceBFS(
+        Graph graph,
+        BfsConsumer perNodeAction,
+        int lanes,
+        AllocationTracker tracker,
+        long... startNodes
+    ) {
+        this.graph = graph;
+        this.perNodeAction = perNodeAction;
+        this.lanes = lanes;
+        this.nodeCount = graph.nodeCount();
+        this.directionOptimizing = graph.isUndirected();
+        if (startNodes != null && startNodes.length > 0) {
+            // sort a copy, the array of the caller must stay untouched
+            this.startNodes = Arrays.copyOf(startNodes, startNodes.length);
+            Arrays.sort(this.startNodes);
+        } else {
+            this.startNodes = null;
+        }
+        this.sourceOffset = 0L;
+        this.sourceCount = 0;
+        this.visits = new LocalHugeLongArray(nodeCount * lanes, tracker);
+        this.visitsNext = new LocalHugeLongArray(nodeCount * lanes, tracker);
+        this.seens = new LocalHugeLongArray(nodeCount * lanes, tracker);
+    }
+
+    private WideMultiSourceBFS(
+        WideMultiSourceBFS parent,
+        long[] startNodes,
+        long sourceOffset,
+        int sourceCount
+    ) {
+        this.graph = parent.graph.concurrentCopy();
+        this.perNodeAction = parent.perNodeAction;
+        this.lanes = parent.lanes;
+        this.nodeCount = parent.nodeCount;
+        this.directionOptimizing = parent.directionOptimizing;
+        this.startNodes = startNodes;
+        this.sourceOffset = sourceOffset;
+        this.sourceCount = sourceCount;
+        this.visits = parent.visits;
+        this.visitsNext = parent.visitsNext;
+        this.seens = parent.seens;
+    }
+
+    /**
+     * Runs MS-BFS, possibly in parallel.
+     */
+    public void run(int concurrency, ExecutorService executor) {
+        long sourceLength = startNodes != null ? startNodes.length : nodeCount;
+        if (sourceLength == 0L) {
+            return;
+        }
+        long passes = ParallelUtil.threadCount(omega(), sourceLength);
+        if ((int) passes != passes) {
+            throw new IllegalArgumentException("Unable run MS-BFS on " + sourceLength + " sources.");
+        }
+        if (!ParallelUtil.canRunInParallel(executor)) {
+            // fallback to sequentially running all MS-BFS instances
+            executor = null;
+        }
+        ParallelUtil.runWithConcurrency(
+            concurrency,
+            new Passes((int) passes, sourceLength),
+            (int) passes << 2,
+            100L,
+            TimeUnit.MICROSECONDS,
+            executor
+        );
+    }
+
+    /**
+     * Runs a single pass of at most {@code ω} sources.
+     * Must only be called on the instances created by {@link #run(int, ExecutorService)}.
+     */
+    @Override
+    public void run() {
+        assert sourceCount > 0 && sourceCount <= omega() : "between 1 and " + omega() + " sources are supported";
+
+        int lanes = this.lanes;
+        HugeLongArray visitSet = visits.get();
+        HugeLongArray visitNextSet = visitsNext.get();
+        HugeLongArray seenSet = seens.get();
+
+        long[] allSources = new long[lanes];
+        WideSourceNodes sourceNodes = new WideSourceNodes(lanes, startNodes, sourceOffset);
+
+        long frontierSize = 0L;
+        long frontierEdges = 0L;
+        for (int i = 0; i < sourceCount; i++) {
+            long nodeId = sourceNode(i);
+            long index = nodeId * lanes + (i >>> 6);
+            long bit = 1L << (i & 63);
+            if (isEmpty(visitSet, nodeId)) {
+                frontierSize++;
+                frontierEdges += graph.degree(nodeId);
+            }
+            seenSet.or(index, bit);
+            visitSet.or(index, bit);
+            allSources[i >>> 6] |= bit;
+        }
+
+        long unexploredEdges = graph.relationshipCount();
+        boolean bottomUp = false;
+        int depth = 0;
+
+        while (true) {
+            if (directionOptimizing) {
+                if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                    bottomUp = true;
+                } else if (bottomUp && frontierSize < nodeCount / BETA) {
+                    bottomUp = false;
+                }
+            }
+
+            if (bottomUp) {
+                bottomUpStep(visitSet, visitNextSet, seenSet, allSources);
+            } else {
+                topDownStep(visitSet, visitNextSet);
+            }
+
+            ++depth;
+
+            frontierSize = 0L;
+            frontierEdges = 0L;
+            long[] next = sourceNodes.masks;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                long base = nodeId * lanes;
+                boolean discovered = false;
+                boolean wasComplete = true;
+                boolean isComplete = true;
+                for (int lane = 0; lane < lanes; lane++) {
+                    long seen = seenSet.get(base + lane);
+                    long nextVisit = visitNextSet.get(base + lane) & ~seen;
+                    visitNextSet.set(base + lane, nextVisit);
+                    if (nextVisit != 0L) {
+                        seenSet.set(base + lane, seen | nextVisit);
+                        discovered = true;
+                    }
+                    next[lane] = nextVisit;
+                    wasComplete &= seen == allSources[lane];
+                    isComplete &= (seen | nextVisit) == allSources[lane];
+                }
+                if (discovered) {
+                    int degree = graph.degree(nodeId);
+                    frontierSize++;
+                    frontierEdges += degree;
+                    if (!wasComplete && isComplete) {
+                        unexploredEdges -= degree;
+                    }
+                    sourceNodes.reset(next);
+                    perNodeAction.accept(nodeId, depth, sourceNodes);
+                }
+            }
+
+            if (frontierSize == 0L) {
+                return;
+            }
+
+            HugeLongArray tmp = visitSet;
+            visitSet = visitNextSet;
+            visitNextSet = tmp;
+            visitNextSet.fill(0L);
+        }
+    }
+
+    private void topDownStep(HugeLongArray visitSet, HugeLongArray visitNextSet) {
+        int lanes = this.lanes;
+        long[] nodeVisit = new long[lanes];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long base = nodeId * lanes;
+            boolean active = false;
+            for (int lane = 0; lane < lanes; lane++) {
+                nodeVisit[lane] = visitSet.get(base + lane);
+                active |= nodeVisit[lane] != 0L;
+            }
+            if (active) {
+                graph.forEachRelationship(nodeId, (src, tgt) -> {
+                    long targetBase = tgt * lanes;
+                    for (int lane = 0; lane < lanes; lane++) {
+                        if (nodeVisit[lane] != 0L) {
+                            visitNextSet.or(targetBase + lane, nodeVisit[lane]);
+                        }
+                    }
+                    return true;
+                });
+            }
+        }
+    }
+
+    private void bottomUpStep(
+        HugeLongArray visitSet,
+        HugeLongArray visitNextSet,
+        HugeLongArray seenSet,
+        long[] allSources
+    ) {
+        int lanes = this.lanes;
+        long[] missing = new long[lanes];
+        long[] found = new long[lanes];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long base = nodeId * lanes;
+            boolean incomplete = false;
+            for (int lane = 0; lane < lanes; lane++) {
+                missing[lane] = allSources[lane] & ~seenSet.get(base + lane);
+                found[lane] = 0L;
+                incomplete |= missing[lane] != 0L;
+            }
+            if (!incomplete) {
+                continue;
+            }
+            graph.forEachRelationship(nodeId, (src, tgt) -> {
+                long targetBase = tgt * lanes;
+                boolean done = true;
+                for (int lane = 0; lane < lanes; lane++) {
+                    if (missing[lane] != 0L) {
+                        long visit = visitSet.get(targetBase + lane) & missing[lane];
+                        found[lane] |= visit;
+                        missing[lane] &= ~visit;
+                        done &= missing[lane] == 0L;
+                    }
+                }
+                // stop scanning as soon as every source has reached this node
+                return !done;
+            });
+            for (int lane = 0; lane < lanes; lane++) {
+                if (found[lane] != 0L) {
+                    visitNextSet.set(base + lane, found[lane]);
+                }
+            }
+        }
+    }
+
+    private boolean isEmpty(HugeLongArray set, long nodeId) {
+        long base = nodeId * lanes;
+        for (int lane = 0; lane < lanes; lane++) {
+            if (set.get(base + lane) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long sourceNode(int index) {
+        return startNodes != null ? startNodes[index] : sourceOffset + index;
+    }
+
+    private int omega() {
+        return lanes * MultiSourceBFS.OMEGA;
+    }
+
+    @Override
+    public String toString() {
+        return "WideMSBFS{" + sourceNode(0) +
+               " .. " + (sourceNode(sourceCount - 1) + 1) +
+               " (" + sourceCount +
+               ")}";
+    }
+
+    static final class WideSourceNodes implements BfsSources {
+        private final long[] masks;
+        private final long[] remaining;
+        private final long[] sourceNodes;
+        private final long offset;
+        private int lane;
+        private int size;
+
+        private WideSourceNodes(int lanes, long[] sourceNodes, long offset) {
+            this.masks = new long[lanes];
+            this.remaining = new long[lanes];
+            this.sourceNodes = sourceNodes;
+            this.offset = offset;
+        }
+
+        void reset(long[] masks) {
+            if (masks != this.masks) {
+                System.arraycopy(masks, 0, this.masks, 0, this.masks.length);
+            }
+            int size = 0;
+            for (long mask : this.masks) {
+                size += Long.bitCount(mask);
+            }
+            this.size = size;
+            reset();
+        }
+
+        @Override
+        public void reset() {
+            System.arraycopy(masks, 0, remaining, 0, masks.length);
+            lane = 0;
+            skipEmptyLanes();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lane < remaining.length;
+        }
+
+        @Override
+        public long next() {
+            long mask = remaining[lane];
+            int position = (lane << 6) + Long.numberOfTrailingZeros(mask);
+            remaining[lane] = mask ^ Long.lowestOneBit(mask);
+            skipEmptyLanes();
+            return sourceNodes != null ? sourceNodes[position] : offset + position;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private void skipEmptyLanes() {
+            while (lane < remaining.length && remaining[lane] == 0L) {
+                lane++;
+            }
+        }
+    }
+
+    // lazily creates MS-BFS instances for ω sized source chunks
+    private final class Passes extends AbstractCollection<WideMultiSourceBFS> implements Iterator<WideMultiSourceBFS> {
+        private final int passes;
+        private final long sourceLength;
+        private long start = 0L;
+        private int i = 0;
+
+        private Passes(int passes, long sourceLength) {
+            this.passes = passes;
+            this.sourceLength = sourceLength;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return i < passes;
+        }
+
+        @Override
+        public int size() {
+            return passes;
+        }
+
+        @Override
+        public Iterator<WideMultiSourceBFS> iterator() {
+            start = 0L;
+            i = 0;
+            return this;
+        }
+
+        @Override
+        public WideMultiSourceBFS next() {
+            int length = (int) Math.min(omega(), sourceLength - start);
+            WideMultiSourceBFS bfs = startNodes != null
+                ? new WideMultiSourceBFS(
+                    WideMultiSourceBFS.this,
+                    Arrays.copyOfRange(startNodes, (int) start, (int) start + length),
+                    0L,
+                    length
+                )
+                : new WideMultiSourceBFS(WideMultiSourceBFS.this, null, start, length);
+            start += length;
+            i++;
+            return bfs;
+        }
+    }
+
+    private static final class LocalHugeLongArray extends CloseableThreadLocal<HugeLongArray> {
+        private final long size;
+        private final AllocationTracker tracker;
+
+        private LocalHugeLongArray(final long size, final AllocationTracker tracker) {
+            this.size = size;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected HugeLongArray initialValue() {
+            return HugeLongArray.newArray(size, tracker);
+        }
+
+        @Override
+        public HugeLongArray get() {
+            HugeLongArray values = super.get();
+            values.fill(0L);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.msbfs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.beta.generator.RandomGraphGenerator;
+import org.neo4j.graphalgo.beta.generator.RelationshipDistribution;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.graphalgo.TestSupport.crossArguments;
+import static org.neo4j.graphalgo.TestSupport.toArguments;
+
+class WideMultiSourceBFSTest {
+
+    static Stream<Arguments> omegaAndOrientation() {
+        return crossArguments(
+            toArguments(() -> Stream.of(128, 256, 512)),
+            toArguments(() -> Stream.of(Orientation.NATURAL, Orientation.UNDIRECTED))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("omegaAndOrientation")
+    void shouldProduceSameTraversalAsMultiSourceBFS(int omega, Orientation orientation) {
+        Graph graph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+
+        Map<Long, Integer> expected = new ConcurrentHashMap<>();
+        MultiSourceBFS
+            .aggregatedNeighborProcessing(graph, graph, recordingConsumer(graph, expected), AllocationTracker.empty())
+            .run(4, Pools.DEFAULT);
+
+        Map<Long, Integer> actual = new ConcurrentHashMap<>();
+        WideMultiSourceBFS
+            .aggregatedNeighborProcessing(graph, recordingConsumer(graph, actual), omega, AllocationTracker.empty())
+            .run(4, Pools.DEFAULT);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldTraverseFromSpecifiedStartNodes() {
+        Graph graph = RandomGraphGenerator.builder()
+            .nodeCount(300)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .orientation(Orientation.UNDIRECTED)
+            .seed(1337L)
+            .build()
+            .generate();
+
+        long[] startNodes = {299, 7, 150, 42};
+
+        Map<Long, Integer> expected = new ConcurrentHashMap<>();
+        MultiSourceBFS
+            .aggregatedNeighborProcessing(graph, graph, recordingConsumer(graph, expected), AllocationTracker.empty(), startNodes.clone())
+            .run(1, Pools.DEFAULT);
+
+        Map<Long, Integer> actual = new ConcurrentHashMap<>();
+        WideMultiSourceBFS
+            .aggregatedNeighborProcessing(graph, recordingConsumer(graph, actual), 128, AllocationTracker.empty(), startNodes)
+            .run(1, Pools.DEFAULT);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(startNodes).containsExactly(299, 7, 150, 42);
+    }
+
+    private static BfsConsumer recordingConsumer(Graph graph, Map<Long, Integer> distances) {
+        long nodeCount = graph.nodeCount();
+        return (nodeId, depth, sources) -> {
+            assertThat(sources.size()).isGreaterThan(0);
+            while (sources.hasNext()) {
+                Integer previous = distances.put(sources.next() * nodeCount + nodeId, depth);
+                assertThat(previous).isNull();
+            }
+        };
+    }
+}
@@ -19,29 +19,19 @@
  */
 package org.neo4j.gds.embeddings.node2vec;
 
-import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeAliasTable;
 
 import java.util.concurrent.ThreadLocalRandom;
 
 public class NegativeSampleProducer {
 
-    private final HugeLongArray contextNodeDistribution;
-    private final long cumulativeProbability;
+    private final HugeAliasTable contextNodeDistribution;
 
-    public NegativeSampleProducer(
-        HugeLongArray contextNodeDistribution
-    ) {
+    public NegativeSampleProducer(HugeAliasTable contextNodeDistribution) {
         this.contextNodeDistribution = contextNodeDistribution;
-        this.cumulativeProbability = contextNodeDistribution.get(contextNodeDistribution.size() - 1);
     }
 
     public long nextSample() {
-        long index = contextNodeDistribution.binarySearch(ThreadLocalRandom.current().nextLong(cumulativeProbability));
-
-        if (index < contextNodeDistribution.size() - 1) {
-            index++;
-        }
-
-        return index;
+        return contextNodeDistribution.sample(ThreadLocalRandom.current().nextDouble());
     }
 }
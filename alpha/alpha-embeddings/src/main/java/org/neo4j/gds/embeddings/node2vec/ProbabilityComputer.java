@@ -21,9 +21,9 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAliasTable;
 import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 
 import java.util.stream.LongStream;
@@ -41,7 +41,7 @@ public class ProbabilityComputer {
 
     private HugeAtomicLongArray nodeFrequencies;
     private HugeDoubleArray centerProbabilities;
-    private HugeLongArray contextDistribution;
+    private HugeAliasTable contextDistribution;
 
     public ProbabilityComputer(
         HugeObjectArray<long[]> walks,
@@ -67,7 +67,7 @@ public class ProbabilityComputer {
         return centerProbabilities;
     }
 
-    HugeLongArray getContextNodeDistribution() {
+    HugeAliasTable getContextNodeDistribution() {
         return contextDistribution;
     }
 
@@ -107,13 +107,12 @@ public class ProbabilityComputer {
     }
 
     private void computeContextDistribution() {
-        contextDistribution = HugeLongArray.newArray(nodeCount, tracker);
-        long sum = 0;
-        for (var i = 0L; i < nodeCount; i++) {
-            sum += Math.pow(nodeFrequencies.get(i), contextSamplingExponent);
-            sum = addExact(sum, (long) Math.pow(nodeFrequencies.get(i), contextSamplingExponent));
-            contextDistribution.set(i, sum);
-        }
+        contextDistribution = HugeAliasTable.of(
+            nodeCount,
+            nodeId -> Math.pow(nodeFrequencies.get(nodeId), contextSamplingExponent),
+            concurrency,
+            tracker
+        );
     }
 
 }
@@ -130,6 +130,7 @@ public class ClosenessCentralityProc extends AlgoBaseProc<MSClosenessCentrality,
                 graph,
                 tracker,
                 configuration.concurrency(),
+                configuration.sourcesPerPass(),
                 Pools.DEFAULT, configuration.improved()
             );
     }
@@ -130,6 +130,7 @@ public class HarmonicCentralityProc extends AlgoBaseProc<HarmonicCentrality, Har
                 graph,
                 tracker,
                 configuration.concurrency(),
+                configuration.sourcesPerPass(),
                 Pools.DEFAULT
             );
     }
@@ -68,6 +68,11 @@ public class NullGraphStore implements GraphStore {
         throw new NullGraphException();
     }
 
+    @Override
+    public ZonedDateTime creationTime() {
+        return ZonedDateTime.now();
+    }
+
     @Override
     public ZonedDateTime modificationTime() {
         return ZonedDateTime.now();
@@ -143,6 +148,11 @@ public class NullGraphStore implements GraphStore {
         return 0;
     }
 
+    @Override
+    public Relationships.Topology relationshipTopology(RelationshipType relationshipType) {
+        throw new NullGraphException();
+    }
+
     @Override
     public Set<RelationshipType> relationshipTypes() {
         return Set.of();
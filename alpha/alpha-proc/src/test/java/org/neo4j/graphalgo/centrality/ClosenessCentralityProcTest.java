@@ -128,6 +128,16 @@ class ClosenessCentralityProcTest extends BaseProcTest {
         verifyMock();
     }
 
+    @Test
+    void failOnSourcesPerPassThatIsNoMultipleOf64() {
+        String query = gdsCypher()
+            .streamMode()
+            .addParameter("sourcesPerPass", 96)
+            .yields();
+
+        assertError(query, "Configuration parameter `sourcesPerPass` must be a multiple of 64, but was 96.");
+    }
+
     private GdsCypher.ModeBuildStage gdsCypher() {
         return GdsCypher.call()
             .withAnyLabel()
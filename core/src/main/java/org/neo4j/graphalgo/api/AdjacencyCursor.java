@@ -84,6 +84,21 @@ public interface AdjacencyCursor extends AutoCloseable {
      */
     long advance(long nodeId);
 
+    /**
+     * Skip the next {@code count} target ids and decode the target id after them.
+     * Returns {@link #NOT_FOUND} if there are not more than {@code count} targets left,
+     * in which case the cursor is not moved.
+     */
+    default long advanceBy(int count) {
+        if (count < 0 || count >= remaining()) {
+            return NOT_FOUND;
+        }
+        for (int i = 0; i < count; i++) {
+            nextVLong();
+        }
+        return nextVLong();
+    }
+
     /**
      * Copies internal states from {@code sourceCursor} into {@code this} cursor.
      * If the types don't match, the behavior is undefined.
@@ -97,6 +97,11 @@ public abstract class FilterGraph implements Graph {
         return graph.toOriginalNodeId(nodeId);
     }
 
+    @Override
+    public void toOriginalNodeIds(long startNodeId, long[] originalNodeIds, int length) {
+        graph.toOriginalNodeIds(startNodeId, originalNodeIds, length);
+    }
+
     @Override
     public boolean contains(long nodeId) {
         return graph.contains(nodeId);
@@ -49,6 +49,8 @@ public interface GraphStore {
 
     GraphSchema schema();
 
+    ZonedDateTime creationTime();
+
     ZonedDateTime modificationTime();
 
     long nodeCount();
@@ -97,6 +99,11 @@ public interface GraphStore {
 
     long relationshipCount(RelationshipType relationshipType);
 
+    /**
+     * Returns the topology of the given relationship type without creating a graph for it.
+     */
+    Relationships.Topology relationshipTopology(RelationshipType relationshipType);
+
     Set<RelationshipType> relationshipTypes();
 
     boolean hasRelationshipType(RelationshipType relationshipType);
@@ -40,6 +40,16 @@ public interface IdMapping {
      */
     long toOriginalNodeId(long nodeId);
 
+    /**
+     * Map the inner nodeIds {@code startNodeId} until {@code startNodeId + length} back to original nodeIds
+     * and write them into the first {@code length} elements of {@code originalNodeIds}.
+     */
+    default void toOriginalNodeIds(long startNodeId, long[] originalNodeIds, int length) {
+        for (int i = 0; i < length; i++) {
+            originalNodeIds[i] = toOriginalNodeId(startNodeId + i);
+        }
+    }
+
     /**
      * Returns true iff the nodeId is mapped, otherwise false.
      */
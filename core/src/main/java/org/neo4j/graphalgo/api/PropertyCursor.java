@@ -37,6 +37,15 @@ public interface PropertyCursor extends AutoCloseable {
      */
     long nextLong();
 
+    /**
+     * Skip the next {@code count} values, or all remaining values if there are fewer.
+     */
+    default void skip(int count) {
+        for (int i = 0; i < count && hasNextLong(); i++) {
+            nextLong();
+        }
+    }
+
     @Override
     void close();
 }
@@ -28,6 +28,7 @@ import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.IterationsConfig;
 import org.neo4j.graphalgo.config.MutatePropertyConfig;
 import org.neo4j.graphalgo.config.RelationshipWeightConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 
@@ -41,6 +42,7 @@ public interface PregelConfig extends
     RelationshipWeightConfig,
     IterationsConfig,
     WritePropertyConfig,
+    WriteDirectoryConfig,
     MutatePropertyConfig,
     ConcurrencyConfig {
 
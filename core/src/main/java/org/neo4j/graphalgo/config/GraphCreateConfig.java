@@ -113,6 +113,10 @@ public interface GraphCreateConfig extends BaseConfig {
         R cypher(GraphCreateFromCypherConfig cypherConfig);
 
         R random(RandomGraphGeneratorConfig randomGraphConfig);
+
+        R subgraph(GraphSubgraphConfig subgraphConfig);
+
+        R csv(GraphCreateFromCsvConfig csvConfig);
     }
 
     interface Visitor extends Cases<Void> {
@@ -135,11 +139,27 @@ public interface GraphCreateConfig extends BaseConfig {
             return null;
         };
 
+        @Override
+        default Void subgraph(GraphSubgraphConfig subgraphConfig) {
+            visit(subgraphConfig);
+            return null;
+        };
+
+        @Override
+        default Void csv(GraphCreateFromCsvConfig csvConfig) {
+            visit(csvConfig);
+            return null;
+        };
+
         default void visit(GraphCreateFromStoreConfig storeConfig) {}
 
         default void visit(GraphCreateFromCypherConfig cypherConfig) {}
 
         default void visit(RandomGraphGeneratorConfig randomGraphConfig) {}
+
+        default void visit(GraphSubgraphConfig subgraphConfig) {}
+
+        default void visit(GraphCreateFromCsvConfig csvConfig) {}
     }
 
     interface Rewriter extends Cases<GraphCreateConfig> {
@@ -159,6 +179,16 @@ public interface GraphCreateConfig extends BaseConfig {
             return randomGraphConfig;
         }
 
+        @Override
+        default GraphCreateConfig subgraph(GraphSubgraphConfig subgraphConfig) {
+            return subgraphConfig;
+        }
+
+        @Override
+        default GraphCreateConfig csv(GraphCreateFromCsvConfig csvConfig) {
+            return csvConfig;
+        }
+
         default GraphCreateConfig apply(GraphCreateConfig config) {
             return config.accept(this);
         }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.config;
+
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.GraphStoreFactory;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.CsvFactory;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphCreateFromCsvConfig extends GraphCreateConfig {
+
+    String EXPORT_NAME_KEY = "exportName";
+
+    /**
+     * The directory within the export location that contains the files of an exported graph.
+     */
+    @Configuration.Key(EXPORT_NAME_KEY)
+    String exportName();
+
+    @Configuration.Ignore
+    @Override
+    default GraphStoreFactory.Supplier graphStoreFactory() {
+        return loaderContext -> new CsvFactory(this, loaderContext);
+    }
+
+    @Override
+    @Configuration.Ignore
+    default <R> R accept(Cases<R> visitor) {
+        return visitor.csv(this);
+    }
+
+    static GraphCreateFromCsvConfig of(String username, String graphName, CypherMapWrapper config) {
+        return new GraphCreateFromCsvConfigImpl(graphName, username, config);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.config;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.GraphStoreFactory;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphSubgraphConfig extends GraphCreateConfig, ConcurrencyConfig {
+
+    String NODE_PROPERTY_KEY = "nodeProperty";
+
+    @Configuration.Parameter
+    String fromGraphName();
+
+    @Value.Default
+    default List<String> nodeLabels() {
+        return Collections.singletonList(PROJECT_ALL);
+    }
+
+    @Value.Default
+    default List<String> relationshipTypes() {
+        return Collections.singletonList(PROJECT_ALL);
+    }
+
+    /**
+     * Only nodes with a value of this property within {@link #nodePropertyMin()} and {@link #nodePropertyMax()}
+     * are part of the subgraph.
+     */
+    @Value.Default
+    @Configuration.Key(NODE_PROPERTY_KEY)
+    default @Nullable String nodeProperty() {
+        return null;
+    }
+
+    @Value.Default
+    default double nodePropertyMin() {
+        return Double.NEGATIVE_INFINITY;
+    }
+
+    @Value.Default
+    default double nodePropertyMax() {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    @Value.Check
+    default void validateNodePropertyRange() {
+        if (nodePropertyMin() > nodePropertyMax()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The value of `nodePropertyMin` must not be larger than the value of `nodePropertyMax`, but got %s and %s.",
+                nodePropertyMin(),
+                nodePropertyMax()
+            ));
+        }
+    }
+
+    @Configuration.Ignore
+    default Collection<NodeLabel> nodeLabelIdentifiers(GraphStore graphStore) {
+        return nodeLabels().contains(PROJECT_ALL)
+            ? graphStore.nodeLabels()
+            : nodeLabels().stream().map(NodeLabel::of).collect(Collectors.toList());
+    }
+
+    @Configuration.Ignore
+    default Collection<RelationshipType> internalRelationshipTypes(GraphStore graphStore) {
+        return relationshipTypes().contains(PROJECT_ALL)
+            ? graphStore.relationshipTypes()
+            : relationshipTypes().stream().map(RelationshipType::of).collect(Collectors.toList());
+    }
+
+    /**
+     * Whether the other subgraph is created from the same graph with the same filter.
+     */
+    @Configuration.Ignore
+    default boolean hasSameFilter(GraphSubgraphConfig other) {
+        return fromGraphName().equals(other.fromGraphName())
+               && new HashSet<>(nodeLabels()).equals(new HashSet<>(other.nodeLabels()))
+               && new HashSet<>(relationshipTypes()).equals(new HashSet<>(other.relationshipTypes()))
+               && Objects.equals(nodeProperty(), other.nodeProperty())
+               && Double.compare(nodePropertyMin(), other.nodePropertyMin()) == 0
+               && Double.compare(nodePropertyMax(), other.nodePropertyMax()) == 0;
+    }
+
+    @Configuration.Ignore
+    @Override
+    default GraphStoreFactory.Supplier graphStoreFactory() {
+        throw new UnsupportedOperationException("GraphSubgraphConfig requires an existing graph in the catalog.");
+    }
+
+    @Override
+    @Configuration.Ignore
+    default <R> R accept(Cases<R> visitor) {
+        return visitor.subgraph(this);
+    }
+
+    static GraphSubgraphConfig of(
+        String username,
+        String graphName,
+        String fromGraphName,
+        CypherMapWrapper config
+    ) {
+        return new GraphSubgraphConfigImpl(fromGraphName, graphName, username, config);
+    }
+}
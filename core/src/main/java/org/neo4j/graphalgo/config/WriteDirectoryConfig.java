@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.config;
+
+import java.util.Optional;
+
+/**
+ * Implemented by the configurations of the write procedures that can write their results into files.
+ */
+public interface WriteDirectoryConfig extends WriteConfig {
+
+    String WRITE_DIRECTORY_KEY = "writeDirectory";
+
+    /**
+     * If set, the results are written into CSV files in this directory below {@code gds.export.location}
+     * instead of into the Neo4j database.
+     */
+    Optional<String> writeDirectory();
+}
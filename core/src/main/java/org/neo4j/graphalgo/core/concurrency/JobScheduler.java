@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Admission control and fair sharing of the threads in {@link Pools#DEFAULT} across concurrently running jobs.
+ * <p>
+ * Every job declares the concurrency it asks for and, optionally, its estimated memory.
+ * With a thread budget, at most that many jobs run at once, and every running job is granted a share of
+ * the budget that is weighted by its requested concurrency. {@link ParallelUtil} caps the concurrency
+ * of tasks that are submitted from the thread of a job to that share, so that a single large job
+ * no longer occupies all threads of the pool. The shares are recomputed when jobs start or finish.
+ * <p>
+ * Jobs that exceed the thread or memory budget are queued. Queued jobs are admitted in round-robin
+ * order across users and in submission order for each user.
+ * <p>
+ * Without budgets (the default), jobs are only tracked and always admitted immediately.
+ */
+public final class JobScheduler {
+
+    public static final int THREAD_BUDGET_DEFAULT_SETTING =
+        Integer.getInteger(JobScheduler.class.getCanonicalName() + ".threadBudget", 0);
+    public static final long MEMORY_BUDGET_DEFAULT_SETTING =
+        Long.getLong(JobScheduler.class.getCanonicalName() + ".memoryBudget", 0L);
+
+    private static final JobScheduler INSTANCE = new JobScheduler(
+        THREAD_BUDGET_DEFAULT_SETTING,
+        MEMORY_BUDGET_DEFAULT_SETTING
+    );
+
+    private static final ThreadLocal<Job> CURRENT_JOB = new ThreadLocal<>();
+
+    private static final long QUEUE_CHECK_INTERVAL_MILLIS = 100L;
+
+    private final List<Job> running;
+    // queued jobs per user, in the order in which the users first queued a job
+    private final Map<String, Deque<Job>> queued;
+    // the sequence number of the last admission per user, the user that waits the longest is admitted next
+    private final Map<String, Long> lastAdmissions;
+
+    private int threadBudget;
+    private long memoryBudget;
+    private long nextJobId;
+    private long admissions;
+
+    public static JobScheduler instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The concurrency that the job of the current thread may use, at most the given concurrency.
+     * This reads the share that was granted when the running jobs last changed, without locking the scheduler.
+     */
+    public static int effectiveConcurrency(int concurrency) {
+        var job = CURRENT_JOB.get();
+        return job == null ? concurrency : Math.min(concurrency, job.grantedConcurrency);
+    }
+
+    JobScheduler(int threadBudget, long memoryBudget) {
+        this.running = new ArrayList<>();
+        this.queued = new LinkedHashMap<>();
+        this.lastAdmissions = new HashMap<>();
+        setBudget(threadBudget, memoryBudget);
+    }
+
+    public synchronized int threadBudget() {
+        return threadBudget;
+    }
+
+    public synchronized long memoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Sets the budgets, a value of {@code 0} disables the respective budget.
+     */
+    public synchronized void setBudget(int threadBudget, long memoryBudget) {
+        if (threadBudget < 0 || memoryBudget < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The scheduler budgets must not be negative, but got %d threads and %d bytes",
+                threadBudget,
+                memoryBudget
+            ));
+        }
+        this.threadBudget = threadBudget;
+        this.memoryBudget = memoryBudget;
+        updateGrantedConcurrencies();
+        notifyAll();
+    }
+
+    public synchronized void setThreadBudget(int threadBudget) {
+        setBudget(threadBudget, memoryBudget);
+    }
+
+    public synchronized void setMemoryBudget(long memoryBudget) {
+        setBudget(threadBudget, memoryBudget);
+    }
+
+    /**
+     * Blocks until the job is admitted and binds it to the current thread.
+     * The job must be closed by the same thread when it finishes, which binds the job that was
+     * current before, if the job was admitted from within another job.
+     *
+     * @throws RuntimeException if the termination flag is raised while the job is queued
+     */
+    public Job admit(
+        String username,
+        String description,
+        int concurrency,
+        long memoryEstimation,
+        TerminationFlag terminationFlag
+    ) {
+        Job job;
+        synchronized (this) {
+            job = new Job(this, nextJobId++, username, description, Math.max(1, concurrency), memoryEstimation);
+            queued.computeIfAbsent(username, ignore -> new ArrayDeque<>()).addLast(job);
+            try {
+                while (!tryStart(job)) {
+                    terminationFlag.assertRunning();
+                    wait(QUEUE_CHECK_INTERVAL_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                dequeue(job);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (RuntimeException e) {
+                dequeue(job);
+                throw e;
+            }
+        }
+        job.outerJob = CURRENT_JOB.get();
+        CURRENT_JOB.set(job);
+        return job;
+    }
+
+    public synchronized List<JobInfo> jobs() {
+        var jobs = new ArrayList<JobInfo>();
+        var now = System.nanoTime();
+        for (Job job : running) {
+            jobs.add(job.info("RUNNING", job.grantedConcurrency, now));
+        }
+        for (Deque<Job> userQueue : queued.values()) {
+            for (Job job : userQueue) {
+                jobs.add(job.info("QUEUED", 0, now));
+            }
+        }
+        return jobs;
+    }
+
+    // must be called with the lock held, whenever the running jobs or the budgets change
+    private void updateGrantedConcurrencies() {
+        long totalRequested = 0L;
+        for (Job runningJob : running) {
+            totalRequested += runningJob.requestedConcurrency;
+        }
+        for (Job runningJob : running) {
+            runningJob.grantedConcurrency = grantedConcurrency(runningJob, totalRequested);
+        }
+    }
+
+    private int grantedConcurrency(Job job, long totalRequested) {
+        if (threadBudget == 0) {
+            return job.requestedConcurrency;
+        }
+        var share = totalRequested == 0
+            ? threadBudget
+            : (int) (threadBudget * (long) job.requestedConcurrency / totalRequested);
+        return Math.max(1, Math.min(job.requestedConcurrency, share));
+    }
+
+    private boolean tryStart(Job job) {
+        if (nextCandidate() != job || !fitsIntoBudget(job)) {
+            return false;
+        }
+        dequeue(job);
+        lastAdmissions.put(job.username, admissions++);
+        job.startNanos = System.nanoTime();
+        running.add(job);
+        updateGrantedConcurrencies();
+        notifyAll();
+        return true;
+    }
+
+    private Job nextCandidate() {
+        Job candidate = null;
+        long candidateAdmission = Long.MAX_VALUE;
+        for (Map.Entry<String, Deque<Job>> userQueue : queued.entrySet()) {
+            long lastAdmission = lastAdmissions.getOrDefault(userQueue.getKey(), -1L);
+            if (candidate == null || lastAdmission < candidateAdmission) {
+                candidate = userQueue.getValue().peekFirst();
+                candidateAdmission = lastAdmission;
+            }
+        }
+        return candidate;
+    }
+
+    private boolean fitsIntoBudget(Job job) {
+        // a single job always runs, even if it exceeds the budgets on its own
+        if (running.isEmpty()) {
+            return true;
+        }
+        if (threadBudget > 0 && running.size() >= threadBudget) {
+            return false;
+        }
+        if (memoryBudget > 0) {
+            long usedMemory = 0L;
+            for (Job runningJob : running) {
+                usedMemory += runningJob.memoryEstimation;
+            }
+            return usedMemory + job.memoryEstimation <= memoryBudget;
+        }
+        return true;
+    }
+
+    private void dequeue(Job job) {
+        Iterator<Deque<Job>> userQueues = queued.values().iterator();
+        while (userQueues.hasNext()) {
+            var userQueue = userQueues.next();
+            if (userQueue.remove(job) && userQueue.isEmpty()) {
+                userQueues.remove();
+            }
+        }
+        notifyAll();
+    }
+
+    private synchronized void finish(Job job) {
+        running.remove(job);
+        updateGrantedConcurrencies();
+        notifyAll();
+    }
+
+    public static final class Job implements AutoCloseable {
+
+        private final JobScheduler scheduler;
+        private final long id;
+        private final String username;
+        private final String description;
+        private final int requestedConcurrency;
+        private final long memoryEstimation;
+        private final long submitNanos;
+        private long startNanos;
+        // updated by the scheduler, read without locking by the threads of this job
+        private volatile int grantedConcurrency;
+        private Job outerJob;
+
+        private Job(
+            JobScheduler scheduler,
+            long id,
+            String username,
+            String description,
+            int requestedConcurrency,
+            long memoryEstimation
+        ) {
+            this.scheduler = scheduler;
+            this.id = id;
+            this.username = username;
+            this.description = description;
+            this.requestedConcurrency = requestedConcurrency;
+            this.memoryEstimation = memoryEstimation;
+            this.submitNanos = System.nanoTime();
+        }
+
+        public long id() {
+            return id;
+        }
+
+        public int grantedConcurrency() {
+            return grantedConcurrency;
+        }
+
+        private JobInfo info(String status, int grantedConcurrency, long now) {
+            var started = startNanos != 0L;
+            return ImmutableJobInfo.builder()
+                .jobId(id)
+                .username(username)
+                .description(description)
+                .status(status)
+                .requestedConcurrency(requestedConcurrency)
+                .grantedConcurrency(grantedConcurrency)
+                .memoryEstimation(memoryEstimation)
+                .waitingMillis(TimeUnit.NANOSECONDS.toMillis((started ? startNanos : now) - submitNanos))
+                .runningMillis(started ? TimeUnit.NANOSECONDS.toMillis(now - startNanos) : 0L)
+                .build();
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT_JOB.get() == this) {
+                if (outerJob == null) {
+                    CURRENT_JOB.remove();
+                } else {
+                    CURRENT_JOB.set(outerJob);
+                }
+            }
+            scheduler.finish(this);
+        }
+    }
+
+    @ValueClass
+    public interface JobInfo {
+        long jobId();
+
+        String username();
+
+        String description();
+
+        String status();
+
+        int requestedConcurrency();
+
+        int grantedConcurrency();
+
+        long memoryEstimation();
+
+        long waitingMillis();
+
+        long runningMillis();
+    }
+}
@@ -28,6 +28,8 @@ import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.LazyMappingCollection;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.utils.ExceptionUtil;
 
 import java.util.ArrayList;
@@ -45,9 +47,11 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,6 +59,7 @@ import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.BaseStream;
 import java.util.stream.LongStream;
@@ -70,6 +75,9 @@ public final class ParallelUtil {
     private static final long DEFAULT_WAIT_TIME_NANOS = 1000;
     private static final long DEFAULT_MAX_NUMBER_OF_RETRIES = (long) 2.5e11; // about 3 days in micros
 
+    // the number of ranges per thread at which splitting stops, more ranges balance better but cost more overhead
+    private static final int WORK_STEALING_SPLITS_PER_THREAD = 8;
+
     // prevent instantiation of factory
     private ParallelUtil() {}
 
@@ -78,7 +86,7 @@ public final class ParallelUtil {
      * The concurrency value is assumed to already be validated towards the edition limitation.
      */
     public static <T extends BaseStream<?, T>, R> R parallelStream(T data, int concurrency, Function<T, R> fn) {
-        ForkJoinPool pool = getFJPoolWithConcurrency(concurrency);
+        ForkJoinPool pool = getFJPoolWithConcurrency(JobScheduler.effectiveConcurrency(concurrency));
         try {
             return pool.submit(() -> fn.apply(data.parallel())).get();
         } catch (Exception e) {
@@ -109,6 +117,68 @@ public final class ParallelUtil {
         });
     }
 
+    /**
+     * Executes the consumer for every node of the graph on a work-stealing FJ pool of the requested size.
+     * See {@link #readParallelWorkStealing(int, long, LongUnaryOperator, BiLongConsumer)} for how the nodes are split.
+     */
+    public static void parallelForEachNodeWorkStealing(Graph graph, int concurrency, LongConsumer consumer) {
+        readParallelWorkStealing(concurrency, graph, (start, end) -> {
+            for (long node = start; node < end; node++) {
+                consumer.accept(node);
+            }
+        });
+    }
+
+    /**
+     * Executes read operations on ranges of nodes, where the cost of a node is estimated by its degree.
+     * See {@link #readParallelWorkStealing(int, long, LongUnaryOperator, BiLongConsumer)} for how the nodes are split.
+     */
+    public static void readParallelWorkStealing(int concurrency, Graph graph, BiLongConsumer task) {
+        readParallelWorkStealing(concurrency, graph.nodeCount(), graph::degree, task);
+    }
+
+    /**
+     * Executes read operations on ranges of nodes on a work-stealing FJ pool of the requested size.
+     * <p>
+     * Other than {@link #readParallel(int, long, ExecutorService, BiLongConsumer)}, which cuts the nodes
+     * into ranges of equal size, ranges are recursively split in two halves of equal estimated cost, using
+     * the prefix sums of the node costs. Idle threads steal the halves that are not yet processed, so that
+     * few expensive nodes, e.g. nodes with a high degree, no longer keep a single thread busy while the others idle.
+     * Every node adds one to the given cost, so that ranges of nodes without cost are split as well.
+     */
+    public static void readParallelWorkStealing(
+        int concurrency,
+        long nodeCount,
+        LongUnaryOperator nodeCost,
+        BiLongConsumer task
+    ) {
+        if (nodeCount == 0) {
+            return;
+        }
+        concurrency = JobScheduler.effectiveConcurrency(concurrency);
+        if (concurrency <= 1) {
+            task.apply(0, nodeCount);
+            return;
+        }
+
+        var costPrefixSums = HugeLongArray.newArray(nodeCount + 1, AllocationTracker.empty());
+        long totalCost = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            costPrefixSums.set(node, totalCost);
+            totalCost += nodeCost.applyAsLong(node) + 1;
+        }
+        costPrefixSums.set(nodeCount, totalCost);
+
+        long minSplitCost = Math.max(1L, totalCost / ((long) concurrency * WORK_STEALING_SPLITS_PER_THREAD));
+        ForkJoinPool pool = getFJPoolWithConcurrency(concurrency);
+        try {
+            pool.invoke(new CostSplittingTask(costPrefixSums, minSplitCost, task, 0, nodeCount));
+        } finally {
+            pool.shutdown();
+            costPrefixSums.release();
+        }
+    }
+
     /**
      * @return the number of threads required to compute elementCount with the given batchSize
      */
@@ -260,7 +330,7 @@ public final class ParallelUtil {
                 final long finalStart = start;
                 threads.add(() -> task.apply(finalStart, end));
             }
-            run(threads, executor);
+            runWithConcurrency(concurrency, threads, executor);
         }
     }
 
@@ -790,13 +860,14 @@ public final class ParallelUtil {
     }
 
     private static void runWithConcurrency(
-        final int concurrency,
+        final int requestedConcurrency,
         final Collection<? extends Runnable> tasks,
         final long waitNanos,
         final long maxWaitRetries,
         final TerminationFlag terminationFlag,
         final ExecutorService executor
     ) {
+        final int concurrency = JobScheduler.effectiveConcurrency(requestedConcurrency);
         if (!canRunInParallel(executor) || concurrency <= 1) {
             for (Runnable task : tasks) {
                 terminationFlag.assertRunning();
@@ -1078,6 +1149,59 @@ public final class ParallelUtil {
         }
     }
 
+    private static final class CostSplittingTask extends RecursiveAction {
+
+        private final HugeLongArray costPrefixSums;
+        private final long minSplitCost;
+        private final BiLongConsumer task;
+        private final long start;
+        private final long end;
+
+        CostSplittingTask(
+            HugeLongArray costPrefixSums,
+            long minSplitCost,
+            BiLongConsumer task,
+            long start,
+            long end
+        ) {
+            this.costPrefixSums = costPrefixSums;
+            this.minSplitCost = minSplitCost;
+            this.task = task;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            long startCost = costPrefixSums.get(start);
+            long cost = costPrefixSums.get(end) - startCost;
+            if (end - start <= 1 || cost <= minSplitCost) {
+                task.apply(start, end);
+                return;
+            }
+            long split = splitPoint(startCost + cost / 2);
+            invokeAll(
+                new CostSplittingTask(costPrefixSums, minSplitCost, task, start, split),
+                new CostSplittingTask(costPrefixSums, minSplitCost, task, split, end)
+            );
+        }
+
+        // the first node in (start, end) whose prefix sum reaches the given cost
+        private long splitPoint(long halfCost) {
+            long low = start + 1;
+            long high = end - 1;
+            while (low < high) {
+                long mid = (low + high) >>> 1;
+                if (costPrefixSums.get(mid) < halfCost) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
     private static ForkJoinPool getFJPoolWithConcurrency(int concurrency) {
         return new ForkJoinPool(concurrency, forkJoinPoolWorkerThreadFactory, null, false);
     }
@@ -1088,7 +1212,13 @@ public final class ParallelUtil {
 
     static {
         forkJoinPoolWorkerThreadFactory = pool -> {
-            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            var worker = new ForkJoinWorkerThread(pool) {
+                @Override
+                protected void onStart() {
+                    super.onStart();
+                    Pools.markAsPoolThread();
+                }
+            };
             worker.setName(THREAD_NAME_PREFIX + FORK_JOIN_INFIX + worker.getPoolIndex());
             return worker;
         };
@@ -29,6 +29,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -42,18 +43,36 @@ public final class Pools {
 
     static final String THREAD_NAME_PREFIX = "gds";
 
+    // set by the threads of our pools when they start, independent of the name of the thread
+    private static final ThreadLocal<Boolean> IS_POOL_THREAD = ThreadLocal.withInitial(() -> false);
+
     private Pools() {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Whether the current thread belongs to {@link #DEFAULT} or to a FJ pool created by {@link ParallelUtil}.
+     */
+    public static boolean isPoolThread() {
+        return IS_POOL_THREAD.get();
+    }
+
+    static void markAsPoolThread() {
+        IS_POOL_THREAD.set(true);
+    }
+
+    /**
+     * The number of threads that {@link #DEFAULT} keeps alive.
+     */
+    public static int corePoolSize() {
+        return GdsEdition.instance().isOnEnterpriseEdition()
+            ? Runtime.getRuntime().availableProcessors()
+            : CONCURRENCY_LIMITATION;
+    }
+
     static ExecutorService createDefaultPool() {
-        int corePoolSize, maxPoolSize;
-        if (GdsEdition.instance().isOnEnterpriseEdition()) {
-            corePoolSize = Runtime.getRuntime().availableProcessors();
-            maxPoolSize = corePoolSize * 2;
-        } else {
-            corePoolSize = maxPoolSize = CONCURRENCY_LIMITATION;
-        }
+        int corePoolSize = corePoolSize();
+        int maxPoolSize = GdsEdition.instance().isOnEnterpriseEdition() ? corePoolSize * 2 : corePoolSize;
 
         return new ThreadPoolExecutor(
             corePoolSize,
@@ -61,11 +80,18 @@ public final class Pools {
             30L,
             TimeUnit.SECONDS,
             new ArrayBlockingQueue<>(corePoolSize * 50),
-            NamedThreadFactory.daemon(THREAD_NAME_PREFIX),
+            poolThreadFactory(NamedThreadFactory.daemon(THREAD_NAME_PREFIX)),
             new CallerBlocksPolicy()
         );
     }
 
+    private static ThreadFactory poolThreadFactory(ThreadFactory threadFactory) {
+        return runnable -> threadFactory.newThread(() -> {
+            markAsPoolThread();
+            runnable.run();
+        });
+    }
+
     public static ExecutorService createDefaultSingleThreadPool() {
         return Executors.newSingleThreadExecutor(NamedThreadFactory.daemon("algo"));
     }
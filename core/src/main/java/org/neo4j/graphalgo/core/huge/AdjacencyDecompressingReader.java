@@ -79,6 +79,16 @@ final class AdjacencyDecompressingReader {
         return numAdjacencies;
     }
 
+    /**
+     * Decode the block that starts at {@code blockOffset}, which is delta encoded against {@code previousTarget}.
+     * The page is the one given to the last {@link #reset(byte[], int)}.
+     */
+    void seek(long previousTarget, int blockOffset, int remaining) {
+        this.offset = decodeDeltaVLongs(previousTarget, array, blockOffset, Math.min(remaining, CHUNK_SIZE), block);
+        this.pos = 0;
+        this.blockAlreadyDecoded = false;
+    }
+
     long next(int remaining) {
         int pos = this.pos++;
         if (pos < CHUNK_SIZE) {
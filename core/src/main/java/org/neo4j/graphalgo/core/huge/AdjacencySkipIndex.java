@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongLongMap;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.CHUNK_SIZE;
+import static org.neo4j.graphalgo.core.huge.VarLongDecoding.decodeDeltaVLongs;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * Random access into the compressed adjacency lists of high-degree nodes.
+ * <p>
+ * The targets of an adjacency list are decoded in blocks of {@link AdjacencyDecompressingReader#CHUNK_SIZE} values,
+ * where every block is delta encoded against the last target of the previous block.
+ * For every block but the first, the index stores that last target of the previous block
+ * and the position of the first byte of the block within the page.
+ * A cursor can then binary search the block that contains a target id, or jump to the block of a target index,
+ * and start decoding there instead of decoding all preceding blocks.
+ * <p>
+ * Relationship properties are stored uncompressed, their position is derived from the target index.
+ */
+final class AdjacencySkipIndex {
+
+    static final long NOT_INDEXED = -1L;
+
+    // skipping pays off only if there are enough blocks to skip
+    static final int MIN_DEGREE = 8 * CHUNK_SIZE;
+
+    private final AllocationTracker tracker;
+    // the adjacency offset of a node is mapped to the first entry of that node
+    private final HugeLongLongMap entryStarts;
+    private final HugeLongArray previousTargets;
+    private final HugeIntArray blockOffsets;
+
+    /**
+     * The smallest index has all nodes at the average degree, the largest one has as many nodes
+     * of the minimum indexed degree as there are relationships for, with the blocks of all relationships indexed.
+     */
+    static MemoryRange memoryEstimation(long avgDegree, long nodeCount) {
+        long relationshipCount = avgDegree * nodeCount;
+        long minMemory = avgDegree >= MIN_DEGREE
+            ? memoryEstimation(nodeCount, nodeCount * entryCount((int) Math.min(avgDegree, Integer.MAX_VALUE)))
+            : 0L;
+        long maxMemory = memoryEstimation(
+            Math.min(nodeCount, relationshipCount / MIN_DEGREE),
+            relationshipCount / CHUNK_SIZE
+        );
+        return MemoryRange.of(minMemory, Math.max(minMemory, maxMemory));
+    }
+
+    private static long memoryEstimation(long indexedNodes, long entryCount) {
+        return MemoryUsage.sizeOfInstance(AdjacencySkipIndex.class) +
+               HugeLongLongMap.memoryEstimation(indexedNodes) +
+               HugeLongArray.memoryEstimation(entryCount) +
+               HugeIntArray.memoryEstimation(entryCount);
+    }
+
+    static AdjacencySkipIndex of(
+        byte[][] pages,
+        AdjacencyOffsets offsets,
+        long nodeCount,
+        AllocationTracker tracker
+    ) {
+        long indexedNodes = 0L;
+        long entryCount = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            int degree = degree(pages, offsets.get(node));
+            if (degree >= MIN_DEGREE) {
+                indexedNodes++;
+                entryCount += entryCount(degree);
+            }
+        }
+
+        var entryStarts = new HugeLongLongMap(indexedNodes, tracker);
+        var previousTargets = HugeLongArray.newArray(entryCount, tracker);
+        var blockOffsets = HugeIntArray.newArray(entryCount, tracker);
+
+        long[] block = new long[CHUNK_SIZE];
+        long entry = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            long adjacencyOffset = offsets.get(node);
+            int degree = degree(pages, adjacencyOffset);
+            if (degree < MIN_DEGREE) {
+                continue;
+            }
+            entryStarts.put(adjacencyOffset, entry);
+
+            byte[] page = pages[pageIndex(adjacencyOffset, TransientAdjacencyList.PAGE_SHIFT)];
+            int offset = indexInPage(adjacencyOffset, TransientAdjacencyList.PAGE_MASK) + Integer.BYTES;
+            long previousTarget = 0L;
+            for (int decoded = 0; decoded < degree; decoded += CHUNK_SIZE) {
+                if (decoded > 0) {
+                    previousTargets.set(entry, previousTarget);
+                    blockOffsets.set(entry, offset);
+                    entry++;
+                }
+                int blockSize = Math.min(CHUNK_SIZE, degree - decoded);
+                offset = decodeDeltaVLongs(previousTarget, page, offset, blockSize, block);
+                previousTarget = block[blockSize - 1];
+            }
+        }
+
+        return new AdjacencySkipIndex(entryStarts, previousTargets, blockOffsets, tracker);
+    }
+
+    private static int degree(byte[][] pages, long adjacencyOffset) {
+        if (adjacencyOffset == 0L) {
+            return 0;
+        }
+        return AdjacencyDecompressingReader.readInt(
+            pages[pageIndex(adjacencyOffset, TransientAdjacencyList.PAGE_SHIFT)],
+            indexInPage(adjacencyOffset, TransientAdjacencyList.PAGE_MASK)
+        );
+    }
+
+    /**
+     * The number of indexed blocks for an adjacency list of the given degree, which are all blocks but the first.
+     */
+    static int entryCount(int degree) {
+        return degree == 0 ? 0 : (degree - 1) / CHUNK_SIZE;
+    }
+
+    private AdjacencySkipIndex(
+        HugeLongLongMap entryStarts,
+        HugeLongArray previousTargets,
+        HugeIntArray blockOffsets,
+        AllocationTracker tracker
+    ) {
+        this.entryStarts = entryStarts;
+        this.previousTargets = previousTargets;
+        this.blockOffsets = blockOffsets;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Returns the first entry of the adjacency list at the given offset, or {@link #NOT_INDEXED}.
+     */
+    long entryStart(long adjacencyOffset) {
+        return entryStarts.getOrDefault(adjacencyOffset, NOT_INDEXED);
+    }
+
+    /**
+     * Returns the last block whose preceding targets are all smaller than {@code target}
+     * (or smaller than or equal to, if {@code inclusive} is set).
+     * Block {@code 0} is returned if there is no such block after the first one.
+     */
+    int lastBlockBefore(long entryStart, int entryCount, long target, boolean inclusive) {
+        int low = 0;
+        int high = entryCount - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long previousTarget = previousTargets.get(entryStart + mid);
+            if (previousTarget < target || (inclusive && previousTarget == target)) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found + 1;
+    }
+
+    /**
+     * The last target of the block before the given block, which the given block is delta encoded against.
+     */
+    long previousTarget(long entryStart, int block) {
+        return previousTargets.get(entryStart + block - 1);
+    }
+
+    /**
+     * The position of the first byte of the given block within its page.
+     */
+    int blockOffset(long entryStart, int block) {
+        return blockOffsets.get(entryStart + block - 1);
+    }
+
+    void release() {
+        entryStarts.release();
+        tracker.remove(previousTargets.release());
+        tracker.remove(blockOffsets.release());
+    }
+}
@@ -37,6 +37,7 @@ import org.neo4j.graphalgo.api.schema.GraphSchema;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 
 import java.util.Collection;
 import java.util.Map;
@@ -121,6 +122,9 @@ public class HugeGraph implements CSRGraph {
         Optional<Relationships.Properties> maybeProperties,
         AllocationTracker tracker
     ) {
+        if (GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.isEnabled() && topology.list() instanceof TransientAdjacencyList) {
+            ((TransientAdjacencyList) topology.list()).buildSkipIndex(topology.offsets(), nodes.nodeCount(), tracker);
+        }
         return new HugeGraph(
             nodes,
             schema,
@@ -242,11 +246,13 @@ public class HugeGraph implements CSRGraph {
         long propertyOffset = propertyOffsets.get(fromId);
 
         AdjacencyCursor relDecompressingCursor = adjacencyList.decompressingCursor(relOffset);
-        PropertyCursor propertyCursor = properties.cursor(propertyOffset);
-
-        while (relDecompressingCursor.hasNextVLong() && propertyCursor.hasNextLong() && relDecompressingCursor.nextVLong() != toId) {
-            propertyCursor.nextLong();
+        if (relDecompressingCursor.advance(toId) != toId) {
+            return NO_PROPERTY_VALUE;
         }
+        int position = relDecompressingCursor.size() - relDecompressingCursor.remaining() - 1;
+
+        PropertyCursor propertyCursor = properties.cursor(propertyOffset);
+        propertyCursor.skip(position);
 
         if (!propertyCursor.hasNextLong()) {
             return NO_PROPERTY_VALUE;
@@ -318,6 +324,11 @@ public class HugeGraph implements CSRGraph {
         return idMapping.toOriginalNodeId(nodeId);
     }
 
+    @Override
+    public void toOriginalNodeIds(long startNodeId, long[] originalNodeIds, int length) {
+        idMapping.toOriginalNodeIds(startNodeId, originalNodeIds, length);
+    }
+
     @Override
     public boolean contains(long nodeId) {
         return idMapping.contains(nodeId);
@@ -348,23 +359,23 @@ public class HugeGraph implements CSRGraph {
     }
 
     /**
-     * O(n) !
+     * O(log n) for nodes in the adjacency skip index, otherwise O(n) but without decoding every target.
      */
     @Override
     public boolean exists(long sourceNodeId, long targetNodeId) {
-        ExistsConsumer consumer = new ExistsConsumer(targetNodeId);
-        runForEach(sourceNodeId, consumer);
-        return consumer.found;
+        return adjacencyCursorForIteration(sourceNodeId).advance(targetNodeId) == targetNodeId;
     }
 
     /*
-     * O(n) !
+     * Constant time for nodes in the adjacency skip index, otherwise O(n).
      */
     @Override
     public long getTarget(long sourceNodeId, long index) {
-        GetTargetConsumer consumer = new GetTargetConsumer(index);
-        runForEach(sourceNodeId, consumer);
-        return consumer.target;
+        var adjacencyCursor = adjacencyCursorForIteration(sourceNodeId);
+        if (index < 0 || index >= adjacencyCursor.size()) {
+            return GetTargetConsumer.TARGET_NOT_FOUND;
+        }
+        return adjacencyCursor.advanceBy((int) index);
     }
 
     private void runForEach(long sourceId, RelationshipConsumer consumer) {
@@ -102,6 +102,14 @@ public class NodeFilteredGraph extends CSRFilterGraph {
         return super.toOriginalNodeId(filteredIdMap.toOriginalNodeId(nodeId));
     }
 
+    @Override
+    public void toOriginalNodeIds(long startNodeId, long[] originalNodeIds, int length) {
+        filteredIdMap.toOriginalNodeIds(startNodeId, originalNodeIds, length);
+        for (int i = 0; i < length; i++) {
+            originalNodeIds[i] = super.toOriginalNodeId(originalNodeIds[i]);
+        }
+    }
+
     @Override
     public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
         super.forEachRelationship(filteredIdMap.toOriginalNodeId(nodeId), (s, t) -> filterAndConsume(s, t, consumer));
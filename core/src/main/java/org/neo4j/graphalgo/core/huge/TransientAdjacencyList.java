@@ -22,13 +22,16 @@ package org.neo4j.graphalgo.core.huge;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.api.AdjacencyCursor;
 import org.neo4j.graphalgo.api.AdjacencyList;
+import org.neo4j.graphalgo.api.AdjacencyOffsets;
 import org.neo4j.graphalgo.api.PropertyCursor;
 import org.neo4j.graphalgo.core.loading.MutableIntValue;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
+import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 
 import static org.neo4j.graphalgo.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodedVLongSize;
@@ -43,6 +46,7 @@ public final class TransientAdjacencyList implements AdjacencyList {
     public static final long PAGE_MASK = PAGE_SIZE - 1;
 
     private byte[][] pages;
+    private volatile AdjacencySkipIndex skipIndex;
 
     public static MemoryEstimation compressedMemoryEstimation(long avgDegree, long nodeCount) {
         // Best case scenario:
@@ -67,10 +71,13 @@ public final class TransientAdjacencyList implements AdjacencyList {
 
         MemoryRange pagesMemoryRange = MemoryRange.of(minMemoryReqs, maxMemoryReqs);
 
-        return MemoryEstimations
+        var builder = MemoryEstimations
             .builder(TransientAdjacencyList.class)
-            .fixed("pages", pagesMemoryRange)
-            .build();
+            .fixed("pages", pagesMemoryRange);
+        if (GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.isEnabled()) {
+            builder.fixed("skip index", AdjacencySkipIndex.memoryEstimation(avgDegree, nodeCount));
+        }
+        return builder.build();
     }
 
     public static MemoryEstimation compressedMemoryEstimation(boolean undirected) {
@@ -129,9 +136,23 @@ public final class TransientAdjacencyList implements AdjacencyList {
                 indexInPage(index, PAGE_MASK));
     }
 
+    /**
+     * Build the skip index for the high-degree nodes of this list, unless it already exists.
+     * Only cursors that are created afterwards use the index.
+     */
+    public synchronized void buildSkipIndex(AdjacencyOffsets offsets, long nodeCount, AllocationTracker tracker) {
+        if (skipIndex == null && pages != null) {
+            skipIndex = AdjacencySkipIndex.of(pages, offsets, nodeCount, tracker);
+        }
+    }
+
     @Override
     public void close() {
         pages = null;
+        if (skipIndex != null) {
+            skipIndex.release();
+            skipIndex = null;
+        }
     }
 
     // Cursors
@@ -143,7 +164,7 @@ public final class TransientAdjacencyList implements AdjacencyList {
 
     @Override
     public AdjacencyCursor rawDecompressingCursor() {
-        return new DecompressingCursor(pages);
+        return new DecompressingCursor(pages, skipIndex);
     }
 
     public static final class Cursor extends MutableIntValue implements PropertyCursor {
@@ -177,6 +198,11 @@ public final class TransientAdjacencyList implements AdjacencyList {
             return value;
         }
 
+        @Override
+        public void skip(int count) {
+            offset = (int) Math.min(limit, offset + (long) count * Long.BYTES);
+        }
+
         @Override
         public Cursor init(long fromIndex) {
             this.currentPage = pages[pageIndex(fromIndex, PAGE_SHIFT)];
@@ -197,12 +223,19 @@ public final class TransientAdjacencyList implements AdjacencyList {
 
         private byte[][] pages;
         private final AdjacencyDecompressingReader decompress;
+        private final AdjacencySkipIndex skipIndex;
 
         private int maxTargets;
         private int currentPosition;
 
-        private DecompressingCursor(byte[][] pages) {
+        // the skip index entries of the current list are looked up on the first skip
+        private long fromIndex;
+        private boolean skipEntriesLoaded;
+        private long skipEntryStart;
+
+        private DecompressingCursor(byte[][] pages, AdjacencySkipIndex skipIndex) {
             this.pages = pages;
+            this.skipIndex = skipIndex;
             this.decompress = new AdjacencyDecompressingReader();
         }
 
@@ -212,6 +245,8 @@ public final class TransientAdjacencyList implements AdjacencyList {
                 pages[pageIndex(fromIndex, PAGE_SHIFT)],
                 indexInPage(fromIndex, PAGE_MASK));
             currentPosition = 0;
+            this.fromIndex = fromIndex;
+            skipEntriesLoaded = false;
         }
 
         /**
@@ -224,6 +259,9 @@ public final class TransientAdjacencyList implements AdjacencyList {
             decompress.copyFrom(theOther.decompress);
             currentPosition = theOther.currentPosition;
             maxTargets = theOther.maxTargets;
+            fromIndex = theOther.fromIndex;
+            skipEntriesLoaded = theOther.skipEntriesLoaded;
+            skipEntryStart = theOther.skipEntryStart;
         }
 
         @Override
@@ -265,6 +303,7 @@ public final class TransientAdjacencyList implements AdjacencyList {
          */
         @Override
         public long skipUntil(long target) {
+            seekBlock(target, true);
             long value = decompress.skipUntil(target, remaining(), this);
             this.currentPosition += this.value;
             return value;
@@ -283,11 +322,76 @@ public final class TransientAdjacencyList implements AdjacencyList {
             if(targetsLeftToBeDecoded <= 0) {
                 return AdjacencyCursor.NOT_FOUND;
             }
+            if (seekBlock(target, false)) {
+                targetsLeftToBeDecoded = remaining();
+            }
             long value = decompress.advance(target, targetsLeftToBeDecoded, this);
             this.currentPosition += this.value;
             return value;
         }
 
+        @Override
+        public long advanceBy(int count) {
+            if (count < 0 || count >= remaining()) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            int targetPosition = currentPosition + count;
+            int block = targetPosition / AdjacencyDecompressingReader.CHUNK_SIZE;
+            if (block > currentBlock() && hasSkipEntries()) {
+                seekTo(block);
+            }
+            while (currentPosition < targetPosition) {
+                nextVLong();
+            }
+            return nextVLong();
+        }
+
+        /**
+         * Use the skip index to jump to the last block that can contain the first target
+         * that is larger than (or equal to, if not {@code strictlyGreater}) the given target.
+         * Returns whether the cursor moved.
+         */
+        private boolean seekBlock(long target, boolean strictlyGreater) {
+            if (remaining() <= AdjacencyDecompressingReader.CHUNK_SIZE || !hasSkipEntries()) {
+                return false;
+            }
+            int block = skipIndex.lastBlockBefore(
+                skipEntryStart,
+                AdjacencySkipIndex.entryCount(maxTargets),
+                target,
+                strictlyGreater
+            );
+            if (block > currentBlock()) {
+                seekTo(block);
+                return true;
+            }
+            return false;
+        }
+
+        private int currentBlock() {
+            return currentPosition / AdjacencyDecompressingReader.CHUNK_SIZE;
+        }
+
+        private boolean hasSkipEntries() {
+            if (skipIndex == null) {
+                return false;
+            }
+            if (!skipEntriesLoaded) {
+                skipEntryStart = skipIndex.entryStart(fromIndex);
+                skipEntriesLoaded = true;
+            }
+            return skipEntryStart != AdjacencySkipIndex.NOT_INDEXED;
+        }
+
+        private void seekTo(int block) {
+            currentPosition = block * AdjacencyDecompressingReader.CHUNK_SIZE;
+            decompress.seek(
+                skipIndex.previousTarget(skipEntryStart, block),
+                skipIndex.blockOffset(skipEntryStart, block),
+                remaining()
+            );
+        }
+
         @Override
         public void close() {
             pages = null;
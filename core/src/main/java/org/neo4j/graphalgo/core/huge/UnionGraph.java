@@ -121,6 +121,11 @@ public final class UnionGraph implements CSRGraph {
         return first.toOriginalNodeId(nodeId);
     }
 
+    @Override
+    public void toOriginalNodeIds(long startNodeId, long[] originalNodeIds, int length) {
+        first.toOriginalNodeIds(startNodeId, originalNodeIds, length);
+    }
+
     @Override
     public boolean contains(final long nodeId) {
         return first.contains(nodeId);
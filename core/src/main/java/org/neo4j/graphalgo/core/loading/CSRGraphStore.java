@@ -46,6 +46,7 @@ import org.neo4j.graphalgo.core.huge.UnionGraph;
 import org.neo4j.graphalgo.core.utils.TimeUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.utils.ExceptionUtil;
+import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 import org.neo4j.graphalgo.utils.StringJoining;
 import org.neo4j.kernel.database.NamedDatabaseId;
 import org.neo4j.values.storable.NumberType;
@@ -86,8 +87,12 @@ public class CSRGraphStore implements GraphStore {
 
     private final Set<Graph> createdGraphs;
 
+    private final MergedTopologies mergedTopologies;
+
     private final AllocationTracker tracker;
 
+    private final ZonedDateTime creationTime;
+
     private ZonedDateTime modificationTime;
 
     public interface CSRGraphStoreConstructor<T> {
@@ -256,7 +261,9 @@ public class CSRGraphStore implements GraphStore {
 
         this.concurrency = concurrency;
         this.createdGraphs = new HashSet<>();
-        this.modificationTime = TimeUtil.now();
+        this.mergedTopologies = new MergedTopologies();
+        this.creationTime = TimeUtil.now();
+        this.modificationTime = creationTime;
         this.tracker = tracker;
     }
 
@@ -270,6 +277,11 @@ public class CSRGraphStore implements GraphStore {
         return GraphSchema.of(nodeSchema(), relationshipTypeSchema());
     }
 
+    @Override
+    public ZonedDateTime creationTime() {
+        return creationTime;
+    }
+
     @Override
     public ZonedDateTime modificationTime() {
         return modificationTime;
@@ -389,6 +401,11 @@ public class CSRGraphStore implements GraphStore {
         return relationships.get(relationshipType).elementCount();
     }
 
+    @Override
+    public Relationships.Topology relationshipTopology(RelationshipType relationshipType) {
+        return relationships.get(relationshipType);
+    }
+
     @Override
     public boolean hasRelationshipProperty(Collection<RelationshipType> relTypes, String propertyKey) {
         return relTypes
@@ -459,6 +476,7 @@ public class CSRGraphStore implements GraphStore {
                     .forEach(property -> builder.putDeletedProperty(property.key(), property.values().elementCount()));
                 graphStore.relationships.remove(relationshipType);
                 graphStore.relationshipProperties.remove(relationshipType);
+                graphStore.mergedTopologies.invalidate(relationshipType, graphStore.tracker);
             })
         );
     }
@@ -509,6 +527,7 @@ public class CSRGraphStore implements GraphStore {
             closeables.accept((AutoCloseable) this.nodes);
         }
         this.relationships.values().forEach(rel -> closeables.add(rel.list()).add(rel.offsets()));
+        this.mergedTopologies.values().forEach(rel -> closeables.add(rel.list()).add(rel.offsets()));
         this.relationshipProperties.forEach((propertyName, properties) ->
             properties.values().forEach(prop -> closeables.add(prop.values().list()).add(prop.values().offsets()))
         );
@@ -611,6 +630,18 @@ public class CSRGraphStore implements GraphStore {
             ? Optional.empty()
             : Optional.of(nodes.withFilteredLabels(filteredLabels, concurrency));
 
+        if (GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY.isEnabled() && maybeRelationshipProperty.isEmpty()) {
+            Set<RelationshipType> selectedTypes = relationships.keySet().stream()
+                .filter(relationshipTypes::contains)
+                .collect(Collectors.toSet());
+            List<Relationships.Topology> selectedTopologies = selectedTypes.stream()
+                .map(relationships::get)
+                .collect(Collectors.toList());
+            if (MergedTopologies.canMerge(selectedTopologies)) {
+                return createMergedGraph(filteredLabels, filteredNodes, selectedTypes);
+            }
+        }
+
         List<CSRGraph> filteredGraphs = relationships.entrySet().stream()
             .filter(relTypeAndCSR -> relationshipTypes.contains(relTypeAndCSR.getKey()))
             .map(relTypeAndCSR -> {
@@ -648,6 +679,41 @@ public class CSRGraphStore implements GraphStore {
         return UnionGraph.of(filteredGraphs);
     }
 
+    private CSRGraph createMergedGraph(
+        Collection<NodeLabel> filteredLabels,
+        Optional<NodeMapping> filteredNodes,
+        Set<RelationshipType> relationshipTypes
+    ) {
+        var graphSchema = GraphSchema.of(
+            schema().nodeSchema(),
+            schema().relationshipSchema().filter(relationshipTypes)
+        );
+        Relationships.Topology topology = mergedTopologies.get(
+            relationshipTypes,
+            nodes,
+            graphSchema,
+            relationships,
+            concurrency,
+            tracker
+        );
+
+        HugeGraph initialGraph = HugeGraph.create(
+            nodes,
+            graphSchema,
+            filterNodeProperties(filteredLabels),
+            topology,
+            Optional.empty(),
+            tracker
+        );
+        CSRGraph graph = filteredNodes.isPresent()
+            ? new NodeFilteredGraph(initialGraph, filteredNodes.get())
+            : initialGraph;
+
+        graph.canRelease(false);
+        createdGraphs.add(graph);
+        return graph;
+    }
+
     private Map<String, NodeProperties> filterNodeProperties(Collection<NodeLabel> labels) {
         if (this.nodeProperties.isEmpty()) {
             return Collections.emptyMap();
@@ -0,0 +1,594 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.configuration.Config;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CSRGraphStoreFactory;
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.GraphLoaderContext;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.NodeProperty;
+import org.neo4j.graphalgo.api.NodePropertyStore;
+import org.neo4j.graphalgo.api.RelationshipProperty;
+import org.neo4j.graphalgo.api.RelationshipPropertyStore;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
+import org.neo4j.graphalgo.config.GraphCreateFromCsvConfig;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.GraphDimensions;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
+import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.loading.construction.NodesBuilder;
+import org.neo4j.graphalgo.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.graphalgo.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.export.ExportSettings;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.values.storable.NumberType;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport.EMPTY_ARRAY;
+import static org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport.GRAPH_INFO_FILE;
+import static org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport.NODE_FILE_PREFIX;
+import static org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport.NODE_SCHEMA_FILE;
+import static org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport.RELATIONSHIP_FILE_PREFIX;
+import static org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport.RELATIONSHIP_SCHEMA_FILE;
+import static org.neo4j.graphalgo.core.write.FileExporter.ARRAY_DELIMITER;
+import static org.neo4j.graphalgo.core.write.FileExporter.COLUMN_DELIMITER;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Creates a graph store from the CSV files of a graph that has been exported by
+ * {@link org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport}, without reading from the Neo4j database.
+ * <p>
+ * Every file shard is read by a single thread. The nodes are read first to build the id map,
+ * the node properties are read in a second pass over the node files, because they are stored by mapped node id.
+ * The relationships are added to the relationships builders as they are stored in the files.
+ * Their orientation is restored from the schema of the export afterwards.
+ */
+public final class CsvFactory extends CSRGraphStoreFactory<GraphCreateFromCsvConfig> {
+
+    private static final String COLUMN_SEPARATOR = String.valueOf(COLUMN_DELIMITER);
+    private static final String ARRAY_SEPARATOR = String.valueOf(ARRAY_DELIMITER);
+
+    private final CsvSchema schema;
+    private final NamedDatabaseId databaseId;
+
+    public CsvFactory(GraphCreateFromCsvConfig graphCreateConfig, GraphLoaderContext loadingContext) {
+        this(
+            graphCreateConfig,
+            loadingContext,
+            CsvSchema.read(ExportSettings.exportDirectory(
+                GraphDatabaseApiProxy.resolveDependency(loadingContext.api(), Config.class),
+                graphCreateConfig.exportName()
+            )),
+            loadingContext.api().databaseId()
+        );
+    }
+
+    CsvFactory(
+        GraphCreateFromCsvConfig graphCreateConfig,
+        GraphLoaderContext loadingContext,
+        CsvSchema schema,
+        NamedDatabaseId databaseId
+    ) {
+        super(graphCreateConfig, loadingContext, schema.dimensions());
+        this.schema = schema;
+        this.databaseId = databaseId;
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        MemoryEstimations.Builder builder = MemoryEstimations.builder(HugeGraph.class);
+
+        builder.add("nodeIdMap", IdMap.memoryEstimation());
+
+        schema.nodePropertyTypes().keySet()
+            .forEach(property -> builder.add(property, NodePropertiesFromStoreBuilder.memoryEstimation()));
+
+        // the stored relationships of undirected types already contain both directions
+        for (RelationshipTypeSchema typeSchema : schema.relationshipTypes) {
+            var relationshipType = typeSchema.relationshipType;
+            builder.add(
+                formatWithLocale("adjacency list for '%s'", relationshipType.name),
+                TransientAdjacencyList.compressedMemoryEstimation(relationshipType, false)
+            );
+            builder.add(
+                formatWithLocale("adjacency offsets for '%s'", relationshipType.name),
+                TransientAdjacencyOffsets.memoryEstimation()
+            );
+            for (String propertyKey : typeSchema.propertyKeys) {
+                builder.add(
+                    formatWithLocale("property '%s.%s", relationshipType.name, propertyKey),
+                    TransientAdjacencyList.uncompressedMemoryEstimation(relationshipType, false)
+                );
+                builder.add(
+                    formatWithLocale("property offset '%s.%s", relationshipType.name, propertyKey),
+                    TransientAdjacencyOffsets.memoryEstimation()
+                );
+            }
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    protected ProgressLogger initProgressLogger() {
+        return new BatchingProgressLogger(
+            loadingContext.log(),
+            dimensions.nodeCount() + dimensions.maxRelCount(),
+            TASK_LOADING,
+            graphCreateConfig.readConcurrency()
+        );
+    }
+
+    @Override
+    public ImportResult<CSRGraphStore> build() {
+        progressLogger.logStart();
+
+        var nodeFiles = schema.files(NODE_FILE_PREFIX);
+        var idMap = loadNodes(nodeFiles);
+        var nodePropertyStores = loadNodeProperties(nodeFiles, idMap);
+
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        var relationshipPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        loadRelationships(idMap, topologies, relationshipPropertyStores);
+
+        var graphStore = CSRGraphStore.of(
+            databaseId,
+            idMap,
+            nodePropertyStores,
+            topologies,
+            relationshipPropertyStores,
+            graphCreateConfig.readConcurrency(),
+            loadingContext.tracker()
+        );
+
+        progressLogger.logFinish();
+        return ImportResult.of(dimensions, graphStore);
+    }
+
+    private IdMap loadNodes(List<Path> nodeFiles) {
+        boolean hasLabelInformation = !schema.hasOnlyAllNodesLabel();
+        NodesBuilder nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(schema.maxOriginalId)
+            .hasLabelInformation(hasLabelInformation)
+            .concurrency(graphCreateConfig.readConcurrency())
+            .tracker(loadingContext.tracker())
+            .build();
+
+        var tasks = new ArrayList<Runnable>(nodeFiles.size());
+        for (Path nodeFile : nodeFiles) {
+            tasks.add(() -> readFile(nodeFile, columns -> {
+                long originalId = Long.parseLong(columns[0]);
+                if (hasLabelInformation) {
+                    nodesBuilder.addNode(originalId, schema.labels(columns[1]));
+                } else {
+                    nodesBuilder.addNode(originalId);
+                }
+            }));
+        }
+        ParallelUtil.runWithConcurrency(graphCreateConfig.readConcurrency(), tasks, loadingContext.executor());
+
+        return nodesBuilder.build();
+    }
+
+    private Map<NodeLabel, NodePropertyStore> loadNodeProperties(List<Path> nodeFiles, NodeMapping idMap) {
+        var nodePropertyTypes = schema.nodePropertyTypes();
+        var propertyBuilders = new LinkedHashMap<String, NodePropertiesFromStoreBuilder>();
+        nodePropertyTypes.forEach((propertyKey, valueType) -> propertyBuilders.put(
+            propertyKey,
+            NodePropertiesFromStoreBuilder.of(idMap.nodeCount(), loadingContext.tracker(), valueType.fallbackValue())
+        ));
+
+        if (!propertyBuilders.isEmpty()) {
+            // the property columns of the node files are in the order of the property keys
+            var valueTypes = nodePropertyTypes.values().toArray(new ValueType[0]);
+            var builders = propertyBuilders.values().toArray(new NodePropertiesFromStoreBuilder[0]);
+            var tasks = new ArrayList<Runnable>(nodeFiles.size());
+            for (Path nodeFile : nodeFiles) {
+                tasks.add(() -> readFile(nodeFile, columns -> {
+                    long nodeId = idMap.toMappedNodeId(Long.parseLong(columns[0]));
+                    for (int propertyIndex = 0; propertyIndex < builders.length; propertyIndex++) {
+                        var value = columns[propertyIndex + 2];
+                        if (!value.isEmpty()) {
+                            builders[propertyIndex].set(nodeId, parseValue(valueTypes[propertyIndex], value));
+                        }
+                    }
+                }));
+            }
+            ParallelUtil.runWithConcurrency(graphCreateConfig.readConcurrency(), tasks, loadingContext.executor());
+        }
+
+        Map<String, NodeProperties> nodeProperties = propertyBuilders.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+
+        var nodePropertyStores = new HashMap<NodeLabel, NodePropertyStore>();
+        schema.nodeProperties.forEach((nodeLabel, propertyKeys) -> {
+            var builder = NodePropertyStore.builder();
+            propertyKeys.keySet().forEach(propertyKey -> builder.putIfAbsent(
+                propertyKey,
+                NodeProperty.of(propertyKey, schema.nodePropertyStates.get(propertyKey), nodeProperties.get(propertyKey))
+            ));
+            nodePropertyStores.put(nodeLabel, builder.build());
+        });
+        return nodePropertyStores;
+    }
+
+    private void loadRelationships(
+        NodeMapping idMap,
+        Map<RelationshipType, Relationships.Topology> topologies,
+        Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores
+    ) {
+        var tasks = new ArrayList<Runnable>();
+        var buildersByType = new ArrayList<RelationshipsBuilder>(schema.relationshipTypes.size());
+        for (int typeIndex = 0; typeIndex < schema.relationshipTypes.size(); typeIndex++) {
+            var typeSchema = schema.relationshipTypes.get(typeIndex);
+            int propertyCount = typeSchema.propertyKeys.length;
+
+            // The stored relationships are read as they are, for undirected graphs both directions are stored already.
+            // All properties are imported together with a single topology, so that they line up even for parallel
+            // relationships.
+            var builder = GraphFactory.initRelationshipsBuilder()
+                .nodes(idMap)
+                .orientation(Orientation.NATURAL)
+                .propertyCount(propertyCount)
+                .concurrency(graphCreateConfig.readConcurrency())
+                .executorService(loadingContext.executor())
+                .tracker(loadingContext.tracker())
+                .build();
+            buildersByType.add(builder);
+
+            for (Path relationshipFile : schema.files(formatWithLocale("%s%d_", RELATIONSHIP_FILE_PREFIX, typeIndex))) {
+                tasks.add(() -> {
+                    // the builder copies the values right away, so that they can be reused for every line
+                    var propertyValues = new double[propertyCount];
+                    readFile(relationshipFile, columns -> {
+                        long source = Long.parseLong(columns[0]);
+                        long target = Long.parseLong(columns[1]);
+                        if (propertyCount == 0) {
+                            builder.add(source, target);
+                        } else {
+                            for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                                propertyValues[propertyIndex] = Double.parseDouble(columns[propertyIndex + 2]);
+                            }
+                            builder.add(source, target, propertyValues);
+                        }
+                    });
+                });
+            }
+        }
+        ParallelUtil.runWithConcurrency(graphCreateConfig.readConcurrency(), tasks, loadingContext.executor());
+
+        for (int typeIndex = 0; typeIndex < schema.relationshipTypes.size(); typeIndex++) {
+            var typeSchema = schema.relationshipTypes.get(typeIndex);
+            var relationships = buildersByType.get(typeIndex).buildAll();
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            for (int i = 0; i < relationships.size(); i++) {
+                boolean hasProperty = typeSchema.propertyKeys.length > 0;
+                var topology = relationships.get(i).topology();
+                var orientedRelationships = Relationships.of(
+                    topology.elementCount(),
+                    typeSchema.orientation,
+                    typeSchema.isMultiGraph,
+                    topology.list(),
+                    topology.offsets(),
+                    relationships.get(i).properties().map(Relationships.Properties::list).orElse(null),
+                    relationships.get(i).properties().map(Relationships.Properties::offsets).orElse(null),
+                    hasProperty ? typeSchema.defaultValues[i] : Double.NaN
+                );
+                topologies.putIfAbsent(typeSchema.relationshipType, orientedRelationships.topology());
+
+                if (hasProperty) {
+                    var propertyKey = typeSchema.propertyKeys[i];
+                    propertyStoreBuilder.putIfAbsent(propertyKey, RelationshipProperty.of(
+                        propertyKey,
+                        NumberType.FLOATING_POINT,
+                        GraphStore.PropertyState.PERSISTENT,
+                        orientedRelationships.properties().get(),
+                        DefaultValue.of(typeSchema.defaultValues[i]),
+                        typeSchema.aggregations[i]
+                    ));
+                }
+            }
+            relationshipPropertyStores.put(typeSchema.relationshipType, propertyStoreBuilder.build());
+        }
+    }
+
+    private void readFile(Path file, LineConsumer consumer) {
+        loadingContext.terminationFlag().assertRunning();
+        long lineCount = 0L;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            // skip the header
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                consumer.accept(line.split(COLUMN_SEPARATOR, -1));
+                lineCount++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        progressLogger.logProgress(lineCount);
+    }
+
+    private static Value parseValue(ValueType valueType, String value) {
+        switch (valueType) {
+            case LONG:
+                return Values.longValue(Long.parseLong(value));
+            case DOUBLE:
+                return Values.doubleValue(Double.parseDouble(value));
+            case LONG_ARRAY:
+                if (value.equals(EMPTY_ARRAY)) {
+                    return Values.longArray(new long[0]);
+                }
+                var longElements = value.split(ARRAY_SEPARATOR);
+                var longs = new long[longElements.length];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = Long.parseLong(longElements[i]);
+                }
+                return Values.longArray(longs);
+            case DOUBLE_ARRAY:
+                if (value.equals(EMPTY_ARRAY)) {
+                    return Values.doubleArray(new double[0]);
+                }
+                var doubleElements = value.split(ARRAY_SEPARATOR);
+                var doubles = new double[doubleElements.length];
+                for (int i = 0; i < doubles.length; i++) {
+                    doubles[i] = Double.parseDouble(doubleElements[i]);
+                }
+                return Values.doubleArray(doubles);
+            case FLOAT_ARRAY:
+                if (value.equals(EMPTY_ARRAY)) {
+                    return Values.floatArray(new float[0]);
+                }
+                var floatElements = value.split(ARRAY_SEPARATOR);
+                var floats = new float[floatElements.length];
+                for (int i = 0; i < floats.length; i++) {
+                    floats[i] = Float.parseFloat(floatElements[i]);
+                }
+                return Values.floatArray(floats);
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Loading properties of type %s from files is not supported.",
+                    valueType
+                ));
+        }
+    }
+
+    @FunctionalInterface
+    private interface LineConsumer {
+        void accept(String[] columns);
+    }
+
+    /**
+     * The content of the schema files of an export.
+     */
+    static final class CsvSchema {
+
+        final Path directory;
+        final long nodeCount;
+        final long maxOriginalId;
+        final Map<NodeLabel, Map<String, ValueType>> nodeProperties;
+        final Map<String, GraphStore.PropertyState> nodePropertyStates;
+        final List<RelationshipTypeSchema> relationshipTypes;
+
+        private final Map<String, NodeLabel[]> labelsCache;
+
+        private CsvSchema(
+            Path directory,
+            long nodeCount,
+            long maxOriginalId,
+            Map<NodeLabel, Map<String, ValueType>> nodeProperties,
+            Map<String, GraphStore.PropertyState> nodePropertyStates,
+            List<RelationshipTypeSchema> relationshipTypes
+        ) {
+            this.directory = directory;
+            this.nodeCount = nodeCount;
+            this.maxOriginalId = maxOriginalId;
+            this.nodeProperties = nodeProperties;
+            this.nodePropertyStates = nodePropertyStates;
+            this.relationshipTypes = relationshipTypes;
+            this.labelsCache = new ConcurrentHashMap<>();
+        }
+
+        static CsvSchema read(Path directory) {
+            if (!Files.isDirectory(directory)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The export `%s` does not exist.",
+                    directory.getFileName()
+                ));
+            }
+
+            var graphInfo = readLines(directory.resolve(GRAPH_INFO_FILE)).get(0);
+
+            var nodeProperties = new LinkedHashMap<NodeLabel, Map<String, ValueType>>();
+            var nodePropertyStates = new HashMap<String, GraphStore.PropertyState>();
+            for (String[] columns : readLines(directory.resolve(NODE_SCHEMA_FILE))) {
+                var properties = nodeProperties.computeIfAbsent(NodeLabel.of(columns[0]), ignore -> new LinkedHashMap<>());
+                if (!columns[1].isEmpty()) {
+                    properties.put(columns[1], ValueType.valueOf(columns[2]));
+                    nodePropertyStates.put(columns[1], GraphStore.PropertyState.valueOf(columns[3]));
+                }
+            }
+
+            var relationshipTypes = new ArrayList<RelationshipTypeSchema>();
+            var rowsByType = new LinkedHashMap<String, List<String[]>>();
+            for (String[] columns : readLines(directory.resolve(RELATIONSHIP_SCHEMA_FILE))) {
+                rowsByType.computeIfAbsent(columns[0], ignore -> new ArrayList<>()).add(columns);
+            }
+            rowsByType.values().forEach(rows -> relationshipTypes.add(RelationshipTypeSchema.of(rows)));
+
+            return new CsvSchema(
+                directory,
+                Long.parseLong(graphInfo[0]),
+                Long.parseLong(graphInfo[1]),
+                nodeProperties,
+                nodePropertyStates,
+                relationshipTypes
+            );
+        }
+
+        GraphDimensions dimensions() {
+            var relationshipCounts = new HashMap<RelationshipType, Long>();
+            long relationshipCount = 0L;
+            for (RelationshipTypeSchema typeSchema : relationshipTypes) {
+                relationshipCounts.put(typeSchema.relationshipType, typeSchema.relationshipCount);
+                relationshipCount += typeSchema.relationshipCount;
+            }
+            return ImmutableGraphDimensions.builder()
+                .nodeCount(nodeCount)
+                .highestNeoId(maxOriginalId)
+                .relationshipCounts(relationshipCounts)
+                .maxRelCount(relationshipCount)
+                .build();
+        }
+
+        boolean hasOnlyAllNodesLabel() {
+            return nodeProperties.size() == 1 && nodeProperties.containsKey(NodeLabel.ALL_NODES);
+        }
+
+        /**
+         * The value type of every node property key, in the order of the property columns of the node files.
+         */
+        Map<String, ValueType> nodePropertyTypes() {
+            var propertyTypes = new TreeMap<String, ValueType>();
+            nodeProperties.values().forEach(properties -> properties.forEach(propertyTypes::putIfAbsent));
+            return propertyTypes;
+        }
+
+        NodeLabel[] labels(String labels) {
+            return labelsCache.computeIfAbsent(labels, ignore -> labels.isEmpty()
+                ? new NodeLabel[0]
+                : Arrays.stream(labels.split(ARRAY_SEPARATOR)).map(NodeLabel::of).toArray(NodeLabel[]::new)
+            );
+        }
+
+        List<Path> files(String prefix) {
+            try (var files = Files.list(directory)) {
+                return files
+                    .filter(file -> {
+                        var fileName = file.getFileName().toString();
+                        return fileName.startsWith(prefix) && fileName.endsWith(".csv");
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static List<String[]> readLines(Path file) {
+            try {
+                return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                    .skip(1)
+                    .map(line -> line.split(COLUMN_SEPARATOR, -1))
+                    .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    static final class RelationshipTypeSchema {
+
+        final RelationshipType relationshipType;
+        final Orientation orientation;
+        final boolean isMultiGraph;
+        final long relationshipCount;
+        final String[] propertyKeys;
+        final double[] defaultValues;
+        final Aggregation[] aggregations;
+
+        private RelationshipTypeSchema(
+            RelationshipType relationshipType,
+            Orientation orientation,
+            boolean isMultiGraph,
+            long relationshipCount,
+            String[] propertyKeys,
+            double[] defaultValues,
+            Aggregation[] aggregations
+        ) {
+            this.relationshipType = relationshipType;
+            this.orientation = orientation;
+            this.isMultiGraph = isMultiGraph;
+            this.relationshipCount = relationshipCount;
+            this.propertyKeys = propertyKeys;
+            this.defaultValues = defaultValues;
+            this.aggregations = aggregations;
+        }
+
+        /**
+         * Every row contains the columns of the type and the columns of one property, if the type has properties.
+         */
+        static RelationshipTypeSchema of(List<String[]> rows) {
+            var first = rows.get(0);
+            boolean hasProperties = !first[4].isEmpty();
+            int propertyCount = hasProperties ? rows.size() : 0;
+            var propertyKeys = new String[propertyCount];
+            var defaultValues = new double[propertyCount];
+            var aggregations = new Aggregation[propertyCount];
+            for (int i = 0; i < propertyCount; i++) {
+                var row = rows.get(i);
+                propertyKeys[i] = row[4];
+                defaultValues[i] = Double.parseDouble(row[5]);
+                aggregations[i] = Aggregation.valueOf(row[6]);
+            }
+            return new RelationshipTypeSchema(
+                RelationshipType.of(first[0]),
+                Orientation.valueOf(first[1]),
+                Boolean.parseBoolean(first[2]),
+                Long.parseLong(first[3]),
+                propertyKeys,
+                defaultValues,
+                aggregations
+            );
+        }
+    }
+}
@@ -232,10 +232,14 @@ public final class GraphStoreCatalog {
         ) {
             Optional.ofNullable(get(userCatalogKey, failOnMissing)).ifPresent(graphStoreWithConfig -> {
                 removedGraphConsumer.accept(graphStoreWithConfig);
-                graphStoreWithConfig.graphStore().canRelease(true);
-                graphStoreWithConfig.graphStore().release();
                 removeDegreeDistribution(userCatalogKey);
                 graphsByName.remove(userCatalogKey);
+                // a graph store can be registered under several names, it is released together with its last name
+                var graphStore = graphStoreWithConfig.graphStore();
+                if (graphsByName.values().stream().noneMatch(other -> other.graphStore() == graphStore)) {
+                    graphStore.canRelease(true);
+                    graphStore.release();
+                }
             });
         }
 
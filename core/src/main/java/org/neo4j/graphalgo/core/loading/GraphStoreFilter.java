@@ -0,0 +1,487 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.DoubleArrayList;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CSRGraph;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.NodeProperty;
+import org.neo4j.graphalgo.api.NodePropertyStore;
+import org.neo4j.graphalgo.api.RelationshipProperty;
+import org.neo4j.graphalgo.api.RelationshipPropertyStore;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.values.storable.NumberType;
+import org.neo4j.values.storable.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Materializes the subgraph of a graph store that is induced by a node label, relationship type and node filter
+ * into a compact graph store.
+ * <p>
+ * The remaining nodes are renumbered densely in the order of their original ids and the adjacency lists
+ * are rebuilt in parallel for the new ids, so that algorithms on the subgraph neither skip filtered nodes
+ * nor translate ids like the filtered views of {@link CSRGraphStore#getGraph} do.
+ * <p>
+ * Node properties are not copied, they are views on the property values of the original graph store.
+ * If no node is filtered, the node mapping of the original graph store is shared as well.
+ * Relationship properties are rebuilt together with the adjacency lists.
+ */
+public final class GraphStoreFilter {
+
+    private static final long NOT_KEPT = -1L;
+
+    private GraphStoreFilter() {}
+
+    public static CSRGraphStore filter(
+        GraphStore graphStore,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        LongPredicate nodeFilter,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var rootNodes = graphStore.nodes();
+        var nodeCount = graphStore.nodeCount();
+        var allLabels = nodeLabels.containsAll(graphStore.nodeLabels());
+        var labels = nodeLabels.toArray(NodeLabel[]::new);
+
+        LongPredicate keepNode = node -> (allLabels || hasAnyLabel(rootNodes, node, labels)) && nodeFilter.test(node);
+
+        // first pass: count the kept nodes per batch, which is the offset of the new ids of the next batch
+        var batchSize = ParallelUtil.adjustedBatchSize(nodeCount, concurrency, ParallelUtil.DEFAULT_BATCH_SIZE);
+        var batchCount = Math.toIntExact(ParallelUtil.threadCount(batchSize, Math.max(1L, nodeCount)));
+        var keptNodes = HugeAtomicBitSet.create(nodeCount, tracker);
+        var batchOffsets = new long[batchCount + 1];
+        runBatches(batchCount, batchSize, nodeCount, concurrency, (batch, start, end) -> {
+            long kept = 0L;
+            for (long node = start; node < end; node++) {
+                if (keepNode.test(node)) {
+                    keptNodes.set(node);
+                    kept++;
+                }
+            }
+            batchOffsets[batch + 1] = kept;
+        });
+        for (int batch = 0; batch < batchCount; batch++) {
+            batchOffsets[batch + 1] += batchOffsets[batch];
+        }
+        var filteredNodeCount = batchOffsets[batchCount];
+
+        NodeMapping nodes;
+        LongUnaryOperator toRootId;
+        LongUnaryOperator toFilteredId;
+        if (filteredNodeCount == nodeCount && allLabels) {
+            nodes = rootNodes;
+            toRootId = LongUnaryOperator.identity();
+            toFilteredId = LongUnaryOperator.identity();
+        } else {
+            // second pass: assign the new ids in the order of the original ids
+            var filteredToRoot = HugeLongArray.newArray(filteredNodeCount, tracker);
+            var rootToFiltered = HugeLongArray.newArray(nodeCount, tracker);
+            var graphIds = HugeLongArray.newArray(filteredNodeCount, tracker);
+            var highestNodeIds = new long[batchCount];
+            runBatches(batchCount, batchSize, nodeCount, concurrency, (batch, start, end) -> {
+                long filteredId = batchOffsets[batch];
+                long highestNodeId = 0L;
+                for (long node = start; node < end; node++) {
+                    if (keptNodes.get(node)) {
+                        var originalId = rootNodes.toOriginalNodeId(node);
+                        filteredToRoot.set(filteredId, node);
+                        graphIds.set(filteredId, originalId);
+                        rootToFiltered.set(node, filteredId++);
+                        highestNodeId = Math.max(highestNodeId, originalId);
+                    } else {
+                        rootToFiltered.set(node, NOT_KEPT);
+                    }
+                }
+                highestNodeIds[batch] = highestNodeId;
+            });
+
+            long highestNodeId = 0L;
+            for (long batchHighestNodeId : highestNodeIds) {
+                highestNodeId = Math.max(highestNodeId, batchHighestNodeId);
+            }
+
+            nodes = new IdMap(
+                graphIds,
+                IdMapBuilder.buildSparseNodeMapping(
+                    filteredNodeCount,
+                    highestNodeId,
+                    concurrency,
+                    IdMapBuilder.add(graphIds),
+                    tracker
+                ),
+                labelInformation(rootNodes, allLabels ? rootNodes.availableNodeLabels() : nodeLabels, filteredToRoot, concurrency),
+                filteredNodeCount,
+                tracker
+            );
+            toRootId = filteredToRoot::get;
+            toFilteredId = rootToFiltered::get;
+        }
+
+        var nodePropertyStores = nodePropertyStores(graphStore, nodes, toRootId, nodes == rootNodes);
+
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        var relationshipPropertyStores = new HashMap<RelationshipType, RelationshipPropertyStore>();
+        for (RelationshipType relationshipType : relationshipTypes) {
+            filterRelationships(
+                graphStore,
+                relationshipType,
+                nodes,
+                toRootId,
+                toFilteredId,
+                concurrency,
+                tracker,
+                topologies,
+                relationshipPropertyStores
+            );
+        }
+
+        return CSRGraphStore.of(
+            graphStore.databaseId(),
+            nodes,
+            nodePropertyStores,
+            topologies,
+            relationshipPropertyStores,
+            concurrency,
+            tracker
+        );
+    }
+
+    private static boolean hasAnyLabel(NodeMapping nodes, long node, NodeLabel[] labels) {
+        for (NodeLabel label : labels) {
+            if (nodes.hasLabel(node, label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<NodeLabel, BitSet> labelInformation(
+        NodeMapping rootNodes,
+        Collection<NodeLabel> nodeLabels,
+        HugeLongArray filteredToRoot,
+        int concurrency
+    ) {
+        if (rootNodes.containsOnlyAllNodesLabel()) {
+            return new HashMap<>();
+        }
+        var filteredNodeCount = filteredToRoot.size();
+        var labelInformation = new HashMap<NodeLabel, BitSet>();
+        var tasks = new ArrayList<Runnable>();
+        // every task fills the bit set of one label
+        for (NodeLabel label : nodeLabels) {
+            var bitSet = new BitSet(filteredNodeCount);
+            labelInformation.put(label, bitSet);
+            tasks.add(() -> {
+                for (long node = 0; node < filteredNodeCount; node++) {
+                    if (rootNodes.hasLabel(filteredToRoot.get(node), label)) {
+                        bitSet.set(node);
+                    }
+                }
+            });
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+        return labelInformation;
+    }
+
+    private static Map<NodeLabel, NodePropertyStore> nodePropertyStores(
+        GraphStore graphStore,
+        NodeMapping nodes,
+        LongUnaryOperator toRootId,
+        boolean sharesNodes
+    ) {
+        var nodeSchema = graphStore.schema().nodeSchema().properties();
+        var nodePropertyStores = new HashMap<NodeLabel, NodePropertyStore>();
+        for (NodeLabel label : nodes.availableNodeLabels()) {
+            var builder = NodePropertyStore.builder();
+            for (String propertyKey : graphStore.nodePropertyKeys(label)) {
+                var propertySchema = nodeSchema.get(label).get(propertyKey);
+                var values = graphStore.nodePropertyValues(label, propertyKey);
+                builder.putIfAbsent(propertyKey, NodeProperty.of(
+                    propertyKey,
+                    propertySchema.state(),
+                    sharesNodes ? values : new FilteredValues(values, toRootId, nodes.nodeCount()),
+                    propertySchema.defaultValue()
+                ));
+            }
+            nodePropertyStores.put(label, builder.build());
+        }
+        return nodePropertyStores;
+    }
+
+    private static void filterRelationships(
+        GraphStore graphStore,
+        RelationshipType relationshipType,
+        NodeMapping nodes,
+        LongUnaryOperator toRootId,
+        LongUnaryOperator toFilteredId,
+        int concurrency,
+        AllocationTracker tracker,
+        Map<RelationshipType, Relationships.Topology> topologies,
+        Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores
+    ) {
+        var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+        var rootTopology = ((CSRGraph) graphStore
+            .getGraph(graphStore.nodeLabels(), List.of(relationshipType), Optional.empty()))
+            .relationshipTopology();
+        var rootGraphs = new ArrayList<Graph>(Math.max(1, propertyKeys.size()));
+        if (propertyKeys.isEmpty()) {
+            rootGraphs.add(graphStore.getGraph(graphStore.nodeLabels(), List.of(relationshipType), Optional.empty()));
+        }
+        for (String propertyKey : propertyKeys) {
+            rootGraphs.add(graphStore.getGraph(graphStore.nodeLabels(), List.of(relationshipType), Optional.of(propertyKey)));
+        }
+
+        // The stored relationships are copied as they are, for undirected graphs both directions are stored already.
+        // All properties are imported together with a single topology, so that they line up even for parallel
+        // relationships. The topology is labeled with the original orientation afterwards.
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodes)
+            .orientation(Orientation.NATURAL)
+            .propertyCount(propertyKeys.size())
+            .concurrency(concurrency)
+            .executorService(Pools.DEFAULT)
+            .tracker(tracker)
+            .build();
+
+        ParallelUtil.readParallel(concurrency, nodes.nodeCount(), Pools.DEFAULT, (start, end) -> {
+            var graphs = rootGraphs.stream().map(Graph::concurrentCopy).toArray(Graph[]::new);
+            // the values of all but the first property are buffered, every property graph traverses the same
+            // adjacency list in the same order, so that the values of one relationship share their position
+            var bufferedValues = new DoubleArrayList[graphs.length];
+            Arrays.setAll(bufferedValues, i -> new DoubleArrayList());
+            var propertyValues = new double[graphs.length];
+            var position = new int[1];
+            for (long node = start; node < end; node++) {
+                var source = node;
+                var rootSource = toRootId.applyAsLong(source);
+                if (propertyKeys.isEmpty()) {
+                    graphs[0].forEachRelationship(rootSource, (s, t) -> {
+                        var target = toFilteredId.applyAsLong(t);
+                        if (target != NOT_KEPT) {
+                            relationshipsBuilder.addFromInternal(source, target);
+                        }
+                        return true;
+                    });
+                    continue;
+                }
+                for (int i = 1; i < graphs.length; i++) {
+                    var values = bufferedValues[i];
+                    values.clear();
+                    graphs[i].forEachRelationship(rootSource, Double.NaN, (s, t, property) -> {
+                        values.add(property);
+                        return true;
+                    });
+                }
+                position[0] = 0;
+                graphs[0].forEachRelationship(rootSource, Double.NaN, (s, t, property) -> {
+                    var relationship = position[0]++;
+                    var target = toFilteredId.applyAsLong(t);
+                    if (target != NOT_KEPT) {
+                        propertyValues[0] = property;
+                        for (int i = 1; i < graphs.length; i++) {
+                            propertyValues[i] = bufferedValues[i].get(relationship);
+                        }
+                        relationshipsBuilder.addFromInternal(source, target, propertyValues);
+                    }
+                    return true;
+                });
+            }
+        });
+
+        var relationships = relationshipsBuilder.buildAll();
+        topologies.put(relationshipType, oriented(relationships.get(0), rootTopology, Double.NaN).topology());
+
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        var relationshipSchema = graphStore.schema().relationshipSchema().properties().get(relationshipType);
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            var propertyKey = propertyKeys.get(i);
+            var propertySchema = relationshipSchema.get(propertyKey);
+            var properties = oriented(relationships.get(i), rootTopology, propertySchema.defaultValue().doubleValue());
+            propertyStoreBuilder.putIfAbsent(propertyKey, RelationshipProperty.of(
+                propertyKey,
+                NumberType.FLOATING_POINT,
+                propertySchema.state(),
+                properties.properties().get(),
+                propertySchema.defaultValue(),
+                propertySchema.aggregation()
+            ));
+        }
+        relationshipPropertyStores.put(relationshipType, propertyStoreBuilder.build());
+    }
+
+    private static Relationships oriented(
+        Relationships relationships,
+        Relationships.Topology rootTopology,
+        double defaultPropertyValue
+    ) {
+        var topology = relationships.topology();
+        return Relationships.of(
+            topology.elementCount(),
+            rootTopology.orientation(),
+            rootTopology.isMultiGraph(),
+            topology.list(),
+            topology.offsets(),
+            relationships.properties().map(Relationships.Properties::list).orElse(null),
+            relationships.properties().map(Relationships.Properties::offsets).orElse(null),
+            defaultPropertyValue
+        );
+    }
+
+    private static void runBatches(
+        int batchCount,
+        long batchSize,
+        long nodeCount,
+        int concurrency,
+        BatchConsumer consumer
+    ) {
+        var tasks = new ArrayList<Runnable>(batchCount);
+        for (int batch = 0; batch < batchCount; batch++) {
+            var currentBatch = batch;
+            var start = batch * batchSize;
+            var end = Math.min(nodeCount, start + batchSize);
+            tasks.add(() -> consumer.accept(currentBatch, start, end));
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+    }
+
+    @FunctionalInterface
+    private interface BatchConsumer {
+        void accept(int batch, long start, long end);
+    }
+
+    /**
+     * The property values of the original graph store, accessed through the new node ids.
+     * The values are owned by the original graph store and are not released by this view.
+     */
+    static final class FilteredValues implements NodeProperties {
+
+        private final NodeProperties properties;
+        private final LongUnaryOperator toRootId;
+        private final long nodeCount;
+
+        FilteredValues(NodeProperties properties, LongUnaryOperator toRootId, long nodeCount) {
+            this.properties = properties;
+            this.toRootId = toRootId;
+            this.nodeCount = nodeCount;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return properties.doubleValue(toRootId.applyAsLong(nodeId));
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return properties.longValue(toRootId.applyAsLong(nodeId));
+        }
+
+        @Override
+        public double[] doubleArrayValue(long nodeId) {
+            return properties.doubleArrayValue(toRootId.applyAsLong(nodeId));
+        }
+
+        @Override
+        public float[] floatArrayValue(long nodeId) {
+            return properties.floatArrayValue(toRootId.applyAsLong(nodeId));
+        }
+
+        @Override
+        public long[] longArrayValue(long nodeId) {
+            return properties.longArrayValue(toRootId.applyAsLong(nodeId));
+        }
+
+        @Override
+        public Object getObject(long nodeId) {
+            return properties.getObject(toRootId.applyAsLong(nodeId));
+        }
+
+        @Override
+        public Value value(long nodeId) {
+            return properties.value(toRootId.applyAsLong(nodeId));
+        }
+
+        @Override
+        public ValueType valueType() {
+            return properties.valueType();
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            if (valueType() == ValueType.LONG) {
+                long max = Long.MIN_VALUE;
+                for (long node = 0; node < nodeCount; node++) {
+                    max = Math.max(max, longValue(node));
+                }
+                return nodeCount == 0 ? OptionalLong.empty() : OptionalLong.of(max);
+            } else if (valueType() == ValueType.DOUBLE) {
+                var max = getMaxDoublePropertyValue();
+                return max.isPresent() ? OptionalLong.of((long) max.getAsDouble()) : OptionalLong.empty();
+            }
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public OptionalDouble getMaxDoublePropertyValue() {
+            if (valueType() == ValueType.DOUBLE) {
+                double max = Double.NEGATIVE_INFINITY;
+                for (long node = 0; node < nodeCount; node++) {
+                    max = Math.max(max, doubleValue(node));
+                }
+                return nodeCount == 0 ? OptionalDouble.empty() : OptionalDouble.of(max);
+            } else if (valueType() == ValueType.LONG) {
+                var max = getMaxLongPropertyValue();
+                return max.isPresent() ? OptionalDouble.of(max.getAsLong()) : OptionalDouble.empty();
+            }
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public long size() {
+            return nodeCount;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
 
@@ -110,6 +111,19 @@ public class IdMap implements NodeMapping, NodeIterator, BatchNodeIterable {
         return graphIds.get(nodeId);
     }
 
+    @Override
+    public void toOriginalNodeIds(long startNodeId, long[] originalNodeIds, int length) {
+        // copies whole page ranges instead of resolving the page for every single node
+        try (HugeCursor<long[]> cursor = graphIds.initCursor(graphIds.newCursor(), startNodeId, startNodeId + length)) {
+            int index = 0;
+            while (cursor.next()) {
+                int count = cursor.limit - cursor.offset;
+                System.arraycopy(cursor.array, cursor.offset, originalNodeIds, index, count);
+                index += count;
+            }
+        }
+    }
+
     @Override
     public boolean contains(final long nodeId) {
         return nodeToGraphIds.contains(nodeId);
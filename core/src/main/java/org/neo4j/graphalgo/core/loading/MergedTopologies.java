@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.Relationships;
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Caches merged adjacency lists for sets of relationship types of a {@link CSRGraphStore}.
+ * <p>
+ * A graph over several relationship types is a {@link org.neo4j.graphalgo.core.huge.UnionGraph} that merges
+ * the adjacency lists of all types on every traversal.
+ * The merged topology contains the sorted and deduplicated targets of all types in a single adjacency list,
+ * so that the graph can be a plain {@link HugeGraph} instead.
+ * It is built once per set of types, in parallel over the source nodes.
+ */
+final class MergedTopologies {
+
+    private final Map<Set<RelationshipType>, MergedTopology> topologies;
+    // invalidated topologies might still be in use by existing graphs, they are closed with the graph store
+    private final List<Relationships.Topology> invalidatedTopologies;
+
+    MergedTopologies() {
+        this.topologies = new HashMap<>();
+        this.invalidatedTopologies = new ArrayList<>();
+    }
+
+    /**
+     * Merges topologies, which must all have the same orientation.
+     */
+    synchronized Relationships.Topology get(
+        Set<RelationshipType> relationshipTypes,
+        NodeMapping nodes,
+        GraphSchema schema,
+        Map<RelationshipType, Relationships.Topology> relationships,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        return topologies.computeIfAbsent(Set.copyOf(relationshipTypes), types -> {
+            var topologiesToMerge = new ArrayList<Relationships.Topology>(types.size());
+            for (RelationshipType type : types) {
+                topologiesToMerge.add(relationships.get(type));
+            }
+            // the merged topology is tracked separately, so that it can be untracked when it is invalidated
+            var mergeTracker = AllocationTracker.isTracking(tracker) ? AllocationTracker.create() : AllocationTracker.empty();
+            var topology = merge(topologiesToMerge, nodes, schema, concurrency, tracker, mergeTracker);
+            tracker.add(mergeTracker.trackedBytes());
+            return new MergedTopology(topology, mergeTracker.trackedBytes());
+        }).topology;
+    }
+
+    /**
+     * Removes the merged topologies that contain the given type and untracks their memory.
+     * Graphs that are already using them keep working, they are closed together with all other topologies.
+     */
+    synchronized void invalidate(RelationshipType relationshipType, AllocationTracker tracker) {
+        var iterator = topologies.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().contains(relationshipType)) {
+                var merged = entry.getValue();
+                tracker.remove(merged.trackedBytes);
+                invalidatedTopologies.add(merged.topology);
+                iterator.remove();
+            }
+        }
+    }
+
+    synchronized Collection<Relationships.Topology> values() {
+        var values = new ArrayList<>(invalidatedTopologies);
+        topologies.values().forEach(merged -> values.add(merged.topology));
+        return Collections.unmodifiableCollection(values);
+    }
+
+    static boolean canMerge(Collection<Relationships.Topology> topologies) {
+        if (topologies.size() < 2) {
+            return false;
+        }
+        Iterator<Relationships.Topology> iterator = topologies.iterator();
+        var orientation = iterator.next().orientation();
+        while (iterator.hasNext()) {
+            if (iterator.next().orientation() != orientation) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Relationships.Topology merge(
+        List<Relationships.Topology> topologies,
+        NodeMapping nodes,
+        GraphSchema schema,
+        int concurrency,
+        AllocationTracker tracker,
+        AllocationTracker mergeTracker
+    ) {
+        // the graphs over the topologies to merge belong to the graph store, as does their memory, e.g. their skip indices
+        var graphs = new ArrayList<Graph>(topologies.size());
+        for (Relationships.Topology topology : topologies) {
+            graphs.add(HugeGraph.create(nodes, schema, Collections.emptyMap(), topology, Optional.empty(), tracker));
+        }
+
+        // The stored relationships are copied as they are, for undirected graphs both directions are stored already.
+        // Targets that are reached by several types or parallel relationships are only kept once.
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodes)
+            .orientation(Orientation.NATURAL)
+            .aggregation(Aggregation.SINGLE)
+            .concurrency(concurrency)
+            .executorService(Pools.DEFAULT)
+            .tracker(mergeTracker)
+            .build();
+
+        ParallelUtil.readParallel(concurrency, nodes.nodeCount(), Pools.DEFAULT, (start, end) -> {
+            for (Graph graph : graphs) {
+                var localGraph = graph.concurrentCopy();
+                for (long node = start; node < end; node++) {
+                    localGraph.forEachRelationship(node, (source, target) -> {
+                        relationshipsBuilder.addFromInternal(source, target);
+                        return true;
+                    });
+                }
+            }
+        });
+
+        var topology = relationshipsBuilder.build().topology();
+        return Relationships.of(
+            topology.elementCount(),
+            topologies.get(0).orientation(),
+            false,
+            topology.list(),
+            topology.offsets(),
+            null,
+            null,
+            Double.NaN
+        ).topology();
+    }
+
+    private static final class MergedTopology {
+        private final Relationships.Topology topology;
+        private final long trackedBytes;
+
+        private MergedTopology(Relationships.Topology topology, long trackedBytes) {
+            this.topology = topology;
+            this.trackedBytes = trackedBytes;
+        }
+    }
+}
@@ -80,6 +80,7 @@ public final class GraphFactory {
         IdMapping nodes,
         Optional<Orientation> orientation,
         Optional<Boolean> loadRelationshipProperty,
+        Optional<Integer> propertyCount,
         Optional<Aggregation> aggregation,
         Optional<Boolean> preAggregate,
         Optional<Integer> concurrency,
@@ -89,7 +90,7 @@ public final class GraphFactory {
         return new RelationshipsBuilder(
             nodes,
             orientation.orElse(Orientation.NATURAL),
-            loadRelationshipProperty.orElse(false),
+            propertyCount.orElse(loadRelationshipProperty.orElse(false) ? 1 : 0),
             aggregation.orElse(Aggregation.NONE),
             preAggregate.orElse(false),
             concurrency.orElse(1),
@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.core.loading.construction;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.AbstractRelationshipProjection;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.RelationshipProjection;
@@ -31,16 +32,21 @@ import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
 import org.neo4j.graphalgo.core.loading.AdjacencyBuilder;
 import org.neo4j.graphalgo.core.loading.ImportSizing;
 import org.neo4j.graphalgo.core.loading.RelationshipImporter;
+import org.neo4j.graphalgo.core.loading.RelationshipPropertiesBatchBuffer;
 import org.neo4j.graphalgo.core.loading.RelationshipsBatchBuffer;
 import org.neo4j.graphalgo.core.loading.TransientAdjacencyListBuilder;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.utils.AutoCloseableThreadLocal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 import static org.neo4j.graphalgo.api.DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+import static org.neo4j.graphalgo.core.loading.RelationshipsBatchBuffer.BATCH_ENTRY_SIZE;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_PROPERTY_KEY;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_RELATIONSHIP_TYPE;
 
@@ -53,7 +59,7 @@ public class RelationshipsBuilder {
     private final RelationshipImporter.Imports imports;
     private final IdMapping idMapping;
     private final Orientation orientation;
-    private final boolean loadRelationshipProperty;
+    private final int propertyCount;
     private final int concurrency;
     private final ExecutorService executorService;
     private final Aggregation aggregation;
@@ -69,10 +75,35 @@ public class RelationshipsBuilder {
         int concurrency,
         ExecutorService executorService,
         AllocationTracker tracker
+    ) {
+        this(
+            idMapping,
+            orientation,
+            loadRelationshipProperty ? 1 : 0,
+            aggregation,
+            preAggregate,
+            concurrency,
+            executorService,
+            tracker
+        );
+    }
+
+    /**
+     * All properties are imported together with a single topology, so that they line up even for parallel relationships.
+     */
+    public RelationshipsBuilder(
+        IdMapping idMapping,
+        Orientation orientation,
+        int propertyCount,
+        Aggregation aggregation,
+        boolean preAggregate,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker tracker
     ) {
         this.idMapping = idMapping;
         this.orientation = orientation;
-        this.loadRelationshipProperty = loadRelationshipProperty;
+        this.propertyCount = propertyCount;
         this.aggregation = aggregation;
         this.concurrency = concurrency;
         this.executorService = executorService;
@@ -83,16 +114,21 @@ public class RelationshipsBuilder {
         int pageSize = importSizing.pageSize();
         int numberOfPages = importSizing.numberOfPages();
 
-        int[] propertyKeyIds = loadRelationshipProperty ? new int[]{DUMMY_PROPERTY_ID} : new int[0];
-        double[] defaultValues = loadRelationshipProperty ? new double[]{Double.NaN} : new double[0];
+        int[] propertyKeyIds = new int[propertyCount];
+        double[] defaultValues = new double[propertyCount];
+        Aggregation[] aggregations = new Aggregation[Math.max(1, propertyCount)];
+        Arrays.fill(propertyKeyIds, DUMMY_PROPERTY_ID);
+        Arrays.fill(defaultValues, Double.NaN);
+        Arrays.fill(aggregations, aggregation);
 
         AbstractRelationshipProjection.Builder projectionBuilder = RelationshipProjection
             .builder()
             .type("*")
             .orientation(orientation);
 
-        if (loadRelationshipProperty) {
-            projectionBuilder.addProperty(GraphFactory.DUMMY_PROPERTY, GraphFactory.DUMMY_PROPERTY, DefaultValue.DEFAULT, aggregation);
+        for (int i = 0; i < propertyCount; i++) {
+            var propertyKey = i == 0 ? GraphFactory.DUMMY_PROPERTY : GraphFactory.DUMMY_PROPERTY + i;
+            projectionBuilder.addProperty(propertyKey, propertyKey, DefaultValue.DEFAULT, aggregation);
         }
 
         this.relationshipsBuilder = new org.neo4j.graphalgo.core.loading.RelationshipsBuilder(
@@ -109,17 +145,17 @@ public class RelationshipsBuilder {
             relationshipCounter,
             propertyKeyIds,
             defaultValues,
-            new Aggregation[]{aggregation},
+            aggregations,
             preAggregate
         );
 
         this.relationshipImporter = new RelationshipImporter(tracker, adjacencyBuilder);
-        this.imports = relationshipImporter.imports(orientation, loadRelationshipProperty);
+        this.imports = relationshipImporter.imports(orientation, propertyCount > 0);
 
         this.threadLocalBuilders = AutoCloseableThreadLocal.withInitial(() -> new ThreadLocalBuilder(
             idMapping,
             imports,
-            loadRelationshipProperty
+            propertyCount
         ));
     }
 
@@ -135,6 +171,14 @@ public class RelationshipsBuilder {
         );
     }
 
+    public void add(long source, long target, double[] relationshipPropertyValues) {
+        addFromInternal(
+            idMapping.toMappedNodeId(source),
+            idMapping.toMappedNodeId(target),
+            relationshipPropertyValues
+        );
+    }
+
     public <T extends Relationship> void add(Stream<T> relationshipStream) {
         relationshipStream.forEach(this::add);
     }
@@ -159,36 +203,63 @@ public class RelationshipsBuilder {
         threadLocalBuilders.get().addRelationship(source, target, relationshipPropertyValue);
     }
 
+    /**
+     * Adds a relationship with one value for each of the properties of this builder.
+     */
+    public void addFromInternal(long source, long target, double[] relationshipPropertyValues) {
+        threadLocalBuilders.get().addRelationship(source, target, relationshipPropertyValues);
+    }
+
     public Relationships build() {
+        return buildAll().get(0);
+    }
+
+    /**
+     * Returns one {@link Relationships} per property, all of them share the same topology.
+     * Without properties, the list contains the topology only.
+     */
+    public List<Relationships> buildAll() {
         threadLocalBuilders.close();
 
         ParallelUtil.runWithConcurrency(concurrency, relationshipImporter.flushTasks(), executorService);
-        return Relationships.of(
-            relationshipCounter.longValue(),
-            orientation,
-            Aggregation.equivalentToNone(aggregation),
-            relationshipsBuilder.adjacencyList(),
-            relationshipsBuilder.globalAdjacencyOffsets(),
-            loadRelationshipProperty ? relationshipsBuilder.properties() : null,
-            loadRelationshipProperty ? relationshipsBuilder.globalPropertyOffsets() : null,
-            DOUBLE_DEFAULT_FALLBACK
-        );
+
+        var adjacencyList = relationshipsBuilder.adjacencyList();
+        var adjacencyOffsets = relationshipsBuilder.globalAdjacencyOffsets();
+        var relationships = new ArrayList<Relationships>(Math.max(1, propertyCount));
+        for (int i = 0; i < Math.max(1, propertyCount); i++) {
+            relationships.add(Relationships.of(
+                relationshipCounter.longValue(),
+                orientation,
+                Aggregation.equivalentToNone(aggregation),
+                adjacencyList,
+                adjacencyOffsets,
+                propertyCount > 0 ? relationshipsBuilder.properties(i) : null,
+                propertyCount > 0 ? relationshipsBuilder.globalPropertyOffsets(i) : null,
+                DOUBLE_DEFAULT_FALLBACK
+            ));
+        }
+        return relationships;
     }
 
     private static class ThreadLocalBuilder implements AutoCloseable {
 
         private final RelationshipsBatchBuffer relationshipBuffer;
         private final RelationshipImporter.Imports imports;
-        private final boolean loadRelationshipProperty;
+        private final int propertyCount;
+        // several properties are buffered separately, the batch refers to them by their position
+        private final @Nullable RelationshipPropertiesBatchBuffer propertiesBuffer;
 
         ThreadLocalBuilder(
             IdMapping idMap,
             RelationshipImporter.Imports imports,
-            boolean loadRelationshipProperty
+            int propertyCount
         ) {
             this.relationshipBuffer = new RelationshipsBatchBuffer(idMap, NO_SUCH_RELATIONSHIP_TYPE, ParallelUtil.DEFAULT_BATCH_SIZE);
             this.imports = imports;
-            this.loadRelationshipProperty = loadRelationshipProperty;
+            this.propertyCount = propertyCount;
+            this.propertiesBuffer = propertyCount > 1
+                ? new RelationshipPropertiesBatchBuffer(ParallelUtil.DEFAULT_BATCH_SIZE, propertyCount)
+                : null;
         }
 
         void addRelationship(long source, long target) {
@@ -207,8 +278,26 @@ public class RelationshipsBuilder {
             }
         }
 
+        void addRelationship(long source, long target, double[] relationshipPropertyValues) {
+            if (propertiesBuffer == null) {
+                addRelationship(source, target, relationshipPropertyValues[0]);
+                return;
+            }
+            int relationshipId = relationshipBuffer.length() / BATCH_ENTRY_SIZE;
+            relationshipBuffer.add(source, target, NO_SUCH_PROPERTY_KEY, relationshipId);
+            for (int propertyKeyId = 0; propertyKeyId < propertyCount; propertyKeyId++) {
+                propertiesBuffer.add(relationshipId, propertyKeyId, relationshipPropertyValues[propertyKeyId]);
+            }
+            if (relationshipBuffer.isFull()) {
+                flushBuffer();
+                relationshipBuffer.reset();
+            }
+        }
+
         private void flushBuffer() {
-            RelationshipImporter.PropertyReader propertyReader = loadRelationshipProperty ? RelationshipImporter.preLoadedPropertyReader() : null;
+            RelationshipImporter.PropertyReader propertyReader = propertiesBuffer != null
+                ? propertiesBuffer
+                : propertyCount > 0 ? RelationshipImporter.preLoadedPropertyReader() : null;
 
             imports.importRelationships(relationshipBuffer, propertyReader);
             relationshipBuffer.reset();
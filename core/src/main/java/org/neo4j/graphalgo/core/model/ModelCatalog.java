@@ -37,6 +37,7 @@ public final class ModelCatalog {
     private ModelCatalog() {}
 
     private static final Map<String, UserCatalog> userCatalogs = new ConcurrentHashMap<>();
+    private static final ModelDataCache modelDataCache = new ModelDataCache();
 
     public static void set(Model<?, ?> model) {
         userCatalogs.compute(model.username(), (user, userCatalog) -> {
@@ -63,7 +64,11 @@ public final class ModelCatalog {
     }
 
     public static Model<?, ?> drop(String username, String modelName) {
-        return getUserCatalog(username).drop(modelName);
+        var model = getUserCatalog(username).drop(modelName);
+        if (model instanceof StoredModel) {
+            modelDataCache.remove((StoredModel<?, ?>) model);
+        }
+        return model;
     }
 
     public static Collection<Model<?, ?>> list(String username) {
@@ -76,6 +81,20 @@ public final class ModelCatalog {
 
     public static void removeAllLoadedModels() {
         userCatalogs.clear();
+        modelDataCache.clear();
+    }
+
+    /**
+     * Sets the number of bytes the data of models loaded from the {@link ModelStore} may occupy.
+     * When the budget is exceeded, the data of the least recently used models is unloaded
+     * and read again from disk on its next use.
+     */
+    public static void setLoadedModelsMemoryBudget(long bytes) {
+        modelDataCache.memoryBudget(bytes);
+    }
+
+    static ModelDataCache modelDataCache() {
+        return modelDataCache;
     }
 
     private static UserCatalog getUserCatalog(String username) {
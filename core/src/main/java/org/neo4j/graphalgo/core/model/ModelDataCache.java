@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.model;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Tracks the data of {@link StoredModel}s that is held in memory.
+ * When the loaded data exceeds the memory budget, the data of the least recently used models is unloaded.
+ * Unloaded data is read again from the {@link ModelStore} on its next access.
+ */
+final class ModelDataCache {
+
+    // access-ordered, the least recently used model comes first
+    private final LinkedHashMap<StoredModel<?, ?>, Boolean> loadedModels = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long loadedBytes;
+    private long memoryBudget = Long.MAX_VALUE;
+
+    synchronized void memoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        evict(null);
+    }
+
+    synchronized long loadedBytes() {
+        return loadedBytes;
+    }
+
+    synchronized void accessed(StoredModel<?, ?> model) {
+        // the model might have been unloaded concurrently
+        if (!model.isLoaded()) {
+            return;
+        }
+        if (loadedModels.put(model, Boolean.TRUE) == null) {
+            loadedBytes += model.dataSize();
+        }
+        evict(model);
+    }
+
+    synchronized void remove(StoredModel<?, ?> model) {
+        if (loadedModels.remove(model) != null) {
+            loadedBytes -= model.dataSize();
+        }
+    }
+
+    synchronized void clear() {
+        loadedModels.keySet().forEach(StoredModel::unload);
+        loadedModels.clear();
+        loadedBytes = 0;
+    }
+
+    private void evict(StoredModel<?, ?> mostRecentlyUsed) {
+        var iterator = loadedModels.keySet().iterator();
+        while (loadedBytes > memoryBudget && iterator.hasNext()) {
+            var model = iterator.next();
+            // never unload the model that is just being used
+            if (model == mostRecentlyUsed) {
+                continue;
+            }
+            iterator.remove();
+            loadedBytes -= model.dataSize();
+            model.unload();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.model;
+
+import org.neo4j.annotations.service.Service;
+import org.neo4j.graphalgo.config.BaseConfig;
+import org.neo4j.graphalgo.config.ModelConfig;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Converts the data and train config of models of a single algorithm type
+ * from and to the binary format used by the {@link ModelStore}.
+ *
+ * Implementations are discovered using the {@link java.util.ServiceLoader}.
+ */
+@Service
+public interface ModelSerializer<DATA, CONFIG extends ModelConfig & BaseConfig> {
+
+    /**
+     * The {@link Model#algoType()} of the models handled by this serializer.
+     */
+    String algoType();
+
+    /**
+     * Restores the train config from the values of {@link BaseConfig#toMap()}.
+     */
+    CONFIG trainConfig(String username, Map<String, Object> trainConfig);
+
+    void writeData(DATA data, CONFIG trainConfig, DataOutput output) throws IOException;
+
+    DATA readData(CONFIG trainConfig, DataInput input) throws IOException;
+}
@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.model;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.DefaultValue;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.nodeproperties.ValueType;
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.api.schema.NodeSchema;
+import org.neo4j.graphalgo.api.schema.PropertySchema;
+import org.neo4j.graphalgo.api.schema.RelationshipPropertySchema;
+import org.neo4j.graphalgo.api.schema.RelationshipSchema;
+import org.neo4j.graphalgo.config.BaseConfig;
+import org.neo4j.graphalgo.config.ModelConfig;
+import org.neo4j.graphalgo.core.Aggregation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores models as binary files on local disk and loads them back.
+ *
+ * A model file starts with a header that holds the model metadata, the train config and the graph schema,
+ * followed by the model data as written by the {@link ModelSerializer} of the model's algorithm type.
+ * Loading a model only reads the header; the model data is read lazily on first access, see {@link StoredModel}.
+ */
+public final class ModelStore {
+
+    static final int MAGIC = 0x4744534D;
+    static final int VERSION = 1;
+    static final String FILE_EXTENSION = ".model";
+
+    private static final int PREAMBLE_SIZE = 3 * Integer.BYTES;
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte STRING = 4;
+    private static final byte LIST = 5;
+    private static final byte MAP = 6;
+    private static final byte INT = 7;
+    private static final byte FLOAT = 8;
+    private static final byte LONG_ARRAY = 9;
+    private static final byte DOUBLE_ARRAY = 10;
+    private static final byte FLOAT_ARRAY = 11;
+
+    private ModelStore() {}
+
+    public static Path modelFile(Path storeDirectory, String username, String modelName) {
+        var file = storeDirectory
+            .resolve(encode(username))
+            .resolve(encode(modelName) + FILE_EXTENSION);
+        if (!file.normalize().startsWith(storeDirectory.normalize())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The model `%s` of user `%s` cannot be stored outside of the model store directory.",
+                modelName,
+                username
+            ));
+        }
+        return file;
+    }
+
+    /**
+     * Writes the model to its file in the given directory, replacing a previously stored model of the same name.
+     *
+     * @return the file the model was written to
+     */
+    public static <D, C extends ModelConfig & BaseConfig> Path store(Model<D, C> model, Path storeDirectory) {
+        ModelSerializer<D, C> serializer = serializer(model.algoType());
+        var file = modelFile(storeDirectory, model.username(), model.name());
+        Path tempFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tempFile = Files.createTempFile(file.getParent(), "model", ".tmp");
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                var header = header(model);
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(header.length);
+                output.write(header);
+                serializer.writeData(model.data(), model.trainConfig(), output);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new UncheckedIOException(formatWithLocale("Could not store model `%s`.", model.name()), e);
+        }
+    }
+
+    /**
+     * Reads the header of a stored model. The model data is read on first access of {@link Model#data()}.
+     */
+    public static Model<?, ?> load(Path file) {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) {
+                throw new IllegalArgumentException(formatWithLocale("The file `%s` does not contain a stored model.", file));
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The model in `%s` was stored with version %d, but only version %d is supported.",
+                    file,
+                    version,
+                    VERSION
+                ));
+            }
+            long dataOffset = PREAMBLE_SIZE + input.readInt();
+            long dataSize = Files.size(file) - dataOffset;
+
+            var username = input.readUTF();
+            var name = input.readUTF();
+            var algoType = input.readUTF();
+            var creationTime = readCreationTime(input);
+            var trainConfig = readMap(input);
+            var graphSchema = readGraphSchema(input);
+
+            return storedModel(
+                serializer(algoType),
+                username,
+                name,
+                graphSchema,
+                trainConfig,
+                creationTime,
+                file,
+                dataOffset,
+                dataSize
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not load model from `%s`.", file), e);
+        }
+    }
+
+    static <D, C extends ModelConfig & BaseConfig> D readData(
+        ModelSerializer<D, C> serializer,
+        C trainConfig,
+        Path file,
+        long dataOffset
+    ) {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            channel.position(dataOffset);
+            InputStream stream = Channels.newInputStream(channel);
+            return serializer.readData(trainConfig, new DataInputStream(new BufferedInputStream(stream)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(formatWithLocale("Could not read model data from `%s`.", file), e);
+        }
+    }
+
+    private static <D, C extends ModelConfig & BaseConfig> StoredModel<D, C> storedModel(
+        ModelSerializer<D, C> serializer,
+        String username,
+        String name,
+        GraphSchema graphSchema,
+        Map<String, Object> trainConfig,
+        ZonedDateTime creationTime,
+        Path file,
+        long dataOffset,
+        long dataSize
+    ) {
+        return new StoredModel<>(
+            username,
+            name,
+            serializer.algoType(),
+            graphSchema,
+            serializer.trainConfig(username, trainConfig),
+            creationTime,
+            serializer,
+            file,
+            dataOffset,
+            dataSize
+        );
+    }
+
+    private static byte[] header(Model<?, ?> model) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeUTF(model.username());
+            output.writeUTF(model.name());
+            output.writeUTF(model.algoType());
+            writeCreationTime(model.creationTime(), output);
+            writeMap(model.trainConfig().toMap(), output);
+            writeGraphSchema(model.graphSchema(), output);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeCreationTime(ZonedDateTime creationTime, DataOutput output) throws IOException {
+        var instant = creationTime.toInstant();
+        output.writeLong(instant.getEpochSecond());
+        output.writeInt(instant.getNano());
+        output.writeUTF(creationTime.getZone().getId());
+    }
+
+    private static ZonedDateTime readCreationTime(DataInput input) throws IOException {
+        var instant = Instant.ofEpochSecond(input.readLong(), input.readInt());
+        return ZonedDateTime.ofInstant(instant, ZoneId.of(input.readUTF()));
+    }
+
+    private static void writeGraphSchema(GraphSchema graphSchema, DataOutput output) throws IOException {
+        var nodeProperties = graphSchema.nodeSchema().properties();
+        output.writeInt(nodeProperties.size());
+        for (var entry : nodeProperties.entrySet()) {
+            output.writeUTF(entry.getKey().name);
+            writeProperties(entry.getValue(), output, (schema, out) -> {});
+        }
+
+        var relationshipProperties = graphSchema.relationshipSchema().properties();
+        output.writeInt(relationshipProperties.size());
+        for (var entry : relationshipProperties.entrySet()) {
+            output.writeUTF(entry.getKey().name);
+            writeProperties(
+                entry.getValue(),
+                output,
+                (schema, out) -> out.writeUTF(schema.aggregation().name())
+            );
+        }
+    }
+
+    private static GraphSchema readGraphSchema(DataInput input) throws IOException {
+        var nodeSchema = NodeSchema.builder();
+        int labelCount = input.readInt();
+        for (int i = 0; i < labelCount; i++) {
+            var label = NodeLabel.of(input.readUTF());
+            int propertyCount = input.readInt();
+            if (propertyCount == 0) {
+                nodeSchema.addLabel(label);
+            }
+            for (int j = 0; j < propertyCount; j++) {
+                var key = input.readUTF();
+                var valueType = ValueType.valueOf(input.readUTF());
+                var defaultValue = readDefaultValue(input);
+                var state = GraphStore.PropertyState.valueOf(input.readUTF());
+                nodeSchema.addProperty(label, key, PropertySchema.of(key, valueType, defaultValue, state));
+            }
+        }
+
+        var relationshipSchema = RelationshipSchema.builder();
+        int typeCount = input.readInt();
+        for (int i = 0; i < typeCount; i++) {
+            var type = RelationshipType.of(input.readUTF());
+            int propertyCount = input.readInt();
+            if (propertyCount == 0) {
+                relationshipSchema.addRelationshipType(type);
+            }
+            for (int j = 0; j < propertyCount; j++) {
+                var key = input.readUTF();
+                var valueType = ValueType.valueOf(input.readUTF());
+                var defaultValue = readDefaultValue(input);
+                var state = GraphStore.PropertyState.valueOf(input.readUTF());
+                var aggregation = Aggregation.valueOf(input.readUTF());
+                relationshipSchema.addProperty(
+                    type,
+                    key,
+                    RelationshipPropertySchema.of(key, valueType, defaultValue, state, aggregation)
+                );
+            }
+        }
+
+        return GraphSchema.of(nodeSchema.build(), relationshipSchema.build());
+    }
+
+    private static <PS extends PropertySchema> void writeProperties(
+        Map<String, PS> properties,
+        DataOutput output,
+        PropertyWriter<PS> additionalFields
+    ) throws IOException {
+        output.writeInt(properties.size());
+        for (var entry : properties.entrySet()) {
+            var schema = entry.getValue();
+            output.writeUTF(entry.getKey());
+            output.writeUTF(schema.valueType().name());
+            writeDefaultValue(schema.defaultValue(), output);
+            output.writeUTF(schema.state().name());
+            additionalFields.write(schema, output);
+        }
+    }
+
+    // default values are compared by their boxed type, so we keep the exact type
+    private static void writeDefaultValue(DefaultValue defaultValue, DataOutput output) throws IOException {
+        output.writeBoolean(defaultValue.isUserDefined());
+        var value = defaultValue.getObject();
+        if (value instanceof Integer) {
+            output.writeByte(INT);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof long[]) {
+            var array = (long[]) value;
+            output.writeByte(LONG_ARRAY);
+            output.writeInt(array.length);
+            for (long element : array) {
+                output.writeLong(element);
+            }
+        } else if (value instanceof double[]) {
+            var array = (double[]) value;
+            output.writeByte(DOUBLE_ARRAY);
+            output.writeInt(array.length);
+            for (double element : array) {
+                output.writeDouble(element);
+            }
+        } else if (value instanceof float[]) {
+            var array = (float[]) value;
+            output.writeByte(FLOAT_ARRAY);
+            output.writeInt(array.length);
+            for (float element : array) {
+                output.writeFloat(element);
+            }
+        } else {
+            writeValue(value, output);
+        }
+    }
+
+    private static DefaultValue readDefaultValue(DataInput input) throws IOException {
+        boolean isUserDefined = input.readBoolean();
+        byte type = input.readByte();
+        Object value;
+        switch (type) {
+            case INT:
+                value = input.readInt();
+                break;
+            case FLOAT:
+                value = input.readFloat();
+                break;
+            case LONG_ARRAY:
+                var longs = new long[input.readInt()];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = input.readLong();
+                }
+                value = longs;
+                break;
+            case DOUBLE_ARRAY:
+                var doubles = new double[input.readInt()];
+                for (int i = 0; i < doubles.length; i++) {
+                    doubles[i] = input.readDouble();
+                }
+                value = doubles;
+                break;
+            case FLOAT_ARRAY:
+                var floats = new float[input.readInt()];
+                for (int i = 0; i < floats.length; i++) {
+                    floats[i] = input.readFloat();
+                }
+                value = floats;
+                break;
+            default:
+                value = readValue(type, input);
+        }
+        return DefaultValue.of(value, isUserDefined);
+    }
+
+    private static void writeMap(Map<String, ?> map, DataOutput output) throws IOException {
+        output.writeInt(map.size());
+        for (var entry : map.entrySet()) {
+            output.writeUTF(entry.getKey());
+            writeValue(entry.getValue(), output);
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInput input) throws IOException {
+        int size = input.readInt();
+        var map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < size; i++) {
+            var key = input.readUTF();
+            map.put(key, readValue(input));
+        }
+        return map;
+    }
+
+    private static void writeValue(Object value, DataOutput output) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            // Cypher always uses longs, which is also what the config parsing expects
+            output.writeByte(LONG);
+            output.writeLong(((Number) value).longValue());
+        } else if (value instanceof List) {
+            var list = (List<?>) value;
+            output.writeByte(LIST);
+            output.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(element, output);
+            }
+        } else if (value instanceof Map) {
+            output.writeByte(MAP);
+            writeMap(((Map<?, ?>) value)
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(
+                    entry -> String.valueOf(entry.getKey()),
+                    Map.Entry::getValue,
+                    (a, b) -> a,
+                    LinkedHashMap::new
+                )), output);
+        } else {
+            output.writeByte(STRING);
+            output.writeUTF(value.toString());
+        }
+    }
+
+    private static Object readValue(DataInput input) throws IOException {
+        return readValue(input.readByte(), input);
+    }
+
+    private static Object readValue(byte type, DataInput input) throws IOException {
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case LONG:
+                return input.readLong();
+            case DOUBLE:
+                return input.readDouble();
+            case STRING:
+                return input.readUTF();
+            case LIST:
+                int size = input.readInt();
+                var list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(input));
+                }
+                return list;
+            case MAP:
+                return readMap(input);
+            default:
+                throw new IllegalStateException(formatWithLocale("Unknown value type %d in stored model.", type));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D, C extends ModelConfig & BaseConfig> ModelSerializer<D, C> serializer(String algoType) {
+        var serializer = Serializers.BY_ALGO_TYPE.get(algoType);
+        if (serializer == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Models of type `%s` cannot be stored. Supported model types are: %s.",
+                algoType,
+                Serializers.BY_ALGO_TYPE.keySet()
+            ));
+        }
+        return (ModelSerializer<D, C>) serializer;
+    }
+
+    // dots are encoded as well, so that names such as `..` cannot refer to another directory
+    private static String encode(String name) {
+        return URLEncoder.encode(name, StandardCharsets.UTF_8).replace(".", "%2E");
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    @FunctionalInterface
+    private interface PropertyWriter<PS extends PropertySchema> {
+        void write(PS schema, DataOutput output) throws IOException;
+    }
+
+    private static final class Serializers {
+        @SuppressWarnings("rawtypes")
+        static final Map<String, ModelSerializer<?, ?>> BY_ALGO_TYPE = ServiceLoader
+            .load(ModelSerializer.class)
+            .stream()
+            .<ModelSerializer<?, ?>>map(ServiceLoader.Provider::get)
+            .collect(Collectors.toMap(ModelSerializer::algoType, Function.identity()));
+
+        private Serializers() {}
+    }
+}
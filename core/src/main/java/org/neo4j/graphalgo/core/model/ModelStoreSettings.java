@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.model;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.nio.file.Path;
+
+import static org.neo4j.configuration.SettingImpl.newBuilder;
+import static org.neo4j.configuration.SettingValueParsers.BYTES;
+import static org.neo4j.configuration.SettingValueParsers.PATH;
+
+@ServiceProvider
+public final class ModelStoreSettings implements SettingsDeclaration {
+
+    @Description("Directory in which trained models are stored by `gds.beta.model.store`.")
+    @DocumentedDefaultValue("No location, storing models is disabled.")
+    public static final Setting<Path> model_store_location = newBuilder(
+        "gds.model.store_location",
+        PATH,
+        null
+    ).build();
+
+    @Description("Memory budget for the data of models loaded by `gds.beta.model.load`. " +
+                 "When exceeded, the least recently used model data is unloaded until it is used again.")
+    @DocumentedDefaultValue("unlimited")
+    public static final Setting<Long> loaded_models_memory_budget = newBuilder(
+        "gds.model.loaded_models_memory_budget",
+        BYTES,
+        Long.MAX_VALUE
+    ).build();
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.model;
+
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.config.BaseConfig;
+import org.neo4j.graphalgo.config.ModelConfig;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+
+/**
+ * A model that was loaded from the {@link ModelStore}.
+ * The model data is read from disk on first access and can be unloaded
+ * by the {@link ModelDataCache} when the memory budget for model data is exceeded.
+ */
+final class StoredModel<DATA, CONFIG extends ModelConfig & BaseConfig> implements Model<DATA, CONFIG> {
+
+    private final String username;
+    private final String name;
+    private final String algoType;
+    private final GraphSchema graphSchema;
+    private final CONFIG trainConfig;
+    private final ZonedDateTime creationTime;
+
+    private final ModelSerializer<DATA, CONFIG> serializer;
+    private final Path file;
+    private final long dataOffset;
+    private final long dataSize;
+
+    private volatile DATA data;
+
+    StoredModel(
+        String username,
+        String name,
+        String algoType,
+        GraphSchema graphSchema,
+        CONFIG trainConfig,
+        ZonedDateTime creationTime,
+        ModelSerializer<DATA, CONFIG> serializer,
+        Path file,
+        long dataOffset,
+        long dataSize
+    ) {
+        this.username = username;
+        this.name = name;
+        this.algoType = algoType;
+        this.graphSchema = graphSchema;
+        this.trainConfig = trainConfig;
+        this.creationTime = creationTime;
+        this.serializer = serializer;
+        this.file = file;
+        this.dataOffset = dataOffset;
+        this.dataSize = dataSize;
+    }
+
+    @Override
+    public String username() {
+        return username;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String algoType() {
+        return algoType;
+    }
+
+    @Override
+    public GraphSchema graphSchema() {
+        return graphSchema;
+    }
+
+    @Override
+    public DATA data() {
+        DATA loadedData = data;
+        if (loadedData == null) {
+            synchronized (this) {
+                loadedData = data;
+                if (loadedData == null) {
+                    loadedData = ModelStore.readData(serializer, trainConfig, file, dataOffset);
+                    data = loadedData;
+                }
+            }
+        }
+        ModelCatalog.modelDataCache().accessed(this);
+        return loadedData;
+    }
+
+    @Override
+    public CONFIG trainConfig() {
+        return trainConfig;
+    }
+
+    @Override
+    public ZonedDateTime creationTime() {
+        return creationTime;
+    }
+
+    boolean isLoaded() {
+        return data != null;
+    }
+
+    /**
+     * The size of the serialized model data, which is used as an approximation of its size in memory.
+     */
+    long dataSize() {
+        return dataSize;
+    }
+
+    synchronized void unload() {
+        data = null;
+    }
+}
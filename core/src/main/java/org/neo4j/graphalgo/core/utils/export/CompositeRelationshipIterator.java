@@ -19,9 +19,6 @@
  */
 package org.neo4j.graphalgo.core.utils.export;
 
-import com.carrotsearch.hppc.ObjectObjectHashMap;
-import com.carrotsearch.hppc.ObjectObjectMap;
-import com.carrotsearch.hppc.procedures.ObjectObjectProcedure;
 import org.neo4j.graphalgo.api.AdjacencyCursor;
 import org.neo4j.graphalgo.api.AdjacencyList;
 import org.neo4j.graphalgo.api.AdjacencyOffsets;
@@ -29,18 +26,31 @@ import org.neo4j.graphalgo.api.PropertyCursor;
 import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 
+/**
+ * Iterates the relationships of a single type together with all of their properties.
+ * <p>
+ * The targets and property values of a source node are first copied in bulk from the
+ * adjacency and property pages into reusable buffers and then handed to the visitor.
+ * Property keys and cursors are kept in arrays, so that there is no lookup or allocation per relationship.
+ */
 class CompositeRelationshipIterator {
 
     private final AdjacencyList adjacencyList;
     private final AdjacencyOffsets adjacencyOffsets;
-    private final Map<String, ? extends AdjacencyList> propertyLists;
-    private final ObjectObjectMap<String, AdjacencyOffsets> propertyOffsets;
-
     private final String[] propertyKeys;
-    private final AdjacencyCursor cursorCache;
-    private final ObjectObjectMap<String, PropertyCursor> propertyCursorCache;
+    private final AdjacencyList[] propertyLists;
+    private final AdjacencyOffsets[] propertyOffsets;
+
+    private final AdjacencyCursor adjacencyCursor;
+    private final PropertyCursor[] propertyCursors;
+
+    private final double[] propertyRow;
+
+    private long[] targets;
+    private double[][] propertyValues;
 
     CompositeRelationshipIterator(
         AdjacencyList adjacencyList,
@@ -48,70 +58,142 @@ class CompositeRelationshipIterator {
         Map<String, ? extends AdjacencyList> propertyLists,
         Map<String, ? extends AdjacencyOffsets> propertyOffsets
     ) {
-        this(adjacencyList, adjacencyOffsets, propertyLists, hppcCopy(propertyOffsets));
+        this(
+            adjacencyList,
+            adjacencyOffsets,
+            propertyLists.keySet().toArray(new String[0]),
+            propertyLists,
+            propertyOffsets
+        );
     }
 
     private CompositeRelationshipIterator(
         AdjacencyList adjacencyList,
         AdjacencyOffsets adjacencyOffsets,
+        String[] propertyKeys,
         Map<String, ? extends AdjacencyList> propertyLists,
-        ObjectObjectMap<String, AdjacencyOffsets> propertyOffsets
+        Map<String, ? extends AdjacencyOffsets> propertyOffsets
+    ) {
+        this(
+            adjacencyList,
+            adjacencyOffsets,
+            propertyKeys,
+            Arrays.stream(propertyKeys).map(propertyLists::get).toArray(AdjacencyList[]::new),
+            Arrays.stream(propertyKeys).map(propertyOffsets::get).toArray(AdjacencyOffsets[]::new)
+        );
+    }
+
+    private CompositeRelationshipIterator(
+        AdjacencyList adjacencyList,
+        AdjacencyOffsets adjacencyOffsets,
+        String[] propertyKeys,
+        AdjacencyList[] propertyLists,
+        AdjacencyOffsets[] propertyOffsets
     ) {
         this.adjacencyList = adjacencyList;
         this.adjacencyOffsets = adjacencyOffsets;
+        this.propertyKeys = propertyKeys;
         this.propertyLists = propertyLists;
         this.propertyOffsets = propertyOffsets;
 
         // create data structures for internal use
-        this.propertyKeys = propertyLists.keySet().toArray(new String[0]);
-        this.cursorCache = adjacencyList.rawDecompressingCursor();
-        this.propertyCursorCache = new ObjectObjectHashMap<>(propertyLists.size());
-        this.propertyLists.forEach((key, list) -> this.propertyCursorCache.put(key, list.rawCursor()));
-    }
-
-    private static ObjectObjectMap<String, AdjacencyOffsets> hppcCopy(Map<String, ? extends AdjacencyOffsets> offsets) {
-        var map = new ObjectObjectHashMap<String, AdjacencyOffsets>(offsets.size());
-        offsets.forEach(map::put);
-        return map;
+        this.adjacencyCursor = adjacencyList.rawDecompressingCursor();
+        this.propertyCursors = Arrays.stream(propertyLists).map(AdjacencyList::rawCursor).toArray(PropertyCursor[]::new);
+        this.targets = new long[0];
+        this.propertyValues = new double[propertyKeys.length][0];
+        this.propertyRow = new double[propertyKeys.length];
     }
 
     CompositeRelationshipIterator concurrentCopy() {
-        return new CompositeRelationshipIterator(adjacencyList, adjacencyOffsets, propertyLists, propertyOffsets);
+        return new CompositeRelationshipIterator(
+            adjacencyList,
+            adjacencyOffsets,
+            propertyKeys,
+            propertyLists,
+            propertyOffsets
+        );
     }
 
     int propertyCount() {
         return propertyKeys.length;
     }
 
+    String[] propertyKeys() {
+        return propertyKeys;
+    }
+
+    int degree(long sourceId) {
+        var offset = adjacencyOffsets.get(sourceId);
+        return offset == 0L ? 0 : adjacencyList.degree(offset);
+    }
+
     void forEachRelationship(long sourceId, String relType, InputEntityVisitor visitor) throws IOException {
+        int degree = copyRelationships(sourceId);
+
+        for (int i = 0; i < degree; i++) {
+            visitor.startId(sourceId);
+            visitor.endId(targets[i]);
+            visitor.type(relType);
+
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.length; propertyIndex++) {
+                visitor.property(propertyKeys[propertyIndex], propertyValues[propertyIndex][i]);
+            }
+
+            visitor.endOfEntity();
+        }
+    }
+
+    /**
+     * Hands every relationship of the source node to the consumer.
+     * The property values are in the order of {@link #propertyKeys()}, the array is reused for every relationship.
+     */
+    void forEachRelationship(long sourceId, RelationshipConsumer consumer) throws IOException {
+        int degree = copyRelationships(sourceId);
+
+        for (int i = 0; i < degree; i++) {
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.length; propertyIndex++) {
+                propertyRow[propertyIndex] = propertyValues[propertyIndex][i];
+            }
+            consumer.accept(sourceId, targets[i], propertyRow);
+        }
+    }
+
+    private int copyRelationships(long sourceId) {
         var offset = adjacencyOffsets.get(sourceId);
 
         if (offset == 0L) {
-            return;
+            return 0;
         }
 
-        // init adjacency cursor
-        var adjacencyCursor = cursorCache.initializedTo(offset);
-        // init property cursors
-        for (var propertyKey : propertyKeys) {
-            var propertyOffset = propertyOffsets.get(propertyKey).get(sourceId);
-            var propertyCursor = propertyCursorCache.get(propertyKey).init(propertyOffset);
-            propertyCursorCache.put(propertyKey, propertyCursor);
+        // copy the targets of the source node
+        var cursor = adjacencyCursor.initializedTo(offset);
+        int degree = cursor.size();
+        if (targets.length < degree) {
+            targets = new long[degree];
+        }
+        for (int i = 0; i < degree; i++) {
+            targets[i] = cursor.nextVLong();
         }
 
-        // in-step iteration of adjacency and property cursors
-        while (adjacencyCursor.hasNextVLong()) {
-            visitor.startId(sourceId);
-            visitor.endId(adjacencyCursor.nextVLong());
-            visitor.type(relType);
+        // copy the property values of the source node, property lists are aligned with the adjacency list
+        for (int propertyIndex = 0; propertyIndex < propertyKeys.length; propertyIndex++) {
+            var propertyOffset = propertyOffsets[propertyIndex].get(sourceId);
+            var propertyCursor = propertyCursors[propertyIndex].init(propertyOffset);
+            var values = propertyValues[propertyIndex];
+            if (values.length < degree) {
+                values = new double[degree];
+                propertyValues[propertyIndex] = values;
+            }
+            for (int i = 0; i < degree; i++) {
+                values[i] = Double.longBitsToDouble(propertyCursor.nextLong());
+            }
+        }
 
-            propertyCursorCache.forEach((ObjectObjectProcedure<String, PropertyCursor>)
-                (propertyKey, propertyCursor) -> visitor.property(
-                    propertyKey,
-                    Double.longBitsToDouble(propertyCursor.nextLong())
-                ));
+        return degree;
+    }
 
-            visitor.endOfEntity();
-        }
+    @FunctionalInterface
+    interface RelationshipConsumer {
+        void accept(long sourceId, long targetId, double[] properties) throws IOException;
     }
 }
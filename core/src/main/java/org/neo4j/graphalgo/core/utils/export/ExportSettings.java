@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Config;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.nio.file.Path;
+
+import static org.neo4j.configuration.SettingImpl.newBuilder;
+import static org.neo4j.configuration.SettingValueParsers.PATH;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+@ServiceProvider
+public final class ExportSettings implements SettingsDeclaration {
+
+    @Description("Directory in which the file exports of the Graph Data Science library are created.")
+    @DocumentedDefaultValue("No location, exporting to files is disabled.")
+    public static final Setting<Path> export_location = newBuilder(
+        "gds.export.location",
+        PATH,
+        null
+    ).build();
+
+    /**
+     * Resolves a directory that is given by a user against the configured export location.
+     * The directory must not point outside of the export location.
+     */
+    public static Path exportDirectory(Config config, String directoryName) {
+        var location = config.get(export_location);
+        if (location == null) {
+            throw new IllegalStateException(formatWithLocale(
+                "The export location is not configured. Set `%s` to export to files.",
+                export_location.name()
+            ));
+        }
+        var root = location.toAbsolutePath().normalize();
+        var directory = root.resolve(directoryName).normalize();
+        if (directory.equals(root) || !directory.startsWith(root)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The directory `%s` must be a sub directory of the export location.",
+                directoryName
+            ));
+        }
+        return directory;
+    }
+}
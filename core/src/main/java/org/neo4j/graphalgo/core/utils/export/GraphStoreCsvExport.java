@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.export;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CSRGraph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.NodeMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.export.GraphStoreExport.RelationshipStore;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.graphalgo.core.write.FileExporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.core.write.FileExporter.ARRAY_DELIMITER;
+import static org.neo4j.graphalgo.core.write.FileExporter.COLUMN_DELIMITER;
+import static org.neo4j.graphalgo.core.write.FileExporter.LINE_DELIMITER;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a graph store into CSV files, from which {@link org.neo4j.graphalgo.core.loading.CsvFactory} creates
+ * the same graph store again without a Neo4j database.
+ * <p>
+ * The export directory contains
+ * <ul>
+ *     <li>{@value #GRAPH_INFO_FILE} with the node count and the highest original node id,</li>
+ *     <li>{@value #NODE_SCHEMA_FILE} with the property keys, value types and property states of every label,</li>
+ *     <li>{@value #RELATIONSHIP_SCHEMA_FILE} with orientation, relationship count and properties of every type,</li>
+ *     <li>{@code nodes_<shard>.csv} with the original id, the labels and the property values of every node.
+ *     A missing value is written as an empty column, an empty array as {@value #EMPTY_ARRAY},</li>
+ *     <li>{@code relationships_<type>_<shard>.csv} with the original source and target ids and the property values
+ *     of every relationship. The type is the index of the type in {@value #RELATIONSHIP_SCHEMA_FILE}.</li>
+ * </ul>
+ * Nodes are split into ranges and relationships into partitions of similar relationship counts,
+ * every partition is written by a single thread into its own shard.
+ * Relationships are written as they are stored, for undirected types this means in both directions.
+ */
+public final class GraphStoreCsvExport {
+
+    public static final String GRAPH_INFO_FILE = "graph_info.csv";
+    public static final String NODE_SCHEMA_FILE = "node_schema.csv";
+    public static final String RELATIONSHIP_SCHEMA_FILE = "relationship_schema.csv";
+    public static final String NODE_FILE_PREFIX = "nodes_";
+    public static final String RELATIONSHIP_FILE_PREFIX = "relationships_";
+
+    public static final String NODE_ID_COLUMN = "nodeId";
+    public static final String LABELS_COLUMN = "labels";
+    public static final String SOURCE_NODE_ID_COLUMN = "sourceNodeId";
+    public static final String TARGET_NODE_ID_COLUMN = "targetNodeId";
+    public static final String EMPTY_ARRAY = "[]";
+
+    public static final String GRAPH_INFO_HEADER = "nodeCount,maxOriginalId";
+    public static final String NODE_SCHEMA_HEADER = "label,propertyKey,valueType,state";
+    public static final String RELATIONSHIP_SCHEMA_HEADER =
+        "relationshipType,orientation,multiGraph,relationshipCount,propertyKey,defaultValue,aggregation";
+
+    private final GraphStore graphStore;
+    private final Path directory;
+    private final int concurrency;
+    private final LongAdder nodePropertiesWritten;
+    private final LongAdder relationshipPropertiesWritten;
+
+    public GraphStoreCsvExport(GraphStore graphStore, Path directory, GraphStoreCsvExportConfig config) {
+        this.graphStore = graphStore;
+        this.directory = directory;
+        this.concurrency = config.writeConcurrency();
+        this.nodePropertiesWritten = new LongAdder();
+        this.relationshipPropertiesWritten = new LongAdder();
+    }
+
+    public GraphStoreExport.ImportedProperties run() {
+        if (Files.exists(directory)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The export directory `%s` already exists. The graph can only be exported into a new directory.",
+                directory.getFileName()
+            ));
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var nodeLabels = graphStore.nodeLabels().stream()
+            .sorted(Comparator.comparing(label -> label.name))
+            .toArray(NodeLabel[]::new);
+        var nodePropertyKeys = new TreeSet<String>();
+        graphStore.nodePropertyKeys().values().forEach(nodePropertyKeys::addAll);
+
+        var relationshipStore = RelationshipStore.of(graphStore, RelationshipType.ALL_RELATIONSHIPS.name);
+        var relationshipTypes = relationshipStore.relationshipIterators.keySet().stream()
+            .sorted(Comparator.comparing(type -> type.name))
+            .collect(Collectors.toList());
+
+        writeGraphInfo();
+        writeNodeSchema(nodeLabels);
+        writeRelationshipSchema(relationshipTypes, relationshipStore);
+
+        var tasks = new ArrayList<Runnable>();
+        addNodeTasks(nodeLabels, nodePropertyKeys.toArray(new String[0]), tasks);
+        for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+            var relationshipType = relationshipTypes.get(typeIndex);
+            addRelationshipTasks(
+                typeIndex,
+                relationshipType,
+                relationshipStore.relationshipIterators.get(relationshipType),
+                tasks
+            );
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+
+        return ImmutableImportedProperties.of(
+            nodePropertiesWritten.longValue(),
+            relationshipPropertiesWritten.longValue()
+        );
+    }
+
+    private void writeGraphInfo() {
+        var nodes = graphStore.nodes();
+        long maxOriginalId = 0L;
+        for (long nodeId = 0; nodeId < nodes.nodeCount(); nodeId++) {
+            maxOriginalId = Math.max(maxOriginalId, nodes.toOriginalNodeId(nodeId));
+        }
+        writeFile(GRAPH_INFO_FILE, GRAPH_INFO_HEADER, List.of(formatWithLocale(
+            "%d,%d",
+            nodes.nodeCount(),
+            maxOriginalId
+        )));
+    }
+
+    private void writeNodeSchema(NodeLabel[] nodeLabels) {
+        var lines = new ArrayList<String>();
+        var nodeSchema = graphStore.schema().nodeSchema().properties();
+        for (NodeLabel nodeLabel : nodeLabels) {
+            validateName(nodeLabel.name);
+            var properties = nodeSchema.getOrDefault(nodeLabel, Map.of());
+            if (properties.isEmpty()) {
+                lines.add(nodeLabel.name + COLUMN_DELIMITER + COLUMN_DELIMITER + COLUMN_DELIMITER);
+            }
+            for (String propertyKey : new TreeSet<>(properties.keySet())) {
+                validateName(propertyKey);
+                lines.add(String.join(
+                    String.valueOf(COLUMN_DELIMITER),
+                    nodeLabel.name,
+                    propertyKey,
+                    properties.get(propertyKey).valueType().name(),
+                    graphStore.nodePropertyState(propertyKey).name()
+                ));
+            }
+        }
+        writeFile(NODE_SCHEMA_FILE, NODE_SCHEMA_HEADER, lines);
+    }
+
+    private void writeRelationshipSchema(
+        List<RelationshipType> relationshipTypes,
+        RelationshipStore relationshipStore
+    ) {
+        var lines = new ArrayList<String>();
+        var relationshipSchema = graphStore.schema().relationshipSchema().properties();
+        for (RelationshipType relationshipType : relationshipTypes) {
+            validateName(relationshipType.name);
+            var topology = ((CSRGraph) graphStore.getGraph(relationshipType)).relationshipTopology();
+            var typeColumns = String.join(
+                String.valueOf(COLUMN_DELIMITER),
+                relationshipType.name,
+                topology.orientation().name(),
+                Boolean.toString(topology.isMultiGraph()),
+                Long.toString(topology.elementCount())
+            );
+
+            var propertyKeys = relationshipStore.relationshipIterators.get(relationshipType).propertyKeys();
+            if (propertyKeys.length == 0) {
+                lines.add(typeColumns + COLUMN_DELIMITER + COLUMN_DELIMITER + COLUMN_DELIMITER);
+            }
+            for (String propertyKey : propertyKeys) {
+                validateName(propertyKey);
+                var propertySchema = relationshipSchema.get(relationshipType).get(propertyKey);
+                lines.add(String.join(
+                    String.valueOf(COLUMN_DELIMITER),
+                    typeColumns,
+                    propertyKey,
+                    Double.toString(propertySchema.defaultValue().doubleValue()),
+                    propertySchema.aggregation().name()
+                ));
+            }
+        }
+        writeFile(RELATIONSHIP_SCHEMA_FILE, RELATIONSHIP_SCHEMA_HEADER, lines);
+    }
+
+    private void addNodeTasks(NodeLabel[] nodeLabels, String[] propertyKeys, Collection<Runnable> tasks) {
+        var header = new StringBuilder(NODE_ID_COLUMN).append(COLUMN_DELIMITER).append(LABELS_COLUMN);
+        for (String propertyKey : propertyKeys) {
+            header.append(COLUMN_DELIMITER).append(propertyKey);
+        }
+
+        // the values of a property column are taken from the first label of a node that has the property
+        var labelProperties = new NodeProperties[nodeLabels.length][propertyKeys.length];
+        for (int labelIndex = 0; labelIndex < nodeLabels.length; labelIndex++) {
+            var labelPropertyKeys = graphStore.nodePropertyKeys(nodeLabels[labelIndex]);
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.length; propertyIndex++) {
+                if (labelPropertyKeys.contains(propertyKeys[propertyIndex])) {
+                    labelProperties[labelIndex][propertyIndex] = graphStore.nodePropertyValues(
+                        nodeLabels[labelIndex],
+                        propertyKeys[propertyIndex]
+                    );
+                }
+            }
+        }
+
+        NodeMapping nodes = graphStore.nodes();
+        boolean hasLabels = !nodes.containsOnlyAllNodesLabel();
+        var partitions = PartitionUtils.rangePartition(concurrency, nodes.nodeCount());
+        for (int shard = 0; shard < partitions.size(); shard++) {
+            var partition = partitions.get(shard);
+            var file = directory.resolve(formatWithLocale("%s%d.csv", NODE_FILE_PREFIX, shard));
+            tasks.add(() -> writeShard(file, header, writer -> {
+                var properties = new NodeProperties[propertyKeys.length];
+                long propertyCount = 0L;
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    writer.write(Long.toString(nodes.toOriginalNodeId(nodeId)));
+                    writer.write(COLUMN_DELIMITER);
+
+                    Arrays.fill(properties, null);
+                    boolean firstLabel = true;
+                    for (int labelIndex = 0; labelIndex < nodeLabels.length; labelIndex++) {
+                        if (nodes.hasLabel(nodeId, nodeLabels[labelIndex])) {
+                            if (hasLabels) {
+                                if (!firstLabel) {
+                                    writer.write(ARRAY_DELIMITER);
+                                }
+                                writer.write(nodeLabels[labelIndex].name);
+                                firstLabel = false;
+                            }
+                            for (int propertyIndex = 0; propertyIndex < propertyKeys.length; propertyIndex++) {
+                                if (properties[propertyIndex] == null) {
+                                    properties[propertyIndex] = labelProperties[labelIndex][propertyIndex];
+                                }
+                            }
+                        }
+                    }
+
+                    for (NodeProperties nodeProperties : properties) {
+                        writer.write(COLUMN_DELIMITER);
+                        if (nodeProperties != null) {
+                            writeNodeValue(writer, nodeProperties, nodeId);
+                            propertyCount++;
+                        }
+                    }
+                    writer.write(LINE_DELIMITER);
+                }
+                nodePropertiesWritten.add(propertyCount);
+            }));
+        }
+    }
+
+    private void addRelationshipTasks(
+        int typeIndex,
+        RelationshipType relationshipType,
+        CompositeRelationshipIterator relationshipIterator,
+        Collection<Runnable> tasks
+    ) {
+        var propertyKeys = relationshipIterator.propertyKeys();
+        var header = new StringBuilder(SOURCE_NODE_ID_COLUMN).append(COLUMN_DELIMITER).append(TARGET_NODE_ID_COLUMN);
+        for (String propertyKey : propertyKeys) {
+            header.append(COLUMN_DELIMITER).append(propertyKey);
+        }
+
+        var graph = graphStore.getGraph(relationshipType, Optional.empty());
+        long batchSize = Math.max(1L, ParallelUtil.threadCount(concurrency, graph.relationshipCount()));
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, batchSize);
+        NodeMapping nodes = graphStore.nodes();
+        for (int shard = 0; shard < partitions.size(); shard++) {
+            var partition = partitions.get(shard);
+            var file = directory.resolve(formatWithLocale("%s%d_%d.csv", RELATIONSHIP_FILE_PREFIX, typeIndex, shard));
+            tasks.add(() -> writeShard(file, header, writer -> {
+                var localIterator = relationshipIterator.concurrentCopy();
+                var line = new StringBuilder();
+                long relationshipCount = 0L;
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    var sourceId = Long.toString(nodes.toOriginalNodeId(nodeId));
+                    localIterator.forEachRelationship(nodeId, (source, target, properties) -> {
+                        line.setLength(0);
+                        line.append(sourceId).append(COLUMN_DELIMITER).append(nodes.toOriginalNodeId(target));
+                        for (double property : properties) {
+                            line.append(COLUMN_DELIMITER).append(property);
+                        }
+                        line.append(LINE_DELIMITER);
+                        writer.append(line);
+                    });
+                    relationshipCount += localIterator.degree(nodeId);
+                }
+                relationshipPropertiesWritten.add(relationshipCount * propertyKeys.length);
+            }));
+        }
+    }
+
+    /**
+     * Writes empty arrays as {@value #EMPTY_ARRAY}, so that they can be told apart from missing values.
+     */
+    private static void writeNodeValue(Writer writer, NodeProperties properties, long nodeId) throws IOException {
+        boolean isEmptyArray;
+        switch (properties.valueType()) {
+            case DOUBLE_ARRAY:
+                var doubles = properties.doubleArrayValue(nodeId);
+                isEmptyArray = doubles != null && doubles.length == 0;
+                break;
+            case FLOAT_ARRAY:
+                var floats = properties.floatArrayValue(nodeId);
+                isEmptyArray = floats != null && floats.length == 0;
+                break;
+            case LONG_ARRAY:
+                var longs = properties.longArrayValue(nodeId);
+                isEmptyArray = longs != null && longs.length == 0;
+                break;
+            default:
+                isEmptyArray = false;
+        }
+        if (isEmptyArray) {
+            writer.write(EMPTY_ARRAY);
+        } else {
+            FileExporter.writeValue(writer, properties, nodeId);
+        }
+    }
+
+    private void writeFile(String fileName, String header, Collection<String> lines) {
+        writeShard(directory.resolve(fileName), header, writer -> {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write(LINE_DELIMITER);
+            }
+        });
+    }
+
+    private static void writeShard(Path file, CharSequence header, ShardWriter shardWriter) {
+        try (BufferedWriter writer = Files.newBufferedWriter(
+            file,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE
+        )) {
+            writer.append(header).append(LINE_DELIMITER);
+            shardWriter.write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void validateName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == COLUMN_DELIMITER || c == ARRAY_DELIMITER || c == LINE_DELIMITER || c == '\r') {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The name `%s` contains one of the characters `%s`, `%s` or a line break, which cannot be exported to CSV files.",
+                    name,
+                    COLUMN_DELIMITER,
+                    ARRAY_DELIMITER
+                ));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ShardWriter {
+        void write(Writer writer) throws IOException;
+    }
+}
@@ -36,6 +36,9 @@ import org.neo4j.graphalgo.core.huge.HugeGraph;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
 import org.neo4j.internal.batchimport.AdditionalInitialIds;
 import org.neo4j.internal.batchimport.BatchImporterFactory;
@@ -169,6 +172,40 @@ public class GraphStoreExport {
         }
     }
 
+    /**
+     * Estimates the heap memory that is used while exporting the given graph store.
+     * The page cache and the caches of the batch importer are allocated off-heap and are not part of the estimation.
+     */
+    public static MemoryEstimation memoryEstimation(GraphStore graphStore) {
+        var builder = MemoryEstimations.builder(GraphStoreExport.class);
+
+        if (!graphStore.nodes().containsOnlyAllNodesLabel()) {
+            builder.perNode("label counts", HugeIntArray::memoryEstimation);
+        }
+
+        // every importer thread copies the targets and properties of one node at a time into reusable buffers
+        long maxDegree = 0L;
+        int maxPropertyCount = 0;
+        for (RelationshipType relationshipType : graphStore.relationshipTypes()) {
+            // reads the degrees from the topology, a graph would stay registered at the graph store
+            var topology = graphStore.relationshipTopology(relationshipType);
+            var adjacencyList = topology.list();
+            var adjacencyOffsets = topology.offsets();
+            for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+                long offset = adjacencyOffsets.get(nodeId);
+                if (offset != 0L) {
+                    maxDegree = Math.max(maxDegree, adjacencyList.degree(offset));
+                }
+            }
+            maxPropertyCount = Math.max(maxPropertyCount, graphStore.relationshipPropertyKeys(relationshipType).size());
+        }
+        long bufferSize = MemoryUsage.sizeOfLongArray(maxDegree) + maxPropertyCount * MemoryUsage.sizeOfDoubleArray(maxDegree);
+
+        return builder
+            .perThread("relationship buffers", bufferSize * graphStore.relationshipTypes().size())
+            .build();
+    }
+
     @NotNull
     private Configuration getImportConfig(boolean defaultSettingsSuitableForTests) {
         return new Configuration() {
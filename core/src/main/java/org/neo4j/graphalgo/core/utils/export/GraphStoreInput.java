@@ -36,6 +36,7 @@ import org.neo4j.internal.batchimport.input.ReadableGroups;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.neo4j.graphalgo.NodeLabel.ALL_NODES;
@@ -96,8 +97,8 @@ public final class GraphStoreInput implements CompatInput {
 
     abstract static class GraphImporter implements InputIterator {
 
-        private final long nodeCount;
-        private final int batchSize;
+        final long nodeCount;
+        final int batchSize;
 
         private long id;
 
@@ -112,12 +113,19 @@ public final class GraphStoreInput implements CompatInput {
                 return false;
             }
             long startId = id;
-            id = Math.min(nodeCount, startId + batchSize);
+            id = endId(startId);
 
             ((EntityChunk) chunk).initialize(startId, id);
             return true;
         }
 
+        /**
+         * Returns the exclusive end of the chunk that starts at the given node.
+         */
+        long endId(long startId) {
+            return Math.min(nodeCount, startId + batchSize);
+        }
+
         @Override
         public void close() {
         }
@@ -141,10 +149,37 @@ public final class GraphStoreInput implements CompatInput {
     static class RelationshipImporter extends GraphImporter {
 
         private final RelationshipStore relationshipStore;
+        private final CompositeRelationshipIterator[] relationshipIterators;
+        private final long relationshipsPerChunk;
 
         RelationshipImporter(RelationshipStore relationshipStore, int batchSize) {
             super(relationshipStore.nodeCount, batchSize);
             this.relationshipStore = relationshipStore;
+            this.relationshipIterators = relationshipStore.relationshipIterators
+                .values()
+                .toArray(new CompositeRelationshipIterator[0]);
+            // on average, a chunk contains the relationships of `batchSize` nodes
+            this.relationshipsPerChunk = Math.max(
+                batchSize,
+                (long) Math.ceil((double) relationshipStore.relationshipCount / Math.max(1L, nodeCount) * batchSize)
+            );
+        }
+
+        /**
+         * Chunks are cut by the number of relationships instead of nodes,
+         * so that a thread that gets the chunk of a high degree node does not stall the others.
+         */
+        @Override
+        long endId(long startId) {
+            long endId = startId;
+            long relationshipCount = 0L;
+            while (endId < nodeCount && relationshipCount < relationshipsPerChunk) {
+                for (CompositeRelationshipIterator relationshipIterator : relationshipIterators) {
+                    relationshipCount += relationshipIterator.degree(endId);
+                }
+                endId++;
+            }
+            return endId;
         }
 
         @Override
@@ -173,11 +208,19 @@ public final class GraphStoreInput implements CompatInput {
 
         private final boolean hasLabels;
         private final boolean hasProperties;
+        private final Map<String, LabelProperties> propertiesByLabel;
 
         NodeChunk(NodeStore nodeStore) {
             this.nodeStore = nodeStore;
             this.hasLabels = nodeStore.hasLabels();
             this.hasProperties = nodeStore.hasProperties();
+            this.propertiesByLabel = new HashMap<>();
+            if (hasProperties) {
+                nodeStore.nodeProperties.forEach((label, properties) -> propertiesByLabel.put(
+                    label,
+                    new LabelProperties(properties)
+                ));
+            }
         }
 
         @Override
@@ -191,17 +234,14 @@ public final class GraphStoreInput implements CompatInput {
 
                     if (hasProperties) {
                         for (var label : labels) {
-                            if (nodeStore.nodeProperties.containsKey(label)) {
-                                for (var propertyKeyAndValue : nodeStore.nodeProperties.get(label).entrySet()) {
-                                    exportProperty(visitor, propertyKeyAndValue);
-                                }
+                            var labelProperties = propertiesByLabel.get(label);
+                            if (labelProperties != null) {
+                                labelProperties.export(id, visitor);
                             }
                         }
                     }
                 } else if (hasProperties) { // no label information, but node properties
-                    for (var propertyKeyAndValue : nodeStore.nodeProperties.get(ALL_NODES.name).entrySet()) {
-                        exportProperty(visitor, propertyKeyAndValue);
-                    }
+                    propertiesByLabel.get(ALL_NODES.name).export(id, visitor);
                 }
 
                 visitor.endOfEntity();
@@ -210,31 +250,57 @@ public final class GraphStoreInput implements CompatInput {
             }
             return false;
         }
+    }
 
-        private void exportProperty(InputEntityVisitor visitor, Map.Entry<String, NodeProperties> propertyKeyAndValue) {
-            var value = propertyKeyAndValue.getValue().getObject(id);
-            if (value != null) {
-                visitor.property(propertyKeyAndValue.getKey(), value);
+    /**
+     * The property keys and values of a label, kept in arrays to avoid iterating a map for every node.
+     */
+    static final class LabelProperties {
+
+        private final String[] propertyKeys;
+        private final NodeProperties[] properties;
+
+        LabelProperties(Map<String, NodeProperties> properties) {
+            this.propertyKeys = properties.keySet().toArray(new String[0]);
+            this.properties = new NodeProperties[propertyKeys.length];
+            for (int i = 0; i < propertyKeys.length; i++) {
+                this.properties[i] = properties.get(propertyKeys[i]);
+            }
+        }
+
+        void export(long nodeId, InputEntityVisitor visitor) {
+            for (int i = 0; i < propertyKeys.length; i++) {
+                var value = properties[i].getObject(nodeId);
+                if (value != null) {
+                    visitor.property(propertyKeys[i], value);
+                }
             }
         }
     }
 
     static class RelationshipChunk extends EntityChunk {
 
-        private final RelationshipStore relationshipStore;
+        private final String[] relationshipTypes;
+        private final CompositeRelationshipIterator[] relationshipIterators;
 
         RelationshipChunk(RelationshipStore relationshipStore) {
-            this.relationshipStore = relationshipStore;
+            int typeCount = relationshipStore.relationshipIterators.size();
+            this.relationshipTypes = new String[typeCount];
+            this.relationshipIterators = new CompositeRelationshipIterator[typeCount];
+            int typeIndex = 0;
+            for (var entry : relationshipStore.relationshipIterators.entrySet()) {
+                relationshipTypes[typeIndex] = entry.getKey().name;
+                relationshipIterators[typeIndex] = entry.getValue();
+                typeIndex++;
+            }
         }
 
         @Override
         public boolean next(InputEntityVisitor visitor) {
             if (id < endId) {
-                for (var entry : relationshipStore.relationshipIterators.entrySet()) {
-                    var relationshipType = entry.getKey();
-                    var relationshipIterator = entry.getValue();
+                for (int typeIndex = 0; typeIndex < relationshipTypes.length; typeIndex++) {
                     try {
-                        relationshipIterator.forEachRelationship(id, relationshipType.name, visitor);
+                        relationshipIterators[typeIndex].forEachRelationship(id, relationshipTypes[typeIndex], visitor);
                     } catch (IOException e) {
                         throw new UncheckedIOException(e);
                     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+
+import java.util.function.LongToDoubleFunction;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Samples indices from a discrete distribution in constant time,
+ * using the alias method as described by Vose [1].
+ *
+ * The weights are computed in parallel, the table itself is built
+ * in a single linear pass. Sampling is thread-safe.
+ *
+ * <ul>
+ * <li>[1]: <a href="https://doi.org/10.1109/32.92917">{@code https://doi.org/10.1109/32.92917}</a></li>
+ * </ul>
+ */
+public final class HugeAliasTable {
+
+    private final HugeDoubleArray probabilities;
+    private final HugeLongArray aliases;
+    private final long size;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations
+            .builder(HugeAliasTable.class)
+            .perNode("probabilities", HugeDoubleArray::memoryEstimation)
+            .perNode("aliases", HugeLongArray::memoryEstimation)
+            .perNode("work list", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    /**
+     * Builds an alias table for the indices {@code [0, size)}, where each index
+     * is sampled with a probability proportional to its (non-negative) weight.
+     */
+    public static HugeAliasTable of(
+        long size,
+        LongToDoubleFunction weights,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        var probabilities = HugeDoubleArray.newArray(size, tracker);
+        ParallelUtil.parallelForEachNode(size, concurrency, index -> {
+            double weight = weights.applyAsDouble(index);
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Weights must be non-negative, but got %f for index %d",
+                    weight,
+                    index
+                ));
+            }
+            probabilities.set(index, weight);
+        });
+
+        double sum = 0;
+        for (long index = 0; index < size; index++) {
+            sum += probabilities.get(index);
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive.");
+        }
+
+        double scale = size / sum;
+        ParallelUtil.parallelForEachNode(size, concurrency, index -> probabilities.set(index, probabilities.get(index) * scale));
+
+        var aliases = HugeLongArray.newArray(size, tracker);
+        buildTable(probabilities, aliases, size, tracker);
+        return new HugeAliasTable(probabilities, aliases, size);
+    }
+
+    /**
+     * Pairs every index with a probability below 1 with an index above 1.
+     * The work list holds the small indices at the front and the large indices at the back.
+     */
+    private static void buildTable(HugeDoubleArray probabilities, HugeLongArray aliases, long size, AllocationTracker tracker) {
+        var workList = HugeLongArray.newArray(size, tracker);
+        long smallEnd = 0;
+        long largeStart = size;
+        for (long index = 0; index < size; index++) {
+            if (probabilities.get(index) < 1.0) {
+                workList.set(smallEnd++, index);
+            } else {
+                workList.set(--largeStart, index);
+            }
+        }
+
+        while (smallEnd > 0 && largeStart < size) {
+            long small = workList.get(--smallEnd);
+            long large = workList.get(largeStart);
+            aliases.set(small, large);
+
+            double remaining = probabilities.get(large) + probabilities.get(small) - 1.0;
+            probabilities.set(large, remaining);
+            if (remaining < 1.0) {
+                largeStart++;
+                workList.set(smallEnd++, large);
+            }
+        }
+
+        // the remaining entries are 1 up to rounding errors
+        while (smallEnd > 0) {
+            long index = workList.get(--smallEnd);
+            probabilities.set(index, 1.0);
+            aliases.set(index, index);
+        }
+        while (largeStart < size) {
+            long index = workList.get(largeStart++);
+            probabilities.set(index, 1.0);
+            aliases.set(index, index);
+        }
+
+        tracker.remove(workList.release());
+    }
+
+    private HugeAliasTable(HugeDoubleArray probabilities, HugeLongArray aliases, long size) {
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+        this.size = size;
+    }
+
+    /**
+     * Returns a sampled index for a uniformly distributed value in {@code [0, 1)}.
+     */
+    public long sample(double random) {
+        double scaled = random * size;
+        long index = Math.min((long) scaled, size - 1);
+        return scaled - index < probabilities.get(index) ? index : aliases.get(index);
+    }
+
+    public long size() {
+        return size;
+    }
+}
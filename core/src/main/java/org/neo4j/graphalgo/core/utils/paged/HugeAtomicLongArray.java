@@ -139,6 +139,15 @@ public abstract class HugeAtomicLongArray {
      */
     public abstract long compareAndExchange(long index, long expect, long update);
 
+    /**
+     * Atomically adds the given delta to the element at position {@code index}.
+     *
+     * @param index the index
+     * @param delta the value to add
+     * @return the previous value
+     */
+    public abstract long getAndAdd(long index, long delta);
+
     /**
      * Atomically updates the element at index {@code index} with the results
      * of applying the given function, returning the updated value. The
@@ -287,6 +296,11 @@ public abstract class HugeAtomicLongArray {
             return (long) ARRAY_HANDLE.compareAndExchange(page, (int) index, expect, update);
         }
 
+        @Override
+        public long getAndAdd(long index, long delta) {
+            return (long) ARRAY_HANDLE.getAndAdd(page, (int) index, delta);
+        }
+
         @Override
         public void update(long index, LongUnaryOperator updateFunction) {
             long prev, next;
@@ -388,6 +402,13 @@ public abstract class HugeAtomicLongArray {
             return (long) ARRAY_HANDLE.compareAndExchange(pages[pageIndex], indexInPage, expect, update);
         }
 
+        @Override
+        public long getAndAdd(long index, long delta) {
+            int pageIndex = pageIndex(index);
+            int indexInPage = indexInPage(index);
+            return (long) ARRAY_HANDLE.getAndAdd(pages[pageIndex], indexInPage, delta);
+        }
+
         @Override
         public void update(long index, LongUnaryOperator updateFunction) {
             int pageIndex = pageIndex(index);
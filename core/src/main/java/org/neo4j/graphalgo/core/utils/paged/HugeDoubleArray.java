@@ -364,14 +364,11 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             int numPages = numberOfPages(size);
             double[][] pages = new double[numPages][];
 
-            long memoryUsed = sizeOfObjectArray(numPages);
-            final long pageBytes = sizeOfDoubleArray(PAGE_SIZE);
-            for (int i = 0; i < numPages - 1; i++) {
-                memoryUsed += pageBytes;
-                pages[i] = new double[PAGE_SIZE];
-            }
             final int lastPageSize = exclusiveIndexOfPage(size);
-            pages[numPages - 1] = new double[lastPageSize];
+            PageLocality.allocatePages(pages, page -> new double[page == numPages - 1 ? lastPageSize : PAGE_SIZE]);
+
+            long memoryUsed = sizeOfObjectArray(numPages);
+            memoryUsed += (numPages - 1) * sizeOfDoubleArray(PAGE_SIZE);
             memoryUsed += sizeOfDoubleArray(lastPageSize);
             tracker.add(memoryUsed);
 
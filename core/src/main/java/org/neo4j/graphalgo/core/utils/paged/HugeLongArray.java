@@ -254,7 +254,7 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
     }
 
     /* test-only */
-    static HugeLongArray newPagedArray(long size, AllocationTracker tracker) {
+    public static HugeLongArray newPagedArray(long size, AllocationTracker tracker) {
         return PagedHugeLongArray.of(size, tracker);
     }
 
@@ -400,14 +400,11 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             int numPages = numberOfPages(size);
             long[][] pages = new long[numPages][];
 
-            long memoryUsed = sizeOfObjectArray(numPages);
-            final long pageBytes = sizeOfLongArray(PAGE_SIZE);
-            for (int i = 0; i < numPages - 1; i++) {
-                memoryUsed += pageBytes;
-                pages[i] = new long[PAGE_SIZE];
-            }
             final int lastPageSize = exclusiveIndexOfPage(size);
-            pages[numPages - 1] = new long[lastPageSize];
+            PageLocality.allocatePages(pages, page -> new long[page == numPages - 1 ? lastPageSize : PAGE_SIZE]);
+
+            long memoryUsed = sizeOfObjectArray(numPages);
+            memoryUsed += (numPages - 1) * sizeOfLongArray(PAGE_SIZE);
             memoryUsed += sizeOfLongArray(lastPageSize);
             tracker.add(memoryUsed);
 
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -61,6 +62,14 @@ public final class HugeLongLongMap implements Iterable<LongLongCursor> {
         return MEMORY_REQUIREMENTS;
     }
 
+    /**
+     * The memory of a map that holds the given number of elements, including the unused slots of its buffers.
+     */
+    public static long memoryEstimation(long expectedElements) {
+        long bufferSize = minBufferSize(expectedElements);
+        return MemoryUsage.sizeOfInstance(HugeLongLongMap.class) + 2 * HugeLongArray.memoryEstimation(bufferSize);
+    }
+
     /**
      * New instance with sane defaults.
      */
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.utils.GdsFeatureToggles;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Allocation of the pages of huge arrays with regard to the memory nodes of NUMA machines.
+ * <p>
+ * The operating system places memory on the node of the thread that touches it first, and with
+ * {@code -XX:+UseNUMA} the JVM allocates new objects in the part of the heap that is local to the allocating thread.
+ * Huge arrays are usually allocated by a single thread, which puts all of their pages on one node,
+ * whose memory bandwidth then becomes the bottleneck for all threads that process the array.
+ * <p>
+ * If {@link GdsFeatureToggles#USE_NUMA_AWARE_ALLOCATION} is enabled, the pages are allocated by the threads
+ * of {@link Pools#DEFAULT}, in contiguous ranges like {@link ParallelUtil#readParallel} splits the nodes.
+ * The JVM cannot pin threads to nodes, so this spreads the pages of an array over the nodes that the pool threads
+ * run on, instead of guaranteeing that a range is processed by the node that holds it.
+ * The counters report how many pages have been allocated in parallel and how many by the calling thread.
+ */
+public final class PageLocality {
+
+    private static final LongAdder PAGES_ALLOCATED_IN_PARALLEL = new LongAdder();
+    private static final LongAdder PAGES_ALLOCATED_SEQUENTIALLY = new LongAdder();
+
+    private PageLocality() {}
+
+    /**
+     * Allocates all pages of the given array, the page index is passed to the allocator.
+     */
+    static <PAGE> void allocatePages(PAGE[] pages, IntFunction<PAGE> allocator) {
+        int pageCount = pages.length;
+        var concurrency = Math.min(Pools.corePoolSize(), pageCount);
+        // allocations by the pool threads happen locally to the thread already,
+        // and waiting for the pool from one of its threads could block all of them
+        if (!GdsFeatureToggles.USE_NUMA_AWARE_ALLOCATION.isEnabled()
+            || concurrency <= 1
+            || Pools.isPoolThread()) {
+            for (int page = 0; page < pageCount; page++) {
+                pages[page] = allocator.apply(page);
+            }
+            PAGES_ALLOCATED_SEQUENTIALLY.add(pageCount);
+            return;
+        }
+
+        // every task writes the pages of its own range only
+        ParallelUtil.readParallel(concurrency, pageCount, Pools.DEFAULT, (start, end) -> {
+            for (int page = (int) start; page < end; page++) {
+                pages[page] = allocator.apply(page);
+            }
+        });
+        PAGES_ALLOCATED_IN_PARALLEL.add(pageCount);
+    }
+
+    public static long pagesAllocatedInParallel() {
+        return PAGES_ALLOCATED_IN_PARALLEL.sum();
+    }
+
+    public static long pagesAllocatedSequentially() {
+        return PAGES_ALLOCATED_SEQUENTIALLY.sum();
+    }
+}
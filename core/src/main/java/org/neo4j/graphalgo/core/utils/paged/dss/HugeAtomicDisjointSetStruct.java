@@ -110,7 +110,11 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
         return parent.get(id);
     }
 
-    private long find(long id) {
+    /**
+     * Returns the root of the tree that contains the given id.
+     * Unlike {@link #setIdOf(long)}, this ignores any seeding information.
+     */
+    public long find(long id) {
         long parent;
         while (id != (parent = parent(id))) {
             long grandParent = parent(parent);
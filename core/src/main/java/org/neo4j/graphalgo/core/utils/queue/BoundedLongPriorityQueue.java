@@ -59,6 +59,11 @@ public abstract class BoundedLongPriorityQueue {
 
     public abstract void forEach(Consumer consumer);
 
+    /**
+     * The priority of the last element, which is the first to be evicted, or NaN if the queue is empty.
+     */
+    public abstract double lastPriority();
+
     public LongStream elements() {
         return elementCount == 0
             ? LongStream.empty()
@@ -75,6 +80,10 @@ public abstract class BoundedLongPriorityQueue {
         return elementCount;
     }
 
+    public boolean isFull() {
+        return elementCount == bound;
+    }
+
     public boolean contains(long element) {
         return elements().anyMatch(el -> el == element);
     }
@@ -122,6 +131,11 @@ public abstract class BoundedLongPriorityQueue {
                 }
             }
 
+            @Override
+            public double lastPriority() {
+                return elementCount == 0 ? Double.NaN : -priorities[elementCount - 1];
+            }
+
             @Override
             public DoubleStream priorities() {
                 return super.priorities().map(d -> -d);
@@ -144,6 +158,10 @@ public abstract class BoundedLongPriorityQueue {
                 }
             }
 
+            @Override
+            public double lastPriority() {
+                return elementCount == 0 ? Double.NaN : priorities[elementCount - 1];
+            }
         };
     }
 
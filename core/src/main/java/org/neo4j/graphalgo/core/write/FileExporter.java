@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.write;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.IdMapping;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.config.ConcurrencyConfig;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.NullLog;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes algorithm results into CSV files instead of the Neo4j database.
+ * <p>
+ * The nodes are split into ranges and every range is written by a single thread into its own file shard.
+ * There is no transaction and no thread has to wait for another one.
+ * Nodes are identified by their original Neo4j node ids, array values are separated by {@value #ARRAY_DELIMITER}.
+ */
+public final class FileExporter {
+
+    static final String NODE_ID_COLUMN = "nodeId";
+    static final String SOURCE_NODE_ID_COLUMN = "sourceNodeId";
+    static final String TARGET_NODE_ID_COLUMN = "targetNodeId";
+    static final String NODE_SHARD_PREFIX = "nodes_";
+    static final String RELATIONSHIP_SHARD_PREFIX = "relationships_";
+    public static final char ARRAY_DELIMITER = ';';
+    public static final char COLUMN_DELIMITER = ',';
+    public static final char LINE_DELIMITER = '\n';
+
+    private final Path directory;
+    private final IdMapping idMapping;
+    private final TerminationFlag terminationFlag;
+    private final Log log;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final LongAdder propertiesWritten;
+    private final LongAdder relationshipsWritten;
+
+    public static Builder builder(Path directory, IdMapping idMapping, TerminationFlag terminationFlag) {
+        return new Builder(directory, idMapping, terminationFlag);
+    }
+
+    public static final class Builder {
+        private final Path directory;
+        private final IdMapping idMapping;
+        private final TerminationFlag terminationFlag;
+        private Log log;
+        private ExecutorService executorService;
+        private int concurrency;
+
+        Builder(Path directory, IdMapping idMapping, TerminationFlag terminationFlag) {
+            this.directory = Objects.requireNonNull(directory);
+            this.idMapping = Objects.requireNonNull(idMapping);
+            this.terminationFlag = terminationFlag;
+            this.log = NullLog.getInstance();
+            this.concurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
+        }
+
+        public Builder withLog(Log log) {
+            this.log = log;
+            return this;
+        }
+
+        public Builder parallel(ExecutorService executorService, int concurrency) {
+            this.executorService = executorService;
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public FileExporter build() {
+            return new FileExporter(directory, idMapping, terminationFlag, log, concurrency, executorService);
+        }
+    }
+
+    private FileExporter(
+        Path directory,
+        IdMapping idMapping,
+        TerminationFlag terminationFlag,
+        Log log,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        this.directory = directory;
+        this.idMapping = idMapping;
+        this.terminationFlag = terminationFlag;
+        this.log = log;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.propertiesWritten = new LongAdder();
+        this.relationshipsWritten = new LongAdder();
+    }
+
+    /**
+     * Writes one line per node into the files {@code nodes_<shard>.csv}.
+     * The first column contains the node id, followed by one column per property.
+     */
+    public void writeNodeProperties(Collection<NodePropertyExporter.NodeProperty> nodeProperties) {
+        var properties = new ArrayList<>(nodeProperties);
+        var header = new StringBuilder(NODE_ID_COLUMN);
+        for (NodePropertyExporter.NodeProperty nodeProperty : properties) {
+            header.append(COLUMN_DELIMITER).append(nodeProperty.propertyKey());
+        }
+
+        var progressLogger = progressLogger(idMapping.nodeCount(), "WriteNodePropertiesToFiles");
+        var partitions = PartitionUtils.rangePartition(concurrency, idMapping.nodeCount());
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (int shard = 0; shard < partitions.size(); shard++) {
+            var partition = partitions.get(shard);
+            var file = directory.resolve(formatWithLocale("%s%d.csv", NODE_SHARD_PREFIX, shard));
+            tasks.add(() -> writeShard(file, header, writer -> {
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    writer.write(Long.toString(idMapping.toOriginalNodeId(nodeId)));
+                    for (NodePropertyExporter.NodeProperty nodeProperty : properties) {
+                        writer.write(COLUMN_DELIMITER);
+                        writeValue(writer, nodeProperty.properties(), nodeId);
+                    }
+                    writer.write(LINE_DELIMITER);
+                    progressLogger.logProgress();
+
+                    if ((nodeId - partition.startNode()) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                }
+                propertiesWritten.add(partition.nodeCount() * properties.size());
+            }));
+        }
+
+        run(tasks, NODE_SHARD_PREFIX, progressLogger);
+    }
+
+    /**
+     * Writes one line per relationship into the files {@code relationships_<shard>.csv}.
+     * The columns contain the source and target node ids, followed by the relationship property if the graph has one.
+     */
+    public void writeRelationships(Graph graph, String propertyKey) {
+        boolean hasProperty = graph.hasRelationshipProperty();
+        var header = new StringBuilder(SOURCE_NODE_ID_COLUMN)
+            .append(COLUMN_DELIMITER)
+            .append(TARGET_NODE_ID_COLUMN);
+        if (hasProperty) {
+            header.append(COLUMN_DELIMITER).append(propertyKey);
+        }
+
+        var progressLogger = progressLogger(graph.relationshipCount(), "WriteRelationshipsToFiles");
+        long batchSize = Math.max(1L, ParallelUtil.threadCount(concurrency, graph.relationshipCount()));
+        List<Partition> partitions = PartitionUtils.degreePartition(graph, batchSize);
+        var tasks = new ArrayList<Runnable>(partitions.size());
+        for (int shard = 0; shard < partitions.size(); shard++) {
+            var partition = partitions.get(shard);
+            var file = directory.resolve(formatWithLocale("%s%d.csv", RELATIONSHIP_SHARD_PREFIX, shard));
+            tasks.add(() -> writeShard(file, header, writer -> {
+                var localGraph = graph.concurrentCopy();
+                var line = new StringBuilder();
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                    var sourceId = Long.toString(idMapping.toOriginalNodeId(nodeId));
+                    localGraph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                        line.setLength(0);
+                        line.append(sourceId).append(COLUMN_DELIMITER).append(idMapping.toOriginalNodeId(target));
+                        if (hasProperty) {
+                            line.append(COLUMN_DELIMITER).append(property);
+                        }
+                        line.append(LINE_DELIMITER);
+                        try {
+                            writer.append(line);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return true;
+                    });
+                    int degree = graph.degree(nodeId);
+                    relationshipsWritten.add(degree);
+                    progressLogger.logProgress(degree);
+
+                    if ((nodeId - partition.startNode()) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                        terminationFlag.assertRunning();
+                    }
+                }
+            }));
+        }
+
+        run(tasks, RELATIONSHIP_SHARD_PREFIX, progressLogger);
+    }
+
+    public long propertiesWritten() {
+        return propertiesWritten.longValue();
+    }
+
+    public long relationshipsWritten() {
+        return relationshipsWritten.longValue();
+    }
+
+    private ProgressLogger progressLogger(long taskVolume, String taskName) {
+        return new BatchingProgressLogger(log, taskVolume, taskName, concurrency);
+    }
+
+    private void run(Collection<Runnable> tasks, String shardPrefix, ProgressLogger progressLogger) {
+        try {
+            Files.createDirectories(directory);
+            // fail before any shard is written, a failed export must not leave shards of two runs behind
+            try (var files = Files.list(directory)) {
+                var existingShard = files
+                    .filter(file -> file.getFileName().toString().startsWith(shardPrefix))
+                    .findFirst();
+                if (existingShard.isPresent()) {
+                    throw new FileAlreadyExistsException(
+                        existingShard.get().toString(),
+                        null,
+                        "The directory already contains the results of an earlier export"
+                    );
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        progressLogger.logStart();
+        ParallelUtil.run(tasks, executorService);
+        progressLogger.logFinish();
+    }
+
+    private static void writeShard(Path file, CharSequence header, ShardWriter shardWriter) {
+        // existing files are never overwritten, results of an earlier run stay intact
+        try (BufferedWriter writer = Files.newBufferedWriter(
+            file,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE
+        )) {
+            writer.append(header).append(LINE_DELIMITER);
+            shardWriter.write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the property value of a node, arrays are written as their elements separated by {@value #ARRAY_DELIMITER}.
+     */
+    public static void writeValue(Writer writer, NodeProperties properties, long nodeId) throws IOException {
+        switch (properties.valueType()) {
+            case LONG:
+                writer.write(Long.toString(properties.longValue(nodeId)));
+                break;
+            case DOUBLE:
+                writer.write(Double.toString(properties.doubleValue(nodeId)));
+                break;
+            case DOUBLE_ARRAY:
+                var doubles = properties.doubleArrayValue(nodeId);
+                for (int i = 0; doubles != null && i < doubles.length; i++) {
+                    if (i > 0) {
+                        writer.write(ARRAY_DELIMITER);
+                    }
+                    writer.write(Double.toString(doubles[i]));
+                }
+                break;
+            case FLOAT_ARRAY:
+                var floats = properties.floatArrayValue(nodeId);
+                for (int i = 0; floats != null && i < floats.length; i++) {
+                    if (i > 0) {
+                        writer.write(ARRAY_DELIMITER);
+                    }
+                    writer.write(Float.toString(floats[i]));
+                }
+                break;
+            case LONG_ARRAY:
+                var longs = properties.longArrayValue(nodeId);
+                for (int i = 0; longs != null && i < longs.length; i++) {
+                    if (i > 0) {
+                        writer.write(ARRAY_DELIMITER);
+                    }
+                    writer.write(Long.toString(longs[i]));
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Writing properties of type %s to files is not supported.",
+                    properties.valueType()
+                ));
+        }
+    }
+
+    @FunctionalInterface
+    private interface ShardWriter {
+        void write(Writer writer) throws IOException;
+    }
+}
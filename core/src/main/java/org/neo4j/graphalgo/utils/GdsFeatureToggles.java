@@ -32,7 +32,10 @@ public enum GdsFeatureToggles {
     USE_KERNEL_TRACKER(false),
     USE_PROPERTY_VALUE_INDEX(false),
     USE_PARALLEL_PROPERTY_VALUE_INDEX(false),
-    USE_BIT_ID_MAP(false);
+    USE_BIT_ID_MAP(false),
+    USE_ADJACENCY_SKIP_INDEX(false),
+    USE_NUMA_AWARE_ALLOCATION(false),
+    USE_MERGED_UNION_ADJACENCY(false);
 
     public boolean isEnabled() {
         return current.get();
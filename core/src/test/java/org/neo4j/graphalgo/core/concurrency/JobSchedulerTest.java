@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JobSchedulerTest {
+
+    // queued jobs block their threads, so they must not run in the common pool
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldAdmitImmediatelyWithoutBudget() {
+        var scheduler = new JobScheduler(0, 0);
+        try (var job1 = scheduler.admit("alice", "job1", 8, 0, TerminationFlag.RUNNING_TRUE);
+             var job2 = scheduler.admit("bob", "job2", 4, 0, TerminationFlag.RUNNING_TRUE)) {
+            assertEquals(8, job1.grantedConcurrency());
+            assertEquals(4, job2.grantedConcurrency());
+            assertThat(scheduler.jobs())
+                .extracting(JobScheduler.JobInfo::status)
+                .containsExactly("RUNNING", "RUNNING");
+        }
+        assertThat(scheduler.jobs()).isEmpty();
+    }
+
+    @Test
+    void shouldCapConcurrencyOfTheCurrentJob() {
+        var scheduler = new JobScheduler(4, 0);
+        assertEquals(8, JobScheduler.effectiveConcurrency(8));
+        try (var ignored = scheduler.admit("alice", "job", 8, 0, TerminationFlag.RUNNING_TRUE)) {
+            assertEquals(4, JobScheduler.effectiveConcurrency(8));
+            assertEquals(2, JobScheduler.effectiveConcurrency(2));
+        }
+        assertEquals(8, JobScheduler.effectiveConcurrency(8));
+    }
+
+    @Test
+    void shouldRestoreTheOuterJobWhenANestedJobFinishes() {
+        var scheduler = new JobScheduler(8, 0);
+        try (var ignored = scheduler.admit("alice", "outer", 4, 0, TerminationFlag.RUNNING_TRUE)) {
+            try (var nested = scheduler.admit("alice", "nested", 2, 0, TerminationFlag.RUNNING_TRUE)) {
+                assertEquals(2, JobScheduler.effectiveConcurrency(8));
+            }
+            assertEquals(4, JobScheduler.effectiveConcurrency(8));
+        }
+        assertEquals(8, JobScheduler.effectiveConcurrency(8));
+    }
+
+    @Test
+    void shouldShareThreadsWeightedByRequestedConcurrency() {
+        var scheduler = new JobScheduler(8, 0);
+        try (var job1 = scheduler.admit("alice", "job1", 12, 0, TerminationFlag.RUNNING_TRUE)) {
+            assertEquals(8, job1.grantedConcurrency());
+            try (var job2 = scheduler.admit("bob", "job2", 4, 0, TerminationFlag.RUNNING_TRUE)) {
+                assertEquals(6, job1.grantedConcurrency());
+                assertEquals(2, job2.grantedConcurrency());
+            }
+            assertEquals(8, job1.grantedConcurrency());
+        }
+    }
+
+    @Test
+    void shouldQueueJobsThatExceedTheThreadBudget() throws Exception {
+        var scheduler = new JobScheduler(1, 0);
+        var job1 = scheduler.admit("alice", "job1", 4, 0, TerminationFlag.RUNNING_TRUE);
+
+        var job2 = CompletableFuture.supplyAsync(() -> {
+            try (var job = scheduler.admit("bob", "job2", 4, 0, TerminationFlag.RUNNING_TRUE)) {
+                return job.grantedConcurrency();
+            }
+        }, executor);
+        awaitQueued(scheduler, 1);
+        assertThat(scheduler.jobs())
+            .extracting(JobScheduler.JobInfo::status)
+            .containsExactly("RUNNING", "QUEUED");
+
+        job1.close();
+        assertEquals(1, job2.get(10, TimeUnit.SECONDS));
+        assertThat(scheduler.jobs()).isEmpty();
+    }
+
+    @Test
+    void shouldQueueJobsThatExceedTheMemoryBudget() throws Exception {
+        var scheduler = new JobScheduler(0, 100);
+        var job1 = scheduler.admit("alice", "job1", 4, 60, TerminationFlag.RUNNING_TRUE);
+        scheduler.admit("alice", "job2", 4, 40, TerminationFlag.RUNNING_TRUE).close();
+
+        var job3 = CompletableFuture.runAsync(() -> scheduler
+            .admit("bob", "job3", 4, 50, TerminationFlag.RUNNING_TRUE)
+            .close(), executor);
+        awaitQueued(scheduler, 1);
+
+        job1.close();
+        job3.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldAdmitQueuedJobsRoundRobinAcrossUsers() throws Exception {
+        var scheduler = new JobScheduler(1, 0);
+        var admitted = new CopyOnWriteArrayList<String>();
+        var job = scheduler.admit("alice", "alice1", 1, 0, TerminationFlag.RUNNING_TRUE);
+
+        var queuedJobs = List.of("alice2", "alice3", "bob1");
+        var futures = new CompletableFuture<?>[queuedJobs.size()];
+        for (int i = 0; i < queuedJobs.size(); i++) {
+            var description = queuedJobs.get(i);
+            var username = description.substring(0, description.length() - 1);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try (var ignored = scheduler.admit(username, description, 1, 0, TerminationFlag.RUNNING_TRUE)) {
+                    admitted.add(description);
+                }
+            }, executor);
+            awaitQueued(scheduler, i + 1);
+        }
+
+        job.close();
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+        assertThat(admitted).containsExactly("bob1", "alice2", "alice3");
+    }
+
+    @Test
+    void shouldStopWaitingWhenTerminated() {
+        var scheduler = new JobScheduler(1, 0);
+        try (var ignored = scheduler.admit("alice", "job1", 1, 0, TerminationFlag.RUNNING_TRUE)) {
+            var running = new AtomicBoolean(true);
+            var job2 = CompletableFuture.runAsync(() -> scheduler
+                .admit("bob", "job2", 1, 0, running::get)
+                .close(), executor);
+            awaitQueued(scheduler, 1);
+
+            running.set(false);
+            assertThrows(Exception.class, () -> job2.get(10, TimeUnit.SECONDS));
+            assertThat(scheduler.jobs())
+                .extracting(JobScheduler.JobInfo::description)
+                .containsExactly("job1");
+        }
+    }
+
+    @Test
+    void shouldRejectNegativeBudgets() {
+        var scheduler = new JobScheduler(0, 0);
+        var exception = assertThrows(IllegalArgumentException.class, () -> scheduler.setThreadBudget(-1));
+        assertThat(exception).hasMessage("The scheduler budgets must not be negative, but got -1 threads and 0 bytes");
+    }
+
+    private static void awaitQueued(JobScheduler scheduler, int queuedJobs) {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (queuedJobs(scheduler) < queuedJobs) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Jobs have not been queued in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static long queuedJobs(JobScheduler scheduler) {
+        return scheduler.jobs().stream().filter(job -> job.status().equals("QUEUED")).count();
+    }
+}
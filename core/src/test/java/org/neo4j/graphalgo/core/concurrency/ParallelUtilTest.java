@@ -43,6 +43,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.locks.LockSupport;
@@ -208,6 +209,54 @@ final class ParallelUtilTest {
         verify(importer, times(1)).newImporter(10, ints[1]);
     }
 
+    @ValueSource(ints = {1, 2, 4, 8})
+    @ParameterizedTest
+    void shouldVisitEveryNodeOnceWithWorkStealing(int concurrency) {
+        var nodeCount = 10_000;
+        var visits = new AtomicIntegerArray(nodeCount);
+        ParallelUtil.readParallelWorkStealing(
+            concurrency,
+            nodeCount,
+            node -> node % 100 == 0 ? 1000 : 0,
+            (start, end) -> {
+                for (long node = start; node < end; node++) {
+                    visits.incrementAndGet((int) node);
+                }
+            }
+        );
+
+        for (int node = 0; node < nodeCount; node++) {
+            assertEquals(1, visits.get(node), "node " + node);
+        }
+    }
+
+    @Test
+    void shouldSplitRangesByCostWithWorkStealing() {
+        var nodeCount = 1_000;
+        var ranges = new ConcurrentLinkedQueue<long[]>();
+        // a single hub costs as much as all other nodes together
+        ParallelUtil.readParallelWorkStealing(
+            4,
+            nodeCount,
+            node -> node == 0 ? nodeCount : 0,
+            (start, end) -> ranges.add(new long[]{start, end})
+        );
+
+        assertTrue(ranges.stream().anyMatch(range -> range[0] == 0 && range[1] == 1), "the hub runs on its own");
+        assertEquals(nodeCount, ranges.stream().mapToLong(range -> range[1] - range[0]).sum());
+    }
+
+    @Test
+    void shouldPropagateExceptionsWithWorkStealing() {
+        var exception = assertThrows(
+            IllegalStateException.class,
+            () -> ParallelUtil.readParallelWorkStealing(4, 1_000, node -> 1, (start, end) -> {
+                throw new IllegalStateException("failed");
+            })
+        );
+        assertThat(exception.getMessage(), containsString("failed"));
+    }
+
     @Test
     void batchingShouldCatenatePartitions() {
         int minBatchSize = 21;
@@ -23,8 +23,12 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.core.GdsEdition;
 
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PoolsTest {
 
@@ -47,5 +51,16 @@ class PoolsTest {
         assertEquals(2 * availableProcessors, defaultPool.getMaximumPoolSize());
     }
 
+    @Test
+    void shouldIdentifyPoolThreadsIndependentOfTheirName() throws Exception {
+        assertTrue(Pools.DEFAULT.submit(Pools::isPoolThread).get());
+        assertTrue(ParallelUtil.parallelStream(Stream.of(1), 2, stream -> stream.allMatch(ignored -> Pools.isPoolThread())));
+        assertFalse(Pools.isPoolThread());
 
+        var foreignThreadIsPoolThread = new AtomicBoolean(true);
+        var foreignThread = new Thread(() -> foreignThreadIsPoolThread.set(Pools.isPoolThread()), "gds-foreign");
+        foreignThread.start();
+        foreignThread.join();
+        assertFalse(foreignThreadIsPoolThread.get());
+    }
 }
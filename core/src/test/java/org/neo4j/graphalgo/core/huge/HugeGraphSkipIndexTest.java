@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.loading.construction.GraphFactory;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.utils.GdsFeatureToggles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.CHUNK_SIZE;
+
+class HugeGraphSkipIndexTest {
+
+    // node 0 is connected to every even node, which is enough to get a skip index
+    private static final int DEGREE = AdjacencySkipIndex.MIN_DEGREE + 3 * CHUNK_SIZE / 2;
+    private static final long NODE_COUNT = 2L * DEGREE + 2;
+
+    @Test
+    void shouldFindRelationshipsAcrossSkipBlocks() {
+        GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.enableAndRun(() -> {
+            var graph = graph(AllocationTracker.empty());
+
+            for (long target = 0; target < NODE_COUNT; target++) {
+                boolean exists = target > 0 && target % 2 == 0;
+                assertEquals(exists, graph.exists(0, target), "exists (0)-->(" + target + ")");
+                assertEquals(
+                    exists ? target / 2.0 : Double.NaN,
+                    graph.relationshipProperty(0, target, Double.NaN),
+                    "property of (0)-->(" + target + ")"
+                );
+            }
+
+            // lookups that go back to an earlier block after a later one
+            long lastTarget = 2L * DEGREE;
+            long secondBlockTarget = 2L * (CHUNK_SIZE + 1);
+            assertTrue(graph.exists(0, lastTarget));
+            assertEquals(secondBlockTarget / 2.0, graph.relationshipProperty(0, secondBlockTarget, Double.NaN));
+            assertTrue(graph.exists(0, 2));
+        });
+    }
+
+    @Test
+    void shouldTrackSkipIndex() {
+        GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.enableAndRun(() -> {
+            var tracker = AllocationTracker.create();
+            graph(tracker);
+
+            long avgDegree = (DEGREE + NODE_COUNT - 1) / NODE_COUNT;
+            var estimation = AdjacencySkipIndex.memoryEstimation(avgDegree, NODE_COUNT);
+            assertTrue(tracker.trackedBytes() > 0);
+            assertTrue(tracker.trackedBytes() <= estimation.max);
+        });
+    }
+
+    private static HugeGraph graph(AllocationTracker tracker) {
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(NODE_COUNT)
+            .build();
+        for (long node = 0; node < NODE_COUNT; node++) {
+            nodesBuilder.addNode(node);
+        }
+        var idMap = nodesBuilder.build();
+
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .loadRelationshipProperty(true)
+            .build();
+        for (long target = 2; target <= 2L * DEGREE; target += 2) {
+            relationshipsBuilder.add(0, target, target / 2.0);
+        }
+
+        // the relationships are tracked elsewhere, the tracker only sees what is allocated for the graph
+        return GraphFactory.create(idMap, relationshipsBuilder.build(), tracker);
+    }
+}
@@ -71,4 +71,19 @@ class NodeFilteredGraphTest extends BaseTest {
         });
     }
 
+    @Test
+    void translatesOriginalNodeIdsInBatches() {
+        Graph filteredGraph = graphStore.getGraph(
+            NodeLabel.of("Ignore"),
+            RelationshipType.ALL_RELATIONSHIPS,
+            Optional.empty()
+        );
+
+        long[] originalNodeIds = new long[3];
+        filteredGraph.toOriginalNodeIds(0, originalNodeIds, 2);
+
+        assertEquals(filteredGraph.toOriginalNodeId(0), originalNodeIds[0]);
+        assertEquals(filteredGraph.toOriginalNodeId(1), originalNodeIds[1]);
+        assertEquals(0L, originalNodeIds[2]);
+    }
 }
@@ -90,6 +90,57 @@ class TransientAdjacencyListTest {
         assertEquals(64, adjacencyCursor.nextVLong());
     }
 
+    @Test
+    void shouldAdvanceWithSkipIndex() {
+        long[] targets = new long[10 * CHUNK_SIZE];
+        Arrays.setAll(targets, i -> i);
+
+        var expected = adjacencyCursorFromTargets(targets, false);
+        var actual = adjacencyCursorFromTargets(targets, true);
+        for (long target : new long[]{0, 1, 63, 64, 65, 200, 201, 500, targets.length - 1}) {
+            assertEquals(expected.advance(target), actual.advance(target));
+            assertEquals(expected.remaining(), actual.remaining());
+        }
+        assertFalse(actual.hasNextVLong());
+        assertEquals(AdjacencyCursor.NOT_FOUND, actual.advance(targets.length));
+    }
+
+    @Test
+    void shouldSkipUntilWithSkipIndex() {
+        long[] targets = new long[10 * CHUNK_SIZE];
+        Arrays.setAll(targets, i -> i);
+
+        for (long target : new long[]{0, 63, 64, 127, 128, 300, targets.length - 2}) {
+            var expected = adjacencyCursorFromTargets(targets, false);
+            var actual = adjacencyCursorFromTargets(targets, true);
+            assertEquals(expected.skipUntil(target), actual.skipUntil(target));
+            assertEquals(expected.remaining(), actual.remaining());
+            while (expected.hasNextVLong()) {
+                assertEquals(expected.nextVLong(), actual.nextVLong());
+            }
+            assertFalse(actual.hasNextVLong());
+        }
+    }
+
+    @Test
+    void shouldAdvanceByWithSkipIndex() {
+        long[] targets = new long[10 * CHUNK_SIZE];
+        Arrays.setAll(targets, i -> i);
+
+        for (int count : new int[]{0, 1, 63, 64, 65, 128, 500, targets.length - 1}) {
+            var expected = adjacencyCursorFromTargets(targets, false);
+            var actual = adjacencyCursorFromTargets(targets, true);
+            expected.nextVLong();
+            actual.nextVLong();
+            assertEquals(expected.advanceBy(count - 1), actual.advanceBy(count - 1));
+            assertEquals(expected.remaining(), actual.remaining());
+        }
+
+        var cursor = adjacencyCursorFromTargets(targets, true);
+        assertEquals(AdjacencyCursor.NOT_FOUND, cursor.advanceBy(targets.length));
+        assertEquals(targets.length, cursor.remaining());
+    }
+
     @Test
     void shouldComputeCompressedMemoryEstimationForSinglePage() {
         GraphDimensions dimensions = ImmutableGraphDimensions.builder()
@@ -214,6 +265,10 @@ class TransientAdjacencyListTest {
     }
 
     private TransientAdjacencyList.DecompressingCursor adjacencyCursorFromTargets(long[] targets) {
+        return adjacencyCursorFromTargets(targets, false);
+    }
+
+    private TransientAdjacencyList.DecompressingCursor adjacencyCursorFromTargets(long[] targets, boolean withSkipIndex) {
         long sourceNodeId = targets[0];
         NodesBuilder nodesBuilder = GraphFactory.initNodesBuilder()
             .maxOriginalId(targets[targets.length - 1])
@@ -237,7 +292,11 @@ class TransientAdjacencyListTest {
             relationshipsBuilder.add(sourceNodeId, target);
         }
         Relationships relationships = relationshipsBuilder.build();
+        var adjacencyList = (TransientAdjacencyList) relationships.topology().list();
+        if (withSkipIndex) {
+            adjacencyList.buildSkipIndex(relationships.topology().offsets(), idMap.nodeCount(), AllocationTracker.empty());
+        }
         long offset = relationships.topology().offsets().get(idMap.toMappedNodeId(sourceNodeId));
-        return (TransientAdjacencyList.DecompressingCursor) relationships.topology().list().decompressingCursor(offset);
+        return (TransientAdjacencyList.DecompressingCursor) adjacencyList.decompressingCursor(offset);
     }
 }
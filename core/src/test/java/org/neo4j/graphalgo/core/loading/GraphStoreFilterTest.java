@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.CSRGraph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.gdl.GdlFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+
+class GraphStoreFilterTest {
+
+    private static final String GRAPH =
+        "  (a:A {p: 1})" +
+        ", (b:A {p: 2})" +
+        ", (c:B {p: 3})" +
+        ", (d:A {p: 4})" +
+        ", (a)-[:T1 {w: 1.0}]->(b)" +
+        ", (b)-[:T1 {w: 2.0}]->(d)" +
+        ", (d)-[:T1 {w: 4.0}]->(c)" +
+        ", (a)-[:T2 {w: 3.0}]->(c)";
+
+    private GraphStore graphStore;
+
+    @BeforeEach
+    void setup() {
+        graphStore = GdlFactory.of(GRAPH).build().graphStore();
+    }
+
+    @Test
+    void shouldFilterByLabelAndType() {
+        var subgraph = GraphStoreFilter.filter(
+            graphStore,
+            List.of(NodeLabel.of("A")),
+            List.of(RelationshipType.of("T1")),
+            node -> true,
+            4,
+            AllocationTracker.empty()
+        );
+
+        assertEquals(3, subgraph.nodeCount());
+        assertEquals(2, subgraph.relationshipCount());
+        assertEquals(List.of(RelationshipType.of("T1")), List.copyOf(subgraph.relationshipTypes()));
+        assertGraphEquals(
+            fromGdl("(a:A {p: 1}), (b:A {p: 2}), (d:A {p: 4}), (a)-[{w: 1.0}]->(b), (b)-[{w: 2.0}]->(d)"),
+            subgraph.getGraph(RelationshipType.of("T1"), Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldFilterByNodeProperty() {
+        var properties = graphStore.nodePropertyValues("p");
+        var subgraph = GraphStoreFilter.filter(
+            graphStore,
+            graphStore.nodeLabels(),
+            graphStore.relationshipTypes(),
+            node -> properties.longValue(node) >= 2,
+            4,
+            AllocationTracker.empty()
+        );
+
+        assertEquals(3, subgraph.nodeCount());
+        assertGraphEquals(
+            fromGdl("(b:A {p: 2}), (c:B {p: 3}), (d:A {p: 4}), (b)-[{w: 2.0}]->(d), (d)-[{w: 4.0}]->(c)"),
+            subgraph.getGraph(RelationshipType.of("T1"), Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldRenumberNodesDenselyInOriginalOrder() {
+        var subgraph = GraphStoreFilter.filter(
+            graphStore,
+            List.of(NodeLabel.of("A")),
+            graphStore.relationshipTypes(),
+            node -> true,
+            1,
+            AllocationTracker.empty()
+        );
+
+        var rootNodes = graphStore.nodes();
+        var nodes = subgraph.nodes();
+        long previousRootId = -1L;
+        for (long node = 0; node < nodes.nodeCount(); node++) {
+            var originalId = nodes.toOriginalNodeId(node);
+            var rootId = rootNodes.toMappedNodeId(originalId);
+            assertEquals(node, nodes.toMappedNodeId(originalId));
+            assertTrue(rootNodes.hasLabel(rootId, NodeLabel.of("A")));
+            assertTrue(rootId > previousRootId);
+            previousRootId = rootId;
+        }
+    }
+
+    @Test
+    void shouldShareNodesIfNoNodeIsFiltered() {
+        var subgraph = GraphStoreFilter.filter(
+            graphStore,
+            graphStore.nodeLabels(),
+            List.of(RelationshipType.of("T2")),
+            node -> true,
+            4,
+            AllocationTracker.empty()
+        );
+
+        assertSame(graphStore.nodes(), subgraph.nodes());
+        assertEquals(1, subgraph.relationshipCount());
+        assertNotSame(
+            ((CSRGraph) graphStore.getGraph(RelationshipType.of("T2"))).relationshipTopology().list(),
+            ((CSRGraph) subgraph.getGraph(RelationshipType.of("T2"))).relationshipTopology().list()
+        );
+    }
+
+    @Test
+    void shouldKeepPropertiesOfParallelRelationshipsAligned() {
+        var multiGraphStore = GdlFactory
+            .of("(a)-[:T {w: 1.0, v: 2.0}]->(b), (a)-[:T {w: 3.0, v: 4.0}]->(b)")
+            .build()
+            .graphStore();
+
+        var subgraph = GraphStoreFilter.filter(
+            multiGraphStore,
+            multiGraphStore.nodeLabels(),
+            multiGraphStore.relationshipTypes(),
+            node -> true,
+            4,
+            AllocationTracker.empty()
+        );
+
+        var wGraph = subgraph.getGraph(RelationshipType.of("T"), Optional.of("w"));
+        var vGraph = subgraph.getGraph(RelationshipType.of("T"), Optional.of("v"));
+        assertSame(
+            ((CSRGraph) wGraph).relationshipTopology().list(),
+            ((CSRGraph) vGraph).relationshipTopology().list()
+        );
+
+        var wValues = new ArrayList<Double>();
+        var vValues = new ArrayList<Double>();
+        wGraph.forEachRelationship(0, Double.NaN, (s, t, w) -> wValues.add(w));
+        vGraph.forEachRelationship(0, Double.NaN, (s, t, v) -> vValues.add(v));
+
+        var pairs = new HashSet<List<Double>>();
+        for (int i = 0; i < wValues.size(); i++) {
+            pairs.add(List.of(wValues.get(i), vValues.get(i)));
+        }
+        assertEquals(Set.of(List.of(1.0, 2.0), List.of(3.0, 4.0)), pairs);
+    }
+}
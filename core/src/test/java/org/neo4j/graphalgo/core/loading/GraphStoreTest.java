@@ -34,6 +34,7 @@ import org.neo4j.graphalgo.PropertyMappings;
 import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.api.CSRGraph;
 import org.neo4j.graphalgo.api.DefaultValue;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphStore;
@@ -41,13 +42,19 @@ import org.neo4j.graphalgo.api.Relationships;
 import org.neo4j.graphalgo.api.schema.RelationshipSchema;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyList;
 import org.neo4j.graphalgo.core.huge.TransientAdjacencyOffsets;
+import org.neo4j.graphalgo.core.huge.UnionGraph;
 import org.neo4j.graphalgo.core.loading.NullPropertyMap.DoubleNullPropertyMap;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+import org.neo4j.graphalgo.gdl.GdlFactory;
+import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +65,7 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.NodeLabel.ALL_NODES;
 import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
@@ -213,6 +221,65 @@ class GraphStoreTest extends BaseTest {
         assertThat(deletionResult.deletedProperties()).containsExactlyInAnyOrderEntriesOf(Map.of("p", 3L, "q", 3L));
     }
 
+    @Test
+    void shouldMergeAdjacencyOfSeveralRelationshipTypes() {
+        GraphStore graphStore = GdlFactory
+            .of("(a)-[:T1]->(b), (a)-[:T2]->(b), (a)-[:T2]->(c), (b)-[:T1]->(c), (c)-[:T3]->(a)")
+            .build()
+            .graphStore();
+        var types = List.of(RelationshipType.of("T1"), RelationshipType.of("T2"));
+
+        GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY.enableAndRun(() -> {
+            Graph graph = graphStore.getGraph(types, Optional.empty());
+
+            assertTrue(graph instanceof HugeGraph);
+            assertEquals(3, graph.relationshipCount());
+            assertGraphEquals(fromGdl("(a)-->(b), (a)-->(c), (b)-->(c), (c)"), graph);
+
+            // the merged adjacency is built once per set of types
+            assertSame(
+                ((CSRGraph) graph).relationshipTopology().list(),
+                ((CSRGraph) graphStore.getGraph(types, Optional.empty())).relationshipTopology().list()
+            );
+        });
+
+        assertTrue(graphStore.getGraph(types, Optional.empty()) instanceof UnionGraph);
+    }
+
+    @Test
+    void shouldUntrackInvalidatedMergedAdjacency() {
+        GraphStore gdlGraphStore = GdlFactory
+            .of("(a)-[:T1]->(b), (a)-[:T2]->(c), (b)-[:T1]->(c)")
+            .build()
+            .graphStore();
+        var types = List.of(RelationshipType.of("T1"), RelationshipType.of("T2"));
+        var topologies = new HashMap<RelationshipType, Relationships.Topology>();
+        types.forEach(type -> topologies.put(type, ((CSRGraph) gdlGraphStore.getGraph(type)).relationshipTopology()));
+
+        var tracker = AllocationTracker.create();
+        var graphStore = CSRGraphStore.of(
+            gdlGraphStore.databaseId(),
+            gdlGraphStore.nodes(),
+            Map.of(),
+            topologies,
+            Map.of(),
+            1,
+            tracker
+        );
+
+        GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY.enableAndRun(() -> {
+            Graph graph = graphStore.getGraph(types, Optional.empty());
+            var trackedWithMergedAdjacency = tracker.trackedBytes();
+            assertTrue(trackedWithMergedAdjacency > 0);
+
+            graphStore.deleteRelationships(RelationshipType.of("T1"));
+
+            assertTrue(tracker.trackedBytes() < trackedWithMergedAdjacency);
+            // graphs that are already using the merged adjacency keep working
+            assertGraphEquals(fromGdl("(a)-->(b), (a)-->(c), (b)-->(c)"), graph);
+        });
+    }
+
     @NotNull
     private static List<NodeProjection> nodeProjections() {
         NodeProjection aMapping = NodeProjection.builder()
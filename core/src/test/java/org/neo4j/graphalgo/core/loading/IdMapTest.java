@@ -25,11 +25,15 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -73,4 +77,27 @@ class IdMapTest {
         memRec = IdMap.memoryEstimation().estimate(dimensions, 1);
         assertEquals(MemoryRange.of(48L + 840L + 32832L + 112L), memRec.memoryUsage());
     }
+
+    @Test
+    void shouldTranslateOriginalNodeIdsAcrossPages() {
+        // one page of a paged HugeLongArray holds 2^14 ids
+        int pageSize = 1 << 14;
+        long nodeCount = pageSize + 100;
+        var graphIds = HugeLongArray.newPagedArray(nodeCount, AllocationTracker.empty());
+        var nodeToGraphIds = HugeSparseLongArray.Builder.create(42 + 2 * nodeCount, AllocationTracker.empty());
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graphIds.set(nodeId, 42 + 2 * nodeId);
+            nodeToGraphIds.set(42 + 2 * nodeId, nodeId);
+        }
+        var idMap = new IdMap(graphIds, nodeToGraphIds.build(), Map.of(), nodeCount, AllocationTracker.empty());
+
+        long startNodeId = pageSize - 50;
+        long[] originalNodeIds = new long[100];
+        idMap.toOriginalNodeIds(startNodeId, originalNodeIds, originalNodeIds.length);
+
+        for (int i = 0; i < originalNodeIds.length; i++) {
+            assertEquals(idMap.toOriginalNodeId(startNodeId + i), originalNodeIds[i]);
+            assertEquals(42 + 2 * (startNodeId + i), originalNodeIds[i]);
+        }
+    }
 }
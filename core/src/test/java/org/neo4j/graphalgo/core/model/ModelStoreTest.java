@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.graphalgo.api.schema.GraphSchema;
+import org.neo4j.graphalgo.gdl.GdlFactory;
+import org.neo4j.graphalgo.model.catalog.TestModelSerializer;
+import org.neo4j.graphalgo.model.catalog.TestTrainConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModelStoreTest {
+
+    private static final String USERNAME = "testUser";
+    private static final GraphSchema GRAPH_SCHEMA = GdlFactory
+        .of("(:Node1 {prop: 1.0})-[:REL {weight: 42}]->(:Node2)")
+        .build()
+        .graphStore()
+        .schema();
+
+    @TempDir
+    Path storeDirectory;
+
+    @AfterEach
+    void afterEach() {
+        ModelCatalog.removeAllLoadedModels();
+        ModelCatalog.setLoadedModelsMemoryBudget(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldStoreAndLoadModel() {
+        var model = model("testModel", "testTrainData");
+
+        var file = ModelStore.store(model, storeDirectory);
+        var loadedModel = ModelStore.load(file);
+
+        assertThat(file).isEqualTo(ModelStore.modelFile(storeDirectory, USERNAME, "testModel"));
+        assertThat(loadedModel.username()).isEqualTo(USERNAME);
+        assertThat(loadedModel.name()).isEqualTo("testModel");
+        assertThat(loadedModel.algoType()).isEqualTo(TestModelSerializer.ALGO_TYPE);
+        assertThat(loadedModel.creationTime()).isEqualTo(model.creationTime());
+        assertThat(loadedModel.graphSchema()).isEqualTo(GRAPH_SCHEMA);
+        assertThat(loadedModel.trainConfig().toMap()).isEqualTo(model.trainConfig().toMap());
+        assertThat(loadedModel.data()).isEqualTo("testTrainData");
+    }
+
+    @Test
+    void shouldReadDataOnFirstAccess() {
+        var file = ModelStore.store(model("testModel", "testTrainData"), storeDirectory);
+
+        var loadedModel = (StoredModel<?, ?>) ModelStore.load(file);
+        assertThat(loadedModel.isLoaded()).isFalse();
+
+        assertThat(loadedModel.data()).isEqualTo("testTrainData");
+        assertThat(loadedModel.isLoaded()).isTrue();
+    }
+
+    @Test
+    void shouldUnloadLeastRecentlyUsedData() {
+        var first = (StoredModel<?, ?>) ModelStore.load(ModelStore.store(model("first", "firstData"), storeDirectory));
+        var second = (StoredModel<?, ?>) ModelStore.load(ModelStore.store(model("second", "secondData"), storeDirectory));
+        ModelCatalog.set(first);
+        ModelCatalog.set(second);
+
+        ModelCatalog.setLoadedModelsMemoryBudget(first.dataSize());
+
+        first.data();
+        assertThat(first.isLoaded()).isTrue();
+
+        second.data();
+        assertThat(first.isLoaded()).isFalse();
+        assertThat(second.isLoaded()).isTrue();
+        assertThat(ModelCatalog.modelDataCache().loadedBytes()).isEqualTo(second.dataSize());
+
+        // unloaded data is read again
+        assertThat(first.data()).isEqualTo("firstData");
+        assertThat(second.isLoaded()).isFalse();
+    }
+
+    @Test
+    void shouldReleaseDataOfDroppedModels() {
+        var model = (StoredModel<?, ?>) ModelStore.load(ModelStore.store(model("testModel", "testTrainData"), storeDirectory));
+        ModelCatalog.set(model);
+        model.data();
+
+        ModelCatalog.drop(USERNAME, "testModel");
+
+        assertThat(ModelCatalog.modelDataCache().loadedBytes()).isZero();
+    }
+
+    @Test
+    void shouldFailOnUnknownModelType() {
+        var model = Model.of(USERNAME, "testModel", "unknownAlgo", GRAPH_SCHEMA, "testTrainData", TestTrainConfig.of());
+
+        assertThatThrownBy(() -> ModelStore.store(model, storeDirectory))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Models of type `unknownAlgo` cannot be stored");
+    }
+
+    @Test
+    void shouldFailOnFilesThatAreNoModels() throws IOException {
+        var file = Files.writeString(storeDirectory.resolve("noModel" + ModelStore.FILE_EXTENSION), "not a model");
+
+        assertThatThrownBy(() -> ModelStore.load(file))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not contain a stored model");
+    }
+
+    @Test
+    void shouldKeepModelsOfDotNamesInsideTheStoreDirectory() throws IOException {
+        var model = Model.of("..", "..", TestModelSerializer.ALGO_TYPE, GRAPH_SCHEMA, "testTrainData", TestTrainConfig.of());
+
+        var file = ModelStore.store(model, storeDirectory);
+
+        assertThat(file).isEqualTo(storeDirectory.resolve("%2E%2E").resolve("%2E%2E" + ModelStore.FILE_EXTENSION));
+        assertThat(file.normalize()).startsWith(storeDirectory);
+        try (var siblings = Files.list(storeDirectory.getParent())) {
+            assertThat(siblings.filter(path -> path.getFileName().toString().endsWith(ModelStore.FILE_EXTENSION))).isEmpty();
+        }
+        assertThat(ModelStore.load(file).username()).isEqualTo("..");
+    }
+
+    private static Model<String, TestTrainConfig> model(String name, String data) {
+        return Model.of(USERNAME, name, TestModelSerializer.ALGO_TYPE, GRAPH_SCHEMA, data, TestTrainConfig.of());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.graphalgo.utils.ExceptionUtil.rootCause;
+
+class HugeAliasTableTest {
+
+    @Test
+    void shouldSampleProportionalToWeights() {
+        double[] weights = {1, 2, 0, 3, 4};
+        var table = HugeAliasTable.of(weights.length, nodeId -> weights[(int) nodeId], 4, AllocationTracker.empty());
+
+        // every uniform value in [0, 1) maps to exactly one index, so a fine grid yields the exact distribution
+        int samples = 100_000;
+        long[] counts = new long[weights.length];
+        for (int i = 0; i < samples; i++) {
+            counts[(int) table.sample((i + 0.5) / samples)]++;
+        }
+
+        assertEquals(0, counts[2]);
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 10, (double) counts[i] / samples, 1e-3);
+        }
+    }
+
+    @Test
+    void shouldSampleSingleIndex() {
+        var table = HugeAliasTable.of(3, nodeId -> nodeId == 1 ? 42 : 0, 1, AllocationTracker.empty());
+        assertEquals(1, table.sample(0.0));
+        assertEquals(1, table.sample(0.5));
+        assertEquals(1, table.sample(Math.nextDown(1.0)));
+    }
+
+    @Test
+    void shouldFailWithoutPositiveWeights() {
+        var exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> HugeAliasTable.of(3, nodeId -> 0, 1, AllocationTracker.empty())
+        );
+        assertEquals("At least one weight must be positive.", rootCause(exception).getMessage());
+    }
+}
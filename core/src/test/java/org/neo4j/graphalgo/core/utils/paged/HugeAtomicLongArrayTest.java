@@ -193,6 +193,22 @@ final class HugeAtomicLongArrayTest {
         });
     }
 
+    /**
+     * getAndAdd returns previous value and adds given value
+     */
+    @Test
+    void testGetAndAdd() {
+        testArray(SIZE, aa -> {
+            for (int i = 0; i < SIZE; i++) {
+                aa.set(i, 1);
+                assertEquals(1L, aa.getAndAdd(i, 2));
+                assertEquals(3L, aa.get(i));
+                assertEquals(3L, aa.getAndAdd(i, -4));
+                assertEquals(-1L, aa.get(i));
+            }
+        });
+    }
+
     private static long addLong17(long x) { return x + 17; }
 
     /**
@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.core.utils.paged;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 
 import static io.qala.datagen.RandomShortApi.integer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -65,6 +66,27 @@ final class HugeLongArrayTest extends HugeArrayTestBase<long[], Long, HugeLongAr
         });
     }
 
+    @Test
+    void shouldAllocatePagesInParallelWithNumaAwareAllocation() {
+        var size = 10L * HugeArrays.PAGE_SIZE + 42;
+        var sequentialTracker = AllocationTracker.create();
+        var sequential = HugeLongArray.newPagedArray(size, sequentialTracker);
+
+        var parallelTracker = AllocationTracker.create();
+        var pagesAllocatedInParallel = PageLocality.pagesAllocatedInParallel();
+        var parallel = new HugeLongArray[1];
+        GdsFeatureToggles.USE_NUMA_AWARE_ALLOCATION.enableAndRun(
+            () -> parallel[0] = HugeLongArray.newPagedArray(size, parallelTracker)
+        );
+
+        assertEquals(11, PageLocality.pagesAllocatedInParallel() - pagesAllocatedInParallel);
+        assertEquals(size, parallel[0].size());
+        assertEquals(sequentialTracker.trackedBytes(), parallelTracker.trackedBytes());
+        parallel[0].set(size - 1, 42L);
+        assertEquals(42L, parallel[0].get(size - 1));
+        assertEquals(sequential.size(), parallel[0].size());
+    }
+
     @Test
     void shouldComputeMemoryEstimation() {
         assertEquals(40, HugeLongArray.memoryEstimation(0L));
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.write;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.nodeproperties.DoubleArrayNodeProperties;
+import org.neo4j.graphalgo.api.nodeproperties.LongNodeProperties;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.graphalgo.TestSupport.fromGdl;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+class FileExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeNodeProperties() throws IOException {
+        Graph graph = fromGdl("(a), (b), (c)");
+
+        var exporter = FileExporter.builder(directory, graph, TerminationFlag.RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 4)
+            .build();
+        exporter.writeNodeProperties(List.of(
+            ImmutableNodeProperty.of("community", (LongNodeProperties) nodeId -> nodeId * 2),
+            ImmutableNodeProperty.of("embedding", (DoubleArrayNodeProperties) nodeId -> new double[]{nodeId, 0.5})
+        ));
+
+        assertEquals(6, exporter.propertiesWritten());
+        assertThat(Files.readAllLines(directory.resolve("nodes_0.csv"))).containsExactly(
+            "nodeId,community,embedding",
+            formatWithLocale("%d,0,0.0;0.5", graph.toOriginalNodeId(0)),
+            formatWithLocale("%d,2,1.0;0.5", graph.toOriginalNodeId(1)),
+            formatWithLocale("%d,4,2.0;0.5", graph.toOriginalNodeId(2))
+        );
+    }
+
+    @Test
+    void writeRelationshipsIntoOneShardPerPartition() throws IOException {
+        Graph graph = fromGdl(
+            "  (a)-[{w: 1.0}]->(b)" +
+            ", (a)-[{w: 2.0}]->(c)" +
+            ", (b)-[{w: 3.0}]->(c)" +
+            ", (c)-[{w: 4.0}]->(a)"
+        );
+
+        var exporter = FileExporter.builder(directory, graph, TerminationFlag.RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 2)
+            .build();
+        exporter.writeRelationships(graph, "score");
+
+        assertEquals(4, exporter.relationshipsWritten());
+        var shards = shards("relationships_");
+        assertThat(shards).hasSizeGreaterThan(1);
+
+        var lines = shards.stream().flatMap(shard -> {
+            try {
+                var shardLines = Files.readAllLines(shard);
+                assertEquals("sourceNodeId,targetNodeId,score", shardLines.get(0));
+                return shardLines.stream().skip(1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertThat(lines).containsExactlyInAnyOrder(
+            formatWithLocale("%d,%d,1.0", graph.toOriginalNodeId(0), graph.toOriginalNodeId(1)),
+            formatWithLocale("%d,%d,2.0", graph.toOriginalNodeId(0), graph.toOriginalNodeId(2)),
+            formatWithLocale("%d,%d,3.0", graph.toOriginalNodeId(1), graph.toOriginalNodeId(2)),
+            formatWithLocale("%d,%d,4.0", graph.toOriginalNodeId(2), graph.toOriginalNodeId(0))
+        );
+    }
+
+    @Test
+    void shouldNotOverwriteExistingFiles() throws IOException {
+        Graph graph = fromGdl("(a), (b)");
+        Files.writeString(directory.resolve("nodes_0.csv"), "existing");
+
+        var exporter = FileExporter.builder(directory, graph, TerminationFlag.RUNNING_TRUE).build();
+        assertThrows(
+            UncheckedIOException.class,
+            () -> exporter.writeNodeProperties(List.of(ImmutableNodeProperty.of("p", (LongNodeProperties) nodeId -> 1L)))
+        );
+        assertEquals("existing", Files.readString(directory.resolve("nodes_0.csv")));
+    }
+
+    @Test
+    void shouldNotWriteAnyShardIfAnEarlierExportExists() throws IOException {
+        Graph graph = fromGdl("(a)-->(b), (b)-->(c), (c)-->(a)");
+        Files.writeString(directory.resolve("relationships_1.csv"), "existing");
+
+        var exporter = FileExporter.builder(directory, graph, TerminationFlag.RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 2)
+            .build();
+        assertThrows(UncheckedIOException.class, () -> exporter.writeRelationships(graph, "score"));
+
+        assertThat(shards("relationships_")).containsExactly(directory.resolve("relationships_1.csv"));
+        assertEquals("existing", Files.readString(directory.resolve("relationships_1.csv")));
+    }
+
+    @Test
+    void shouldKeepTheFirstExportOnRerun() throws IOException {
+        Graph graph = fromGdl("(a), (b), (c)");
+        NodePropertyExporter.NodeProperty nodeProperty = ImmutableNodeProperty.of("p", (LongNodeProperties) nodeId -> 1L);
+
+        FileExporter.builder(directory, graph, TerminationFlag.RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 4)
+            .build()
+            .writeNodeProperties(List.of(nodeProperty));
+        var firstExport = shards("nodes_");
+
+        var rerun = FileExporter.builder(directory, graph, TerminationFlag.RUNNING_TRUE).build();
+        assertThrows(UncheckedIOException.class, () -> rerun.writeNodeProperties(List.of(nodeProperty)));
+
+        assertEquals(firstExport, shards("nodes_"));
+        assertEquals(0, rerun.propertiesWritten());
+    }
+
+    private List<Path> shards(String prefix) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().startsWith(prefix))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+}
@@ -70,7 +70,7 @@ class AppendixAProcedureListingTest extends BaseProcTest {
         registeredProcedures.add("gds.list");
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 236;
+        int expectedCount = 243;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
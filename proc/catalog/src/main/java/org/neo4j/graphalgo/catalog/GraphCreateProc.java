@@ -24,6 +24,7 @@ import org.neo4j.graphalgo.NodeProjections;
 import org.neo4j.graphalgo.RelationshipProjections;
 import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.GraphCreateFromCsvConfig;
 import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
 import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
@@ -147,6 +148,28 @@ public class GraphCreateProc extends CatalogProc {
         return estimateGraph(config);
     }
 
+    @Procedure(name = "gds.beta.graph.create.csv", mode = READ)
+    @Description("Creates a named graph in the catalog from the CSV files of a graph exported with gds.beta.graph.export.csv.")
+    public Stream<GraphCreateCsvResult> createCsv(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        validateGraphName(username(), graphName);
+
+        // input
+        CypherMapWrapper cypherConfig = CypherMapWrapper.create(configuration);
+        GraphCreateFromCsvConfig config = GraphCreateFromCsvConfig.of(username(), graphName, cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        // computation
+        GraphCreateCsvResult result = runWithExceptionLogging(
+            "Graph creation failed",
+            () -> (GraphCreateCsvResult) createGraph(config)
+        );
+        // result
+        return Stream.of(result);
+    }
+
     /**
      * This is (temporarily) overridden due to a performance regression
      * caused by tracking memory allocation during graph creation.
@@ -159,9 +182,14 @@ public class GraphCreateProc extends CatalogProc {
     private GraphCreateResult createGraph(GraphCreateConfig config) {
         tryValidateMemoryUsage(config, this::memoryTreeWithDimensions);
 
-        GraphCreateResult.Builder builder = config instanceof GraphCreateFromCypherConfig
-            ? new GraphCreateCypherResult.Builder((GraphCreateFromCypherConfig) config)
-            : new GraphCreateNativeResult.Builder((GraphCreateFromStoreConfig) config);
+        GraphCreateResult.Builder builder;
+        if (config instanceof GraphCreateFromCypherConfig) {
+            builder = new GraphCreateCypherResult.Builder((GraphCreateFromCypherConfig) config);
+        } else if (config instanceof GraphCreateFromCsvConfig) {
+            builder = new GraphCreateCsvResult.Builder((GraphCreateFromCsvConfig) config);
+        } else {
+            builder = new GraphCreateNativeResult.Builder((GraphCreateFromStoreConfig) config);
+        }
 
         try (ProgressTimer ignored = ProgressTimer.start(builder::withCreateMillis)) {
             GraphLoader loader = newLoader(config, allocationTracker());
@@ -314,4 +342,38 @@ public class GraphCreateProc extends CatalogProc {
             }
         }
     }
+
+    public static class GraphCreateCsvResult extends GraphCreateResult {
+        public final String exportName;
+
+        GraphCreateCsvResult(
+            String graphName,
+            String exportName,
+            long nodeCount,
+            long relationshipCount,
+            long createMillis
+        ) {
+            super(graphName, nodeCount, relationshipCount, createMillis);
+            this.exportName = exportName;
+        }
+
+        protected static final class Builder extends GraphCreateResult.Builder {
+            private final String exportName;
+
+            Builder(GraphCreateFromCsvConfig config) {
+                super(config);
+                this.exportName = config.exportName();
+            }
+
+            GraphCreateCsvResult build() {
+                return new GraphCreateCsvResult(
+                    graphName,
+                    exportName,
+                    nodeCount,
+                    relationshipCount,
+                    createMillis
+                );
+            }
+        }
+    }
 }
@@ -19,16 +19,26 @@
  */
 package org.neo4j.graphalgo.catalog;
 
+import org.neo4j.configuration.Config;
 import org.neo4j.graphalgo.BaseProc;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.utils.export.ExportSettings;
+import org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExport;
+import org.neo4j.graphalgo.core.utils.export.GraphStoreCsvExportConfig;
 import org.neo4j.graphalgo.core.utils.export.GraphStoreExport;
 import org.neo4j.graphalgo.core.utils.export.GraphStoreExportConfig;
+import org.neo4j.graphalgo.core.utils.mem.MemoryTreeWithDimensions;
+import org.neo4j.graphalgo.results.MemoryEstimateResult;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.neo4j.procedure.Mode.READ;
@@ -71,6 +81,67 @@ public class GraphStoreExportProc extends BaseProc {
         return Stream.of(result);
     }
 
+    @Procedure(name = "gds.graph.export.estimate", mode = READ)
+    @Description("Estimates the memory required to export a named graph into a new offline Neo4j database.")
+    public Stream<MemoryEstimateResult> estimate(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var exportConfig = GraphStoreExportConfig.of(username(), cypherConfig);
+        validateConfig(cypherConfig, exportConfig);
+
+        var graphStore = GraphStoreCatalog.get(username(), databaseId(), graphName).graphStore();
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(graphStore.nodeCount())
+            .relationshipCounts(Map.of(RelationshipType.ALL_RELATIONSHIPS, graphStore.relationshipCount()))
+            .maxRelCount(graphStore.relationshipCount())
+            .build();
+        var memoryTree = GraphStoreExport
+            .memoryEstimation(graphStore)
+            .estimate(dimensions, exportConfig.writeConcurrency());
+
+        return Stream.of(new MemoryEstimateResult(new MemoryTreeWithDimensions(memoryTree, dimensions)));
+    }
+
+    @Procedure(name = "gds.beta.graph.export.csv", mode = READ)
+    @Description("Exports a named graph into CSV files, from which it can be created again with gds.beta.graph.create.csv.")
+    public Stream<GraphStoreCsvExportResult> csv(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var exportConfig = GraphStoreCsvExportConfig.of(username(), cypherConfig);
+        validateConfig(cypherConfig, exportConfig);
+
+        var result = runWithExceptionLogging(
+            "Graph export failed", () -> {
+                var graphStore = GraphStoreCatalog.get(username(), databaseId(), graphName).graphStore();
+
+                var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+                var directory = ExportSettings.exportDirectory(neo4jConfig, exportConfig.exportName());
+                var graphStoreExport = new GraphStoreCsvExport(graphStore, directory, exportConfig);
+
+                var start = System.nanoTime();
+                var exportedProperties = graphStoreExport.run();
+                var end = System.nanoTime();
+
+                return new GraphStoreCsvExportResult(
+                    graphName,
+                    exportConfig.exportName(),
+                    graphStore.nodeCount(),
+                    graphStore.relationshipCount(),
+                    graphStore.relationshipTypes().size(),
+                    exportedProperties.nodePropertyCount(),
+                    exportedProperties.relationshipPropertyCount(),
+                    TimeUnit.NANOSECONDS.toMillis(end - start)
+                );
+            }
+        );
+
+        return Stream.of(result);
+    }
+
     public static class GraphStoreExportResult {
         public final String graphName;
         public final String dbName;
@@ -101,4 +172,35 @@ public class GraphStoreExportProc extends BaseProc {
             this.writeMillis = writeMillis;
         }
     }
+
+    public static class GraphStoreCsvExportResult {
+        public final String graphName;
+        public final String exportName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long relationshipTypeCount;
+        public final long nodePropertyCount;
+        public final long relationshipPropertyCount;
+        public final long writeMillis;
+
+        public GraphStoreCsvExportResult(
+            String graphName,
+            String exportName,
+            long nodeCount,
+            long relationshipCount,
+            long relationshipTypeCount,
+            long nodePropertyCount,
+            long relationshipPropertyCount,
+            long writeMillis
+        ) {
+            this.graphName = graphName;
+            this.exportName = exportName;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.relationshipTypeCount = relationshipTypeCount;
+            this.nodePropertyCount = nodePropertyCount;
+            this.relationshipPropertyCount = relationshipPropertyCount;
+            this.writeMillis = writeMillis;
+        }
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.catalog;
+
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.GraphSubgraphConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.loading.GraphStoreFilter;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphSubgraphProc extends CatalogProc {
+
+    private static final String DESCRIPTION =
+        "Creates a compact named graph from the nodes and relationships of an existing named graph that match a filter.";
+
+    @Procedure(name = "gds.beta.graph.subgraph", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<SubgraphResult> subgraph(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "fromGraphName") String fromGraphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        validateGraphName(fromGraphName);
+
+        // input
+        CypherMapWrapper cypherConfig = CypherMapWrapper.create(configuration);
+        GraphSubgraphConfig config = GraphSubgraphConfig.of(username(), graphName, fromGraphName, cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        GraphStore fromGraphStore = GraphStoreCatalog.get(username(), databaseId(), fromGraphName).graphStore();
+
+        validateGraphName(username(), graphName);
+
+        // an unchanged equivalent subgraph that has been created after the last change of the graph is reused
+        Optional<SubgraphResult> cachedResult = findCachedSubgraph(config, fromGraphStore);
+        if (cachedResult.isPresent()) {
+            return Stream.of(cachedResult.get());
+        }
+
+        // computation
+        SubgraphResult result = runWithExceptionLogging(
+            "Subgraph creation failed",
+            () -> createSubgraph(config, fromGraphStore)
+        );
+        // result
+        return Stream.of(result);
+    }
+
+    /**
+     * Registers an equivalent subgraph under the requested name as well.
+     * Both names share the graph store, which the catalog releases together with the last of them.
+     */
+    private Optional<SubgraphResult> findCachedSubgraph(GraphSubgraphConfig config, GraphStore fromGraphStore) {
+        for (Map.Entry<GraphCreateConfig, GraphStore> entry : GraphStoreCatalog.getGraphStores(username(), databaseId()).entrySet()) {
+            if (!(entry.getKey() instanceof GraphSubgraphConfig)) {
+                continue;
+            }
+            var cachedConfig = (GraphSubgraphConfig) entry.getKey();
+            var graphStore = entry.getValue();
+            if (cachedConfig.hasSameFilter(config)
+                && !fromGraphStore.modificationTime().isAfter(cachedConfig.creationTime())
+                && !graphStore.modificationTime().isAfter(graphStore.creationTime())) {
+                GraphStoreCatalog.set(config, graphStore);
+                return Optional.of(new SubgraphResult(
+                    config.graphName(),
+                    config.fromGraphName(),
+                    graphStore.nodeCount(),
+                    graphStore.relationshipCount(),
+                    0L,
+                    true
+                ));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private SubgraphResult createSubgraph(GraphSubgraphConfig config, GraphStore fromGraphStore) {
+        Collection<NodeLabel> nodeLabels = config.nodeLabelIdentifiers(fromGraphStore);
+        Collection<RelationshipType> relationshipTypes = config.internalRelationshipTypes(fromGraphStore);
+        validateFilter(config, fromGraphStore, nodeLabels, relationshipTypes);
+
+        LongPredicate nodeFilter = node -> true;
+        if (config.nodeProperty() != null) {
+            var values = fromGraphStore.nodePropertyValues(config.nodeProperty());
+            var min = config.nodePropertyMin();
+            var max = config.nodePropertyMax();
+            nodeFilter = node -> {
+                var value = values.doubleValue(node);
+                return value >= min && value <= max;
+            };
+        }
+
+        SubgraphResult.Builder builder = new SubgraphResult.Builder(config.graphName(), config.fromGraphName());
+        try (ProgressTimer ignored = ProgressTimer.start(builder::withCreateMillis)) {
+            GraphStore graphStore = GraphStoreFilter.filter(
+                fromGraphStore,
+                nodeLabels,
+                relationshipTypes,
+                nodeFilter,
+                config.concurrency(),
+                allocationTracker()
+            );
+            builder.withNodeCount(graphStore.nodeCount());
+            builder.withRelationshipCount(graphStore.relationshipCount());
+            GraphStoreCatalog.set(config, graphStore);
+        }
+        return builder.build();
+    }
+
+    private static void validateFilter(
+        GraphSubgraphConfig config,
+        GraphStore graphStore,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes
+    ) {
+        for (NodeLabel nodeLabel : nodeLabels) {
+            if (!graphStore.nodeLabels().contains(nodeLabel)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "No node label '%s' found in graph '%s'. Available labels: %s",
+                    nodeLabel.name(),
+                    config.fromGraphName(),
+                    graphStore.nodeLabels()
+                ));
+            }
+        }
+        for (RelationshipType relationshipType : relationshipTypes) {
+            if (!graphStore.hasRelationshipType(relationshipType)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "No relationship type '%s' found in graph '%s'. Available types: %s",
+                    relationshipType.name(),
+                    config.fromGraphName(),
+                    graphStore.relationshipTypes()
+                ));
+            }
+        }
+        if (config.nodeProperty() != null && !graphStore.hasNodeProperty(nodeLabels, config.nodeProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node property '%s' not found in graph '%s' for the labels %s.",
+                config.nodeProperty(),
+                config.fromGraphName(),
+                nodeLabels
+            ));
+        }
+    }
+
+    public static class SubgraphResult {
+        public final String graphName;
+        public final String fromGraphName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long createMillis;
+        public final boolean fromCache;
+
+        SubgraphResult(
+            String graphName,
+            String fromGraphName,
+            long nodeCount,
+            long relationshipCount,
+            long createMillis,
+            boolean fromCache
+        ) {
+            this.graphName = graphName;
+            this.fromGraphName = fromGraphName;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.createMillis = createMillis;
+            this.fromCache = fromCache;
+        }
+
+        static final class Builder {
+            private final String graphName;
+            private final String fromGraphName;
+            private long nodeCount;
+            private long relationshipCount;
+            private long createMillis;
+
+            Builder(String graphName, String fromGraphName) {
+                this.graphName = graphName;
+                this.fromGraphName = fromGraphName;
+            }
+
+            void withNodeCount(long nodeCount) {
+                this.nodeCount = nodeCount;
+            }
+
+            void withRelationshipCount(long relationshipCount) {
+                this.relationshipCount = relationshipCount;
+            }
+
+            void withCreateMillis(long createMillis) {
+                this.createMillis = createMillis;
+            }
+
+            SubgraphResult build() {
+                return new SubgraphResult(graphName, fromGraphName, nodeCount, relationshipCount, createMillis, false);
+            }
+        }
+    }
+}
@@ -19,13 +19,19 @@
  */
 package org.neo4j.graphalgo.model.catalog;
 
+import org.neo4j.configuration.Config;
 import org.neo4j.graphalgo.BaseProc;
+import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.model.Model;
+import org.neo4j.graphalgo.core.model.ModelStoreSettings;
 
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.Map;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 abstract class ModelCatalogProc extends BaseProc {
 
     static final String NO_VALUE = "__NO_VALUE";
@@ -34,6 +40,21 @@ abstract class ModelCatalogProc extends BaseProc {
         CypherMapWrapper.failOnBlank("modelName", modelName);
     }
 
+    Config neo4jConfig() {
+        return GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+    }
+
+    Path modelStoreLocation() {
+        var location = neo4jConfig().get(ModelStoreSettings.model_store_location);
+        if (location == null) {
+            throw new IllegalStateException(formatWithLocale(
+                "The model store location is not configured. Set `%s` to store and load models.",
+                ModelStoreSettings.model_store_location.name()
+            ));
+        }
+        return location;
+    }
+
     public static class ModelResult {
         public final Map<String, Object> modelInfo;
         public final Map<String, Object> trainConfig;
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.model.catalog;
+
+import org.neo4j.graphalgo.core.model.ModelCatalog;
+import org.neo4j.graphalgo.core.model.ModelStore;
+import org.neo4j.graphalgo.core.model.ModelStoreSettings;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.nio.file.Files;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class ModelLoadProc extends ModelCatalogProc {
+
+    private static final String DESCRIPTION =
+        "Loads a model stored by `gds.beta.model.store` into the catalog. " +
+        "The model data is read from disk when the model is first used.";
+
+    @Procedure(name = "gds.beta.model.load", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<ModelResult> load(@Name(value = "modelName") String modelName) {
+        validateModelName(modelName);
+
+        var file = ModelStore.modelFile(modelStoreLocation(), username(), modelName);
+        if (!Files.exists(file)) {
+            throw new NoSuchElementException(formatWithLocale("No stored model with name `%s` exists.", modelName));
+        }
+
+        ModelCatalog.setLoadedModelsMemoryBudget(neo4jConfig().get(ModelStoreSettings.loaded_models_memory_budget));
+        var model = ModelStore.load(file);
+        ModelCatalog.set(model);
+
+        return Stream.of(new ModelResult(model));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.model.catalog;
+
+import org.neo4j.graphalgo.core.model.ModelCatalog;
+import org.neo4j.graphalgo.core.model.ModelStore;
+import org.neo4j.graphalgo.core.utils.ProgressTimer;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class ModelStoreProc extends ModelCatalogProc {
+
+    private static final String DESCRIPTION = "Stores a model from the catalog on disk, so that it can be loaded after a restart.";
+
+    @Procedure(name = "gds.beta.model.store", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<ModelStoreResult> store(@Name(value = "modelName") String modelName) {
+        validateModelName(modelName);
+
+        var model = ModelCatalog.list(username(), modelName);
+        var storeLocation = modelStoreLocation();
+
+        Path file;
+        var timer = ProgressTimer.start();
+        try (timer) {
+            file = ModelStore.store(model, storeLocation);
+        }
+
+        return Stream.of(new ModelStoreResult(modelName, model.algoType(), file.toString(), timer.getDuration()));
+    }
+
+    public static class ModelStoreResult {
+        public final String modelName;
+        public final String modelType;
+        public final String storeLocation;
+        public final long storeMillis;
+
+        ModelStoreResult(String modelName, String modelType, String storeLocation, long storeMillis) {
+            this.modelName = modelName;
+            this.modelType = modelType;
+            this.storeLocation = storeLocation;
+            this.storeMillis = storeMillis;
+        }
+    }
+}
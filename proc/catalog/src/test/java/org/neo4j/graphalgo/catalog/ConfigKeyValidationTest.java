@@ -62,6 +62,19 @@ class ConfigKeyValidationTest extends BaseProcTest {
         );
     }
 
+    @Test
+    void writeDirectoryForProcedureThatCannotWriteFiles() {
+        QueryExecutionException exception = Assertions.assertThrows(
+            QueryExecutionException.class,
+            () -> runQuery("CALL gds.testProc.test('foo', {writeProperty: 'p', writeDirectory: 'results'})")
+        );
+
+        assertThat(
+            exception,
+            rootCause(IllegalArgumentException.class, "Unexpected configuration key: writeDirectory")
+        );
+    }
+
     @Test
     void additionalKeyForImplicitLoading() {
         QueryExecutionException exception = Assertions.assertThrows(
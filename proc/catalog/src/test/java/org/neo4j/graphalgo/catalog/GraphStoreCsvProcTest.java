@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.nodeproperties.DoubleArrayNodeProperties;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.utils.export.ExportSettings;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+
+class GraphStoreCsvProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {p: 1})" +
+        ", (b:A {p: 2})" +
+        ", (c:B {p: 3, q: 4.2})" +
+        ", (d:B {p: 4, q: 1.3})" +
+        ", (a)-[:T1 {w: 1.0}]->(b)" +
+        ", (b)-[:T1 {w: 2.0}]->(c)" +
+        ", (c)-[:T1 {w: 3.0}]->(d)" +
+        ", (a)-[:T2]->(d)" +
+        ", (d)-[:T2]->(b)";
+
+    @TempDir
+    static Path exportLocation;
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setConfig(ExportSettings.export_location, exportLocation);
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphCreateProc.class, GraphStoreExportProc.class);
+        runQuery(DB_CYPHER);
+        runQuery(
+            "CALL gds.graph.create('g', {A: {properties: 'p'}, B: {properties: ['p', 'q']}}, " +
+            "{T1: {properties: 'w'}, T2: {orientation: 'UNDIRECTED'}})"
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldExportAndCreateGraphFromCsv() {
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.export.csv('g', {exportName: 'export', writeConcurrency: 2})",
+            row -> {
+                assertEquals("g", row.getString("graphName"));
+                assertEquals("export", row.getString("exportName"));
+                assertEquals(4L, row.getNumber("nodeCount"));
+                assertEquals(7L, row.getNumber("relationshipCount"));
+                assertEquals(2L, row.getNumber("relationshipTypeCount"));
+            }
+        );
+        assertTrue(Files.exists(exportLocation.resolve("export").resolve("graph_info.csv")));
+
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.create.csv('reloaded', {exportName: 'export', readConcurrency: 2})",
+            row -> {
+                assertEquals("reloaded", row.getString("graphName"));
+                assertEquals("export", row.getString("exportName"));
+                assertEquals(4L, row.getNumber("nodeCount"));
+                assertEquals(7L, row.getNumber("relationshipCount"));
+            }
+        );
+
+        var expected = GraphStoreCatalog.get(getUsername(), db.databaseId(), "g").graphStore();
+        var actual = GraphStoreCatalog.get(getUsername(), db.databaseId(), "reloaded").graphStore();
+
+        assertThat(actual.nodeLabels()).containsExactlyInAnyOrderElementsOf(expected.nodeLabels());
+        assertThat(actual.nodePropertyKeys(NodeLabel.of("B"))).containsExactlyInAnyOrder("p", "q");
+        assertGraphEquals(
+            expected.getGraph(RelationshipType.of("T1"), Optional.of("w")),
+            actual.getGraph(RelationshipType.of("T1"), Optional.of("w"))
+        );
+        assertGraphEquals(
+            expected.getGraph(RelationshipType.of("T2")),
+            actual.getGraph(RelationshipType.of("T2"))
+        );
+        assertTrue(actual.getGraph(RelationshipType.of("T2")).isUndirected());
+    }
+
+    @Test
+    void shouldRoundTripPropertyStatesAndEmptyArrays() {
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "g").graphStore();
+        graphStore.addNodeProperty(
+            NodeLabel.of("A"),
+            "embedding",
+            (DoubleArrayNodeProperties) nodeId -> nodeId % 2 == 0 ? new double[0] : new double[]{nodeId, 0.5}
+        );
+
+        runQuery("CALL gds.beta.graph.export.csv('g', {exportName: 'mutated'})");
+        runQuery("CALL gds.beta.graph.create.csv('reloaded', {exportName: 'mutated'})");
+        var reloaded = GraphStoreCatalog.get(getUsername(), db.databaseId(), "reloaded").graphStore();
+
+        assertEquals(GraphStore.PropertyState.PERSISTENT, reloaded.nodePropertyState("p"));
+        assertEquals(GraphStore.PropertyState.TRANSIENT, reloaded.nodePropertyState("embedding"));
+
+        var expectedValues = graphStore.nodePropertyValues(NodeLabel.of("A"), "embedding");
+        var actualValues = reloaded.nodePropertyValues(NodeLabel.of("A"), "embedding");
+        long emptyArrays = 0L;
+        for (long nodeId = 0; nodeId < reloaded.nodeCount(); nodeId++) {
+            if (reloaded.nodes().hasLabel(nodeId, NodeLabel.of("A"))) {
+                long expectedNodeId = graphStore.nodes().toMappedNodeId(reloaded.nodes().toOriginalNodeId(nodeId));
+                var expected = expectedValues.doubleArrayValue(expectedNodeId);
+                assertArrayEquals(expected, actualValues.doubleArrayValue(nodeId));
+                if (expected.length == 0) {
+                    emptyArrays++;
+                }
+            }
+        }
+        assertThat(emptyArrays).isPositive();
+    }
+
+    @Test
+    void failOnExistingExport() {
+        runQuery("CALL gds.beta.graph.export.csv('g', {exportName: 'existing'})");
+        assertError(
+            "CALL gds.beta.graph.export.csv('g', {exportName: 'existing'})",
+            "already exists"
+        );
+    }
+
+    @Test
+    void failOnExportOutsideOfExportLocation() {
+        assertError(
+            "CALL gds.beta.graph.export.csv('g', {exportName: '../outside'})",
+            "must be a sub directory of the export location"
+        );
+    }
+}
@@ -92,4 +92,34 @@ class GraphStoreExportProcTest extends BaseProcTest {
         });
     }
 
+    @Test
+    void exportGraphWithHighDegreeNode() {
+        runQuery("MATCH (a { prop1: 0 }) UNWIND range(1, 100) AS i CREATE (a)-[:REL1 { weight1: i }]->(:Leaf)");
+        runQuery("CALL gds.graph.create('test-graph', '*', 'REL1', { relationshipProperties: 'weight1' })");
+
+        runQueryWithRowConsumer(
+            "CALL gds.graph.export('test-graph', { dbName: 'test-db', batchSize: 2, writeConcurrency: 4 })",
+            row -> {
+                assertEquals(104, row.getNumber("nodeCount").longValue());
+                assertEquals(102, row.getNumber("relationshipCount").longValue());
+                assertEquals(102, row.getNumber("relationshipPropertyCount").longValue());
+            }
+        );
+    }
+
+    @Test
+    void estimateExport() {
+        runQuery("CALL gds.graph.create('test-graph', '*', '*')");
+
+        runQueryWithRowConsumer(
+            "CALL gds.graph.export.estimate('test-graph', { dbName: 'test-db', writeConcurrency: 2 })",
+            row -> {
+                assertEquals(4, row.getNumber("nodeCount").longValue());
+                assertEquals(6, row.getNumber("relationshipCount").longValue());
+                assertThat(row.getNumber("bytesMin").longValue(), greaterThan(0L));
+                assertEquals(row.getNumber("bytesMin"), row.getNumber("bytesMax"));
+            }
+        );
+    }
+
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.core.IdentityProperties;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphSubgraphProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {p: 1})" +
+        ", (b:A {p: 2})" +
+        ", (c:B {p: 3})" +
+        ", (d:A {p: 4})" +
+        ", (a)-[:T1]->(b)" +
+        ", (b)-[:T1]->(d)" +
+        ", (d)-[:T1]->(c)" +
+        ", (a)-[:T2]->(c)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphSubgraphProc.class, GraphCreateProc.class);
+        runQuery(DB_CYPHER);
+        runQuery("CALL gds.graph.create('g', {A: {properties: 'p'}, B: {properties: 'p'}}, ['T1', 'T2'])");
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldCreateSubgraphByLabelAndType() {
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.subgraph('sub', 'g', {nodeLabels: ['A'], relationshipTypes: ['T1']})",
+            row -> {
+                assertEquals("sub", row.getString("graphName"));
+                assertEquals("g", row.getString("fromGraphName"));
+                assertEquals(3L, row.getNumber("nodeCount"));
+                assertEquals(2L, row.getNumber("relationshipCount"));
+                assertFalse(row.getBoolean("fromCache"));
+            }
+        );
+        assertTrue(GraphStoreCatalog.exists(getUsername(), db.databaseId(), "sub"));
+    }
+
+    @Test
+    void shouldCreateSubgraphByNodeProperty() {
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.subgraph('sub', 'g', {nodeProperty: 'p', nodePropertyMin: 2, nodePropertyMax: 3})",
+            row -> {
+                assertEquals(2L, row.getNumber("nodeCount"));
+                assertEquals(0L, row.getNumber("relationshipCount"));
+            }
+        );
+    }
+
+    @Test
+    void shouldReuseEquivalentSubgraph() {
+        runQuery("CALL gds.beta.graph.subgraph('sub', 'g', {nodeLabels: ['A'], relationshipTypes: ['T1']})");
+
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.subgraph('other', 'g', {nodeLabels: ['A'], relationshipTypes: ['T1']})",
+            row -> {
+                assertEquals("other", row.getString("graphName"));
+                assertEquals(3L, row.getNumber("nodeCount"));
+                assertEquals(2L, row.getNumber("relationshipCount"));
+                assertTrue(row.getBoolean("fromCache"));
+            }
+        );
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "other").graphStore();
+        assertSame(GraphStoreCatalog.get(getUsername(), db.databaseId(), "sub").graphStore(), graphStore);
+
+        // the shared graph store is only released together with its last name
+        GraphStoreCatalog.remove(getUsername(), db.databaseId(), "sub", graphStoreWithConfig -> {}, true);
+        var graph = graphStore.getUnion();
+        var relationshipCount = new AtomicLong();
+        graph.forEachNode(node -> {
+            graph.forEachRelationship(node, (source, target) -> {
+                relationshipCount.incrementAndGet();
+                return true;
+            });
+            return true;
+        });
+        assertEquals(2L, relationshipCount.get());
+    }
+
+    @Test
+    void shouldNotReuseMutatedSubgraph() {
+        runQuery("CALL gds.beta.graph.subgraph('sub', 'g', {nodeLabels: ['A'], relationshipTypes: ['T1']})");
+        var subGraphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "sub").graphStore();
+        subGraphStore.addNodeProperty(NodeLabel.of("A"), "mutated", new IdentityProperties(3));
+
+        runQueryWithRowConsumer(
+            "CALL gds.beta.graph.subgraph('other', 'g', {nodeLabels: ['A'], relationshipTypes: ['T1']})",
+            row -> assertFalse(row.getBoolean("fromCache"))
+        );
+        var graphStore = GraphStoreCatalog.get(getUsername(), db.databaseId(), "other").graphStore();
+        assertNotSame(subGraphStore, graphStore);
+        assertFalse(graphStore.hasNodeProperty(List.of(NodeLabel.of("A")), "mutated"));
+    }
+
+    @Test
+    void failOnExistingGraphNameForEquivalentSubgraph() {
+        runQuery("CALL gds.beta.graph.subgraph('sub', 'g', {nodeLabels: ['A'], relationshipTypes: ['T1']})");
+
+        assertError(
+            "CALL gds.beta.graph.subgraph('sub', 'g', {nodeLabels: ['A'], relationshipTypes: ['T1']})",
+            "A graph with name 'sub' already exists."
+        );
+    }
+
+    @Test
+    void failOnUnknownLabel() {
+        assertError(
+            "CALL gds.beta.graph.subgraph('sub', 'g', {nodeLabels: ['C']})",
+            "No node label 'C' found in graph 'g'."
+        );
+    }
+
+    @Test
+    void failOnUnknownGraph() {
+        assertError(
+            "CALL gds.beta.graph.subgraph('sub', 'foo')",
+            "Graph with name `foo` does not exist."
+        );
+    }
+}
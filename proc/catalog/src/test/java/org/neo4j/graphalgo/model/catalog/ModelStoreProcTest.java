@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.model.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.graphalgo.core.model.Model;
+import org.neo4j.graphalgo.core.model.ModelCatalog;
+import org.neo4j.graphalgo.core.model.ModelStore;
+import org.neo4j.graphalgo.core.model.ModelStoreSettings;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.core.Is.isA;
+import static org.neo4j.graphalgo.compat.MapUtil.map;
+
+class ModelStoreProcTest extends ModelProcBaseTest {
+
+    private static final String MODEL_NAME = "testModel";
+
+    @TempDir
+    static Path storeLocation;
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setConfig(ModelStoreSettings.model_store_location, storeLocation);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(ModelStoreProc.class, ModelLoadProc.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ModelCatalog.removeAllLoadedModels();
+    }
+
+    @Test
+    void storesAndLoadsModel() {
+        TestTrainConfig trainConfig = TestTrainConfig.of();
+        ModelCatalog.set(Model.of(
+            getUsername(),
+            MODEL_NAME,
+            TestModelSerializer.ALGO_TYPE,
+            GRAPH_SCHEMA,
+            "testData",
+            trainConfig
+        ));
+
+        assertCypherResult(
+            "CALL gds.beta.model.store($modelName)",
+            Map.of("modelName", MODEL_NAME),
+            singletonList(map(
+                "modelName", MODEL_NAME,
+                "modelType", TestModelSerializer.ALGO_TYPE,
+                "storeLocation", ModelStore.modelFile(storeLocation, getUsername(), MODEL_NAME).toString(),
+                "storeMillis", isA(Long.class)
+            ))
+        );
+
+        ModelCatalog.drop(getUsername(), MODEL_NAME);
+
+        assertCypherResult(
+            "CALL gds.beta.model.load($modelName)",
+            Map.of("modelName", MODEL_NAME),
+            singletonList(map(
+                "modelInfo", map("modelName", MODEL_NAME, "modelType", TestModelSerializer.ALGO_TYPE),
+                "trainConfig", map(
+                    "dummyConfigProperty", trainConfig.dummyConfigProperty(),
+                    "modelName", trainConfig.modelName(),
+                    "sudo", trainConfig.sudo()
+                ),
+                "graphSchema", EXPECTED_SCHEMA,
+                "creationTime", isA(ZonedDateTime.class)
+            ))
+        );
+
+        var loadedModel = ModelCatalog.get(getUsername(), MODEL_NAME, String.class, TestTrainConfig.class);
+        assertThat(loadedModel.data()).isEqualTo("testData");
+    }
+
+    @Test
+    void failOnLoadingNonExistingModel() {
+        assertError(
+            "CALL gds.beta.model.load($modelName)",
+            map("modelName", "foo"),
+            "No stored model with name `foo` exists."
+        );
+    }
+}
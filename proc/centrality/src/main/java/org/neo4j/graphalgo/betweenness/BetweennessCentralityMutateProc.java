@@ -107,6 +107,8 @@ public class BetweennessCentralityMutateProc extends MutatePropertyProc<Betweenn
             double scoreSum,
             double minimumScore,
             double maximumScore,
+            long sampleCount,
+            double achievedEpsilon,
             Map<String, Object> config
         ) {
             super(
@@ -114,6 +116,8 @@ public class BetweennessCentralityMutateProc extends MutatePropertyProc<Betweenn
                 scoreSum,
                 minimumScore,
                 maximumScore,
+                sampleCount,
+                achievedEpsilon,
                 createMillis,
                 computeMillis,
                 postProcessingMillis,
@@ -141,6 +145,8 @@ public class BetweennessCentralityMutateProc extends MutatePropertyProc<Betweenn
                     sumCentrality,
                     minCentrality,
                     maxCentrality,
+                    sampleCount,
+                    achievedEpsilon,
                     config.toMap()
                 );
             }
@@ -72,6 +72,11 @@ final class BetweennessCentralityProc {
 
             procResultBuilder.withCentralityFunction(computeResult.result()::get);
         }
+        if (computeResult.algorithm() != null) {
+            procResultBuilder
+                .sampleCount(computeResult.algorithm().sampleCount())
+                .achievedEpsilon(computeResult.algorithm().achievedEpsilon());
+        }
         return procResultBuilder;
     }
 
@@ -79,6 +84,8 @@ final class BetweennessCentralityProc {
         double minCentrality = -1;
         double maxCentrality = -1;
         double sumCentrality = -1;
+        long sampleCount = 0;
+        double achievedEpsilon = -1;
         boolean computeDeprecatedStats;
 
         BetweennessCentralityResultBuilder(ProcedureCallContext callContext, int concurrency) {
@@ -102,5 +109,15 @@ final class BetweennessCentralityProc {
             this.sumCentrality = sumCentrality;
             return this;
         }
+
+        BetweennessCentralityResultBuilder<PROC_RESULT> sampleCount(long sampleCount) {
+            this.sampleCount = sampleCount;
+            return this;
+        }
+
+        BetweennessCentralityResultBuilder<PROC_RESULT> achievedEpsilon(double achievedEpsilon) {
+            this.achievedEpsilon = achievedEpsilon;
+            return this;
+        }
     }
 }
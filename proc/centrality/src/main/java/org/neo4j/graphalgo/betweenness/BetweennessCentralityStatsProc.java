@@ -95,6 +95,8 @@ public class BetweennessCentralityStatsProc extends StatsProc<BetweennessCentral
     public static class StatsResult extends StandardStatsResult {
 
         public final Map<String, Object> centralityDistribution;
+        public final long sampleCount;
+        public final double achievedEpsilon;
         @Deprecated
         public final double minimumScore;
         @Deprecated
@@ -107,6 +109,8 @@ public class BetweennessCentralityStatsProc extends StatsProc<BetweennessCentral
             double scoreSum,
             double minimumScore,
             double maximumScore,
+            long sampleCount,
+            double achievedEpsilon,
             long createMillis,
             long computeMillis,
             long postProcessingMillis,
@@ -114,6 +118,8 @@ public class BetweennessCentralityStatsProc extends StatsProc<BetweennessCentral
         ) {
             super(createMillis, computeMillis, postProcessingMillis, configuration);
             this.centralityDistribution = centralityDistribution;
+            this.sampleCount = sampleCount;
+            this.achievedEpsilon = achievedEpsilon;
             this.maximumScore = maximumScore;
             this.minimumScore = minimumScore;
             this.scoreSum = scoreSum;
@@ -131,6 +137,8 @@ public class BetweennessCentralityStatsProc extends StatsProc<BetweennessCentral
                     sumCentrality,
                     minCentrality,
                     maxCentrality,
+                    sampleCount,
+                    achievedEpsilon,
                     createMillis,
                     computeMillis,
                     postProcessingMillis,
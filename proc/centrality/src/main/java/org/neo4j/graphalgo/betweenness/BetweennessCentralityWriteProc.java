@@ -110,9 +110,22 @@ public class BetweennessCentralityWriteProc extends WriteProc<BetweennessCentral
             double sumCentrality,
             double minCentrality,
             double maxCentrality,
+            long sampleCount,
+            double achievedEpsilon,
             Map<String, Object> config
         ) {
-            super(centralityDistribution, sumCentrality, minCentrality, maxCentrality, createMillis, computeMillis, postProcessingMillis, config);
+            super(
+                centralityDistribution,
+                sumCentrality,
+                minCentrality,
+                maxCentrality,
+                sampleCount,
+                achievedEpsilon,
+                createMillis,
+                computeMillis,
+                postProcessingMillis,
+                config
+            );
             this.nodePropertiesWritten = nodePropertiesWritten;
             this.writeMillis = writeMillis;
         }
@@ -135,6 +148,8 @@ public class BetweennessCentralityWriteProc extends WriteProc<BetweennessCentral
                     sumCentrality,
                     minCentrality,
                     maxCentrality,
+                    sampleCount,
+                    achievedEpsilon,
                     config.toMap()
                 );
             }
@@ -36,6 +36,7 @@ import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.JobScheduler;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
@@ -44,6 +45,7 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTreeWithDimensions;
+import org.neo4j.graphalgo.exceptions.MemoryEstimationNotImplementedException;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
 
 import java.util.Collection;
@@ -174,34 +176,45 @@ public abstract class AlgoBaseProc<
 
         GraphStore graphStore;
         Graph graph;
+        ALGO algo;
+        ALGO_RESULT result;
+
+        // the admission covers loading the graph, which is usually the largest allocation of the job
+        try (var ignored = JobScheduler.instance().admit(
+            username(),
+            algoName(),
+            config.concurrency(),
+            estimatedMemoryForScheduling(config),
+            TerminationFlag.wrap(transaction)
+        )) {
+            try (ProgressTimer timer = ProgressTimer.start(builder::createMillis)) {
+                graphStore = getOrCreateGraphStore(input);
+                graph = createGraph(graphStore, config);
+            }
 
-        try (ProgressTimer timer = ProgressTimer.start(builder::createMillis)) {
-            graphStore = getOrCreateGraphStore(input);
-            graph = createGraph(graphStore, config);
-        }
-
-        if (graph.isEmpty()) {
-            return builder
-                .isGraphEmpty(true)
-                .graph(graph)
-                .graphStore(graphStore)
-                .config(config)
-                .computeMillis(0)
-                .result(null)
-                .algorithm(null)
-                .build();
-        }
+            if (graph.isEmpty()) {
+                return builder
+                    .isGraphEmpty(true)
+                    .graph(graph)
+                    .graphStore(graphStore)
+                    .config(config)
+                    .computeMillis(0)
+                    .result(null)
+                    .algorithm(null)
+                    .build();
+            }
 
-        ALGO algo = newAlgorithm(graph, config, tracker);
+            algo = newAlgorithm(graph, config, tracker);
 
-        ALGO_RESULT result = runWithExceptionLogging(
-            "Computation failed",
-            () -> {
-                try (ProgressTimer ignored = ProgressTimer.start(builder::computeMillis)) {
-                    return algo.compute();
+            result = runWithExceptionLogging(
+                "Computation failed",
+                () -> {
+                    try (ProgressTimer timer = ProgressTimer.start(builder::computeMillis)) {
+                        return algo.compute();
+                    }
                 }
-            }
-        );
+            );
+        }
 
         log.info(algoName() + ": overall memory usage %s", tracker.getUsageString());
 
@@ -221,6 +234,18 @@ public abstract class AlgoBaseProc<
             .build();
     }
 
+    private long estimatedMemoryForScheduling(CONFIG config) {
+        if (JobScheduler.instance().memoryBudget() == 0L) {
+            return 0L;
+        }
+        try {
+            // the estimation includes the graph if it is created for this job, the upper bound is reserved
+            return memoryEstimation(config).memoryTree.memoryUsage().max;
+        } catch (MemoryEstimationNotImplementedException ignored) {
+            return 0L;
+        }
+    }
+
     /**
      * Returns a single node property that has been produced by the procedure.
      */
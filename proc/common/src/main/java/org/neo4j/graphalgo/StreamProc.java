@@ -20,10 +20,11 @@
 package org.neo4j.graphalgo;
 
 import org.neo4j.graphalgo.api.Graph;
-import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.core.utils.BitUtil;
 
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -33,6 +34,11 @@ public abstract class StreamProc<
     PROC_RESULT,
     CONFIG extends AlgoBaseConfig> extends AlgoBaseProc<ALGO, ALGO_RESULT, CONFIG> {
 
+    /**
+     * Number of nodes whose original ids are translated together before their result rows are created.
+     */
+    static final int STREAM_BATCH_SIZE = 10_000;
+
     protected abstract PROC_RESULT streamResult(long originalNodeId, long internalNodeId, NodeProperties nodeProperties);
 
     protected Stream<PROC_RESULT> stream(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult) {
@@ -43,10 +49,21 @@ public abstract class StreamProc<
 
             Graph graph = computationResult.graph();
             NodeProperties nodeProperties = nodeProperties(computationResult);
+            long nodeCount = graph.nodeCount();
 
+            // Rows are created lazily batch by batch, the original ids of a batch are translated at once.
             return LongStream
-                .range(IdMapping.START_NODE_ID, graph.nodeCount())
-                .mapToObj(nodeId -> streamResult(graph.toOriginalNodeId(nodeId), nodeId, nodeProperties));
+                .range(0, BitUtil.ceilDiv(nodeCount, STREAM_BATCH_SIZE))
+                .boxed()
+                .flatMap(batch -> {
+                    long startNodeId = batch * STREAM_BATCH_SIZE;
+                    int length = (int) Math.min(STREAM_BATCH_SIZE, nodeCount - startNodeId);
+                    long[] originalNodeIds = new long[length];
+                    graph.toOriginalNodeIds(startNodeId, originalNodeIds, length);
+                    return IntStream
+                        .range(0, length)
+                        .mapToObj(i -> streamResult(originalNodeIds[i], startNodeId + i, nodeProperties));
+                });
         });
     }
 }
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
 import org.neo4j.graphalgo.core.GdsEdition;
 import org.neo4j.graphalgo.core.Settings;
 import org.neo4j.graphalgo.core.utils.mem.GcListenerExtension;
+import org.neo4j.graphalgo.core.utils.paged.PageLocality;
 import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.config.Configuration;
@@ -123,7 +124,10 @@ public class SysInfoProc {
             .add(value("featureKernelTracker", GdsFeatureToggles.USE_KERNEL_TRACKER.isEnabled()))
             .add(value("featurePropertyValueIndex", GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX.isEnabled()))
             .add(value("featureParallelPropertyValueIndex", GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled()))
-            .add(value("featureBitIdMap", GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled()));
+            .add(value("featureBitIdMap", GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled()))
+            .add(value("featureAdjacencySkipIndex", GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.isEnabled()))
+            .add(value("featureNumaAwareAllocation", GdsFeatureToggles.USE_NUMA_AWARE_ALLOCATION.isEnabled()))
+            .add(value("featureMergedUnionAdjacency", GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY.isEnabled()));
     }
 
     private static void buildInfo(BuildInfoProperties properties, Stream.Builder<DebugValue> builder) {
@@ -145,6 +149,9 @@ public class SysInfoProc {
         builder
             .add(value("availableHeapInBytes", availableHeapInBytes))
             .add(value("availableHeap", safeHumanReadable(availableHeapInBytes)));
+        builder
+            .add(value("pagesAllocatedInParallel", PageLocality.pagesAllocatedInParallel()))
+            .add(value("pagesAllocatedSequentially", PageLocality.pagesAllocatedSequentially()));
         onHeapInfo("heap", memBean.getHeapMemoryUsage(), builder);
         offHeapInfo("offHeap", memBean.getNonHeapMemoryUsage(), builder);
 
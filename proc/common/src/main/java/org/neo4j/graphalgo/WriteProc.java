@@ -19,17 +19,23 @@
  */
 package org.neo4j.graphalgo;
 
+import org.neo4j.configuration.Config;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.compat.GraphDatabaseApiProxy;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.export.ExportSettings;
+import org.neo4j.graphalgo.core.write.FileExporter;
 import org.neo4j.graphalgo.core.write.ImmutableNodeProperty;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
 import org.neo4j.graphalgo.result.AbstractResultBuilder;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -37,7 +43,7 @@ public abstract class WriteProc<
     ALGO extends Algorithm<ALGO, ALGO_RESULT>,
     ALGO_RESULT,
     PROC_RESULT,
-    CONFIG extends WritePropertyConfig & AlgoBaseConfig> extends AlgoBaseProc<ALGO, ALGO_RESULT, CONFIG> {
+    CONFIG extends WritePropertyConfig & WriteDirectoryConfig & AlgoBaseConfig> extends AlgoBaseProc<ALGO, ALGO_RESULT, CONFIG> {
 
     protected abstract AbstractResultBuilder<PROC_RESULT> resultBuilder(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeResult);
 
@@ -61,7 +67,11 @@ public abstract class WriteProc<
                 .withConfig(config);
 
             if (!computeResult.isGraphEmpty()) {
-                writeToNeo(builder, computeResult);
+                if (config.writeDirectory().isPresent()) {
+                    writeToFiles(builder, computeResult);
+                } else {
+                    writeToNeo(builder, computeResult);
+                }
                 computeResult.graph().releaseProperties();
             }
             return Stream.of(builder.build());
@@ -89,4 +99,35 @@ public abstract class WriteProc<
             resultBuilder.withNodePropertiesWritten(exporter.propertiesWritten());
         }
     }
+
+    private void writeToFiles(
+        AbstractResultBuilder<?> resultBuilder,
+        ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult
+    ) {
+        CONFIG config = computationResult.config();
+        try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
+            log.debug("Writing results to files");
+
+            Graph graph = computationResult.graph();
+            TerminationFlag terminationFlag = computationResult.algorithm().getTerminationFlag();
+            FileExporter exporter = fileExporter(config, graph, terminationFlag);
+
+            exporter.writeNodeProperties(nodePropertyList(computationResult));
+
+            resultBuilder.withNodeCount(computationResult.graph().nodeCount());
+            resultBuilder.withNodePropertiesWritten(exporter.propertiesWritten());
+        }
+    }
+
+    protected FileExporter fileExporter(CONFIG config, Graph graph, TerminationFlag terminationFlag) {
+        return FileExporter.builder(writeDirectory(config), graph, terminationFlag)
+            .withLog(log)
+            .parallel(Pools.DEFAULT, config.writeConcurrency())
+            .build();
+    }
+
+    private Path writeDirectory(CONFIG config) {
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(api, Config.class);
+        return ExportSettings.exportDirectory(neo4jConfig, config.writeDirectory().orElseThrow());
+    }
 }
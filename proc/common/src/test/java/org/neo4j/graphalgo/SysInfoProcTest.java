@@ -90,6 +90,8 @@ class SysInfoProcTest extends BaseProcTest {
             .hasEntrySatisfying("physicalCPUs", isInteger)
             .hasEntrySatisfying("availableHeapInBytes", isInteger)
             .hasEntrySatisfying("availableHeap", isNotNull)
+            .hasEntrySatisfying("pagesAllocatedInParallel", isInteger)
+            .hasEntrySatisfying("pagesAllocatedSequentially", isInteger)
             .hasEntrySatisfying("heapFreeInBytes", isInteger)
             .hasEntrySatisfying("heapFree", isNotNull)
             .hasEntrySatisfying("heapTotalInBytes", isInteger)
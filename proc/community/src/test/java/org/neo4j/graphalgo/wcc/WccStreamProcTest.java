@@ -34,7 +34,9 @@ import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -141,4 +143,30 @@ class WccStreamProcTest extends WccProcTest<WccStreamConfig> implements
         assertEquals(3, actualCommunities.size());
     }
 
+    @Test
+    void testStreamOverMultipleBatches() {
+        clearDb();
+        // more nodes than a single stream batch holds, every pair of nodes forms a component
+        runQuery("UNWIND range(0, 5049) AS i CREATE (:Node)-[:REL]->(:Node)");
+
+        String query = GdsCypher.call()
+            .withAnyLabel()
+            .withAnyRelationshipType()
+            .algo("wcc")
+            .streamMode()
+            .yields("nodeId", "componentId");
+
+        Map<Long, Long> communities = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> communities.put(
+            row.getNumber("nodeId").longValue(),
+            row.getNumber("componentId").longValue()
+        ));
+
+        assertEquals(10_100, communities.size());
+        assertEquals(5_050, new HashSet<>(communities.values()).size());
+        runQueryWithRowConsumer("MATCH (a)-[:REL]->(b) RETURN id(a) AS a, id(b) AS b", row -> assertEquals(
+            communities.get(row.getNumber("a").longValue()),
+            communities.get(row.getNumber("b").longValue())
+        ));
+    }
 }
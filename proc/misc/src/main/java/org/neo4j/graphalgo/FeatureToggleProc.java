@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo;
 
 import org.neo4j.graphalgo.core.GdsEdition;
+import org.neo4j.graphalgo.core.concurrency.JobScheduler;
 import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
@@ -101,6 +102,80 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled()));
     }
 
+    @Procedure("gds.features.useAdjacencySkipIndex")
+    @Description("Toggle whether graphs should index the adjacency lists of high-degree nodes for random access.")
+    public void useAdjacencySkipIndex(@Name(value = "useAdjacencySkipIndex") boolean useAdjacencySkipIndex) {
+        GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.toggle(useAdjacencySkipIndex);
+    }
+
+    @Procedure("gds.features.useAdjacencySkipIndex.reset")
+    @Description("Set the behavior of whether to use the adjacency skip index to the default. That value is returned.")
+    public Stream<FeatureState> resetUseAdjacencySkipIndex() {
+        GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX.isEnabled()));
+    }
+
+    @Procedure("gds.features.useNumaAwareAllocation")
+    @Description("Toggle whether the pages of large arrays should be allocated by the threads of the pool.")
+    public void useNumaAwareAllocation(@Name(value = "useNumaAwareAllocation") boolean useNumaAwareAllocation) {
+        GdsFeatureToggles.USE_NUMA_AWARE_ALLOCATION.toggle(useNumaAwareAllocation);
+    }
+
+    @Procedure("gds.features.useNumaAwareAllocation.reset")
+    @Description("Set the behavior of whether to allocate pages by the threads of the pool to the default. That value is returned.")
+    public Stream<FeatureState> resetUseNumaAwareAllocation() {
+        GdsFeatureToggles.USE_NUMA_AWARE_ALLOCATION.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_NUMA_AWARE_ALLOCATION.isEnabled()));
+    }
+
+    @Procedure("gds.features.useMergedUnionAdjacency")
+    @Description("Toggle whether graphs over several relationship types should use a merged adjacency list.")
+    public void useMergedUnionAdjacency(@Name(value = "useMergedUnionAdjacency") boolean useMergedUnionAdjacency) {
+        GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY.toggle(useMergedUnionAdjacency);
+    }
+
+    @Procedure("gds.features.useMergedUnionAdjacency.reset")
+    @Description("Set the behavior of whether to use a merged adjacency list for several relationship types to the default. That value is returned.")
+    public Stream<FeatureState> resetUseMergedUnionAdjacency() {
+        GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY.isEnabled()));
+    }
+
+    @Procedure("gds.features.scheduler.threadBudget")
+    @Description("Set how many jobs may run at once, the threads of the pool are shared between them; 0 disables the budget.")
+    public void schedulerThreadBudget(@Name(value = "threadBudget") long threadBudget) {
+        if (threadBudget < 0 || threadBudget > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Invalid value for threadBudget, must be in [0, %d]",
+                Integer.MAX_VALUE
+            ));
+        }
+        JobScheduler.instance().setThreadBudget((int) threadBudget);
+    }
+
+    @Procedure("gds.features.scheduler.threadBudget.reset")
+    @Description("Set the thread budget of the job scheduler to the default. That value is returned.")
+    public Stream<FeatureValue> resetSchedulerThreadBudget() {
+        JobScheduler.instance().setThreadBudget(JobScheduler.THREAD_BUDGET_DEFAULT_SETTING);
+        return Stream.of(new FeatureValue(JobScheduler.THREAD_BUDGET_DEFAULT_SETTING));
+    }
+
+    @Procedure("gds.features.scheduler.memoryBudget")
+    @Description("Set how many bytes the estimations of concurrently running jobs may add up to; 0 disables the budget.")
+    public void schedulerMemoryBudget(@Name(value = "memoryBudget") long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Invalid value for memoryBudget, must not be negative");
+        }
+        JobScheduler.instance().setMemoryBudget(memoryBudget);
+    }
+
+    @Procedure("gds.features.scheduler.memoryBudget.reset")
+    @Description("Set the memory budget of the job scheduler to the default. That value is returned.")
+    public Stream<FeatureValue> resetSchedulerMemoryBudget() {
+        JobScheduler.instance().setMemoryBudget(JobScheduler.MEMORY_BUDGET_DEFAULT_SETTING);
+        return Stream.of(new FeatureValue(JobScheduler.MEMORY_BUDGET_DEFAULT_SETTING));
+    }
+
     @Procedure("gds.features.maxArrayLengthShift")
     @Description("Toggle how large arrays are allowed to get before they are being paged; value is a power of two.")
     public void maxArrayLengthShift(@Name(value = "maxArrayLengthShift") long maxArrayLengthShift) {
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo;
+
+import org.neo4j.graphalgo.core.concurrency.JobScheduler;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+public class ListJobsProc extends BaseProc {
+
+    @Procedure("gds.alpha.listJobs")
+    @Description("Lists the running and queued algorithm jobs of the current user together with their thread shares.")
+    public Stream<JobResult> listJobs() {
+        var username = username();
+        return JobScheduler.instance()
+            .jobs()
+            .stream()
+            .filter(job -> job.username().equals(username))
+            .map(JobResult::new);
+    }
+
+    public static class JobResult {
+
+        public long jobId;
+        public String description;
+        public String status;
+        public long requestedConcurrency;
+        public long grantedConcurrency;
+        public long memoryEstimation;
+        public long waitingMillis;
+        public long runningMillis;
+
+        JobResult(JobScheduler.JobInfo jobInfo) {
+            this.jobId = jobInfo.jobId();
+            this.description = jobInfo.description();
+            this.status = jobInfo.status();
+            this.requestedConcurrency = jobInfo.requestedConcurrency();
+            this.grantedConcurrency = jobInfo.grantedConcurrency();
+            this.memoryEstimation = jobInfo.memoryEstimation();
+            this.waitingMillis = jobInfo.waitingMillis();
+            this.runningMillis = jobInfo.runningMillis();
+        }
+    }
+}
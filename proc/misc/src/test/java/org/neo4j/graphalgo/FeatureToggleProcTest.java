@@ -21,6 +21,7 @@ package org.neo4j.graphalgo;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.concurrency.JobScheduler;
 import org.neo4j.graphalgo.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.QueryExecutionException;
 
@@ -32,8 +33,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.graphalgo.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_ADJACENCY_SKIP_INDEX;
 import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_BIT_ID_MAP;
 import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_KERNEL_TRACKER;
+import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_MERGED_UNION_ADJACENCY;
+import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_NUMA_AWARE_ALLOCATION;
 import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_PRE_AGGREGATION;
 import static org.neo4j.graphalgo.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
@@ -141,6 +145,63 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertEquals(false, USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled());
     }
 
+    @Test
+    void toggleUseAdjacencySkipIndex() {
+        var useAdjacencySkipIndex = USE_ADJACENCY_SKIP_INDEX.isEnabled();
+        runQuery("CALL gds.features.useAdjacencySkipIndex($value)", Map.of("value", !useAdjacencySkipIndex));
+        assertEquals(!useAdjacencySkipIndex, USE_ADJACENCY_SKIP_INDEX.isEnabled());
+        runQuery("CALL gds.features.useAdjacencySkipIndex($value)", Map.of("value", useAdjacencySkipIndex));
+        assertEquals(useAdjacencySkipIndex, USE_ADJACENCY_SKIP_INDEX.isEnabled());
+    }
+
+    @Test
+    void resetUseAdjacencySkipIndex() {
+        USE_ADJACENCY_SKIP_INDEX.reset();
+        assertCypherResult(
+            "CALL gds.features.useAdjacencySkipIndex.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_ADJACENCY_SKIP_INDEX.isEnabled());
+    }
+
+    @Test
+    void toggleUseNumaAwareAllocation() {
+        var useNumaAwareAllocation = USE_NUMA_AWARE_ALLOCATION.isEnabled();
+        runQuery("CALL gds.features.useNumaAwareAllocation($value)", Map.of("value", !useNumaAwareAllocation));
+        assertEquals(!useNumaAwareAllocation, USE_NUMA_AWARE_ALLOCATION.isEnabled());
+        runQuery("CALL gds.features.useNumaAwareAllocation($value)", Map.of("value", useNumaAwareAllocation));
+        assertEquals(useNumaAwareAllocation, USE_NUMA_AWARE_ALLOCATION.isEnabled());
+    }
+
+    @Test
+    void resetUseNumaAwareAllocation() {
+        USE_NUMA_AWARE_ALLOCATION.reset();
+        assertCypherResult(
+            "CALL gds.features.useNumaAwareAllocation.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_NUMA_AWARE_ALLOCATION.isEnabled());
+    }
+
+    @Test
+    void toggleUseMergedUnionAdjacency() {
+        var useMergedUnionAdjacency = USE_MERGED_UNION_ADJACENCY.isEnabled();
+        runQuery("CALL gds.features.useMergedUnionAdjacency($value)", Map.of("value", !useMergedUnionAdjacency));
+        assertEquals(!useMergedUnionAdjacency, USE_MERGED_UNION_ADJACENCY.isEnabled());
+        runQuery("CALL gds.features.useMergedUnionAdjacency($value)", Map.of("value", useMergedUnionAdjacency));
+        assertEquals(useMergedUnionAdjacency, USE_MERGED_UNION_ADJACENCY.isEnabled());
+    }
+
+    @Test
+    void resetUseMergedUnionAdjacency() {
+        USE_MERGED_UNION_ADJACENCY.reset();
+        assertCypherResult(
+            "CALL gds.features.useMergedUnionAdjacency.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_MERGED_UNION_ADJACENCY.isEnabled());
+    }
+
     @Test
     void toggleUseBitIdMap() {
         runWithEnterpriseLicense(() -> {
@@ -212,4 +273,33 @@ class FeatureToggleProcTest extends BaseProcTest {
         );
         assertEquals(defaultValue, GdsFeatureToggles.MAX_ARRAY_LENGTH_SHIFT.get());
     }
+
+    @Test
+    void setSchedulerThreadBudget() {
+        runQuery("CALL gds.features.scheduler.threadBudget($value)", Map.of("value", 4));
+        assertEquals(4, JobScheduler.instance().threadBudget());
+        runQuery("CALL gds.features.scheduler.threadBudget.reset()");
+        assertEquals(JobScheduler.THREAD_BUDGET_DEFAULT_SETTING, JobScheduler.instance().threadBudget());
+    }
+
+    @Test
+    void setSchedulerThreadBudgetValidation() {
+        var exception = assertThrows(
+            QueryExecutionException.class,
+            () -> runQuery("CALL gds.features.scheduler.threadBudget($value)", Map.of("value", -1))
+        );
+        assertThat(exception)
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("Invalid value for threadBudget, must be in [0, 2147483647]");
+    }
+
+    @Test
+    void resetSchedulerMemoryBudget() {
+        JobScheduler.instance().setMemoryBudget(1L << 30);
+        assertCypherResult(
+            "CALL gds.features.scheduler.memoryBudget.reset()",
+            List.of(Map.of("value", JobScheduler.MEMORY_BUDGET_DEFAULT_SETTING))
+        );
+        assertEquals(JobScheduler.MEMORY_BUDGET_DEFAULT_SETTING, JobScheduler.instance().memoryBudget());
+    }
 }
@@ -21,7 +21,7 @@ package org.neo4j.graphalgo.similarity;
 
 import java.util.Map;
 
-public final class SimilarityStatsResult {
+public class SimilarityStatsResult {
 
     public long createMillis;
     public long computeMillis;
@@ -23,6 +23,7 @@ import org.HdrHistogram.DoubleHistogram;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.WriteProc;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.config.WriteRelationshipConfig;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
@@ -33,12 +34,13 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.neo4j.graphalgo.core.ProcedureConstants.HISTOGRAM_PRECISION_DEFAULT;
+import static org.neo4j.graphalgo.similarity.SimilarityProc.computeHistogram;
 import static org.neo4j.graphalgo.similarity.SimilarityProc.shouldComputeHistogram;
 
 public abstract class SimilarityWriteProc<
     ALGO extends Algorithm<ALGO, ALGO_RESULT>,
     ALGO_RESULT,
-    CONFIG extends WritePropertyConfig & WriteRelationshipConfig & AlgoBaseConfig> extends WriteProc<ALGO, ALGO_RESULT, SimilarityWriteResult, CONFIG> {
+    CONFIG extends WritePropertyConfig & WriteDirectoryConfig & WriteRelationshipConfig & AlgoBaseConfig> extends WriteProc<ALGO, ALGO_RESULT, SimilarityWriteResult, CONFIG> {
 
     public abstract String procedureName();
 
@@ -77,6 +79,15 @@ public abstract class SimilarityWriteProc<
                     procedureName() + " write-back failed",
                     () -> {
                         try (ProgressTimer ignored = ProgressTimer.start(resultBuilder::withWriteMillis)) {
+                            if (config.writeDirectory().isPresent()) {
+                                fileExporter(config, similarityGraph, algorithm.getTerminationFlag())
+                                    .writeRelationships(similarityGraph, writeProperty);
+                                // the shards are written concurrently, the histogram is computed afterwards
+                                if (shouldComputeHistogram(callContext)) {
+                                    resultBuilder.withHistogram(computeHistogram(similarityGraph));
+                                }
+                                return;
+                            }
                             RelationshipExporter exporter = RelationshipExporter
                                 .of(api, similarityGraph, algorithm.getTerminationFlag())
                                 .withLog(log)
@@ -27,9 +27,11 @@ import org.neo4j.graphalgo.core.utils.mem.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
 import org.neo4j.logging.Log;
 
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfBitset;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfIntArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
@@ -60,7 +62,7 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> implements AlgorithmFactor
                         sizeOfInstance(LongArrayList.class) + sizeOfLongArray(sampledK)
                     ))
                 );
-                return MemoryEstimations
+                var builder = MemoryEstimations
                     .builder(Knn.class)
                     .add(
                         "top-k-neighbors-list",
@@ -68,8 +70,8 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> implements AlgorithmFactor
                     )
                     .add("old-neighbors", tempListEstimation)
                     .add("new-neighbors", tempListEstimation)
-                    .add("old-reverse-neighbors", tempListEstimation)
-                    .add("new-reverse-neighbors", tempListEstimation)
+                    .add("old-reverse-neighbors", ReverseNeighbors.memoryEstimation(boundedK))
+                    .add("new-reverse-neighbors", ReverseNeighbors.memoryEstimation(sampledK))
                     .fixed(
                         "initial-random-neighbors (per thread)",
                         MemoryRange.of(
@@ -81,8 +83,26 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> implements AlgorithmFactor
                         MemoryRange.of(
                             sizeOfIntArray(sizeOfOpenHashContainer(sampledK)) * concurrency
                         )
-                    )
-                    .build();
+                    );
+                if (configuration.similarityCacheSize() > 0) {
+                    builder.fixed(
+                        "similarity-cache (per thread)",
+                        MemoryRange.of(
+                            CachingSimilarityComputer.memoryEstimation(configuration.similarityCacheSize()) * concurrency
+                        )
+                    );
+                }
+                if (configuration.hasNodeFilter()) {
+                    var nodeCount = dim.nodeCount();
+                    builder.fixed(
+                        "source-and-target-node-filters",
+                        MemoryRange.of(
+                            2 * sizeOfBitset(nodeCount),
+                            2 * sizeOfBitset(nodeCount) + HugeLongArray.memoryEstimation(nodeCount)
+                        )
+                    );
+                }
+                return builder.build();
             }
         );
     }
@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.api.Relationships;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.result.AbstractResultBuilder;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
@@ -70,6 +71,12 @@ public class KnnMutateProc extends MutatePropertyProc<Knn, Knn.Result, Similarit
         return computeEstimate(graphNameOrConfig, configuration);
     }
 
+    @Override
+    protected void validateConfigsAndGraphStore(GraphStoreWithConfig graphStoreWithConfig, KnnMutateConfig config) {
+        KnnProc.validateNodeFilters(graphStoreWithConfig, config);
+        super.validateConfigsAndGraphStore(graphStoreWithConfig, config);
+    }
+
     @Override
     protected KnnMutateConfig newConfig(
         String username,
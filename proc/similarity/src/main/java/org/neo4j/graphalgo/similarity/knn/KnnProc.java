@@ -19,6 +19,19 @@
  */
 package org.neo4j.graphalgo.similarity.knn;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
+import org.neo4j.graphalgo.utils.StringJoining;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 final class KnnProc {
 
     static final String KNN_DESCRIPTION =
@@ -26,5 +39,44 @@ final class KnnProc {
         "between two nodes is among the k nearest distances compared to other nodes." +
         "KNN computes distances based on the similarity of node properties";
 
+    static void validateNodeFilters(GraphStoreWithConfig graphStoreWithConfig, KnnBaseConfig config) {
+        var graphStore = graphStoreWithConfig.graphStore();
+        var graphLabels = config.nodeLabelIdentifiers(graphStore);
+        validateNodeFilter(graphStore, graphLabels, "Source", config.sourceNodeLabels(), config.sourceNodeProperty());
+        validateNodeFilter(graphStore, graphLabels, "Target", config.targetNodeLabels(), config.targetNodeProperty());
+    }
+
+    private static void validateNodeFilter(
+        GraphStore graphStore,
+        Collection<NodeLabel> graphLabels,
+        String filterName,
+        List<String> labels,
+        @Nullable String property
+    ) {
+        Collection<NodeLabel> filterLabels = graphLabels;
+        if (!labels.contains(PROJECT_ALL)) {
+            filterLabels = labels.stream().map(NodeLabel::of).collect(Collectors.toList());
+            for (NodeLabel label : filterLabels) {
+                if (!graphLabels.contains(label)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "%s node label `%s` not found in graph with node labels: %s",
+                        filterName,
+                        label.name(),
+                        StringJoining.join(graphLabels.stream().map(NodeLabel::name))
+                    ));
+                }
+            }
+        }
+        if (property != null && !graphStore.hasNodeProperty(filterLabels, property)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "%s node property `%s` is not present for all requested labels. Requested labels: %s. Properties available on all requested labels: %s",
+                filterName,
+                property,
+                StringJoining.join(filterLabels.stream().map(NodeLabel::name)),
+                StringJoining.join(graphStore.nodePropertyKeys(filterLabels))
+            ));
+        }
+    }
+
     private KnnProc() {}
 }
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.StatsProc;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.result.AbstractResultBuilder;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
@@ -46,11 +47,11 @@ import static org.neo4j.graphalgo.similarity.SimilarityProc.shouldComputeHistogr
 import static org.neo4j.graphalgo.similarity.knn.KnnWriteProc.computeToGraph;
 import static org.neo4j.procedure.Mode.READ;
 
-public final class KnnStatsProc extends StatsProc<Knn, Knn.Result, SimilarityStatsResult, KnnStatsConfig> {
+public final class KnnStatsProc extends StatsProc<Knn, Knn.Result, KnnStatsProc.StatsResult, KnnStatsConfig> {
 
     @Procedure(name = "gds.beta.knn.stats", mode = READ)
     @Description(STATS_DESCRIPTION)
-    public Stream<SimilarityStatsResult> stats(
+    public Stream<StatsResult> stats(
         @Name(value = "graphName") Object graphNameOrConfig,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
@@ -66,6 +67,12 @@ public final class KnnStatsProc extends StatsProc<Knn, Knn.Result, SimilaritySta
         return computeEstimate(graphNameOrConfig, configuration);
     }
 
+    @Override
+    protected void validateConfigsAndGraphStore(GraphStoreWithConfig graphStoreWithConfig, KnnStatsConfig config) {
+        KnnProc.validateNodeFilters(graphStoreWithConfig, config);
+        super.validateConfigsAndGraphStore(graphStoreWithConfig, config);
+    }
+
     @Override
     protected KnnStatsConfig newConfig(
         String username,
@@ -82,24 +89,26 @@ public final class KnnStatsProc extends StatsProc<Knn, Knn.Result, SimilaritySta
     }
 
     @Override
-    protected AbstractResultBuilder<SimilarityStatsResult> resultBuilder(AlgoBaseProc.ComputationResult<Knn, Knn.Result, KnnStatsConfig> computeResult) {
+    protected AbstractResultBuilder<StatsResult> resultBuilder(AlgoBaseProc.ComputationResult<Knn, Knn.Result, KnnStatsConfig> computeResult) {
         throw new UnsupportedOperationException("Knn handles result building individually.");
     }
 
     @Override
-    public Stream<SimilarityStatsResult> stats(AlgoBaseProc.ComputationResult<Knn, Knn.Result, KnnStatsConfig> computationResult) {
+    public Stream<StatsResult> stats(AlgoBaseProc.ComputationResult<Knn, Knn.Result, KnnStatsConfig> computationResult) {
         return runWithExceptionLogging("Graph stats failed", () -> {
             KnnStatsConfig config = computationResult.config();
 
             if (computationResult.isGraphEmpty()) {
                 return Stream.of(
-                    new SimilarityStatsResult(
+                    new StatsResult(
                         computationResult.createMillis(),
                         0,
                         0,
                         0,
                         0,
                         Collections.emptyMap(),
+                        0,
+                        0,
                         config.toMap()
                     )
                 );
@@ -108,8 +117,10 @@ public final class KnnStatsProc extends StatsProc<Knn, Knn.Result, SimilaritySta
             var result = Objects.requireNonNull(computationResult.result());
 
 
-            SimilarityProc.SimilarityResultBuilder<SimilarityStatsResult> resultBuilder =
-                SimilarityProc.resultBuilder(new SimilarityStatsResult.Builder(), computationResult);
+            var statsBuilder = new StatsResult.Builder()
+                .withSimilarityCacheStatistics(result.similarityCacheHits(), result.similarityCacheMisses());
+            SimilarityProc.SimilarityResultBuilder<StatsResult> resultBuilder =
+                SimilarityProc.resultBuilder(statsBuilder, computationResult);
 
             if (shouldComputeHistogram(callContext)) {
                 try (ProgressTimer ignored = resultBuilder.timePostProcessing()) {
@@ -137,4 +148,62 @@ public final class KnnStatsProc extends StatsProc<Knn, Knn.Result, SimilaritySta
             return Stream.of(resultBuilder.build());
         });
     }
+
+    public static final class StatsResult extends SimilarityStatsResult {
+
+        public long similarityCacheHits;
+        public double similarityCacheHitRate;
+
+        StatsResult(
+            long createMillis,
+            long computeMillis,
+            long postProcessingMillis,
+            long nodesCompared,
+            long similarityPairs,
+            Map<String, Object> similarityDistribution,
+            long similarityCacheHits,
+            double similarityCacheHitRate,
+            Map<String, Object> configuration
+        ) {
+            super(
+                createMillis,
+                computeMillis,
+                postProcessingMillis,
+                nodesCompared,
+                similarityPairs,
+                similarityDistribution,
+                configuration
+            );
+            this.similarityCacheHits = similarityCacheHits;
+            this.similarityCacheHitRate = similarityCacheHitRate;
+        }
+
+        static final class Builder extends SimilarityProc.SimilarityResultBuilder<StatsResult> {
+
+            private long similarityCacheHits = 0L;
+            private long similarityCacheMisses = 0L;
+
+            Builder withSimilarityCacheStatistics(long hits, long misses) {
+                this.similarityCacheHits = hits;
+                this.similarityCacheMisses = misses;
+                return this;
+            }
+
+            @Override
+            public StatsResult build() {
+                var lookups = similarityCacheHits + similarityCacheMisses;
+                return new StatsResult(
+                    createMillis,
+                    computeMillis,
+                    postProcessingMillis,
+                    nodesCompared,
+                    relationshipsWritten,
+                    distribution(),
+                    similarityCacheHits,
+                    lookups == 0 ? 0.0 : (double) similarityCacheHits / lookups,
+                    config.toMap()
+                );
+            }
+        }
+    }
 }
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
 import org.neo4j.graphalgo.similarity.SimilarityResult;
 import org.neo4j.procedure.Description;
@@ -79,6 +80,12 @@ public class KnnStreamProc extends StreamProc<Knn, Knn.Result, SimilarityResult,
         throw new UnsupportedOperationException("Knn handles result building individually.");
     }
 
+    @Override
+    protected void validateConfigsAndGraphStore(GraphStoreWithConfig graphStoreWithConfig, KnnStreamConfig config) {
+        KnnProc.validateNodeFilters(graphStoreWithConfig, config);
+        super.validateConfigsAndGraphStore(graphStoreWithConfig, config);
+    }
+
     @Override
     protected KnnStreamConfig newConfig(
         String username,
@@ -23,6 +23,7 @@ import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
 import org.neo4j.graphalgo.result.AbstractResultBuilder;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
 import org.neo4j.graphalgo.similarity.SimilarityGraphBuilder;
@@ -68,6 +69,12 @@ public class KnnWriteProc extends SimilarityWriteProc<Knn, Knn.Result, KnnWriteC
         return "KNN";
     }
 
+    @Override
+    protected void validateConfigsAndGraphStore(GraphStoreWithConfig graphStoreWithConfig, KnnWriteConfig config) {
+        KnnProc.validateNodeFilters(graphStoreWithConfig, config);
+        super.validateConfigsAndGraphStore(graphStoreWithConfig, config);
+    }
+
     @Override
     protected KnnWriteConfig newConfig(
         String username,
@@ -26,9 +26,12 @@ import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfIntArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
@@ -88,8 +91,19 @@ class KnnFactoryTest {
         long randomList = sizeOfLongArray(sizeOfOpenHashContainer(boundedK));
         long sampledList = sizeOfIntArray(sizeOfOpenHashContainer(sampledK));
 
-        long expectedMin = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList + sampledList;
-        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList + sampledList;
+        long reverseNeighborsMin = sizeOfInstance(ReverseNeighbors.class)
+                                   + HugeLongArray.memoryEstimation(nodeCount + 1)
+                                   + HugeAtomicLongArray.memoryEstimation(nodeCount)
+                                   + HugeLongArray.memoryEstimation(0);
+        long reverseOldNeighborsMax = reverseNeighborsMin
+                                      - HugeLongArray.memoryEstimation(0)
+                                      + HugeLongArray.memoryEstimation(nodeCount * boundedK);
+        long reverseNewNeighborsMax = reverseNeighborsMin
+                                      - HugeLongArray.memoryEstimation(0)
+                                      + HugeLongArray.memoryEstimation(nodeCount * sampledK);
+
+        long expectedMin = knnAlgo + topKNeighborsList + 2 * tempNeighborsListMin + 2 * reverseNeighborsMin + randomList + sampledList;
+        long expectedMax = knnAlgo + topKNeighborsList + 2 * tempNeighborsListMax + reverseOldNeighborsMax + reverseNewNeighborsMax + randomList + sampledList;
 
         assertEquals(expectedMin, actual.min);
         assertEquals(expectedMax, actual.max);
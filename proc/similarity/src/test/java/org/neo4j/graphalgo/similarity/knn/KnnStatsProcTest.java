@@ -57,12 +57,17 @@ public final class KnnStatsProcTest extends KnnProcTest<KnnStatsConfig> {
                 "nodesCompared",
                 "similarityPairs",
                 "similarityDistribution",
+                "similarityCacheHits",
+                "similarityCacheHitRate",
                 "configuration"
             );
 
         runQueryWithRowConsumer(query, row -> {
             assertEquals(3, row.getNumber("nodesCompared").longValue());
             assertEquals(3, row.getNumber("similarityPairs").longValue());
+            // the similarity cache is disabled by default
+            assertEquals(0, row.getNumber("similarityCacheHits").longValue());
+            assertEquals(0.0, row.getNumber("similarityCacheHitRate").doubleValue());
 
             assertThat(row)
                 .extracting(r -> r.getNumber("computeMillis"), InstanceOfAssertFactories.LONG)
@@ -27,6 +27,7 @@ import org.neo4j.graphalgo.similarity.SimilarityResult;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -71,4 +72,30 @@ class KnnStreamProcTest extends KnnProcTest<KnnStreamConfig> {
 
         assertEquals(EXPECTED, result);
     }
+
+    @Test
+    void failOnUnknownSourceNodeLabel() {
+        String query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.knn")
+            .streamMode()
+            .addParameter("nodeWeightProperty", "knn")
+            .addParameter("sourceNodeLabels", List.of("Query"))
+            .yields();
+
+        assertError(query, "Source node label `Query` not found in graph with node labels: ['__ALL__']");
+    }
+
+    @Test
+    void failOnMissingTargetNodeProperty() {
+        String query = GdsCypher.call()
+            .explicitCreation(GRAPH_NAME)
+            .algo("gds.beta.knn")
+            .streamMode()
+            .addParameter("nodeWeightProperty", "knn")
+            .addParameter("targetNodeProperty", "isCatalog")
+            .yields();
+
+        assertError(query, "Target node property `isCatalog` is not present for all requested labels.");
+    }
 }
@@ -55,6 +55,7 @@ import org.neo4j.graphalgo.catalog.GraphExistsProc;
 import org.neo4j.graphalgo.catalog.GraphListProc;
 import org.neo4j.graphalgo.catalog.GraphStreamNodePropertiesProc;
 import org.neo4j.graphalgo.catalog.GraphStreamRelationshipPropertiesProc;
+import org.neo4j.graphalgo.catalog.GraphSubgraphProc;
 import org.neo4j.graphalgo.catalog.GraphWriteNodePropertiesProc;
 import org.neo4j.graphalgo.compat.MapUtil;
 import org.neo4j.graphalgo.functions.AsNodeFunc;
@@ -124,7 +125,9 @@ class ListProcTest extends BaseProcTest {
         "gds.beta.fastRPExtended.write",
         "gds.beta.fastRPExtended.write.estimate",
 
+        "gds.beta.graph.create.csv",
         "gds.beta.graph.generate",
+        "gds.beta.graph.subgraph",
 
         "gds.beta.k1coloring.mutate",
         "gds.beta.k1coloring.mutate.estimate",
@@ -307,6 +310,7 @@ class ListProcTest extends BaseProcTest {
             GraphSageWriteProc.class,
             GraphStreamNodePropertiesProc.class,
             GraphStreamRelationshipPropertiesProc.class,
+            GraphSubgraphProc.class,
             GraphWriteNodePropertiesProc.class,
             K1ColoringMutateProc.class,
             K1ColoringStatsProc.class,
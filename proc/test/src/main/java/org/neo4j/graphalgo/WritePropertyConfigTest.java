@@ -22,15 +22,18 @@ package org.neo4j.graphalgo;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.compat.MapUtil;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.config.WriteDirectoryConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphdb.Result;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-public interface WritePropertyConfigTest<ALGORITHM extends Algorithm<ALGORITHM, RESULT>, CONFIG extends WritePropertyConfig & AlgoBaseConfig, RESULT> extends AlgoBaseProcTest<ALGORITHM, CONFIG, RESULT> {
+public interface WritePropertyConfigTest<ALGORITHM extends Algorithm<ALGORITHM, RESULT>, CONFIG extends WritePropertyConfig & WriteDirectoryConfig & AlgoBaseConfig, RESULT> extends AlgoBaseProcTest<ALGORITHM, CONFIG, RESULT> {
 
     @Test
     default void testMissingWritePropertyFails() {
@@ -71,6 +74,14 @@ public interface WritePropertyConfigTest<ALGORITHM extends Algorithm<ALGORITHM,
         assertEquals(3, config.writeConcurrency());
     }
 
+    @Test
+    default void testWriteDirectory() {
+        CypherMapWrapper mapWrapper = CypherMapWrapper.create(MapUtil.map("writeDirectory", "results"));
+        CONFIG config = createConfig(createMinimalConfig(mapWrapper));
+        assertEquals(Optional.of("results"), config.writeDirectory());
+        assertEquals(Optional.empty(), createConfig(createMinimalConfig(CypherMapWrapper.empty())).writeDirectory());
+    }
+
     default void checkMillisSet(Result.ResultRow row) {
         assertTrue(row.getNumber("createMillis").intValue() >= 0, "load time not set");
         assertTrue(row.getNumber("computeMillis").intValue() >= 0, "compute time not set");
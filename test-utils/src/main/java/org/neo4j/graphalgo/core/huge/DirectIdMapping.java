@@ -38,6 +38,13 @@ public final class DirectIdMapping implements IdMapping {
         return nodeId;
     }
 
+    @Override
+    public void toOriginalNodeIds(long startNodeId, long[] originalNodeIds, int length) {
+        for (int i = 0; i < length; i++) {
+            originalNodeIds[i] = startNodeId + i;
+        }
+    }
+
     @Override
     public boolean contains(final long nodeId) {
         return nodeId < nodeCount;
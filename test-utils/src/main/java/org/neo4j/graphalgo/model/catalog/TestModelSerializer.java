@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.model.catalog;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.model.ModelSerializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+@ServiceProvider
+public final class TestModelSerializer implements ModelSerializer<String, TestTrainConfig> {
+
+    public static final String ALGO_TYPE = "testAlgo";
+
+    @Override
+    public String algoType() {
+        return ALGO_TYPE;
+    }
+
+    @Override
+    public TestTrainConfig trainConfig(String username, Map<String, Object> trainConfig) {
+        return new TestTrainConfigImpl(username, CypherMapWrapper.create(trainConfig));
+    }
+
+    @Override
+    public void writeData(String data, TestTrainConfig trainConfig, DataOutput output) throws IOException {
+        output.writeUTF(data);
+    }
+
+    @Override
+    public String readData(TestTrainConfig trainConfig, DataInput input) throws IOException {
+        return input.readUTF();
+    }
+}